@@ -23,9 +23,21 @@ import org.codinjutsu.tools.nosql.commons.DatabaseUI;
 import org.codinjutsu.tools.nosql.couchbase.CouchbaseUI;
 import org.codinjutsu.tools.nosql.couchbase.view.editor.CouchbaseObjectFile;
 import org.codinjutsu.tools.nosql.mongo.MongoUI;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoFanOutObjectFile;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoGridFSObjectFile;
 import org.codinjutsu.tools.nosql.mongo.view.editor.MongoObjectFile;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoOplogObjectFile;
 import org.codinjutsu.tools.nosql.redis.RedisUI;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisActivityObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisDashboardObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisKeyspaceObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisLuaObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisMemoryObjectFile;
 import org.codinjutsu.tools.nosql.redis.view.editor.RedisObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisPubSubObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisSlowlogObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisStreamObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisValueSearchObjectFile;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -55,7 +67,7 @@ public class DatabaseVendorUIManager {
     }
 
     public boolean accept(VirtualFile file) {
-        return file instanceof MongoObjectFile || file instanceof RedisObjectFile || file instanceof CouchbaseObjectFile;
+        return file instanceof MongoObjectFile || file instanceof MongoOplogObjectFile || file instanceof MongoGridFSObjectFile || file instanceof MongoFanOutObjectFile || file instanceof RedisObjectFile || file instanceof RedisMemoryObjectFile || file instanceof RedisLuaObjectFile || file instanceof RedisValueSearchObjectFile || file instanceof RedisKeyspaceObjectFile || file instanceof RedisDashboardObjectFile || file instanceof RedisSlowlogObjectFile || file instanceof RedisActivityObjectFile || file instanceof RedisPubSubObjectFile || file instanceof RedisStreamObjectFile || file instanceof CouchbaseObjectFile;
 
     }
 }
\ No newline at end of file
@@ -23,6 +23,9 @@ import com.intellij.openapi.actionSystem.ActionManager;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.DefaultActionGroup;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.MessageType;
 import com.intellij.openapi.ui.popup.Balloon;
@@ -31,11 +34,13 @@ import com.intellij.ui.PopupHandler;
 import com.intellij.ui.components.JBScrollPane;
 import com.intellij.ui.treeStructure.Tree;
 import com.intellij.util.ui.tree.TreeUtil;
+import com.mongodb.DBObject;
 import org.codinjutsu.tools.nosql.commons.logic.ConfigurationException;
 import org.codinjutsu.tools.nosql.commons.logic.DatabaseClient;
 import org.codinjutsu.tools.nosql.commons.model.Database;
 import org.codinjutsu.tools.nosql.commons.model.DatabaseServer;
 import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.utils.StringUtils;
 import org.codinjutsu.tools.nosql.commons.view.action.NoSqlDatabaseConsoleAction;
 import org.codinjutsu.tools.nosql.commons.view.action.OpenPluginSettingsAction;
 import org.codinjutsu.tools.nosql.commons.view.action.RefreshServerAction;
@@ -44,25 +49,57 @@ import org.codinjutsu.tools.nosql.commons.view.editor.NoSqlDatabaseFileSystem;
 import org.codinjutsu.tools.nosql.commons.view.editor.NoSqlDatabaseObjectFile;
 import org.codinjutsu.tools.nosql.couchbase.model.CouchbaseDatabase;
 import org.codinjutsu.tools.nosql.couchbase.view.editor.CouchbaseObjectFile;
+import org.codinjutsu.tools.nosql.mongo.MongoUtils;
 import org.codinjutsu.tools.nosql.mongo.logic.MongoClient;
 import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
 import org.codinjutsu.tools.nosql.mongo.model.MongoDatabase;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSBucket;
+import org.codinjutsu.tools.nosql.mongo.model.MongoMoreCollections;
+import org.codinjutsu.tools.nosql.mongo.view.action.CopyCollectionAction;
 import org.codinjutsu.tools.nosql.mongo.view.action.DropCollectionAction;
 import org.codinjutsu.tools.nosql.mongo.view.action.DropDatabaseAction;
+import org.codinjutsu.tools.nosql.mongo.view.action.FanOutQueryAction;
+import org.codinjutsu.tools.nosql.mongo.view.action.ViewOplogAction;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoFanOutObjectFile;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoGridFSObjectFile;
 import org.codinjutsu.tools.nosql.mongo.view.editor.MongoObjectFile;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoOplogObjectFile;
 import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.view.action.AnalyzeMemoryAction;
+import org.codinjutsu.tools.nosql.redis.view.action.KeyspaceReportAction;
+import org.codinjutsu.tools.nosql.redis.view.action.OpenLuaWorkbenchAction;
+import org.codinjutsu.tools.nosql.redis.view.action.SearchValuesAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ViewActivityAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ViewDashboardAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ViewPubSubAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ViewSlowlogAction;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisSlowlogObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisActivityObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisDashboardObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisKeyspaceObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisLuaObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisMemoryObjectFile;
 import org.codinjutsu.tools.nosql.redis.view.editor.RedisObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisPubSubObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisValueSearchObjectFile;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeWillExpandListener;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
 import javax.swing.tree.TreeSelectionModel;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.codinjutsu.tools.nosql.commons.utils.GuiUtils.showNotification;
 
@@ -70,6 +107,9 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
 
     private static final URL pluginSettingsUrl = GuiUtils.isUnderDarcula() ? GuiUtils.getIconResource("pluginSettings_dark.png") : GuiUtils.getIconResource("pluginSettings.png");
 
+    static final String LOADING_NODE = "Loading...";
+    static final int COLLECTION_PAGE_SIZE = 200;
+
     private JPanel rootPanel;
 
     private JPanel treePanel;
@@ -79,6 +119,7 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
 
     private final Project project;
     private final DatabaseVendorClientManager databaseVendorClientManager;
+    private final Set<MongoDatabase> loadingMongoDatabases = new HashSet<>();
 
     public NoSqlExplorerPanel(Project project, DatabaseVendorClientManager databaseVendorClientManager) {
         this.project = project;
@@ -89,6 +130,19 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
         databaseTree = createTree();
         databaseTree.setCellRenderer(new NoSqlTreeRenderer());
         databaseTree.setName("databaseTree");
+        databaseTree.addTreeWillExpandListener(new TreeWillExpandListener() {
+            @Override
+            public void treeWillExpand(TreeExpansionEvent event) {
+                DefaultMutableTreeNode treeNode = (DefaultMutableTreeNode) event.getPath().getLastPathComponent();
+                if (treeNode.getUserObject() instanceof MongoDatabase && !((MongoDatabase) treeNode.getUserObject()).isCollectionsLoaded()) {
+                    loadMongoCollections((DefaultMutableTreeNode) treeNode.getParent(), Collections.singletonList(treeNode), false);
+                }
+            }
+
+            @Override
+            public void treeWillCollapse(TreeExpansionEvent event) {
+            }
+        });
 
         JBScrollPane mongoTreeScrollPane = new JBScrollPane(databaseTree);
 
@@ -180,15 +234,90 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
         for (Database database : databaseServer.getDatabases()) {
             DefaultMutableTreeNode databaseNode = new DefaultMutableTreeNode(database);
             if (database instanceof MongoDatabase) {
-                MongoDatabase mongoDatabase = (MongoDatabase) database;
-                for (MongoCollection collection : mongoDatabase.getCollections()) {
-                    databaseNode.add(new DefaultMutableTreeNode(collection));
-                }
+                addMongoCollectionsIfLoaded(databaseNode);
             }
             serverNode.add(databaseNode);
         }
     }
 
+    private void addMongoCollectionsIfLoaded(DefaultMutableTreeNode databaseNode) {
+        databaseNode.removeAllChildren();
+        MongoDatabase mongoDatabase = (MongoDatabase) databaseNode.getUserObject();
+        if (!mongoDatabase.isCollectionsLoaded()) {
+            databaseNode.add(new DefaultMutableTreeNode(LOADING_NODE));
+            return;
+        }
+
+        for (MongoGridFSBucket gridFSBucket : mongoDatabase.getGridFSBuckets()) {
+            databaseNode.add(new DefaultMutableTreeNode(gridFSBucket));
+        }
+        addMongoCollectionPage(databaseNode, mongoDatabase, 0);
+    }
+
+    private void addMongoCollectionPage(DefaultMutableTreeNode databaseNode, MongoDatabase mongoDatabase, int offset) {
+        for (MongoCollection collection : mongoDatabase.getCollections(offset, COLLECTION_PAGE_SIZE)) {
+            databaseNode.add(new DefaultMutableTreeNode(collection));
+        }
+        if (offset + COLLECTION_PAGE_SIZE < mongoDatabase.getCollections().size()) {
+            databaseNode.add(new DefaultMutableTreeNode(new MongoMoreCollections(mongoDatabase, offset + COLLECTION_PAGE_SIZE)));
+        }
+    }
+
+    private void loadMoreMongoCollections(DefaultMutableTreeNode moreCollectionsNode) {
+        MongoMoreCollections moreCollections = (MongoMoreCollections) moreCollectionsNode.getUserObject();
+        DefaultMutableTreeNode databaseNode = (DefaultMutableTreeNode) moreCollectionsNode.getParent();
+        databaseNode.remove(moreCollectionsNode);
+        addMongoCollectionPage(databaseNode, moreCollections.getDatabase(), moreCollections.getOffset());
+        ((DefaultTreeModel) databaseTree.getModel()).nodeStructureChanged(databaseNode);
+    }
+
+    private void loadMongoCollections(DefaultMutableTreeNode serverNode, List<DefaultMutableTreeNode> databaseNodes, final boolean expandAfterLoading) {
+        final List<DefaultMutableTreeNode> databaseNodesToLoad = new ArrayList<>();
+        final List<MongoDatabase> mongoDatabasesToLoad = new ArrayList<>();
+        for (DefaultMutableTreeNode databaseNode : databaseNodes) {
+            MongoDatabase mongoDatabase = (MongoDatabase) databaseNode.getUserObject();
+            if (loadingMongoDatabases.add(mongoDatabase)) {
+                databaseNodesToLoad.add(databaseNode);
+                mongoDatabasesToLoad.add(mongoDatabase);
+            }
+        }
+        if (mongoDatabasesToLoad.isEmpty()) {
+            return;
+        }
+
+        final DatabaseServer databaseServer = (DatabaseServer) serverNode.getUserObject();
+        databaseTree.setPaintBusy(true);
+        ApplicationManager.getApplication().executeOnPooledThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    MongoClient mongoClient = (MongoClient) databaseVendorClientManager.get(DatabaseVendor.MONGO);
+                    mongoClient.loadCollections(databaseServer.getConfiguration(), mongoDatabasesToLoad);
+                } catch (ConfigurationException confEx) {
+                    showNotification(treePanel,
+                            MessageType.ERROR,
+                            String.format("Error when listing collections on %s", databaseServer.getLabel()),
+                            Balloon.Position.atLeft);
+                } finally {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            loadingMongoDatabases.removeAll(mongoDatabasesToLoad);
+                            for (DefaultMutableTreeNode databaseNode : databaseNodesToLoad) {
+                                addMongoCollectionsIfLoaded(databaseNode);
+                                ((DefaultTreeModel) databaseTree.getModel()).nodeStructureChanged(databaseNode);
+                            }
+                            if (expandAfterLoading) {
+                                TreeUtil.expandAll(databaseTree);
+                            }
+                            databaseTree.setPaintBusy(false);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
     private List<ServerConfiguration> getServerConfigurations() {
         return NoSqlConfiguration.getInstance(project).getServerConfigurations();
     }
@@ -250,8 +379,19 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
         if (ApplicationManager.getApplication() != null) {
             actionPopupGroup.add(refreshServerAction);
             actionPopupGroup.add(viewCollectionValuesAction);
+            actionPopupGroup.add(new FanOutQueryAction(this));
+            actionPopupGroup.add(new CopyCollectionAction(this));
             actionPopupGroup.add(new DropCollectionAction(this));
             actionPopupGroup.add(new DropDatabaseAction(this));
+            actionPopupGroup.add(new ViewOplogAction(this));
+            actionPopupGroup.add(new AnalyzeMemoryAction(this));
+            actionPopupGroup.add(new KeyspaceReportAction(this));
+            actionPopupGroup.add(new OpenLuaWorkbenchAction(this));
+            actionPopupGroup.add(new SearchValuesAction(this));
+            actionPopupGroup.add(new ViewActivityAction(this));
+            actionPopupGroup.add(new ViewDashboardAction(this));
+            actionPopupGroup.add(new ViewSlowlogAction(this));
+            actionPopupGroup.add(new ViewPubSubAction(this));
         }
 
         PopupHandler.installPopupHandler(databaseTree, actionPopupGroup, "POPUP", ActionManager.getInstance());
@@ -275,6 +415,12 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
                     if (treeNode.getUserObject() instanceof MongoCollection) {
                         loadRecords();
                     }
+                    if (treeNode.getUserObject() instanceof MongoGridFSBucket) {
+                        loadRecords();
+                    }
+                    if (treeNode.getUserObject() instanceof MongoMoreCollections) {
+                        loadMoreMongoCollections(treeNode);
+                    }
                     if (treeNode.getUserObject() instanceof RedisDatabase) {
                         loadRecords();
                     }
@@ -288,6 +434,23 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
     }
 
     private void expandAll() {
+        if (databaseTree.getModel() == null) {
+            return;
+        }
+        DefaultMutableTreeNode rootNode = (DefaultMutableTreeNode) databaseTree.getModel().getRoot();
+        for (int serverIndex = 0; serverIndex < rootNode.getChildCount(); serverIndex++) {
+            DefaultMutableTreeNode serverNode = (DefaultMutableTreeNode) rootNode.getChildAt(serverIndex);
+            List<DefaultMutableTreeNode> unloadedDatabaseNodes = new ArrayList<>();
+            for (int databaseIndex = 0; databaseIndex < serverNode.getChildCount(); databaseIndex++) {
+                DefaultMutableTreeNode databaseNode = (DefaultMutableTreeNode) serverNode.getChildAt(databaseIndex);
+                if (databaseNode.getUserObject() instanceof MongoDatabase && !((MongoDatabase) databaseNode.getUserObject()).isCollectionsLoaded()) {
+                    unloadedDatabaseNodes.add(databaseNode);
+                }
+            }
+            if (!unloadedDatabaseNodes.isEmpty()) {
+                loadMongoCollections(serverNode, unloadedDatabaseNodes, true);
+            }
+        }
         TreeUtil.expandAll(databaseTree);
     }
 
@@ -304,7 +467,7 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
         DefaultMutableTreeNode treeNode = (DefaultMutableTreeNode) databaseTree.getLastSelectedPathComponent();
         if (treeNode != null) {
             Object userObject = treeNode.getUserObject();
-            if (userObject instanceof MongoCollection) {
+            if (userObject instanceof MongoCollection || userObject instanceof MongoGridFSBucket || userObject instanceof MongoMoreCollections) {
                 return (DefaultMutableTreeNode) treeNode.getParent().getParent();
             }
 
@@ -408,14 +571,106 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
         return (MongoCollection) collectionNode.getUserObject();
     }
 
+    /**
+     * @return <code>false</code> when several nodes are selected: only the fan-out query acts on all of them
+     */
+    public boolean isSingleSelection() {
+        return databaseTree.getSelectionCount() <= 1;
+    }
+
+    public List<MongoCollection> getSelectedCollections() {
+        List<MongoCollection> selectedCollections = new ArrayList<>();
+        TreePath[] selectionPaths = databaseTree.getSelectionPaths();
+        if (selectionPaths == null) {
+            return selectedCollections;
+        }
+
+        for (TreePath selectionPath : selectionPaths) {
+            Object userObject = ((DefaultMutableTreeNode) selectionPath.getLastPathComponent()).getUserObject();
+            if (userObject instanceof MongoCollection) {
+                selectedCollections.add((MongoCollection) userObject);
+            }
+        }
+        return selectedCollections;
+    }
+
+    public MongoGridFSBucket getSelectedGridFSBucket() {
+        DefaultMutableTreeNode treeNode = (DefaultMutableTreeNode) databaseTree.getLastSelectedPathComponent();
+        if (treeNode == null || !(treeNode.getUserObject() instanceof MongoGridFSBucket)) {
+            return null;
+        }
+
+        return (MongoGridFSBucket) treeNode.getUserObject();
+    }
+
     public void loadRecords() {
         NoSqlDatabaseFileSystem.getInstance().openEditor(createNoSqlObjectFile());
     }
 
+    public void openFanOutQuery(List<MongoCollection> mongoCollections) {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new MongoFanOutObjectFile(project, getConfiguration(), mongoCollections));
+    }
+
+    public void openFanOutQuery(String collectionName, String databaseGlob) {
+        DatabaseServer databaseServer = (DatabaseServer) getSelectedServerNode().getUserObject();
+        List<MongoCollection> mongoCollections = new ArrayList<>();
+        for (Database database : databaseServer.getDatabases()) {
+            if (StringUtils.matchesGlob(databaseGlob, database.getName())) {
+                mongoCollections.add(new MongoCollection(collectionName, database.getName()));
+            }
+        }
+
+        if (mongoCollections.isEmpty()) {
+            showNotification(treePanel, MessageType.WARNING, String.format("No database matches '%s'", databaseGlob), Balloon.Position.atLeft);
+            return;
+        }
+        openFanOutQuery(mongoCollections);
+    }
+
+    public void openOplogViewer() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new MongoOplogObjectFile(project, getConfiguration()));
+    }
+
+    public void openPubSub() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisPubSubObjectFile(project, getConfiguration()));
+    }
+
+    public void openDashboard() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisDashboardObjectFile(project, getConfiguration()));
+    }
+
+    public void openSlowlog() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisSlowlogObjectFile(project, getConfiguration()));
+    }
+
+    public void openMemoryAnalysis() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisMemoryObjectFile(project, getConfiguration(), getSelectedRedisDatabase()));
+    }
+
+    public void openActivity() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisActivityObjectFile(project, getConfiguration(), getSelectedRedisDatabase()));
+    }
+
+    public void openLuaWorkbench() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisLuaObjectFile(project, getConfiguration(), getSelectedRedisDatabase()));
+    }
+
+    public void openValueSearch() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisValueSearchObjectFile(project, getConfiguration(), getSelectedRedisDatabase()));
+    }
+
+    public void openKeyspaceReport() {
+        NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisKeyspaceObjectFile(project, getConfiguration(), getSelectedRedisDatabase()));
+    }
+
     @NotNull
     private NoSqlDatabaseObjectFile createNoSqlObjectFile() { // TODO need to put in the database UI manager
         ServerConfiguration selectedConfiguration = getConfiguration();
         if (DatabaseVendor.MONGO.equals(selectedConfiguration.getDatabaseVendor())) {
+            MongoGridFSBucket gridFSBucket = getSelectedGridFSBucket();
+            if (gridFSBucket != null) {
+                return new MongoGridFSObjectFile(project, selectedConfiguration, gridFSBucket);
+            }
             return new MongoObjectFile(project, selectedConfiguration, getSelectedCollection());
         } else if (DatabaseVendor.COUCHBASE.equals(selectedConfiguration.getDatabaseVendor())) {
             return new CouchbaseObjectFile(project, selectedConfiguration, getSelectedCouchaseDatabase());
@@ -429,6 +684,35 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
         reloadServerConfiguration(getSelectedServerNode(), true);
     }
 
+    public void copyCollection(final String targetCollectionName) {
+        final MongoClient databaseClient = (MongoClient) databaseVendorClientManager.get(DatabaseVendor.MONGO);
+        final ServerConfiguration configuration = getConfiguration();
+        final MongoCollection sourceCollection = getSelectedCollection();
+        final DefaultMutableTreeNode serverNode = getSelectedServerNode();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, String.format("Copying '%s' into '%s'", sourceCollection.getName(), targetCollectionName), false) {
+
+            private boolean copied;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    DBObject collectionStats = databaseClient.copyCollection(configuration, sourceCollection, targetCollectionName);
+                    copied = true;
+                    showNotification(treePanel, MessageType.INFO, MongoUtils.formatCollectionStats(targetCollectionName, collectionStats), Balloon.Position.atLeft);
+                } catch (Exception ex) {
+                    showNotification(treePanel, MessageType.ERROR, String.format("Error when copying '%s': %s", sourceCollection.getName(), ex.getMessage()), Balloon.Position.atLeft);
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                if (copied) {
+                    reloadServerConfiguration(serverNode, true);
+                }
+            }
+        });
+    }
+
     public void dropDatabase() {// TODO need to put in a customizer
         MongoClient databaseClient = (MongoClient) databaseVendorClientManager.get(DatabaseVendor.MONGO);
         databaseClient.dropDatabase(getConfiguration(), getSelectedMongoDatabase());
@@ -466,7 +750,7 @@ public class NoSqlExplorerPanel extends JPanel implements Disposable {
         };
 
         tree.getEmptyText().clear();
-        tree.getSelectionModel().setSelectionMode(TreeSelectionModel.SINGLE_TREE_SELECTION);
+        tree.getSelectionModel().setSelectionMode(TreeSelectionModel.DISCONTIGUOUS_TREE_SELECTION);
 
         return tree;
     }
@@ -19,11 +19,15 @@ package org.codinjutsu.tools.nosql;
 import com.intellij.icons.AllIcons;
 import com.intellij.ui.ColoredTreeCellRenderer;
 import com.intellij.ui.JBColor;
+import com.intellij.ui.SimpleTextAttributes;
 import org.apache.commons.lang.StringUtils;
 import org.codinjutsu.tools.nosql.commons.model.Database;
 import org.codinjutsu.tools.nosql.commons.model.DatabaseServer;
 import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
 import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSBucket;
+import org.codinjutsu.tools.nosql.mongo.model.MongoMoreCollections;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
@@ -33,6 +37,7 @@ public class NoSqlTreeRenderer extends ColoredTreeCellRenderer {
 
     private static final Icon DATABASE = GuiUtils.loadIcon("database.png");
     private static final Icon MONGO_COLLECTION = AllIcons.Nodes.Folder;
+    private static final Icon MONGO_GRIDFS_BUCKET = AllIcons.FileTypes.Archive;
 
     @Override
     public void customizeCellRenderer(@NotNull JTree mongoTree, Object value, boolean isSelected, boolean isExpanded, boolean isLeaf, int row, boolean focus) {
@@ -56,11 +61,26 @@ public class NoSqlTreeRenderer extends ColoredTreeCellRenderer {
         } else if (userObject instanceof Database) {
             Database noSqlDatabase = (Database) userObject;
             append(noSqlDatabase.getName());
+            if (noSqlDatabase instanceof RedisDatabase) {
+                RedisDatabase redisDatabase = (RedisDatabase) noSqlDatabase;
+                append(redisDatabase.isEmpty() ? " (empty)" : String.format(" (%,d keys, %,d expiring)", redisDatabase.getKeyCount(), redisDatabase.getExpiringKeyCount()),
+                        SimpleTextAttributes.GRAYED_ATTRIBUTES);
+            }
             setIcon(DATABASE);
         } else if (userObject instanceof MongoCollection) {
             MongoCollection mongoCollection = (MongoCollection) userObject;
             append(mongoCollection.getName());
             setIcon(MONGO_COLLECTION);
+        } else if (userObject instanceof MongoGridFSBucket) {
+            MongoGridFSBucket gridFSBucket = (MongoGridFSBucket) userObject;
+            append(gridFSBucket.getName());
+            append(" (GridFS)", SimpleTextAttributes.GRAYED_ATTRIBUTES);
+            setIcon(MONGO_GRIDFS_BUCKET);
+        } else if (userObject instanceof MongoMoreCollections) {
+            MongoMoreCollections moreCollections = (MongoMoreCollections) userObject;
+            append(String.format("%d more collections (double-click to show)", moreCollections.getRemainingCount()), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+        } else if (userObject instanceof String) {
+            append((String) userObject, SimpleTextAttributes.GRAYED_ATTRIBUTES);
         }
     }
 }
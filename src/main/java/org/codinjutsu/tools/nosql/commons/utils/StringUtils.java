@@ -16,6 +16,8 @@
 
 package org.codinjutsu.tools.nosql.commons.utils;
 
+import java.util.regex.Pattern;
+
 public class StringUtils {
 
     private static final String ELLIPSIS = "...";
@@ -49,4 +51,18 @@ public class StringUtils {
     public static String[] explode(String key, String separator) {
         return org.apache.commons.lang.StringUtils.split(key, separator);
     }
+
+    public static boolean matchesGlob(String glob, String value) {
+        StringBuilder regex = new StringBuilder();
+        for (char character : glob.toCharArray()) {
+            if (character == '*') {
+                regex.append(".*");
+            } else if (character == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(character)));
+            }
+        }
+        return value.matches(regex.toString());
+    }
 }
@@ -42,7 +42,9 @@ public class ViewCollectionValuesAction extends AnAction implements DumbAware {
 
     public void update(AnActionEvent event) {
         event.getPresentation().setVisible(noSqlExplorerPanel.getSelectedCollection() != null
+                || noSqlExplorerPanel.getSelectedGridFSBucket() != null
                 || noSqlExplorerPanel.getSelectedRedisDatabase() != null
                 || noSqlExplorerPanel.getSelectedCouchaseDatabase() != null);
+        event.getPresentation().setEnabled(noSqlExplorerPanel.isSingleSelection());
     }
 }
@@ -23,8 +23,14 @@ import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
 import org.codinjutsu.tools.nosql.commons.view.editor.NoSqlDatabaseObjectFile;
 import org.codinjutsu.tools.nosql.mongo.logic.MongoClient;
 import org.codinjutsu.tools.nosql.mongo.view.MongoAuthenticationPanel;
+import org.codinjutsu.tools.nosql.mongo.view.MongoFanOutPanel;
+import org.codinjutsu.tools.nosql.mongo.view.MongoGridFSPanel;
+import org.codinjutsu.tools.nosql.mongo.view.MongoOplogPanel;
 import org.codinjutsu.tools.nosql.mongo.view.MongoPanel;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoFanOutObjectFile;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoGridFSObjectFile;
 import org.codinjutsu.tools.nosql.mongo.view.editor.MongoObjectFile;
+import org.codinjutsu.tools.nosql.mongo.view.editor.MongoOplogObjectFile;
 
 public class MongoUI implements DatabaseUI {
 
@@ -36,6 +42,21 @@ public class MongoUI implements DatabaseUI {
 
     @Override
     public NoSqlResultView createResultPanel(Project project, NoSqlDatabaseObjectFile objectFile) {
+        if (objectFile instanceof MongoOplogObjectFile) {
+            return new MongoOplogPanel(project, MongoClient.getInstance(project), objectFile.getConfiguration());
+        }
+        if (objectFile instanceof MongoFanOutObjectFile) {
+            return new MongoFanOutPanel(project,
+                    MongoClient.getInstance(project),
+                    objectFile.getConfiguration(),
+                    ((MongoFanOutObjectFile) objectFile).getCollections());
+        }
+        if (objectFile instanceof MongoGridFSObjectFile) {
+            return new MongoGridFSPanel(project,
+                    MongoClient.getInstance(project),
+                    objectFile.getConfiguration(),
+                    ((MongoGridFSObjectFile) objectFile).getGridFSBucket());
+        }
         MongoObjectFile mongoObjectFile = (MongoObjectFile) objectFile;
         return new MongoPanel(project,
                 MongoClient.getInstance(project),
@@ -16,6 +16,7 @@
 
 package org.codinjutsu.tools.nosql.mongo;
 
+import com.mongodb.DBObject;
 import org.codinjutsu.tools.nosql.ServerConfiguration;
 import org.codinjutsu.tools.nosql.mongo.model.MongoDatabase;
 
@@ -27,4 +28,13 @@ public class MongoUtils {
     public static String buildMongoUrl(ServerConfiguration serverConfiguration, MongoDatabase database) {
         return String.format("%s/%s", serverConfiguration.getServerUrl(), database == null ? "test" : database.getName());
     }
+
+    public static String formatCollectionStats(String collectionName, DBObject collectionStats) {
+        return String.format("'%s' created: %s documents, %s bytes (%s bytes on disk), %s indexes",
+                collectionName,
+                collectionStats.get("count"),
+                collectionStats.get("size"),
+                collectionStats.get("storageSize"),
+                collectionStats.get("nindexes"));
+    }
 }
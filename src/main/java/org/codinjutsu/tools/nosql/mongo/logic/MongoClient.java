@@ -17,9 +17,13 @@
 package org.codinjutsu.tools.nosql.mongo.logic;
 
 import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.mongodb.*;
 import com.mongodb.client.MongoIterable;
+import com.mongodb.gridfs.GridFS;
+import com.mongodb.gridfs.GridFSDBFile;
+import com.mongodb.gridfs.GridFSInputFile;
 import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 import org.codinjutsu.tools.nosql.DatabaseVendor;
@@ -31,16 +35,26 @@ import org.codinjutsu.tools.nosql.commons.model.Database;
 import org.codinjutsu.tools.nosql.commons.model.DatabaseServer;
 import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
 import org.codinjutsu.tools.nosql.mongo.model.MongoDatabase;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSBucket;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSFile;
+import org.codinjutsu.tools.nosql.mongo.model.MongoNamespaceResult;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogQuery;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogStatistics;
 import org.codinjutsu.tools.nosql.mongo.model.MongoQueryOptions;
 import org.codinjutsu.tools.nosql.mongo.model.MongoResult;
 
-import java.io.IOException;
+import java.io.*;
+import java.net.URLConnection;
 import java.net.UnknownHostException;
 import java.util.*;
+import java.util.concurrent.*;
 
 public class MongoClient implements DatabaseClient {
 
     private static final Logger LOG = Logger.getLogger(MongoClient.class);
+    private static final int GRIDFS_BUFFER_SIZE = 64 * 1024;
+    static final int COLLECTION_LISTING_THREADS = 4;
+    static final int FAN_OUT_QUERY_THREADS = 8;
     private final List<DatabaseServer> databaseServers = new LinkedList<>();
 
     public static MongoClient getInstance(Project project) {
@@ -95,31 +109,28 @@ public class MongoClient implements DatabaseClient {
 
     public void loadServer(DatabaseServer databaseServer) {
         databaseServer.setStatus(DatabaseServer.Status.LOADING);
-        List<Database> mongoDatabases = loadDatabaseCollections(databaseServer.getConfiguration());
+        List<Database> mongoDatabases = loadDatabases(databaseServer.getConfiguration());
         databaseServer.setDatabases(mongoDatabases);
         databaseServer.setStatus(DatabaseServer.Status.OK);
     }
 
-    List<Database> loadDatabaseCollections(ServerConfiguration configuration) {
+    List<Database> loadDatabases(ServerConfiguration configuration) {
         com.mongodb.MongoClient mongo = null;
-        List<Database> mongoDatabases = new LinkedList<>();
         try {
             String userDatabase = configuration.getUserDatabase();
 
             mongo = createMongoClient(configuration);
 
             if (StringUtils.isNotEmpty(userDatabase)) {
-                DB database = mongo.getDB(userDatabase);
-                mongoDatabases.add(createMongoDatabaseAndItsCollections(database));
-            } else {
-                List<String> databaseNames = mongo.getDatabaseNames();
-                Collections.sort(databaseNames);
-                for (String databaseName : databaseNames) {
-                    DB database = mongo.getDB(databaseName);
-                    mongoDatabases.add(createMongoDatabaseAndItsCollections(database));
-                }
+                return Collections.<Database>singletonList(new MongoDatabase(userDatabase));
             }
 
+            List<String> databaseNames = mongo.getDatabaseNames();
+            Collections.sort(databaseNames);
+            List<Database> mongoDatabases = new ArrayList<>(databaseNames.size());
+            for (String databaseName : databaseNames) {
+                mongoDatabases.add(new MongoDatabase(databaseName));
+            }
             return mongoDatabases;
         } catch (MongoException | UnknownHostException mongoEx) {
             throw new ConfigurationException(mongoEx);
@@ -130,15 +141,97 @@ public class MongoClient implements DatabaseClient {
         }
     }
 
-    private MongoDatabase createMongoDatabaseAndItsCollections(DB database) {
-        MongoDatabase mongoDatabase = new MongoDatabase(database.getName());
+    public void loadCollections(ServerConfiguration configuration, MongoDatabase mongoDatabase) {
+        loadCollections(configuration, Collections.singletonList(mongoDatabase));
+    }
+
+    /**
+     * Lists the collections of the databases not loaded yet, sharing one connection pool and at most
+     * {@link #COLLECTION_LISTING_THREADS} concurrent listings.
+     */
+    public void loadCollections(ServerConfiguration configuration, List<MongoDatabase> mongoDatabases) {
+        final List<MongoDatabase> databasesToLoad = new ArrayList<>();
+        for (MongoDatabase mongoDatabase : mongoDatabases) {
+            if (!mongoDatabase.isCollectionsLoaded()) {
+                databasesToLoad.add(mongoDatabase);
+            }
+        }
+        if (databasesToLoad.isEmpty()) {
+            return;
+        }
+
+        com.mongodb.MongoClient mongo = null;
+        ExecutorService executor = null;
+        try {
+            mongo = createMongoClient(configuration);
+            if (databasesToLoad.size() == 1) {
+                loadCollections(mongo, databasesToLoad.get(0));
+                return;
+            }
+
+            executor = Executors.newFixedThreadPool(Math.min(COLLECTION_LISTING_THREADS, databasesToLoad.size()));
+            List<Future<?>> listings = new ArrayList<>(databasesToLoad.size());
+            for (final MongoDatabase mongoDatabase : databasesToLoad) {
+                final com.mongodb.MongoClient sharedMongo = mongo;
+                listings.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        loadCollections(sharedMongo, mongoDatabase);
+                    }
+                }));
+            }
+            for (Future<?> listing : listings) {
+                listing.get();
+            }
+        } catch (UnknownHostException | MongoException ex) {
+            throw new ConfigurationException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ConfigurationException) {
+                throw (ConfigurationException) ex.getCause();
+            }
+            throw new ConfigurationException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConfigurationException(ex);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            if (mongo != null) {
+                mongo.close();
+            }
+        }
+    }
 
+    private static void loadCollections(com.mongodb.MongoClient mongo, MongoDatabase mongoDatabase) {
+        Set<String> collectionNames = new HashSet<>();
+        for (String collectionName : mongo.getDatabase(mongoDatabase.getName()).listCollectionNames()) {
+            collectionNames.add(collectionName);
+        }
 
-        Set<String> collectionNames = database.getCollectionNames();
+        List<MongoCollection> collections = new ArrayList<>(collectionNames.size());
+        List<MongoGridFSBucket> gridFSBuckets = new ArrayList<>();
         for (String collectionName : collectionNames) {
-            mongoDatabase.addCollection(new MongoCollection(collectionName, database.getName()));
+            String gridFSBucketName = getGridFSBucketName(collectionName, collectionNames);
+            if (gridFSBucketName == null) {
+                collections.add(new MongoCollection(collectionName, mongoDatabase.getName()));
+            } else if (collectionName.endsWith(MongoGridFSBucket.FILES_SUFFIX)) {
+                gridFSBuckets.add(new MongoGridFSBucket(gridFSBucketName, mongoDatabase.getName()));
+            }
         }
-        return mongoDatabase;
+        mongoDatabase.setCollections(collections, gridFSBuckets);
+    }
+
+    static String getGridFSBucketName(String collectionName, Set<String> collectionNames) {
+        if (collectionName.endsWith(MongoGridFSBucket.FILES_SUFFIX)) {
+            String bucketName = StringUtils.removeEnd(collectionName, MongoGridFSBucket.FILES_SUFFIX);
+            return collectionNames.contains(bucketName + MongoGridFSBucket.CHUNKS_SUFFIX) ? bucketName : null;
+        }
+        if (collectionName.endsWith(MongoGridFSBucket.CHUNKS_SUFFIX)) {
+            String bucketName = StringUtils.removeEnd(collectionName, MongoGridFSBucket.CHUNKS_SUFFIX);
+            return collectionNames.contains(bucketName + MongoGridFSBucket.FILES_SUFFIX) ? bucketName : null;
+        }
+        return null;
     }
 
     public void update(ServerConfiguration configuration, MongoCollection mongoCollection, DBObject mongoDocument) {
@@ -198,6 +291,40 @@ public class MongoClient implements DatabaseClient {
         }
     }
 
+    public CommandResult copyCollection(ServerConfiguration configuration, MongoCollection mongoCollection, String targetCollectionName) {
+        return saveResultsAsCollection(configuration, mongoCollection, new MongoQueryOptions(), targetCollectionName);
+    }
+
+    /**
+     * Materialises the query into another collection of the same database with a <code>$out</code> stage,
+     * so that documents never leave the server.
+     */
+    public CommandResult saveResultsAsCollection(ServerConfiguration configuration, MongoCollection mongoCollection, MongoQueryOptions mongoQueryOptions, String targetCollectionName) {
+        com.mongodb.MongoClient mongo = null;
+        try {
+            mongo = createMongoClient(configuration);
+
+            DB database = mongo.getDB(mongoCollection.getDatabaseName());
+            DBCollection collection = database.getCollection(mongoCollection.getName());
+
+            List<DBObject> pipeline = mongoQueryOptions.toPipeline();
+            pipeline.add(new BasicDBObject("$out", targetCollectionName));
+            Cursor cursor = collection.aggregate(pipeline, AggregationOptions.builder()
+                    .allowDiskUse(true)
+                    .outputMode(AggregationOptions.OutputMode.CURSOR)
+                    .build());
+            cursor.close();
+
+            return database.getCollection(targetCollectionName).getStats();
+        } catch (UnknownHostException ex) {
+            throw new ConfigurationException(ex);
+        } finally {
+            if (mongo != null) {
+                mongo.close();
+            }
+        }
+    }
+
     public void dropDatabase(ServerConfiguration configuration, MongoDatabase selectedDatabase) {
         com.mongodb.MongoClient mongo = null;
         try {
@@ -237,6 +364,73 @@ public class MongoClient implements DatabaseClient {
         }
     }
 
+    /**
+     * Runs the same query against every collection on a bounded pool and hands each namespace result
+     * to the callback as soon as it completes, so that the fastest sources show up first.
+     */
+    public void fanOutQuery(ServerConfiguration configuration, List<MongoCollection> mongoCollections, final MongoQueryOptions mongoQueryOptions, NamespaceResultCallback callback, ProgressIndicator indicator) {
+        if (mongoCollections.isEmpty()) {
+            return;
+        }
+
+        com.mongodb.MongoClient mongo = null;
+        ExecutorService executor = null;
+        try {
+            mongo = createMongoClient(configuration);
+            executor = Executors.newFixedThreadPool(Math.min(FAN_OUT_QUERY_THREADS, mongoCollections.size()));
+            CompletionService<MongoNamespaceResult> namespaceQueries = new ExecutorCompletionService<>(executor);
+            for (final MongoCollection mongoCollection : mongoCollections) {
+                final com.mongodb.MongoClient sharedMongo = mongo;
+                namespaceQueries.submit(new Callable<MongoNamespaceResult>() {
+                    @Override
+                    public MongoNamespaceResult call() {
+                        return queryNamespace(sharedMongo, mongoCollection, mongoQueryOptions);
+                    }
+                });
+            }
+
+            int completedQueries = 0;
+            while (completedQueries < mongoCollections.size()) {
+                indicator.checkCanceled();
+                Future<MongoNamespaceResult> namespaceQuery = namespaceQueries.poll(200, TimeUnit.MILLISECONDS);
+                if (namespaceQuery == null) {
+                    continue;
+                }
+                callback.onNamespaceResult(namespaceQuery.get());
+                completedQueries++;
+                indicator.setFraction((double) completedQueries / mongoCollections.size());
+            }
+        } catch (UnknownHostException | ExecutionException ex) {
+            throw new ConfigurationException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConfigurationException(ex);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            if (mongo != null) {
+                mongo.close();
+            }
+        }
+    }
+
+    private MongoNamespaceResult queryNamespace(com.mongodb.MongoClient mongo, MongoCollection mongoCollection, MongoQueryOptions mongoQueryOptions) {
+        long start = System.nanoTime();
+        try {
+            DBCollection collection = mongo.getDB(mongoCollection.getDatabaseName()).getCollection(mongoCollection.getName());
+            MongoResult mongoResult = new MongoResult(mongoCollection.getName());
+            if (mongoQueryOptions.isAggregate()) {
+                aggregate(mongoQueryOptions, mongoResult, collection);
+            } else {
+                find(mongoQueryOptions, mongoResult, collection);
+            }
+            return new MongoNamespaceResult(mongoCollection, mongoResult, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), null);
+        } catch (MongoException ex) {
+            return new MongoNamespaceResult(mongoCollection, null, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), ex);
+        }
+    }
+
     public DBObject findMongoDocument(ServerConfiguration configuration, MongoCollection mongoCollection, Object _id) {
         com.mongodb.MongoClient mongo = null;
         try {
@@ -256,12 +450,169 @@ public class MongoClient implements DatabaseClient {
         }
     }
 
+    public List<MongoGridFSFile> loadGridFSFiles(ServerConfiguration configuration, MongoGridFSBucket gridFSBucket, int limit) {
+        com.mongodb.MongoClient mongo = null;
+        try {
+            mongo = createMongoClient(configuration);
+            DB database = mongo.getDB(gridFSBucket.getDatabaseName());
+
+            List<MongoGridFSFile> gridFSFiles = new LinkedList<>();
+            DBCursor cursor = database.getCollection(gridFSBucket.getName() + MongoGridFSBucket.FILES_SUFFIX).find()
+                    .sort(new BasicDBObject("uploadDate", -1))
+                    .limit(limit);
+            try {
+                while (cursor.hasNext()) {
+                    DBObject fileDocument = cursor.next();
+                    gridFSFiles.add(new MongoGridFSFile(fileDocument.get("_id"),
+                            (String) fileDocument.get("filename"),
+                            ((Number) fileDocument.get("length")).longValue(),
+                            ((Number) fileDocument.get("chunkSize")).longValue(),
+                            (Date) fileDocument.get("uploadDate"),
+                            (String) fileDocument.get("contentType"),
+                            (String) fileDocument.get("md5"),
+                            (DBObject) fileDocument.get("metadata")));
+                }
+            } finally {
+                cursor.close();
+            }
+            return gridFSFiles;
+        } catch (UnknownHostException ex) {
+            throw new ConfigurationException(ex);
+        } finally {
+            if (mongo != null) {
+                mongo.close();
+            }
+        }
+    }
+
+    public void downloadGridFSFile(ServerConfiguration configuration, MongoGridFSBucket gridFSBucket, Object fileId, File targetFile, ProgressIndicator indicator) {
+        com.mongodb.MongoClient mongo = null;
+        try {
+            mongo = createMongoClient(configuration);
+            GridFS gridFS = new GridFS(mongo.getDB(gridFSBucket.getDatabaseName()), gridFSBucket.getName());
+            GridFSDBFile gridFSFile = gridFS.findOne(new BasicDBObject("_id", fileId));
+            if (gridFSFile == null) {
+                throw new ConfigurationException(String.format("GridFS file '%s' does not exist anymore", fileId));
+            }
+
+            long length = gridFSFile.getLength();
+            boolean downloaded = false;
+            try (InputStream input = gridFSFile.getInputStream();
+                 OutputStream output = new FileOutputStream(targetFile)) {
+                byte[] buffer = new byte[GRIDFS_BUFFER_SIZE];
+                long copied = 0;
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    indicator.checkCanceled();
+                    output.write(buffer, 0, read);
+                    copied += read;
+                    if (length > 0) {
+                        indicator.setFraction((double) copied / length);
+                    }
+                }
+                downloaded = true;
+            } finally {
+                if (!downloaded) {
+                    targetFile.delete();
+                }
+            }
+        } catch (IOException ex) {
+            throw new ConfigurationException(ex);
+        } finally {
+            if (mongo != null) {
+                mongo.close();
+            }
+        }
+    }
+
+    public void uploadGridFSFile(ServerConfiguration configuration, MongoGridFSBucket gridFSBucket, File sourceFile, String filename, ProgressIndicator indicator) {
+        InputStream source;
+        try {
+            source = new BufferedInputStream(new FileInputStream(sourceFile), GRIDFS_BUFFER_SIZE);
+        } catch (IOException ex) {
+            throw new ConfigurationException(ex);
+        }
+        uploadGridFSFile(configuration, gridFSBucket, source, sourceFile.length(), filename, indicator);
+    }
+
+    /**
+     * Chunks already saved are deleted when the upload does not complete, whatever the reason.
+     */
+    void uploadGridFSFile(ServerConfiguration configuration, MongoGridFSBucket gridFSBucket, InputStream source, final long length, String filename, final ProgressIndicator indicator) {
+        com.mongodb.MongoClient mongo = null;
+        try {
+            mongo = createMongoClient(configuration);
+            DB database = mongo.getDB(gridFSBucket.getDatabaseName());
+            GridFS gridFS = new GridFS(database, gridFSBucket.getName());
+
+            InputStream input = new FilterInputStream(source) {
+                private long copied;
+
+                @Override
+                public int read(byte[] buffer, int offset, int count) throws IOException {
+                    indicator.checkCanceled();
+                    int read = super.read(buffer, offset, count);
+                    if (read > 0 && length > 0) {
+                        copied += read;
+                        indicator.setFraction((double) copied / length);
+                    }
+                    return read;
+                }
+            };
+
+            GridFSInputFile gridFSFile = gridFS.createFile(input, filename, true);
+            gridFSFile.setContentType(URLConnection.guessContentTypeFromName(filename));
+            boolean completed = false;
+            try {
+                gridFSFile.save();
+                completed = true;
+            } finally {
+                if (!completed) {
+                    database.getCollection(gridFSBucket.getName() + MongoGridFSBucket.CHUNKS_SUFFIX).remove(new BasicDBObject("files_id", gridFSFile.getId()));
+                    input.close();
+                }
+            }
+        } catch (IOException ex) {
+            throw new ConfigurationException(ex);
+        } finally {
+            if (mongo != null) {
+                mongo.close();
+            }
+        }
+    }
+
+    public void deleteGridFSFile(ServerConfiguration configuration, MongoGridFSBucket gridFSBucket, Object fileId) {
+        com.mongodb.MongoClient mongo = null;
+        try {
+            mongo = createMongoClient(configuration);
+            GridFS gridFS = new GridFS(mongo.getDB(gridFSBucket.getDatabaseName()), gridFSBucket.getName());
+            gridFS.remove(new BasicDBObject("_id", fileId));
+        } catch (UnknownHostException ex) {
+            throw new ConfigurationException(ex);
+        } finally {
+            if (mongo != null) {
+                mongo.close();
+            }
+        }
+    }
+
+    public MongoOplogTailer tailOplog(ServerConfiguration configuration, MongoOplogQuery oplogQuery) {
+        try {
+            MongoOplogTailer oplogTailer = new MongoOplogTailer(createMongoClient(configuration), oplogQuery, new MongoOplogStatistics());
+            oplogTailer.start();
+            return oplogTailer;
+        } catch (UnknownHostException ex) {
+            throw new ConfigurationException(ex);
+        }
+    }
+
     private MongoResult aggregate(MongoQueryOptions mongoQueryOptions, MongoResult mongoResult, DBCollection collection) {
         AggregationOutput aggregate = collection.aggregate(mongoQueryOptions.getOperations());
         int index = 0;
         Iterator<DBObject> iterator = aggregate.results().iterator();
         while (iterator.hasNext() && index < mongoQueryOptions.getResultLimit()) {
             mongoResult.add(iterator.next());
+            index++;
         }
         return mongoResult;
     }
@@ -294,6 +645,10 @@ public class MongoClient implements DatabaseClient {
         return mongoResult;
     }
 
+    public interface NamespaceResultCallback {
+        void onNamespaceResult(MongoNamespaceResult namespaceResult);
+    }
+
     private com.mongodb.MongoClient createMongoClient(ServerConfiguration configuration) throws UnknownHostException {
         String serverUrl = configuration.getServerUrl();
         if (StringUtils.isEmpty(serverUrl)) {
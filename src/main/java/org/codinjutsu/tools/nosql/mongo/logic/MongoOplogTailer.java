@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.logic;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import org.apache.log4j.Logger;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogEntry;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogOperation;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogQuery;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogStatistics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tails <code>local.oplog.rs</code> with two threads: the reader only pulls the next cursor batch
+ * when the bounded queue has room, and the aggregator folds documents into {@link MongoOplogStatistics}.
+ */
+public class MongoOplogTailer {
+
+    private static final Logger LOG = Logger.getLogger(MongoOplogTailer.class);
+
+    static final int QUEUE_CAPACITY = 1000;
+    static final long MIN_IDLE_MILLIS = 50;
+    static final long MAX_IDLE_MILLIS = 2000;
+
+    private final com.mongodb.MongoClient mongo;
+    private final MongoOplogQuery query;
+    private final MongoOplogStatistics statistics;
+    private final BlockingQueue<Document> pendingDocuments = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private volatile boolean running;
+    private volatile Exception failure;
+    private Thread readerThread;
+    private Thread aggregatorThread;
+
+    MongoOplogTailer(com.mongodb.MongoClient mongo, MongoOplogQuery query, MongoOplogStatistics statistics) {
+        this.mongo = mongo;
+        this.query = query;
+        this.statistics = statistics;
+    }
+
+    void start() {
+        running = true;
+        readerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                readOplog();
+            }
+        }, "NoSql oplog reader");
+        readerThread.setDaemon(true);
+
+        aggregatorThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                aggregateOplog();
+            }
+        }, "NoSql oplog aggregator");
+        aggregatorThread.setDaemon(true);
+
+        aggregatorThread.start();
+        readerThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (readerThread != null) {
+            readerThread.interrupt();
+        }
+        if (aggregatorThread != null) {
+            aggregatorThread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Exception getFailure() {
+        return failure;
+    }
+
+    public MongoOplogStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * The server kills a tailable cursor whose first batch is empty, e.g. on a quiet oplog or a start time in the
+     * future: the cursor is then reopened after the last seen entry, with a growing delay while nothing comes.
+     */
+    private void readOplog() {
+        MongoCursor<Document> cursor = null;
+        try {
+            MongoCollection<Document> oplog = mongo.getDatabase("local").getCollection("oplog.rs");
+            BsonTimestamp lastTimestamp = new BsonTimestamp(query.getStartTimestamp(), 0);
+            long idleMillis = MIN_IDLE_MILLIS;
+            while (running) {
+                if (cursor == null) {
+                    cursor = openCursor(oplog, lastTimestamp);
+                }
+                Document document = cursor.tryNext();
+                if (document != null) {
+                    lastTimestamp = (BsonTimestamp) document.get("ts");
+                    pendingDocuments.put(document);
+                    idleMillis = MIN_IDLE_MILLIS;
+                    continue;
+                }
+                if (cursor.getServerCursor() == null) {
+                    cursor.close();
+                    cursor = null;
+                }
+                Thread.sleep(idleMillis);
+                idleMillis = Math.min(idleMillis * 2, MAX_IDLE_MILLIS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            if (running) {
+                LOG.error("Error when tailing the oplog", ex);
+                failure = ex;
+                running = false;
+            }
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+            mongo.close();
+        }
+    }
+
+    private static MongoCursor<Document> openCursor(MongoCollection<Document> oplog, BsonTimestamp lastTimestamp) {
+        return oplog.find(Filters.gt("ts", lastTimestamp))
+                .projection(Projections.include("ts", "op", "ns", "o._id", "o2._id"))
+                .cursorType(CursorType.TailableAwait)
+                .noCursorTimeout(true)
+                .oplogReplay(true)
+                .iterator();
+    }
+
+    private void aggregateOplog() {
+        try {
+            while (running || !pendingDocuments.isEmpty()) {
+                Document document = pendingDocuments.poll(500, TimeUnit.MILLISECONDS);
+                if (document == null) {
+                    continue;
+                }
+                MongoOplogEntry entry = toOplogEntry(document);
+                if (entry.getOperation() == null) {
+                    continue;
+                }
+                statistics.record(entry, query.accept(entry));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static MongoOplogEntry toOplogEntry(Document document) {
+        BsonTimestamp timestamp = (BsonTimestamp) document.get("ts");
+        MongoOplogOperation operation = MongoOplogOperation.getOperation(document.getString("op"));
+        return new MongoOplogEntry(timestamp.getTime(), timestamp.getInc(), operation, document.getString("ns"), extractDocumentId(document));
+    }
+
+    private static Object extractDocumentId(Document document) {
+        Object criteria = document.get("o2");
+        if (!(criteria instanceof Document)) {
+            criteria = document.get("o");
+        }
+        if (criteria instanceof Document) {
+            return ((Document) criteria).get("_id");
+        }
+        return null;
+    }
+}
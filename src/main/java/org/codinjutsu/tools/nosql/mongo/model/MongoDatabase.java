@@ -18,13 +18,19 @@ package org.codinjutsu.tools.nosql.mongo.model;
 
 import org.codinjutsu.tools.nosql.commons.model.Database;
 
-import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * Collections are fetched lazily: a database is first listed by name only and its collections are set
+ * once the node is expanded, then kept until the server is reloaded.
+ */
 public class MongoDatabase extends Database {
 
-    private final SortedSet<MongoCollection> collections = new TreeSet<MongoCollection>();
+    private volatile List<MongoCollection> collections = Collections.emptyList();
+    private volatile List<MongoGridFSBucket> gridFSBuckets = Collections.emptyList();
+    private volatile boolean collectionsLoaded;
 
     public MongoDatabase(String name) {
         super(name);
@@ -34,11 +40,32 @@ public class MongoDatabase extends Database {
         return name;
     }
 
-    public Set<MongoCollection> getCollections() {
+    public List<MongoCollection> getCollections() {
         return collections;
     }
 
-    public void addCollection(MongoCollection mongoCollection) {
-        collections.add(mongoCollection);
+    public List<MongoCollection> getCollections(int offset, int limit) {
+        List<MongoCollection> loadedCollections = collections;
+        int fromIndex = Math.min(offset, loadedCollections.size());
+        return loadedCollections.subList(fromIndex, Math.min(fromIndex + limit, loadedCollections.size()));
+    }
+
+    public List<MongoGridFSBucket> getGridFSBuckets() {
+        return gridFSBuckets;
+    }
+
+    public void setCollections(List<MongoCollection> collections, List<MongoGridFSBucket> gridFSBuckets) {
+        List<MongoCollection> sortedCollections = new ArrayList<>(collections);
+        Collections.sort(sortedCollections);
+        List<MongoGridFSBucket> sortedGridFSBuckets = new ArrayList<>(gridFSBuckets);
+        Collections.sort(sortedGridFSBuckets);
+
+        this.collections = Collections.unmodifiableList(sortedCollections);
+        this.gridFSBuckets = Collections.unmodifiableList(sortedGridFSBuckets);
+        this.collectionsLoaded = true;
+    }
+
+    public boolean isCollectionsLoaded() {
+        return collectionsLoaded;
     }
 }
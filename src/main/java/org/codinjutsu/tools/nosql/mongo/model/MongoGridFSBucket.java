@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.model;
+
+import org.jetbrains.annotations.NotNull;
+
+public class MongoGridFSBucket implements Comparable<MongoGridFSBucket> {
+
+    public static final String FILES_SUFFIX = ".files";
+    public static final String CHUNKS_SUFFIX = ".chunks";
+
+    private final String name;
+    private final String databaseName;
+
+    public MongoGridFSBucket(String name, String databaseName) {
+        this.name = name;
+        this.databaseName = databaseName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDatabaseName() {
+        return databaseName;
+    }
+
+    @Override
+    public int compareTo(@NotNull MongoGridFSBucket otherBucket) {
+        return this.name.compareTo(otherBucket.getName());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.model;
+
+import com.mongodb.DBObject;
+
+import java.util.Date;
+
+public class MongoGridFSFile {
+
+    private final Object id;
+    private final String filename;
+    private final long length;
+    private final long chunkSize;
+    private final Date uploadDate;
+    private final String contentType;
+    private final String md5;
+    private final DBObject metadata;
+
+    public MongoGridFSFile(Object id, String filename, long length, long chunkSize, Date uploadDate, String contentType, String md5, DBObject metadata) {
+        this.id = id;
+        this.filename = filename;
+        this.length = length;
+        this.chunkSize = chunkSize;
+        this.uploadDate = uploadDate;
+        this.contentType = contentType;
+        this.md5 = md5;
+        this.metadata = metadata;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    public Date getUploadDate() {
+        return uploadDate;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getMd5() {
+        return md5;
+    }
+
+    public DBObject getMetadata() {
+        return metadata;
+    }
+}
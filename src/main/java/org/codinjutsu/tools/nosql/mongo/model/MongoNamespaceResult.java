@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.model;
+
+public class MongoNamespaceResult {
+
+    private final MongoCollection collection;
+    private final MongoResult result;
+    private final long elapsedMillis;
+    private final Exception failure;
+
+    public MongoNamespaceResult(MongoCollection collection, MongoResult result, long elapsedMillis, Exception failure) {
+        this.collection = collection;
+        this.result = result;
+        this.elapsedMillis = elapsedMillis;
+        this.failure = failure;
+    }
+
+    public MongoCollection getCollection() {
+        return collection;
+    }
+
+    public String getNamespace() {
+        return String.format("%s.%s", collection.getDatabaseName(), collection.getName());
+    }
+
+    public MongoResult getResult() {
+        return result;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Exception getFailure() {
+        return failure;
+    }
+
+    public int getDocumentCount() {
+        return result == null ? 0 : result.getMongoObjects().size();
+    }
+}
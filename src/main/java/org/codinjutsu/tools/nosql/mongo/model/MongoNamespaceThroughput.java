@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.model;
+
+/**
+ * Per-second counters of the last {@link #WINDOW_SIZE} seconds, indexed by oplog time so that
+ * rates stay meaningful when replaying from an older timestamp.
+ */
+public class MongoNamespaceThroughput {
+
+    public static final int WINDOW_SIZE = 10;
+
+    private final String namespace;
+
+    private final int[] bucketSeconds = new int[WINDOW_SIZE];
+    private final long[] inserts = new long[WINDOW_SIZE];
+    private final long[] updates = new long[WINDOW_SIZE];
+    private final long[] deletes = new long[WINDOW_SIZE];
+
+    private long totalOperations;
+
+    public MongoNamespaceThroughput(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public void record(MongoOplogOperation operation, int second) {
+        int index = second % WINDOW_SIZE;
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            inserts[index] = 0;
+            updates[index] = 0;
+            deletes[index] = 0;
+        }
+
+        if (MongoOplogOperation.INSERT.equals(operation)) {
+            inserts[index]++;
+        } else if (MongoOplogOperation.UPDATE.equals(operation)) {
+            updates[index]++;
+        } else if (MongoOplogOperation.DELETE.equals(operation)) {
+            deletes[index]++;
+        }
+        totalOperations++;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public double getInsertsPerSecond(int currentSecond) {
+        return rate(inserts, currentSecond);
+    }
+
+    public double getUpdatesPerSecond(int currentSecond) {
+        return rate(updates, currentSecond);
+    }
+
+    public double getDeletesPerSecond(int currentSecond) {
+        return rate(deletes, currentSecond);
+    }
+
+    public long getTotalOperations() {
+        return totalOperations;
+    }
+
+    private double rate(long[] counters, int currentSecond) {
+        long sum = 0;
+        for (int index = 0; index < WINDOW_SIZE; index++) {
+            int age = currentSecond - bucketSeconds[index];
+            if (age >= 0 && age < WINDOW_SIZE) {
+                sum += counters[index];
+            }
+        }
+        return (double) sum / WINDOW_SIZE;
+    }
+}
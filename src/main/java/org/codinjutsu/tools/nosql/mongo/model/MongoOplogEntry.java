@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.model;
+
+public class MongoOplogEntry {
+
+    private final int timestamp;
+    private final int increment;
+    private final MongoOplogOperation operation;
+    private final String namespace;
+    private final Object documentId;
+
+    public MongoOplogEntry(int timestamp, int increment, MongoOplogOperation operation, String namespace, Object documentId) {
+        this.timestamp = timestamp;
+        this.increment = increment;
+        this.operation = operation;
+        this.namespace = namespace;
+        this.documentId = documentId;
+    }
+
+    /**
+     * @return seconds since epoch of the oplog <code>ts</code> field
+     */
+    public int getTimestamp() {
+        return timestamp;
+    }
+
+    public int getIncrement() {
+        return increment;
+    }
+
+    public MongoOplogOperation getOperation() {
+        return operation;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public Object getDocumentId() {
+        return documentId;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.model;
+
+import org.apache.commons.lang.StringUtils;
+
+public enum MongoOplogOperation {
+
+    INSERT("i"), UPDATE("u"), DELETE("d"), COMMAND("c"), NOOP("n");
+
+    public final String label;
+
+    MongoOplogOperation(String label) {
+        this.label = label;
+    }
+
+    public static MongoOplogOperation getOperation(String op) {
+        for (MongoOplogOperation operation : MongoOplogOperation.values()) {
+            if (StringUtils.equals(op, operation.label)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.model;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public class MongoOplogQuery {
+
+    private final int startTimestamp;
+    private final String namespaceFilter;
+    private final Set<MongoOplogOperation> operations;
+
+    public MongoOplogQuery(int startTimestamp, String namespaceFilter, Set<MongoOplogOperation> operations) {
+        this.startTimestamp = startTimestamp;
+        this.namespaceFilter = namespaceFilter;
+        this.operations = operations.isEmpty() ? EnumSet.noneOf(MongoOplogOperation.class) : EnumSet.copyOf(operations);
+    }
+
+    public int getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public String getNamespaceFilter() {
+        return namespaceFilter;
+    }
+
+    public Set<MongoOplogOperation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Filters applied to the recent operations window only, throughput is always computed for every namespace.
+     */
+    public boolean accept(MongoOplogEntry entry) {
+        if (!operations.contains(entry.getOperation())) {
+            return false;
+        }
+        return StringUtils.isBlank(namespaceFilter) || StringUtils.contains(entry.getNamespace(), namespaceFilter);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.model;
+
+import java.util.*;
+
+public class MongoOplogStatistics {
+
+    public static final int DEFAULT_RECENT_WINDOW_SIZE = 500;
+
+    private final Map<String, MongoNamespaceThroughput> throughputByNamespace = new HashMap<>();
+    private final ArrayDeque<MongoOplogEntry> recentEntries;
+    private final int recentWindowSize;
+
+    private int lastTimestamp;
+    private long lastTimestampMillis;
+    private long processedEntries;
+
+    public MongoOplogStatistics() {
+        this(DEFAULT_RECENT_WINDOW_SIZE);
+    }
+
+    public MongoOplogStatistics(int recentWindowSize) {
+        this.recentWindowSize = recentWindowSize;
+        this.recentEntries = new ArrayDeque<>(recentWindowSize);
+    }
+
+    public synchronized void record(MongoOplogEntry entry, boolean keepInRecentWindow) {
+        record(entry, keepInRecentWindow, System.currentTimeMillis());
+    }
+
+    synchronized void record(MongoOplogEntry entry, boolean keepInRecentWindow, long receivedMillis) {
+        if (entry.getTimestamp() >= lastTimestamp) {
+            lastTimestamp = entry.getTimestamp();
+            lastTimestampMillis = receivedMillis;
+        }
+        processedEntries++;
+
+        MongoNamespaceThroughput throughput = throughputByNamespace.get(entry.getNamespace());
+        if (throughput == null) {
+            throughput = new MongoNamespaceThroughput(entry.getNamespace());
+            throughputByNamespace.put(entry.getNamespace(), throughput);
+        }
+        throughput.record(entry.getOperation(), entry.getTimestamp());
+
+        if (keepInRecentWindow) {
+            if (recentEntries.size() == recentWindowSize) {
+                recentEntries.removeFirst();
+            }
+            recentEntries.addLast(entry);
+        }
+    }
+
+    public synchronized List<NamespaceRate> getNamespaceRates() {
+        return getNamespaceRates(System.currentTimeMillis());
+    }
+
+    /**
+     * Rates are computed at the oplog time of the last entry, moved forward by the wall time elapsed since it was
+     * received, so that they drop to 0 when the oplog goes idle instead of freezing at the last busy value.
+     */
+    synchronized List<NamespaceRate> getNamespaceRates(long currentMillis) {
+        int currentSecond = lastTimestamp + (int) (Math.max(0, currentMillis - lastTimestampMillis) / 1000);
+        List<NamespaceRate> rates = new ArrayList<>(throughputByNamespace.size());
+        for (MongoNamespaceThroughput throughput : throughputByNamespace.values()) {
+            rates.add(new NamespaceRate(throughput.getNamespace(),
+                    throughput.getInsertsPerSecond(currentSecond),
+                    throughput.getUpdatesPerSecond(currentSecond),
+                    throughput.getDeletesPerSecond(currentSecond),
+                    throughput.getTotalOperations()));
+        }
+        Collections.sort(rates);
+        return rates;
+    }
+
+    public synchronized List<MongoOplogEntry> getRecentEntries() {
+        List<MongoOplogEntry> entries = new ArrayList<>(recentEntries);
+        Collections.reverse(entries);
+        return entries;
+    }
+
+    public synchronized int getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    public synchronized long getProcessedEntries() {
+        return processedEntries;
+    }
+
+    public static class NamespaceRate implements Comparable<NamespaceRate> {
+        private final String namespace;
+        private final double insertsPerSecond;
+        private final double updatesPerSecond;
+        private final double deletesPerSecond;
+        private final long totalOperations;
+
+        NamespaceRate(String namespace, double insertsPerSecond, double updatesPerSecond, double deletesPerSecond, long totalOperations) {
+            this.namespace = namespace;
+            this.insertsPerSecond = insertsPerSecond;
+            this.updatesPerSecond = updatesPerSecond;
+            this.deletesPerSecond = deletesPerSecond;
+            this.totalOperations = totalOperations;
+        }
+
+        public String getNamespace() {
+            return namespace;
+        }
+
+        public double getInsertsPerSecond() {
+            return insertsPerSecond;
+        }
+
+        public double getUpdatesPerSecond() {
+            return updatesPerSecond;
+        }
+
+        public double getDeletesPerSecond() {
+            return deletesPerSecond;
+        }
+
+        public double getWritesPerSecond() {
+            return insertsPerSecond + updatesPerSecond + deletesPerSecond;
+        }
+
+        public long getTotalOperations() {
+            return totalOperations;
+        }
+
+        @Override
+        public int compareTo(NamespaceRate other) {
+            int byRate = Double.compare(other.getWritesPerSecond(), getWritesPerSecond());
+            if (byRate != 0) {
+                return byRate;
+            }
+            return namespace.compareTo(other.namespace);
+        }
+    }
+}
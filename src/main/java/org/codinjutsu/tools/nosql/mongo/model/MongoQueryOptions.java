@@ -22,6 +22,7 @@ import com.mongodb.DBObject;
 import com.mongodb.util.JSON;
 import org.apache.commons.lang.StringUtils;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -83,6 +84,28 @@ public class MongoQueryOptions {
         return sort;
     }
 
+    /**
+     * Aggregation stages equivalent to the current find options, the result limit being left out.
+     */
+    public List<DBObject> toPipeline() {
+        List<DBObject> pipeline = new ArrayList<>();
+        if (isAggregate()) {
+            for (Object operation : operations) {
+                pipeline.add((DBObject) operation);
+            }
+            return pipeline;
+        }
+
+        pipeline.add(new BasicDBObject("$match", filter));
+        if (sort != null) {
+            pipeline.add(new BasicDBObject("$sort", sort));
+        }
+        if (projection != null) {
+            pipeline.add(new BasicDBObject("$project", projection));
+        }
+        return pipeline;
+    }
+
     public int getResultLimit() {
         return resultLimit;
     }
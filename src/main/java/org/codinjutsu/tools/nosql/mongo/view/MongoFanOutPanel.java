@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.ui.NumberDocument;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlTreeNode;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.mongo.logic.MongoClient;
+import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
+import org.codinjutsu.tools.nosql.mongo.model.MongoNamespaceResult;
+import org.codinjutsu.tools.nosql.mongo.model.MongoQueryOptions;
+import org.codinjutsu.tools.nosql.mongo.view.action.EnableAggregateAction;
+import org.codinjutsu.tools.nosql.mongo.view.model.JsonTreeModel;
+import org.codinjutsu.tools.nosql.mongo.view.nodedescriptor.MongoResultDescriptor;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.tree.DefaultTreeModel;
+import java.awt.*;
+import java.util.List;
+
+public class MongoFanOutPanel extends NoSqlResultView<List<MongoCollection>> {
+
+    private static final String DEFAULT_ROW_LIMIT_PER_NAMESPACE = "50";
+
+    private final Project project;
+    private final MongoClient mongoClient;
+    private final ServerConfiguration configuration;
+    private final List<MongoCollection> mongoCollections;
+
+    private final JPanel toolBarPanel = new JPanel(new BorderLayout());
+    private final JPanel errorPanel = new JPanel(new BorderLayout());
+    private final JPanel resultPanel = new JPanel(new BorderLayout());
+    private final JTextField rowLimitField = new JTextField("");
+    private final JBLabel statusLabel = new JBLabel();
+    private final QueryPanel queryPanel;
+
+    private NoSqlTreeNode rootNode;
+    private JsonTreeTableView resultTableView;
+    private int queryGeneration;
+    private volatile ProgressIndicator queryIndicator;
+    private int completedNamespaces;
+    private int documentCount;
+    private MongoNamespaceResult slowestNamespaceResult;
+
+    public MongoFanOutPanel(Project project, MongoClient mongoClient, ServerConfiguration configuration, List<MongoCollection> mongoCollections) {
+        this.project = project;
+        this.mongoClient = mongoClient;
+        this.configuration = configuration;
+        this.mongoCollections = mongoCollections;
+
+        setLayout(new BorderLayout());
+
+        queryPanel = new QueryPanel(project);
+        Disposer.register(this, queryPanel);
+
+        initToolBar();
+
+        Splitter splitter = new Splitter(true, 0.2f);
+        splitter.setFirstComponent(queryPanel);
+        splitter.setSecondComponent(resultPanel);
+
+        errorPanel.setVisible(false);
+
+        add(toolBarPanel, BorderLayout.NORTH);
+        add(splitter, BorderLayout.CENTER);
+        add(errorPanel, BorderLayout.SOUTH);
+    }
+
+    private void initToolBar() {
+        rowLimitField.setColumns(5);
+        rowLimitField.setDocument(new NumberDocument());
+        rowLimitField.setText(DEFAULT_ROW_LIMIT_PER_NAMESPACE);
+
+        JPanel rowLimitPanel = new NonOpaquePanel();
+        rowLimitPanel.add(new JLabel("Row limit per namespace:"), BorderLayout.WEST);
+        rowLimitPanel.add(rowLimitField, BorderLayout.CENTER);
+        rowLimitPanel.add(Box.createHorizontalStrut(5), BorderLayout.EAST);
+        toolBarPanel.add(rowLimitPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("MongoFanOutGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new EnableAggregateAction(queryPanel));
+        }
+
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("MongoFanOutGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public List<MongoCollection> getRecords() {
+        return mongoCollections;
+    }
+
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        queryPanel.validateQuery();
+        final MongoQueryOptions queryOptions = queryPanel.getQueryOptions(rowLimitField.getText());
+        final int generation = ++queryGeneration;
+        cancelQuery();
+        resetResultTree();
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, String.format("Querying %d namespaces", mongoCollections.size()), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                queryIndicator = indicator;
+                indicator.setIndeterminate(false);
+                try {
+                    mongoClient.fanOutQuery(configuration, mongoCollections, queryOptions, new MongoClient.NamespaceResultCallback() {
+                        @Override
+                        public void onNamespaceResult(final MongoNamespaceResult namespaceResult) {
+                            final NoSqlTreeNode namespaceNode = JsonTreeModel.buildNamespaceTree(namespaceResult);
+                            GuiUtils.runInSwingThread(new Runnable() {
+                                @Override
+                                public void run() {
+                                    if (generation == queryGeneration) {
+                                        addNamespaceResult(namespaceResult, namespaceNode);
+                                    }
+                                }
+                            });
+                        }
+                    }, indicator);
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (generation != queryGeneration) {
+                                return;
+                            }
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
+                        }
+                    });
+                } finally {
+                    if (queryIndicator == indicator) {
+                        queryIndicator = null;
+                    }
+                }
+            }
+        });
+    }
+
+    private void cancelQuery() {
+        ProgressIndicator indicator = queryIndicator;
+        if (indicator != null) {
+            indicator.cancel();
+            queryIndicator = null;
+        }
+    }
+
+    private void resetResultTree() {
+        completedNamespaces = 0;
+        documentCount = 0;
+        slowestNamespaceResult = null;
+
+        rootNode = new NoSqlTreeNode(new MongoResultDescriptor(String.format("%d namespaces", mongoCollections.size())));
+        resultTableView = new JsonTreeTableView(rootNode, JsonTreeTableView.COLUMNS_FOR_READING);
+        resultTableView.setName("resultTreeTable");
+
+        resultPanel.invalidate();
+        resultPanel.removeAll();
+        resultPanel.add(new JBScrollPane(resultTableView));
+        resultPanel.validate();
+        updateStatus();
+    }
+
+    private void addNamespaceResult(MongoNamespaceResult namespaceResult, NoSqlTreeNode namespaceNode) {
+        rootNode.add(namespaceNode);
+        ((DefaultTreeModel) resultTableView.getTableModel()).nodesWereInserted(rootNode, new int[]{rootNode.getChildCount() - 1});
+
+        completedNamespaces++;
+        documentCount += namespaceResult.getDocumentCount();
+        if (slowestNamespaceResult == null || namespaceResult.getElapsedMillis() > slowestNamespaceResult.getElapsedMillis()) {
+            slowestNamespaceResult = namespaceResult;
+        }
+        updateStatus();
+    }
+
+    private void updateStatus() {
+        String status = String.format("%d/%d namespaces, %d documents", completedNamespaces, mongoCollections.size(), documentCount);
+        if (slowestNamespaceResult != null) {
+            status += String.format(", slowest: %s (%d ms)", slowestNamespaceResult.getNamespace(), slowestNamespaceResult.getElapsedMillis());
+        }
+        statusLabel.setText(status + " ");
+    }
+
+    @Override
+    public void dispose() {
+        queryGeneration++;
+        cancelQuery();
+    }
+}
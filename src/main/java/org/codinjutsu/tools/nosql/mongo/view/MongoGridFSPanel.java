@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptor;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.LoadingDecorator;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.NumberDocument;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import com.intellij.ui.table.JBTable;
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.mongo.logic.MongoClient;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSBucket;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSFile;
+import org.codinjutsu.tools.nosql.mongo.view.action.DeleteGridFSFileAction;
+import org.codinjutsu.tools.nosql.mongo.view.action.DownloadGridFSFileAction;
+import org.codinjutsu.tools.nosql.mongo.view.action.UploadGridFSFileAction;
+import org.codinjutsu.tools.nosql.mongo.view.model.MongoGridFSFileTableModel;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.util.List;
+
+public class MongoGridFSPanel extends NoSqlResultView<MongoGridFSBucket> {
+
+    private static final int DEFAULT_FILE_LIMIT = 500;
+
+    private final Project project;
+    private final MongoClient mongoClient;
+    private final ServerConfiguration configuration;
+    private final MongoGridFSBucket gridFSBucket;
+
+    private final JPanel toolBarPanel = new JPanel(new BorderLayout());
+    private final JPanel errorPanel = new JPanel(new BorderLayout());
+    private final JTextField rowLimitField = new JTextField("");
+    private final MongoGridFSFileTableModel gridFSFileTableModel = new MongoGridFSFileTableModel();
+    private final JBTable gridFSFileTable;
+    private final JPanel resultPanel = new JPanel(new BorderLayout());
+    private final LoadingDecorator loadingDecorator;
+
+    public MongoGridFSPanel(Project project, MongoClient mongoClient, ServerConfiguration configuration, MongoGridFSBucket gridFSBucket) {
+        this.project = project;
+        this.mongoClient = mongoClient;
+        this.configuration = configuration;
+        this.gridFSBucket = gridFSBucket;
+
+        setLayout(new BorderLayout());
+
+        gridFSFileTable = new JBTable(gridFSFileTableModel);
+        gridFSFileTable.setName("gridFSFileTable");
+        gridFSFileTable.setAutoCreateRowSorter(true);
+        gridFSFileTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        resultPanel.add(new JBScrollPane(gridFSFileTable), BorderLayout.CENTER);
+        loadingDecorator = new LoadingDecorator(resultPanel, this, 0);
+
+        initToolBar();
+
+        errorPanel.setVisible(false);
+
+        add(toolBarPanel, BorderLayout.NORTH);
+        add(loadingDecorator.getComponent(), BorderLayout.CENTER);
+        add(errorPanel, BorderLayout.SOUTH);
+    }
+
+    private void initToolBar() {
+        rowLimitField.setColumns(5);
+        rowLimitField.setDocument(new NumberDocument());
+        rowLimitField.setText(String.valueOf(DEFAULT_FILE_LIMIT));
+
+        JPanel rowLimitPanel = new NonOpaquePanel();
+        rowLimitPanel.add(new JLabel("Row limit:"), BorderLayout.WEST);
+        rowLimitPanel.add(rowLimitField, BorderLayout.CENTER);
+        rowLimitPanel.add(Box.createHorizontalStrut(5), BorderLayout.EAST);
+        toolBarPanel.add(rowLimitPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("MongoGridFSGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.addSeparator();
+            actionGroup.add(new UploadGridFSFileAction(this));
+            actionGroup.add(new DownloadGridFSFileAction(this));
+            actionGroup.add(new DeleteGridFSFileAction(this));
+        }
+
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("MongoGridFSGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public MongoGridFSBucket getRecords() {
+        return gridFSBucket;
+    }
+
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        final int limit = StringUtils.isBlank(rowLimitField.getText()) ? DEFAULT_FILE_LIMIT : Integer.parseInt(rowLimitField.getText());
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Loading GridFS files", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            loadingDecorator.startLoading(false);
+                        }
+                    });
+
+                    final List<MongoGridFSFile> gridFSFiles = mongoClient.loadGridFSFiles(configuration, gridFSBucket, limit);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            gridFSFileTableModel.setGridFSFiles(gridFSFiles);
+                        }
+                    });
+                } catch (Exception ex) {
+                    showError(ex);
+                } finally {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            loadingDecorator.stopLoading();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    public MongoGridFSFile getSelectedGridFSFile() {
+        int selectedRow = gridFSFileTable.getSelectedRow();
+        if (selectedRow < 0) {
+            return null;
+        }
+        return gridFSFileTableModel.getGridFSFile(gridFSFileTable.convertRowIndexToModel(selectedRow));
+    }
+
+    public void uploadFile() {
+        VirtualFile selectedFile = FileChooser.chooseFile(new FileChooserDescriptor(true, false, false, false, false, false), project, null);
+        if (selectedFile == null) {
+            return;
+        }
+
+        final File sourceFile = new File(selectedFile.getPath());
+        final String filename = selectedFile.getName();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, String.format("Uploading %s to GridFS", filename), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                try {
+                    mongoClient.uploadGridFSFile(configuration, gridFSBucket, sourceFile, filename, indicator);
+                } catch (Exception ex) {
+                    showError(ex);
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                executeQuery();
+            }
+        });
+    }
+
+    public void downloadSelectedFile() {
+        final MongoGridFSFile gridFSFile = getSelectedGridFSFile();
+        if (gridFSFile == null) {
+            return;
+        }
+
+        VirtualFileWrapper fileWrapper = FileChooserFactory.getInstance()
+                .createSaveFileDialog(new FileSaverDescriptor("Download GridFS file", "Choose the local file to write to"), project)
+                .save(null, gridFSFile.getFilename());
+        if (fileWrapper == null) {
+            return;
+        }
+
+        final File targetFile = fileWrapper.getFile();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, String.format("Downloading %s from GridFS", gridFSFile.getFilename()), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                try {
+                    mongoClient.downloadGridFSFile(configuration, gridFSBucket, gridFSFile.getId(), targetFile, indicator);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            GuiUtils.showNotification(gridFSFileTable, MessageType.INFO, String.format("%s downloaded", targetFile.getName()), Balloon.Position.above);
+                        }
+                    });
+                } catch (Exception ex) {
+                    showError(ex);
+                }
+            }
+        });
+    }
+
+    public void deleteSelectedFile() {
+        final MongoGridFSFile gridFSFile = getSelectedGridFSFile();
+        if (gridFSFile == null) {
+            return;
+        }
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, String.format("Deleting %s from GridFS", gridFSFile.getFilename()), false) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    mongoClient.deleteGridFSFile(configuration, gridFSBucket, gridFSFile.getId());
+                } catch (Exception ex) {
+                    showError(ex);
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                executeQuery();
+            }
+        });
+    }
+
+    private void showError(final Exception ex) {
+        GuiUtils.runInSwingThread(new Runnable() {
+            @Override
+            public void run() {
+                errorPanel.invalidate();
+                errorPanel.removeAll();
+                errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                errorPanel.validate();
+                errorPanel.setVisible(true);
+            }
+        });
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
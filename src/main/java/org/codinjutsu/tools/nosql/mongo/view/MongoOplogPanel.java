@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import com.intellij.ui.table.JBTable;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.mongo.logic.MongoClient;
+import org.codinjutsu.tools.nosql.mongo.logic.MongoOplogTailer;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogOperation;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogQuery;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogStatistics;
+import org.codinjutsu.tools.nosql.mongo.view.action.StopOplogTailingAction;
+import org.codinjutsu.tools.nosql.mongo.view.model.MongoNamespaceRateTableModel;
+import org.codinjutsu.tools.nosql.mongo.view.model.MongoOplogEntryTableModel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+public class MongoOplogPanel extends NoSqlResultView<MongoOplogStatistics> {
+
+    private static final String START_DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final int REFRESH_DELAY_IN_MILLIS = 1000;
+    private static final int DEFAULT_LOOKBACK_IN_SECONDS = 60;
+
+    private final Project project;
+    private final MongoClient mongoClient;
+    private final ServerConfiguration configuration;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JBTextField startField;
+    private final JBTextField namespaceField;
+    private final Map<MongoOplogOperation, JCheckBox> operationCheckBoxes = new EnumMap<>(MongoOplogOperation.class);
+    private final JBLabel statusLabel = new JBLabel();
+
+    private final MongoNamespaceRateTableModel namespaceRateTableModel = new MongoNamespaceRateTableModel();
+    private final MongoOplogEntryTableModel oplogEntryTableModel = new MongoOplogEntryTableModel();
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private MongoOplogTailer oplogTailer;
+    private MongoOplogStatistics statistics = new MongoOplogStatistics();
+
+    public MongoOplogPanel(Project project, MongoClient mongoClient, ServerConfiguration configuration) {
+        this.project = project;
+        this.mongoClient = mongoClient;
+        this.configuration = configuration;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        startField = new JBTextField(formatStartDate(System.currentTimeMillis() - DEFAULT_LOOKBACK_IN_SECONDS * 1000L));
+        startField.setColumns(14);
+        namespaceField = new JBTextField();
+        namespaceField.setColumns(14);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        Splitter splitter = new Splitter(true, 0.5f);
+        splitter.setFirstComponent(new JBScrollPane(createTable(namespaceRateTableModel, "namespaceRateTable")));
+        splitter.setSecondComponent(new JBScrollPane(createTable(oplogEntryTableModel, "oplogEntryTable")));
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(splitter, BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshStatistics();
+            }
+        });
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(new JLabel("From (UTC):"));
+        westPanel.add(startField);
+        westPanel.add(new JLabel("Namespace:"));
+        westPanel.add(namespaceField);
+        for (MongoOplogOperation operation : MongoOplogOperation.values()) {
+            JCheckBox operationCheckBox = new JCheckBox(operation.name().toLowerCase(), !MongoOplogOperation.NOOP.equals(operation));
+            operationCheckBox.setOpaque(false);
+            operationCheckBoxes.put(operation, operationCheckBox);
+            westPanel.add(operationCheckBox);
+        }
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("MongoOplogGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new StopOplogTailingAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("MongoOplogGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    private static JBTable createTable(javax.swing.table.TableModel tableModel, String name) {
+        JBTable table = new JBTable(tableModel);
+        table.setName(name);
+        table.setAutoCreateRowSorter(true);
+        return table;
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public MongoOplogStatistics getRecords() {
+        return statistics;
+    }
+
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        int startTimestamp;
+        try {
+            startTimestamp = parseStartDate(startField.getText());
+        } catch (ParseException ex) {
+            GuiUtils.showNotification(startField, MessageType.ERROR, String.format("Expected format: %s", START_DATE_PATTERN), Balloon.Position.below);
+            return;
+        }
+
+        stopTailing();
+
+        Set<MongoOplogOperation> operations = EnumSet.noneOf(MongoOplogOperation.class);
+        for (Map.Entry<MongoOplogOperation, JCheckBox> operationCheckBox : operationCheckBoxes.entrySet()) {
+            if (operationCheckBox.getValue().isSelected()) {
+                operations.add(operationCheckBox.getKey());
+            }
+        }
+
+        try {
+            oplogTailer = mongoClient.tailOplog(configuration, new MongoOplogQuery(startTimestamp, namespaceField.getText(), operations));
+            statistics = oplogTailer.getStatistics();
+            refreshTimer.start();
+        } catch (Exception ex) {
+            showError(ex);
+        }
+    }
+
+    public boolean isTailing() {
+        return oplogTailer != null && oplogTailer.isRunning();
+    }
+
+    public void stopTailing() {
+        if (oplogTailer != null) {
+            oplogTailer.stop();
+            oplogTailer = null;
+        }
+        refreshTimer.stop();
+    }
+
+    private void refreshStatistics() {
+        namespaceRateTableModel.setNamespaceRates(statistics.getNamespaceRates());
+        oplogEntryTableModel.setEntries(statistics.getRecentEntries());
+        statusLabel.setText(String.format("%s operations read, last at %s ",
+                statistics.getProcessedEntries(),
+                statistics.getLastTimestamp() == 0 ? "-" : formatStartDate(statistics.getLastTimestamp() * 1000L)));
+
+        if (oplogTailer != null && oplogTailer.getFailure() != null) {
+            Exception failure = oplogTailer.getFailure();
+            stopTailing();
+            showError(failure);
+        }
+    }
+
+    private void showError(Exception ex) {
+        errorPanel.invalidate();
+        errorPanel.removeAll();
+        errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+        errorPanel.validate();
+        errorPanel.setVisible(true);
+    }
+
+    private static String formatStartDate(long timeInMillis) {
+        return createStartDateFormat().format(new Date(timeInMillis));
+    }
+
+    private static int parseStartDate(String startDate) throws ParseException {
+        return (int) (createStartDateFormat().parse(startDate).getTime() / 1000L);
+    }
+
+    private static SimpleDateFormat createStartDateFormat() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(START_DATE_PATTERN);
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return dateFormat;
+    }
+
+    @Override
+    public void dispose() {
+        stopTailing();
+    }
+}
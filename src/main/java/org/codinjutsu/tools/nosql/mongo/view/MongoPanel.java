@@ -29,7 +29,9 @@ import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.LoadingDecorator;
+import com.intellij.openapi.ui.MessageType;
 import com.intellij.openapi.ui.Splitter;
+import com.intellij.openapi.ui.popup.Balloon;
 import com.intellij.openapi.util.Disposer;
 import com.intellij.ui.NumberDocument;
 import com.intellij.ui.components.panels.NonOpaquePanel;
@@ -39,8 +41,10 @@ import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
 import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
 import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
 import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.mongo.MongoUtils;
 import org.codinjutsu.tools.nosql.mongo.logic.MongoClient;
 import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
+import org.codinjutsu.tools.nosql.mongo.model.MongoQueryOptions;
 import org.codinjutsu.tools.nosql.mongo.model.MongoResult;
 import org.codinjutsu.tools.nosql.mongo.view.action.*;
 import org.jetbrains.annotations.NotNull;
@@ -131,6 +135,7 @@ public class MongoPanel extends NoSqlResultView<MongoCollection> {
             actionResultGroup.add(new ExecuteQuery<MongoPanel>(this));
             actionResultGroup.add(new OpenFindAction(this));
             actionResultGroup.add(new EnableAggregateAction(queryPanel));
+            actionResultGroup.add(new SaveResultsAsCollectionAction(this));
             actionResultGroup.addSeparator();
             actionResultGroup.add(new AddMongoDocumentAction(resultPanel));
             actionResultGroup.add(new EditMongoDocumentAction(resultPanel));
@@ -238,6 +243,37 @@ public class MongoPanel extends NoSqlResultView<MongoCollection> {
         });
     }
 
+    public void saveResultsAsCollection(final String targetCollectionName) {
+        errorPanel.setVisible(false);
+        validateQuery();
+        final MongoQueryOptions queryOptions = queryPanel.getQueryOptions(rowLimitField.getText());
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, String.format("Saving results into '%s'", targetCollectionName), false) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    final DBObject collectionStats = mongoClient.saveResultsAsCollection(configuration, mongoCollection, queryOptions, targetCollectionName);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            GuiUtils.showNotification(toolBar, MessageType.INFO, MongoUtils.formatCollectionStats(targetCollectionName, collectionStats), Balloon.Position.below);
+                        }
+                    });
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
     private void validateQuery() {
         queryPanel.validateQuery();
     }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view.action;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.ui.Messages;
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.NoSqlExplorerPanel;
+import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
+
+public class CopyCollectionAction extends AnAction implements DumbAware {
+
+    private final NoSqlExplorerPanel noSqlExplorerPanel;
+
+    public CopyCollectionAction(NoSqlExplorerPanel noSqlExplorerPanel) {
+        super("Copy collection", "Copy the selected collection on the server", AllIcons.Actions.Copy);
+        this.noSqlExplorerPanel = noSqlExplorerPanel;
+    }
+
+    @Override
+    public void actionPerformed(AnActionEvent anActionEvent) {
+        MongoCollection selectedCollection = noSqlExplorerPanel.getSelectedCollection();
+        String targetCollectionName = Messages.showInputDialog(anActionEvent.getProject(),
+                String.format("Copy '%s' into the collection (replaced if it exists):", selectedCollection.getName()),
+                "Copy Collection", null, selectedCollection.getName() + "_copy", null);
+        if (StringUtils.isNotBlank(targetCollectionName)) {
+            noSqlExplorerPanel.copyCollection(targetCollectionName.trim());
+        }
+    }
+
+    @Override
+    public void update(AnActionEvent event) {
+        event.getPresentation().setVisible(noSqlExplorerPanel.getSelectedCollection() != null);
+        event.getPresentation().setEnabled(noSqlExplorerPanel.isSingleSelection());
+    }
+}
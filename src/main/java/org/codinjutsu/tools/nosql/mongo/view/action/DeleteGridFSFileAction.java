@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view.action;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAware;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSFile;
+import org.codinjutsu.tools.nosql.mongo.view.MongoGridFSPanel;
+
+import javax.swing.*;
+
+public class DeleteGridFSFileAction extends AnAction implements DumbAware {
+
+    private final MongoGridFSPanel gridFSPanel;
+
+    public DeleteGridFSFileAction(MongoGridFSPanel gridFSPanel) {
+        super("Delete file", "Delete the selected GridFS file and its chunks", AllIcons.Actions.Delete);
+        this.gridFSPanel = gridFSPanel;
+    }
+
+    @Override
+    public void actionPerformed(AnActionEvent anActionEvent) {
+        MongoGridFSFile gridFSFile = gridFSPanel.getSelectedGridFSFile();
+        int result = JOptionPane.showConfirmDialog(null, String.format("Do you REALLY want to delete the '%s' file?", gridFSFile.getFilename()), "Warning", JOptionPane.YES_NO_OPTION);
+
+        if (result == JOptionPane.YES_OPTION) {
+            gridFSPanel.deleteSelectedFile();
+        }
+    }
+
+    @Override
+    public void update(AnActionEvent event) {
+        event.getPresentation().setEnabled(gridFSPanel.getSelectedGridFSFile() != null);
+    }
+}
@@ -48,5 +48,6 @@ public class DropCollectionAction extends AnAction implements DumbAware {
     @Override
     public void update(AnActionEvent event) {
         event.getPresentation().setVisible(noSqlExplorerPanel.getSelectedCollection() != null);
+        event.getPresentation().setEnabled(noSqlExplorerPanel.isSingleSelection());
     }
 }
@@ -51,5 +51,6 @@ public class DropDatabaseAction extends AnAction implements DumbAware {
     @Override
     public void update(AnActionEvent event) {
         event.getPresentation().setVisible(noSqlExplorerPanel.getSelectedMongoDatabase() != null);
+        event.getPresentation().setEnabled(noSqlExplorerPanel.isSingleSelection());
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view.action;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.ui.Messages;
+import org.codinjutsu.tools.nosql.NoSqlExplorerPanel;
+import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
+
+import java.util.List;
+
+public class FanOutQueryAction extends AnAction implements DumbAware {
+
+    private final NoSqlExplorerPanel noSqlExplorerPanel;
+
+    public FanOutQueryAction(NoSqlExplorerPanel noSqlExplorerPanel) {
+        super("Query across namespaces", "Run one query against the selected collections or the same collection in several databases", AllIcons.Actions.Find);
+        this.noSqlExplorerPanel = noSqlExplorerPanel;
+    }
+
+    @Override
+    public void actionPerformed(AnActionEvent anActionEvent) {
+        List<MongoCollection> selectedCollections = noSqlExplorerPanel.getSelectedCollections();
+        if (selectedCollections.size() > 1) {
+            noSqlExplorerPanel.openFanOutQuery(selectedCollections);
+            return;
+        }
+
+        String databaseGlob = Messages.showInputDialog(anActionEvent.getProject(),
+                String.format("Query '%s' in the databases matching (ex: tenant_*):", selectedCollections.get(0).getName()),
+                "Query Across Databases", null, "*", null);
+        if (databaseGlob != null) {
+            noSqlExplorerPanel.openFanOutQuery(selectedCollections.get(0).getName(), databaseGlob);
+        }
+    }
+
+    @Override
+    public void update(AnActionEvent event) {
+        event.getPresentation().setVisible(!noSqlExplorerPanel.getSelectedCollections().isEmpty());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view.action;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.ui.Messages;
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.mongo.view.MongoPanel;
+
+public class SaveResultsAsCollectionAction extends AnAction implements DumbAware {
+
+    private final MongoPanel mongoPanel;
+
+    public SaveResultsAsCollectionAction(MongoPanel mongoPanel) {
+        super("Save results as collection", "Write the results of the current query into a collection on the server", AllIcons.Actions.Menu_saveall);
+        this.mongoPanel = mongoPanel;
+    }
+
+    @Override
+    public void actionPerformed(AnActionEvent anActionEvent) {
+        String targetCollectionName = Messages.showInputDialog(anActionEvent.getProject(),
+                "Save all the results (row limit ignored) into the collection (replaced if it exists):",
+                "Save Results as Collection", null, mongoPanel.getRecords().getName() + "_results", null);
+        if (StringUtils.isNotBlank(targetCollectionName)) {
+            mongoPanel.saveResultsAsCollection(targetCollectionName.trim());
+        }
+    }
+}
@@ -22,8 +22,10 @@ import com.mongodb.DBObject;
 import org.apache.commons.lang.StringUtils;
 import org.codinjutsu.tools.nosql.commons.view.NoSqlTreeNode;
 import org.codinjutsu.tools.nosql.commons.view.nodedescriptor.NodeDescriptor;
+import org.codinjutsu.tools.nosql.mongo.model.MongoNamespaceResult;
 import org.codinjutsu.tools.nosql.mongo.model.MongoResult;
 import org.codinjutsu.tools.nosql.mongo.view.nodedescriptor.MongoKeyValueDescriptor;
+import org.codinjutsu.tools.nosql.mongo.view.nodedescriptor.MongoNamespaceResultDescriptor;
 import org.codinjutsu.tools.nosql.mongo.view.nodedescriptor.MongoResultDescriptor;
 import org.codinjutsu.tools.nosql.mongo.view.nodedescriptor.MongoValueDescriptor;
 
@@ -57,6 +59,21 @@ public class JsonTreeModel extends DefaultTreeModel {
         return rootNode;
     }
 
+    public static NoSqlTreeNode buildNamespaceTree(MongoNamespaceResult namespaceResult) {
+        NoSqlTreeNode namespaceNode = new NoSqlTreeNode(new MongoNamespaceResultDescriptor(namespaceResult));
+        if (namespaceResult.getResult() == null) {
+            return namespaceNode;
+        }
+
+        int i = 0;
+        for (DBObject mongoObject : namespaceResult.getResult().getMongoObjects()) {
+            NoSqlTreeNode currentNode = new NoSqlTreeNode(MongoValueDescriptor.createDescriptor(i++, mongoObject));
+            processDbObject(currentNode, mongoObject);
+            namespaceNode.add(currentNode);
+        }
+        return namespaceNode;
+    }
+
     public static TreeNode buildJsonTree(DBObject mongoObject) {
         NoSqlTreeNode rootNode = new NoSqlTreeNode(new MongoResultDescriptor());//TODO crappy
         processDbObject(rootNode, mongoObject);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view.model;
+
+import org.codinjutsu.tools.nosql.commons.utils.DateUtils;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSFile;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DateFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class MongoGridFSFileTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Filename",
+            "Size (bytes)",
+            "Upload date (UTC)",
+            "Content type",
+            "MD5",
+            "Metadata"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Long.class, String.class, String.class, String.class, String.class};
+
+    private final DateFormat dateFormat = DateUtils.utcDateTime(Locale.getDefault());
+
+    private List<MongoGridFSFile> gridFSFiles = Collections.emptyList();
+
+    public void setGridFSFiles(List<MongoGridFSFile> gridFSFiles) {
+        this.gridFSFiles = gridFSFiles;
+        fireTableDataChanged();
+    }
+
+    public MongoGridFSFile getGridFSFile(int row) {
+        return gridFSFiles.get(row);
+    }
+
+    public List<MongoGridFSFile> getGridFSFiles() {
+        return gridFSFiles;
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return gridFSFiles.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        MongoGridFSFile gridFSFile = gridFSFiles.get(row);
+        switch (column) {
+            case 0: {
+                return gridFSFile.getFilename();
+            }
+            case 1: {
+                return gridFSFile.getLength();
+            }
+            case 2: {
+                return gridFSFile.getUploadDate() == null ? null : dateFormat.format(gridFSFile.getUploadDate());
+            }
+            case 3: {
+                return gridFSFile.getContentType();
+            }
+            case 4: {
+                return gridFSFile.getMd5();
+            }
+            case 5: {
+                return gridFSFile.getMetadata() == null ? null : gridFSFile.getMetadata().toString();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
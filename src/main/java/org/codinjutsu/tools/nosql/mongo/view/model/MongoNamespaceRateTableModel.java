@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.view.model;
+
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogStatistics;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class MongoNamespaceRateTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Namespace",
+            "Inserts/s",
+            "Updates/s",
+            "Deletes/s",
+            "Total"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Double.class, Double.class, Double.class, Long.class};
+
+    private List<MongoOplogStatistics.NamespaceRate> namespaceRates = Collections.emptyList();
+
+    public void setNamespaceRates(List<MongoOplogStatistics.NamespaceRate> namespaceRates) {
+        this.namespaceRates = namespaceRates;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return namespaceRates.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        MongoOplogStatistics.NamespaceRate namespaceRate = namespaceRates.get(row);
+        switch (column) {
+            case 0: {
+                return namespaceRate.getNamespace();
+            }
+            case 1: {
+                return namespaceRate.getInsertsPerSecond();
+            }
+            case 2: {
+                return namespaceRate.getUpdatesPerSecond();
+            }
+            case 3: {
+                return namespaceRate.getDeletesPerSecond();
+            }
+            case 4: {
+                return namespaceRate.getTotalOperations();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.view.model;
+
+import org.codinjutsu.tools.nosql.commons.utils.DateUtils;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogEntry;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+public class MongoOplogEntryTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Time (UTC)",
+            "Operation",
+            "Namespace",
+            "_id"
+    };
+
+    private final DateFormat timeFormat = DateUtils.utcDateTime(Locale.getDefault());
+
+    private List<MongoOplogEntry> entries = Collections.emptyList();
+
+    public void setEntries(List<MongoOplogEntry> entries) {
+        this.entries = entries;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        MongoOplogEntry entry = entries.get(row);
+        switch (column) {
+            case 0: {
+                return String.format("%s #%s", timeFormat.format(new Date(entry.getTimestamp() * 1000L)), entry.getIncrement());
+            }
+            case 1: {
+                return entry.getOperation().name();
+            }
+            case 2: {
+                return entry.getNamespace();
+            }
+            case 3: {
+                return String.valueOf(entry.getDocumentId());
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
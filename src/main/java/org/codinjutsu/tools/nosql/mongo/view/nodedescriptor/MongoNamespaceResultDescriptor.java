@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.view.nodedescriptor;
+
+import com.intellij.ui.ColoredTableCellRenderer;
+import com.intellij.ui.ColoredTreeCellRenderer;
+import com.intellij.ui.SimpleTextAttributes;
+import org.codinjutsu.tools.nosql.commons.style.StyleAttributesProvider;
+import org.codinjutsu.tools.nosql.commons.view.nodedescriptor.NodeDescriptor;
+import org.codinjutsu.tools.nosql.mongo.model.MongoNamespaceResult;
+
+public class MongoNamespaceResultDescriptor implements NodeDescriptor {
+
+    private final MongoNamespaceResult namespaceResult;
+
+    public MongoNamespaceResultDescriptor(MongoNamespaceResult namespaceResult) {
+        this.namespaceResult = namespaceResult;
+    }
+
+    public void renderValue(ColoredTableCellRenderer cellRenderer, boolean isNodeExpanded) {
+        cellRenderer.append(getFormattedValue(), namespaceResult.getFailure() == null ? SimpleTextAttributes.GRAYED_ATTRIBUTES : SimpleTextAttributes.ERROR_ATTRIBUTES);
+    }
+
+    public void renderNode(ColoredTreeCellRenderer cellRenderer) {
+        cellRenderer.append(getFormattedKey(), StyleAttributesProvider.getKeyValueAttribute());
+    }
+
+    public String getFormattedKey() {
+        return namespaceResult.getNamespace();
+    }
+
+    @Override
+    public String getFormattedValue() {
+        if (namespaceResult.getFailure() != null) {
+            return String.format("failed after %d ms: %s", namespaceResult.getElapsedMillis(), namespaceResult.getFailure().getMessage());
+        }
+        return String.format("%d documents in %d ms", namespaceResult.getDocumentCount(), namespaceResult.getElapsedMillis());
+    }
+
+    @Override
+    public Object getValue() {
+        return null;
+    }
+
+    @Override
+    public void setValue(Object value) {
+
+    }
+}
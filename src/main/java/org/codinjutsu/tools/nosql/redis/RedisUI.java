@@ -22,9 +22,27 @@ import org.codinjutsu.tools.nosql.commons.view.AuthenticationView;
 import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
 import org.codinjutsu.tools.nosql.commons.view.editor.NoSqlDatabaseObjectFile;
 import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.view.RedisActivityPanel;
 import org.codinjutsu.tools.nosql.redis.view.RedisAuthenticationPanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisDashboardPanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisKeyspacePanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisLuaPanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisMemoryPanel;
 import org.codinjutsu.tools.nosql.redis.view.RedisPanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisPubSubPanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisSlowlogPanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisStreamPanel;
+import org.codinjutsu.tools.nosql.redis.view.RedisValueSearchPanel;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisActivityObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisDashboardObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisKeyspaceObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisLuaObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisMemoryObjectFile;
 import org.codinjutsu.tools.nosql.redis.view.editor.RedisObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisPubSubObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisSlowlogObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisStreamObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisValueSearchObjectFile;
 
 public class RedisUI implements DatabaseUI {
     @Override
@@ -34,6 +52,34 @@ public class RedisUI implements DatabaseUI {
 
     @Override
     public NoSqlResultView createResultPanel(Project project, NoSqlDatabaseObjectFile objectFile) {
+        if (objectFile instanceof RedisDashboardObjectFile) {
+            return new RedisDashboardPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration());
+        }
+        if (objectFile instanceof RedisSlowlogObjectFile) {
+            return new RedisSlowlogPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration());
+        }
+        if (objectFile instanceof RedisStreamObjectFile) {
+            RedisStreamObjectFile streamObjectFile = (RedisStreamObjectFile) objectFile;
+            return new RedisStreamPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration(), streamObjectFile.getDatabase(), streamObjectFile.getKey());
+        }
+        if (objectFile instanceof RedisPubSubObjectFile) {
+            return new RedisPubSubPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration());
+        }
+        if (objectFile instanceof RedisActivityObjectFile) {
+            return new RedisActivityPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration(), ((RedisActivityObjectFile) objectFile).getDatabase());
+        }
+        if (objectFile instanceof RedisMemoryObjectFile) {
+            return new RedisMemoryPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration(), ((RedisMemoryObjectFile) objectFile).getDatabase());
+        }
+        if (objectFile instanceof RedisKeyspaceObjectFile) {
+            return new RedisKeyspacePanel(project, RedisClient.getInstance(project), objectFile.getConfiguration(), ((RedisKeyspaceObjectFile) objectFile).getDatabase());
+        }
+        if (objectFile instanceof RedisLuaObjectFile) {
+            return new RedisLuaPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration(), ((RedisLuaObjectFile) objectFile).getDatabase());
+        }
+        if (objectFile instanceof RedisValueSearchObjectFile) {
+            return new RedisValueSearchPanel(project, RedisClient.getInstance(project), objectFile.getConfiguration(), ((RedisValueSearchObjectFile) objectFile).getDatabase());
+        }
         RedisObjectFile redisObjectFile = (RedisObjectFile) objectFile;
         return new RedisPanel(project, RedisClient.getInstance(project), redisObjectFile.getConfiguration(), redisObjectFile.getDatabase());
     }
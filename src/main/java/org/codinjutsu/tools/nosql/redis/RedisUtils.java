@@ -19,14 +19,18 @@ package org.codinjutsu.tools.nosql.redis;
 import org.apache.commons.lang.StringUtils;
 import org.codinjutsu.tools.nosql.ServerConfiguration;
 import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import redis.clients.jedis.StreamEntryID;
 import redis.clients.jedis.Tuple;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 public class RedisUtils {
 
+    private static final Set<String> KEYLESS_COMMANDS = new HashSet<>(Arrays.asList(
+            "EVAL", "EVALSHA", "SCRIPT", "CONFIG", "CLIENT", "INFO", "DEBUG", "SLOWLOG", "LATENCY", "MEMORY",
+            "CLUSTER", "COMMAND", "MULTI", "EXEC", "PING", "FLUSHALL", "FLUSHDB", "DBSIZE", "SCAN", "SELECT", "AUTH"));
+    private static final int KEY_INDEX = 1;
+
     public static String stringifySortedSet(Set<Tuple> sortedSet) {
         List<String> stringifiedTuples = new LinkedList<String>();
         for (Tuple tuple : sortedSet) {
@@ -45,6 +49,51 @@ public class RedisUtils {
         return String.format("(%s, %s)", tuple.getElement(), tuple.getScore());
     }
 
+    /**
+     * @return the smallest entry ID after <code>entryId</code>, to resume <code>XRANGE</code> from
+     */
+    public static StreamEntryID nextStreamEntryID(StreamEntryID entryId) {
+        return new StreamEntryID(entryId.getTime(), entryId.getSequence() + 1);
+    }
+
+    /**
+     * @return the greatest entry ID before <code>entryId</code>, to resume <code>XREVRANGE</code> from,
+     * or <code>null</code> when <code>entryId</code> is the smallest one
+     */
+    public static StreamEntryID previousStreamEntryID(StreamEntryID entryId) {
+        if (entryId.getSequence() > 0) {
+            return new StreamEntryID(entryId.getTime(), entryId.getSequence() - 1);
+        }
+        if (entryId.getTime() > 0) {
+            return new StreamEntryID(entryId.getTime() - 1, Long.MAX_VALUE);
+        }
+        return null;
+    }
+
+    public static String getCommand(List<String> commandArgs) {
+        return commandArgs.isEmpty() ? "" : commandArgs.get(0).toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * @return the first key argument of the command, or <code>null</code> for commands that do not take a key
+     */
+    public static String getKey(List<String> commandArgs) {
+        if (commandArgs.size() <= KEY_INDEX || KEYLESS_COMMANDS.contains(getCommand(commandArgs))) {
+            return null;
+        }
+        return commandArgs.get(KEY_INDEX);
+    }
+
+    /**
+     * @return the part of the key before the separator followed by <code>*</code>, the whole key when it has no separator
+     */
+    public static String getKeyPattern(String key, String separator) {
+        if (StringUtils.isEmpty(separator) || !key.contains(separator)) {
+            return key;
+        }
+        return StringUtils.substringBefore(key, separator) + separator + "*";
+    }
+
     public static String buildUrl(ServerConfiguration serverConfiguration, RedisDatabase database) {
         return String.format("-n %s", database.getName());
     }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+import org.apache.log4j.Logger;
+import org.codinjutsu.tools.nosql.redis.RedisUtils;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivityEvent;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivitySource;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivityStatistics;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisMonitor;
+import redis.clients.jedis.JedisPubSub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Listens to the activity of one database on a dedicated connection and thread, either through keyspace notifications
+ * or with <code>MONITOR</code>, and records each event into the statistics.
+ */
+public class RedisActivityListener {
+
+    private static final Logger LOG = Logger.getLogger(RedisActivityListener.class);
+
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    private static final String KEYSPACE_EVENTS = "KA";
+    private static final Pattern MONITOR_ARG_PATTERN = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+    private final Jedis jedis;
+    private final Jedis configJedis;
+    private final int database;
+    private final RedisActivitySource source;
+    private final boolean enableNotifications;
+    private final RedisActivityStatistics statistics;
+
+    private volatile boolean running;
+    private volatile Exception failure;
+    private Thread listenerThread;
+
+    RedisActivityListener(Jedis jedis, Jedis configJedis, int database, RedisActivitySource source, boolean enableNotifications, RedisActivityStatistics statistics) {
+        this.jedis = jedis;
+        this.configJedis = configJedis;
+        this.database = database;
+        this.source = source;
+        this.enableNotifications = enableNotifications;
+        this.statistics = statistics;
+    }
+
+    void start() {
+        running = true;
+        listenerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                if (RedisActivitySource.MONITOR.equals(source)) {
+                    monitor();
+                } else {
+                    listenToNotifications();
+                }
+            }
+        }, "NoSql Redis activity listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        jedis.disconnect();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Exception getFailure() {
+        return failure;
+    }
+
+    public RedisActivityStatistics getStatistics() {
+        return statistics;
+    }
+
+    private void monitor() {
+        try {
+            jedis.connect();
+            jedis.monitor(new JedisMonitor() {
+                @Override
+                public void onCommand(String command) {
+                    RedisActivityEvent event = parseMonitorLine(command, database);
+                    if (event != null) {
+                        statistics.record(event);
+                    }
+                }
+            });
+        } catch (Exception ex) {
+            fail(ex);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    private void listenToNotifications() {
+        String previousKeyspaceEvents = null;
+        try {
+            configJedis.connect();
+            String keyspaceEvents = getKeyspaceEvents();
+            if (enableNotifications && !isKeyspaceNotificationEnabled(keyspaceEvents)) {
+                configJedis.configSet(NOTIFY_KEYSPACE_EVENTS, keyspaceEvents + KEYSPACE_EVENTS);
+                previousKeyspaceEvents = keyspaceEvents;
+            } else if (!isKeyspaceNotificationEnabled(keyspaceEvents)) {
+                throw new IllegalStateException(String.format("Keyspace notifications are disabled on the server (%s is '%s')", NOTIFY_KEYSPACE_EVENTS, keyspaceEvents));
+            }
+
+            final String channelPrefix = String.format("__keyspace@%d__:", database);
+            jedis.connect();
+            jedis.psubscribe(new JedisPubSub() {
+                @Override
+                public void onPMessage(String pattern, String channel, String message) {
+                    statistics.record(new RedisActivityEvent(System.currentTimeMillis(), message, channel.substring(channelPrefix.length()), null));
+                }
+            }, channelPrefix + "*");
+        } catch (Exception ex) {
+            fail(ex);
+        } finally {
+            jedis.close();
+            restoreKeyspaceEvents(previousKeyspaceEvents);
+        }
+    }
+
+    private String getKeyspaceEvents() {
+        List<String> config = configJedis.configGet(NOTIFY_KEYSPACE_EVENTS);
+        return config.size() < 2 ? "" : config.get(1);
+    }
+
+    /**
+     * Keyspace events (<code>K</code>) need at least one class of commands to be published.
+     */
+    private static boolean isKeyspaceNotificationEnabled(String keyspaceEvents) {
+        return keyspaceEvents.contains("K") && StringUtils.containsAny(keyspaceEvents, "Ag$lshzxetmd");
+    }
+
+    private void restoreKeyspaceEvents(String previousKeyspaceEvents) {
+        try {
+            if (previousKeyspaceEvents != null) {
+                configJedis.configSet(NOTIFY_KEYSPACE_EVENTS, previousKeyspaceEvents);
+            }
+        } catch (Exception ex) {
+            LOG.error("Error when restoring " + NOTIFY_KEYSPACE_EVENTS, ex);
+        } finally {
+            configJedis.close();
+        }
+    }
+
+    private void fail(Exception ex) {
+        if (running) {
+            LOG.error("Error when listening to the Redis activity", ex);
+            failure = ex;
+            running = false;
+        }
+    }
+
+    /**
+     * Parses a line such as <code>1339518083.107412 [0 127.0.0.1:60866] "get" "user:1"</code>.
+     *
+     * @return <code>null</code> when the command ran on another database
+     */
+    static RedisActivityEvent parseMonitorLine(String line, int database) {
+        int clientStart = line.indexOf('[');
+        int clientEnd = line.indexOf(']', clientStart);
+        if (clientStart < 0 || clientEnd < 0) {
+            return null;
+        }
+        String[] databaseAndClient = StringUtils.split(line.substring(clientStart + 1, clientEnd), ' ');
+        if (databaseAndClient.length < 2 || NumberUtils.toInt(databaseAndClient[0], -1) != database) {
+            return null;
+        }
+
+        List<String> args = new ArrayList<>();
+        Matcher argMatcher = MONITOR_ARG_PATTERN.matcher(line);
+        argMatcher.region(clientEnd + 1, line.length());
+        while (argMatcher.find()) {
+            args.add(argMatcher.group(1));
+        }
+        long timestamp = (long) (NumberUtils.toDouble(StringUtils.substringBefore(line, " ")) * 1000);
+        return new RedisActivityEvent(timestamp, RedisUtils.getCommand(args), RedisUtils.getKey(args), databaseAndClient[1]);
+    }
+}
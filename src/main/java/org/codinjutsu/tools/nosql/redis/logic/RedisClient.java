@@ -17,28 +17,186 @@
 package org.codinjutsu.tools.nosql.redis.logic;
 
 import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+import org.apache.log4j.Logger;
 import org.codinjutsu.tools.nosql.DatabaseVendor;
 import org.codinjutsu.tools.nosql.ServerConfiguration;
 import org.codinjutsu.tools.nosql.commons.logic.DatabaseClient;
 import org.codinjutsu.tools.nosql.commons.model.AuthenticationSettings;
 import org.codinjutsu.tools.nosql.commons.model.Database;
 import org.codinjutsu.tools.nosql.commons.model.DatabaseServer;
+import org.codinjutsu.tools.nosql.redis.RedisUtils;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivitySource;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivityStatistics;
+import org.codinjutsu.tools.nosql.redis.model.RedisBinaryValue;
+import org.codinjutsu.tools.nosql.redis.model.RedisBulkOptions;
+import org.codinjutsu.tools.nosql.redis.model.RedisBulkReport;
 import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisDumpEntry;
+import org.codinjutsu.tools.nosql.redis.model.RedisExportFormat;
+import org.codinjutsu.tools.nosql.redis.model.RedisImportReport;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyMemory;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyMemoryRecorder;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeySelection;
 import org.codinjutsu.tools.nosql.redis.model.RedisKeyType;
+import org.codinjutsu.tools.nosql.redis.model.RedisLatencyEvent;
+import org.codinjutsu.tools.nosql.redis.model.RedisLatencyReport;
+import org.codinjutsu.tools.nosql.redis.model.RedisLuaScript;
+import org.codinjutsu.tools.nosql.redis.model.RedisMemoryAnalysisOptions;
+import org.codinjutsu.tools.nosql.redis.model.RedisPubSubStatistics;
 import org.codinjutsu.tools.nosql.redis.model.RedisQuery;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
+import org.codinjutsu.tools.nosql.redis.model.RedisRestoreReport;
 import org.codinjutsu.tools.nosql.redis.model.RedisResult;
+import org.codinjutsu.tools.nosql.redis.model.RedisScriptResult;
+import org.codinjutsu.tools.nosql.redis.model.RedisServerDashboard;
+import org.codinjutsu.tools.nosql.redis.model.RedisSlowlogEntry;
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamBuffer;
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamConsumer;
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamGroup;
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamInfo;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueMatch;
+import org.codinjutsu.tools.nosql.redis.model.RedisValuePage;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueSearch;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueSearchOptions;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.StreamConsumersInfo;
+import redis.clients.jedis.StreamEntry;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.StreamGroupInfo;
+import redis.clients.jedis.StreamInfo;
 import redis.clients.jedis.Tuple;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+import redis.clients.jedis.params.MigrateParams;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.Slowlog;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class RedisClient implements DatabaseClient {
 
+    private static final Logger LOG = Logger.getLogger(RedisClient.class);
+
+    static final int SCAN_PAGE_SIZE = 1000;
+    static final int STRING_PREVIEW_LENGTH = 1024;
+    private static final int TYPED_SCAN_MAJOR_VERSION = 6;
+    private static final int UNLINK_MAJOR_VERSION = 4;
+    private static final int MIGRATE_TIMEOUT_IN_MILLIS = 5000;
+    private static final long NO_KEY_TTL = -2;
+    private static final String RESTORE_REPLACE = "REPLACE";
+    private static final String BUSY_KEY_ERROR = "BUSYKEY";
+    private static final String REDIS_VERSION_FIELD = "redis_version:";
+    private static final String SCAN_TYPE_KEYWORD = "TYPE";
+    private static final String MEMORY_USAGE = "USAGE";
+    private static final String DEBUG_OBJECT = "OBJECT";
+    private static final String SERIALIZED_LENGTH_FIELD = "serializedlength:";
+    private static final String LATENCY_LATEST = "LATEST";
+    private static final String LATENCY_HISTORY = "HISTORY";
+    private static final String LATENCY_RESET = "RESET";
+    private static final ProtocolCommand LATENCY = new ProtocolCommand() {
+        @Override
+        public byte[] getRaw() {
+            return SafeEncoder.encode("LATENCY");
+        }
+    };
+    private static final int VALUE_SEARCH_CHUNK_SIZE = 100;
+    private static final int VALUE_CHUNK_SIZE = 1000;
+    private static final Map<String, String> EMPTY_STREAM_FIELDS = Collections.singletonMap("", "");
+    private static final String WRONG_TYPE_ERROR = "WRONGTYPE";
+    /**
+     * Looks for <code>ARGV[1]</code> in the strings of the page keys, or in the <code>ARGV[2]</code> field of its hashes, and replies
+     * <code>{matches, collections}</code>: at most <code>ARGV[3]</code> <code>{key, type, position, value}</code> tuples with values cut to
+     * <code>ARGV[4]</code> characters, and the <code>{key, type}</code> of the collections to walk chunk by chunk.
+     */
+    private static final RedisLuaScript VALUE_SEARCH_SCRIPT = new RedisLuaScript(
+            "local needle, field, limit, previewLength = ARGV[1], ARGV[2], tonumber(ARGV[3]), tonumber(ARGV[4])\n" +
+            "local matches, collections = {}, {}\n" +
+            "for _, key in ipairs(KEYS) do\n" +
+            "  local keyType = redis.call('TYPE', key).ok\n" +
+            "  local value, position\n" +
+            "  if keyType == 'string' then\n" +
+            "    value, position = redis.call('GET', key), ''\n" +
+            "  elseif keyType == 'hash' and field ~= '' then\n" +
+            "    value, position = redis.call('HGET', key, field), field\n" +
+            "  elseif keyType == 'hash' or keyType == 'list' or keyType == 'set' or keyType == 'zset' then\n" +
+            "    collections[#collections + 1] = {key, keyType}\n" +
+            "  end\n" +
+            "  if value and string.find(value, needle, 1, true) then\n" +
+            "    matches[#matches + 1] = {key, keyType, position, string.sub(value, 1, previewLength)}\n" +
+            "    if #matches >= limit then break end\n" +
+            "  end\n" +
+            "end\n" +
+            "return {matches, collections}\n");
+    /**
+     * Searches one chunk of the <code>KEYS[1]</code> collection of type <code>ARGV[2]</code> from the <code>ARGV[3]</code> cursor
+     * (the start index for lists) and replies <code>{nextCursor, matches}</code>, <code>nextCursor</code> being 0 at the end.
+     * Set and sorted set members are filtered by <code>SSCAN</code>/<code>ZSCAN</code> <code>MATCH</code>.
+     */
+    private static final RedisLuaScript VALUE_SEARCH_CHUNK_SCRIPT = new RedisLuaScript(
+            "local key, needle, keyType, cursor = KEYS[1], ARGV[1], ARGV[2], ARGV[3]\n" +
+            "local limit, previewLength, chunk = tonumber(ARGV[4]), tonumber(ARGV[5]), tonumber(ARGV[6])\n" +
+            "local matches = {}\n" +
+            "local function add(position, value)\n" +
+            "  matches[#matches + 1] = {key, keyType, position, string.sub(value, 1, previewLength)}\n" +
+            "  return #matches >= limit\n" +
+            "end\n" +
+            "if keyType == 'list' then\n" +
+            "  local start = tonumber(cursor)\n" +
+            "  local values = redis.call('LRANGE', key, start, start + chunk - 1)\n" +
+            "  for index, value in ipairs(values) do\n" +
+            "    if string.find(value, needle, 1, true) and add(tostring(start + index - 1), value) then break end\n" +
+            "  end\n" +
+            "  return {#values < chunk and '0' or tostring(start + chunk), matches}\n" +
+            "end\n" +
+            "local page\n" +
+            "if keyType == 'hash' then\n" +
+            "  page = redis.call('HSCAN', key, cursor, 'COUNT', chunk)\n" +
+            "else\n" +
+            "  local pattern = '*' .. needle:gsub('[%*%?%[%]\\\\]', '\\\\%0') .. '*'\n" +
+            "  page = redis.call(keyType == 'set' and 'SSCAN' or 'ZSCAN', key, cursor, 'MATCH', pattern, 'COUNT', chunk)\n" +
+            "end\n" +
+            "local elements = page[2]\n" +
+            "for index = 1, #elements, keyType == 'set' and 1 or 2 do\n" +
+            "  if keyType == 'hash' then\n" +
+            "    if string.find(elements[index + 1], needle, 1, true) and add(elements[index], elements[index + 1]) then break end\n" +
+            "  elseif add(keyType == 'zset' and elements[index + 1] or '', elements[index]) then break end\n" +
+            "end\n" +
+            "return {page[1], matches}\n");
+
     public static RedisClient getInstance(Project project) {
         return ServiceManager.getService(project, RedisClient.class);
     }
@@ -56,21 +214,58 @@ public class RedisClient implements DatabaseClient {
         jedis.select(index);
     }
 
+    /**
+     * Lists the databases with their key counts from a single <code>INFO keyspace</code>. The database count comes from
+     * <code>CONFIG GET databases</code>; on servers where <code>CONFIG</code> is disabled, only the databases holding keys and
+     * the database 0 are listed.
+     */
     @Override
     public void loadServer(DatabaseServer databaseServer) {
-        Jedis jedis = createJedis(databaseServer.getConfiguration());
-        List<String> databaseNumberTuple = jedis.configGet("databases");
-        List<Database> databases = new LinkedList<>();
-        String userDatabase = databaseServer.getConfiguration().getUserDatabase();
-        if (StringUtils.isNotEmpty(userDatabase)) {
-            databases.add(new RedisDatabase(userDatabase));
-        } else {
-            int totalNumberOfDatabase = Integer.parseInt(databaseNumberTuple.get(1));
-            for (int databaseNumber = 0; databaseNumber < totalNumberOfDatabase; databaseNumber++) {
-                databases.add(new RedisDatabase(String.valueOf(databaseNumber)));
+        ServerConfiguration serverConfiguration = databaseServer.getConfiguration();
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            Map<Integer, RedisDatabase> keyspace = RedisDatabase.parseKeyspaceInfo(jedis.info("keyspace"));
+            List<Database> databases = new LinkedList<>();
+            String userDatabase = serverConfiguration.getUserDatabase();
+            if (StringUtils.isNotEmpty(userDatabase)) {
+                databases.add(getDatabase(keyspace, Integer.parseInt(userDatabase)));
+            } else {
+                boolean hideEmptyDatabases = new RedisExtraSettings(serverConfiguration.getAuthenticationSettings().getExtras()).isHideEmptyDatabases();
+                for (Integer databaseIndex : getDatabaseIndexes(jedis, keyspace)) {
+                    RedisDatabase database = getDatabase(keyspace, databaseIndex);
+                    if (!hideEmptyDatabases || !database.isEmpty()) {
+                        databases.add(database);
+                    }
+                }
             }
+            databaseServer.setDatabases(databases);
+        } finally {
+            jedis.close();
         }
-        databaseServer.setDatabases(databases);
+    }
+
+    private static Collection<Integer> getDatabaseIndexes(Jedis jedis, Map<Integer, RedisDatabase> keyspace) {
+        try {
+            List<String> databaseNumberTuple = jedis.configGet("databases");
+            if (databaseNumberTuple.size() == 2) {
+                int totalNumberOfDatabase = Integer.parseInt(databaseNumberTuple.get(1));
+                List<Integer> databaseIndexes = new ArrayList<>(totalNumberOfDatabase);
+                for (int databaseNumber = 0; databaseNumber < totalNumberOfDatabase; databaseNumber++) {
+                    databaseIndexes.add(databaseNumber);
+                }
+                return databaseIndexes;
+            }
+        } catch (JedisDataException ex) {
+            LOG.info("CONFIG GET databases is not available, listing the databases of INFO keyspace: " + ex.getMessage());
+        }
+        Set<Integer> databaseIndexes = new TreeSet<>(keyspace.keySet());
+        databaseIndexes.add(0);
+        return databaseIndexes;
+    }
+
+    private static RedisDatabase getDatabase(Map<Integer, RedisDatabase> keyspace, int databaseIndex) {
+        RedisDatabase database = keyspace.get(databaseIndex);
+        return database != null ? database : new RedisDatabase(String.valueOf(databaseIndex));
     }
 
     @Override
@@ -94,33 +289,1441 @@ public class RedisClient implements DatabaseClient {
 
 
     public RedisResult loadRecords(ServerConfiguration serverConfiguration, RedisDatabase database, RedisQuery query) {
+        return loadRecords(serverConfiguration, database, query, null, null);
+    }
+
+    /**
+     * Walks the keyspace with <code>SCAN</code> from the query cursor until the key limit is reached or the
+     * iteration completes. Each page is handed to the callback as soon as its values are read; the cursor to
+     * resume from is kept in the returned result, with the keys of the last page left over by the key limit. The type filter is sent with <code>SCAN … TYPE</code> on Redis 6+
+     * and applied on the <code>TYPE</code> replies otherwise; the size filter is always applied client-side.
+     */
+    public RedisResult loadRecords(ServerConfiguration serverConfiguration, RedisDatabase database, RedisQuery query, KeyPageCallback callback, ProgressIndicator indicator) {
         Jedis jedis = createJedis(serverConfiguration);
-        jedis.connect();
-        RedisResult redisResult = new RedisResult();
-        int index = Integer.parseInt(database.getName());
-        jedis.select(index);
+        try {
+            jedis.connect();
+            int index = Integer.parseInt(database.getName());
+            jedis.select(index);
+
+            int pipelineBatchSize = new RedisExtraSettings(serverConfiguration.getAuthenticationSettings().getExtras()).getPipelineBatchSize();
+            boolean typedScan = query.getKeyType() != null && getMajorVersion(jedis.info("server")) >= TYPED_SCAN_MAJOR_VERSION;
+            RedisResult redisResult = new RedisResult();
+            String cursor = query.getCursor();
+            List<String> pendingKeys = query.getPendingKeys();
+            int keyCount = 0;
+            do {
+                if (indicator != null) {
+                    indicator.checkCanceled();
+                }
+                List<String> keys = pendingKeys;
+                if (keys.isEmpty()) {
+                    int count = Math.min(SCAN_PAGE_SIZE, query.getKeyLimit() - keyCount);
+                    ScanResult<String> scanResult = typedScan ? scan(jedis, cursor, query, count) : jedis.scan(cursor, new ScanParams().match(query.getFilter()).count(count));
+                    cursor = scanResult.getCursor();
+                    keys = scanResult.getResult();
+                }
+
+                RedisResult pageResult = new RedisResult();
+                int fromIndex = 0;
+                while (fromIndex < keys.size() && keyCount + pageResult.getResults().size() < query.getKeyLimit()) {
+                    int missingKeys = query.getKeyLimit() - keyCount - pageResult.getResults().size();
+                    int toIndex = Math.min(keys.size(), fromIndex + Math.min(pipelineBatchSize, missingKeys));
+                    loadRecords(jedis, keys.subList(fromIndex, toIndex), query, pageResult);
+                    fromIndex = toIndex;
+                }
+                pendingKeys = new ArrayList<>(keys.subList(fromIndex, keys.size()));
+                pageResult.setNextCursor(cursor);
+                pageResult.setPendingKeys(pendingKeys);
+                keyCount += pageResult.getResults().size();
+
+                redisResult.addAll(pageResult);
+                if (callback != null) {
+                    callback.onKeyPage(pageResult);
+                }
+                if (indicator != null) {
+                    indicator.setText2(String.format("%d keys", keyCount));
+                }
+            } while ((!RedisQuery.FIRST_CURSOR.equals(cursor) || !pendingKeys.isEmpty()) && keyCount < query.getKeyLimit());
+
+            return redisResult;
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * Reads a batch of keys in two pipelined round trips: every <code>TYPE</code> first, then the length and
+     * TTL of each key (plus the first bytes of string values). Members are loaded later with {@link #loadValues},
+     * whole string values with {@link #loadStringValue}.
+     * Keys deleted or retyped between both phases are skipped.
+     */
+    private static void loadRecords(Jedis jedis, List<String> keys, RedisQuery query, RedisResult redisResult) {
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<String>> keyTypeResponses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            keyTypeResponses.add(pipeline.type(key));
+        }
+        pipeline.sync();
+
+        pipeline = jedis.pipelined();
+        List<RedisKeyType> keyTypes = new ArrayList<>(keys.size());
+        List<Response<Long>> lengthResponses = new ArrayList<>(keys.size());
+        List<Response<Long>> ttlResponses = new ArrayList<>(keys.size());
+        List<Response<byte[]>> stringValueResponses = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            String key = keys.get(index);
+            RedisKeyType keyType = RedisKeyType.getKeyType(keyTypeResponses.get(index).get());
+            if (query.getKeyType() != null && !query.getKeyType().equals(keyType)) {
+                keyType = null;
+            }
+            keyTypes.add(keyType);
+            lengthResponses.add(length(pipeline, key, keyType));
+            stringValueResponses.add(RedisKeyType.STRING.equals(keyType) ? pipeline.getrange(SafeEncoder.encode(key), 0, STRING_PREVIEW_LENGTH - 1) : null);
+            ttlResponses.add(keyType == null ? null : pipeline.ttl(key));
+        }
+        pipeline.sync();
+
+        for (int index = 0; index < keys.size(); index++) {
+            Response<Long> lengthResponse = lengthResponses.get(index);
+            if (lengthResponse == null) {
+                continue;
+            }
+            try {
+                long length = lengthResponse.get();
+                if (!query.acceptSize(length)) {
+                    continue;
+                }
+                Response<byte[]> stringValueResponse = stringValueResponses.get(index);
+                redisResult.addKey(keys.get(index),
+                        keyTypes.get(index),
+                        length,
+                        ttlResponses.get(index).get(),
+                        stringValueResponse == null ? null : stringValueResponse.get());
+            } catch (JedisDataException ex) {
+                // the key changed its type after the TYPE phase
+            }
+        }
+    }
+
+    private static Response<Long> length(Pipeline pipeline, String key, RedisKeyType keyType) {
+        if (RedisKeyType.LIST.equals(keyType)) {
+            return pipeline.llen(key);
+        } else if (RedisKeyType.SET.equals(keyType)) {
+            return pipeline.scard(key);
+        } else if (RedisKeyType.HASH.equals(keyType)) {
+            return pipeline.hlen(key);
+        } else if (RedisKeyType.ZSET.equals(keyType)) {
+            return pipeline.zcard(key);
+        } else if (RedisKeyType.STRING.equals(keyType)) {
+            return pipeline.strlen(key);
+        } else if (RedisKeyType.STREAM.equals(keyType)) {
+            return pipeline.xlen(key);
+        }
+        return null;
+    }
+
+    /**
+     * Streams the keyspace, or <code>sampleSize</code> distinct keys picked with <code>RANDOMKEY</code>, into the recorder.
+     * Sampling stops early when a whole batch of <code>RANDOMKEY</code> brings no new key, e.g. on an emptied database.
+     * Each batch pipelines <code>TYPE</code>, then <code>MEMORY USAGE</code> (<code>DEBUG OBJECT</code> serialized length
+     * before Redis 4), <code>OBJECT ENCODING</code>, the cardinality and the TTL. Batches are paced to stay under <code>keysPerSecond</code>.
+     */
+    public void analyzeMemory(ServerConfiguration serverConfiguration, RedisDatabase database, RedisMemoryAnalysisOptions options, RedisKeyMemoryRecorder recorder, ProgressIndicator indicator) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            int batchSize = new RedisExtraSettings(serverConfiguration.getAuthenticationSettings().getExtras()).getPipelineBatchSize();
+            boolean memoryUsage = isMemoryUsageSupported(jedis);
+            long keyCount = options.isSampling() ? Math.min(options.getSampleSize(), jedis.dbSize()) : jedis.dbSize();
+            ScanParams scanParams = new ScanParams().count(batchSize);
+            Set<String> sampledKeys = new HashSet<>();
+            String cursor = RedisQuery.FIRST_CURSOR;
+            long analyzedKeys = 0;
+            long start = System.currentTimeMillis();
+            do {
+                indicator.checkCanceled();
+                List<String> keys;
+                if (options.isSampling()) {
+                    keys = new ArrayList<>(batchSize);
+                    for (String key : randomKeys(jedis, batchSize)) {
+                        if (keys.size() < keyCount - analyzedKeys && sampledKeys.add(key)) {
+                            keys.add(key);
+                        }
+                    }
+                    if (keys.isEmpty()) {
+                        break;
+                    }
+                } else {
+                    ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                    cursor = scanResult.getCursor();
+                    keys = scanResult.getResult();
+                }
+                for (RedisKeyMemory keyMemory : analyzeKeys(jedis, keys, memoryUsage)) {
+                    recorder.record(keyMemory);
+                }
+                analyzedKeys += keys.size();
+                if (keyCount > 0) {
+                    indicator.setFraction(Math.min(1d, (double) analyzedKeys / keyCount));
+                }
+                indicator.setText2(String.format("%,d keys analyzed", analyzedKeys));
+                throttle(start, analyzedKeys, options.getKeysPerSecond());
+            } while (options.isSampling() ? analyzedKeys < keyCount : !RedisQuery.FIRST_CURSOR.equals(cursor));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException();
+        } finally {
+            jedis.close();
+        }
+    }
+
+    private static boolean isMemoryUsageSupported(Jedis jedis) {
+        try {
+            jedis.sendCommand(Protocol.Command.MEMORY, MEMORY_USAGE, "nosql4idea:memory-usage-probe");
+            return true;
+        } catch (JedisDataException ex) {
+            return false;
+        }
+    }
+
+    private static List<String> randomKeys(Jedis jedis, int count) {
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<String>> keyResponses = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            keyResponses.add(pipeline.randomKey());
+        }
+        pipeline.sync();
+
+        List<String> keys = new ArrayList<>(count);
+        for (Response<String> keyResponse : keyResponses) {
+            if (keyResponse.get() != null) {
+                keys.add(keyResponse.get());
+            }
+        }
+        return keys;
+    }
+
+    private static List<RedisKeyMemory> analyzeKeys(Jedis jedis, List<String> keys, boolean memoryUsage) {
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<String>> keyTypeResponses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            keyTypeResponses.add(pipeline.type(key));
+        }
+        pipeline.sync();
+
+        pipeline = jedis.pipelined();
+        List<Response<Object>> memoryResponses = new ArrayList<>(keys.size());
+        List<Response<String>> encodingResponses = new ArrayList<>(keys.size());
+        List<Response<Long>> lengthResponses = new ArrayList<>(keys.size());
+        List<Response<Long>> ttlResponses = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            String key = keys.get(index);
+            if (memoryUsage) {
+                memoryResponses.add(pipeline.sendCommand(Protocol.Command.MEMORY, MEMORY_USAGE, key));
+            } else {
+                memoryResponses.add(pipeline.sendCommand(Protocol.Command.DEBUG, DEBUG_OBJECT, key));
+            }
+            encodingResponses.add(pipeline.objectEncoding(key));
+            lengthResponses.add(length(pipeline, key, RedisKeyType.getKeyType(keyTypeResponses.get(index).get())));
+            ttlResponses.add(pipeline.ttl(key));
+        }
+        pipeline.sync();
+
+        List<RedisKeyMemory> keyMemories = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            String type = keyTypeResponses.get(index).get();
+            if ("none".equals(type)) {
+                continue;
+            }
+            try {
+                Response<Long> lengthResponse = lengthResponses.get(index);
+                keyMemories.add(new RedisKeyMemory(keys.get(index),
+                        type,
+                        encodingResponses.get(index).get(),
+                        lengthResponse == null ? 0 : lengthResponse.get(),
+                        parseMemory(memoryResponses.get(index)),
+                        ttlResponses.get(index).get()));
+            } catch (JedisDataException ex) {
+                // the key was deleted or changed its type after the TYPE phase
+            }
+        }
+        return keyMemories;
+    }
+
+    private static long parseMemory(Response<Object> memoryResponse) {
+        Object memory;
+        try {
+            memory = memoryResponse.get();
+        } catch (JedisDataException ex) {
+            return RedisKeyMemory.UNKNOWN_MEMORY;
+        }
+        if (memory instanceof Long) {
+            return (Long) memory;
+        } else if (memory instanceof byte[]) {
+            return getSerializedLength(SafeEncoder.encode((byte[]) memory));
+        }
+        return RedisKeyMemory.UNKNOWN_MEMORY;
+    }
+
+    static long getSerializedLength(String debugObject) {
+        for (String field : debugObject.split(" ")) {
+            if (field.startsWith(SERIALIZED_LENGTH_FIELD)) {
+                return NumberUtils.toLong(field.substring(SERIALIZED_LENGTH_FIELD.length()), RedisKeyMemory.UNKNOWN_MEMORY);
+            }
+        }
+        return RedisKeyMemory.UNKNOWN_MEMORY;
+    }
+
+    private static void throttle(long start, long analyzedKeys, int keysPerSecond) throws InterruptedException {
+        if (keysPerSecond == RedisMemoryAnalysisOptions.UNTHROTTLED) {
+            return;
+        }
+        long delay = analyzedKeys * 1000 / keysPerSecond - (System.currentTimeMillis() - start);
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    /**
+     * Counts the keys matching the filter with a full <code>SCAN</code>, so that a bulk operation can be previewed.
+     */
+    public long countKeys(ServerConfiguration serverConfiguration, RedisDatabase database, String filter, ProgressIndicator indicator) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            ScanParams scanParams = new ScanParams().match(filter).count(SCAN_PAGE_SIZE);
+            String cursor = RedisQuery.FIRST_CURSOR;
+            long keyCount = 0;
+            do {
+                indicator.checkCanceled();
+                ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                cursor = scanResult.getCursor();
+                keyCount += scanResult.getResult().size();
+                indicator.setText2(String.format("%,d keys", keyCount));
+            } while (!RedisQuery.FIRST_CURSOR.equals(cursor));
+            return keyCount;
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * Deletes, expires, persists or renames the keys matching the filter, page after page of <code>SCAN</code>, so the server
+     * is never blocked as with <code>KEYS</code>. Each page is sent in pipelined batches; deletions use <code>UNLINK</code> on
+     * Redis 4+ to free memory in the background, renames use <code>RENAMENX</code> to never overwrite a key.
+     * Pages are paced to stay under <code>keysPerSecond</code>.
+     *
+     * @param expectedKeyCount the previewed key count used to report the progress, or 0 when unknown
+     */
+    public RedisBulkReport executeBulkOperation(ServerConfiguration serverConfiguration, RedisDatabase database, RedisBulkOptions options, long expectedKeyCount, ProgressIndicator indicator) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            int batchSize = new RedisExtraSettings(serverConfiguration.getAuthenticationSettings().getExtras()).getPipelineBatchSize();
+            boolean unlink = getMajorVersion(jedis.info("server")) >= UNLINK_MAJOR_VERSION;
+            ScanParams scanParams = new ScanParams().match(options.getFilter()).count(batchSize);
+            String cursor = RedisQuery.FIRST_CURSOR;
+            RedisBulkReport report = new RedisBulkReport();
+            long start = System.currentTimeMillis();
+            do {
+                indicator.checkCanceled();
+                ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                cursor = scanResult.getCursor();
+                List<String> keys = scanResult.getResult();
+                for (int fromIndex = 0; fromIndex < keys.size(); fromIndex += batchSize) {
+                    report.addUpdatedKeys(executeBulkOperation(jedis, keys.subList(fromIndex, Math.min(fromIndex + batchSize, keys.size())), options, unlink));
+                }
+                report.addScannedKeys(keys.size());
+                if (expectedKeyCount > 0) {
+                    indicator.setFraction(Math.min(1d, (double) report.getScannedKeys() / expectedKeyCount));
+                }
+                indicator.setText2(String.format("%,d keys processed", report.getScannedKeys()));
+                throttle(start, report.getScannedKeys(), options.getKeysPerSecond());
+            } while (!RedisQuery.FIRST_CURSOR.equals(cursor));
+            return report;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException();
+        } finally {
+            jedis.close();
+        }
+    }
+
+    private static long executeBulkOperation(Jedis jedis, List<String> keys, RedisBulkOptions options, boolean unlink) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<Long>> responses = new ArrayList<>(keys.size());
+        String[] keyArray = keys.toArray(new String[keys.size()]);
+        switch (options.getOperation()) {
+            case DELETE: {
+                responses.add(unlink ? pipeline.unlink(keyArray) : pipeline.del(keyArray));
+                break;
+            }
+            case EXPIRE: {
+                for (String key : keys) {
+                    responses.add(pipeline.expire(key, options.getTtlInSeconds()));
+                }
+                break;
+            }
+            case PERSIST: {
+                for (String key : keys) {
+                    responses.add(pipeline.persist(key));
+                }
+                break;
+            }
+            case RENAME: {
+                for (String key : keys) {
+                    String renamedKey = options.getRenamedKey(key);
+                    if (renamedKey != null) {
+                        responses.add(pipeline.renamenx(key, renamedKey));
+                    }
+                }
+                break;
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+        pipeline.sync();
+
+        long updatedKeys = 0;
+        for (Response<Long> response : responses) {
+            try {
+                updatedKeys += response.get();
+            } catch (JedisDataException ex) {
+                // the key was deleted after the SCAN
+            }
+        }
+        return updatedKeys;
+    }
+
+    /**
+     * Writes the selected keys to a dump file with pipelined <code>DUMP</code> and <code>PTTL</code>, batch after batch.
+     *
+     * @return the number of exported keys
+     */
+    public long exportKeys(ServerConfiguration serverConfiguration, RedisDatabase database, RedisKeySelection selection, File file, ProgressIndicator indicator) throws IOException {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            final RedisDumpWriter writer = new RedisDumpWriter(new FileOutputStream(file));
+            try {
+                final Jedis sourceJedis = jedis;
+                forEachKeyBatch(jedis, selection, getPipelineBatchSize(serverConfiguration), indicator, new KeyBatchHandler() {
+                    @Override
+                    public void handle(List<byte[]> keys) throws IOException {
+                        for (RedisDumpEntry entry : dumpKeys(sourceJedis, keys)) {
+                            writer.write(entry);
+                        }
+                    }
+                });
+                writer.finish();
+                return writer.getWrittenEntries();
+            } finally {
+                writer.close();
+            }
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * Restores the keys of a dump file with pipelined <code>RESTORE</code>, reading it one batch at a time.
+     *
+     * @param replace <code>true</code> to overwrite existing keys, which are skipped otherwise
+     */
+    public RedisRestoreReport importKeys(ServerConfiguration serverConfiguration, RedisDatabase database, File file, boolean replace, ProgressIndicator indicator) throws IOException {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            int batchSize = getPipelineBatchSize(serverConfiguration);
+            RedisDumpReader reader = new RedisDumpReader(new FileInputStream(file));
+            try {
+                long readEntries = 0;
+                RedisRestoreReport report = new RedisRestoreReport();
+                List<RedisDumpEntry> entries = new ArrayList<>(batchSize);
+                RedisDumpEntry entry;
+                do {
+                    indicator.checkCanceled();
+                    entry = reader.read();
+                    if (entry != null) {
+                        entries.add(entry);
+                        readEntries++;
+                    }
+                    if (entries.size() == batchSize || (entry == null && !entries.isEmpty())) {
+                        restoreKeys(jedis, entries, replace, report);
+                        entries.clear();
+                        indicator.setText2(String.format("%,d keys restored of %,d", report.getRestoredKeys(), readEntries));
+                    }
+                } while (entry != null);
+                return report;
+            } finally {
+                reader.close();
+            }
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * Copies the selected keys to another database or server. <code>MIGRATE … COPY</code> moves them directly between both
+     * servers, but the target address is resolved by the source server: it is only used when the target runs on the same host as
+     * the source, or when <code>directTransfer</code> is set and the target address is public. Otherwise, or when the source server
+     * predates <code>MIGRATE … KEYS</code> (Redis 3.0.6), the keys go through the IDE with <code>DUMP</code> and <code>RESTORE</code>.
+     * When a <code>MIGRATE</code> batch fails, that batch and the following ones go through the IDE.
+     *
+     * @param directTransfer <code>true</code> to let the source server connect to a public target address with <code>MIGRATE</code>
+     */
+    public RedisRestoreReport copyKeys(ServerConfiguration serverConfiguration, RedisDatabase database, RedisKeySelection selection,
+                                       final ServerConfiguration targetConfiguration, final RedisDatabase targetDatabase, final boolean replace, boolean directTransfer,
+                                       ProgressIndicator indicator) throws IOException {
+        final Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            final RedisRestoreReport report = new RedisRestoreReport();
+            final boolean migrateReachable = isMigrateReachable(serverConfiguration.getServerUrl(), targetConfiguration.getServerUrl(), directTransfer);
+            final Jedis targetJedis = createJedis(targetConfiguration);
+            try {
+                forEachKeyBatch(jedis, selection, getPipelineBatchSize(serverConfiguration), indicator, new KeyBatchHandler() {
+                    private boolean migrating = migrateReachable;
+
+                    @Override
+                    public void handle(List<byte[]> keys) {
+                        if (migrating) {
+                            try {
+                                migrateKeys(jedis, keys, targetConfiguration, targetDatabase, replace);
+                                report.addRestoredKeys(keys.size());
+                                return;
+                            } catch (JedisDataException ex) {
+                                LOG.info(String.format("MIGRATE failed, copying the remaining keys through DUMP/RESTORE: %s", ex.getMessage()));
+                                migrating = false;
+                            }
+                        }
+                        if (!targetJedis.isConnected()) {
+                            targetJedis.connect();
+                            targetJedis.select(Integer.parseInt(targetDatabase.getName()));
+                        }
+                        restoreKeys(targetJedis, dumpKeys(jedis, keys), replace, report);
+                    }
+                });
+                return report;
+            } finally {
+                targetJedis.close();
+            }
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * A target on the same host as the source is reached the same way by the IDE and by the source server, except the source
+     * itself that <code>MIGRATE</code> cannot target. A loopback or private target address would designate another machine
+     * from the source server, so it is never handed to it.
+     */
+    static boolean isMigrateReachable(String sourceUrl, String targetUrl, boolean directTransfer) {
+        URI sourceUri = URI.create("redis://" + sourceUrl);
+        URI targetUri = URI.create("redis://" + targetUrl);
+        if (StringUtils.equalsIgnoreCase(sourceUri.getHost(), targetUri.getHost())) {
+            return getPort(sourceUri) != getPort(targetUri);
+        }
+        return directTransfer && !isPrivateAddress(targetUri.getHost());
+    }
+
+    private static int getPort(URI uri) {
+        return uri.getPort() == -1 ? Protocol.DEFAULT_PORT : uri.getPort();
+    }
+
+    private static boolean isPrivateAddress(String host) {
+        try {
+            InetAddress address = InetAddress.getByName(host);
+            return address.isLoopbackAddress() || address.isAnyLocalAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress();
+        } catch (UnknownHostException ex) {
+            return true;
+        }
+    }
+
+    private static void migrateKeys(Jedis jedis, List<byte[]> keys, ServerConfiguration targetConfiguration, RedisDatabase targetDatabase, boolean replace) {
+        URI targetUri = URI.create("redis://" + targetConfiguration.getServerUrl());
+        MigrateParams migrateParams = MigrateParams.migrateParams().copy();
+        if (replace) {
+            migrateParams.replace();
+        }
+        String password = targetConfiguration.getAuthenticationSettings().getPassword();
+        if (StringUtils.isNotEmpty(password)) {
+            migrateParams.auth(password);
+        }
+        jedis.migrate(targetUri.getHost(), getPort(targetUri), Integer.parseInt(targetDatabase.getName()), MIGRATE_TIMEOUT_IN_MILLIS, migrateParams, keys.toArray(new byte[keys.size()][]));
+    }
+
+    private interface KeyBatchHandler {
+        void handle(List<byte[]> keys) throws IOException;
+    }
+
+    /**
+     * Hands the selected keys to the handler in batches, as binary keys read with <code>SCAN</code> for a pattern.
+     *
+     * @return the number of keys handed to the handler
+     */
+    private static long forEachKeyBatch(Jedis jedis, RedisKeySelection selection, int batchSize, ProgressIndicator indicator, KeyBatchHandler handler) throws IOException {
+        long handledKeys = 0;
+        if (!selection.isFiltered()) {
+            List<String> keys = selection.getKeys();
+            for (int fromIndex = 0; fromIndex < keys.size(); fromIndex += batchSize) {
+                indicator.checkCanceled();
+                List<byte[]> batch = new ArrayList<>(batchSize);
+                for (String key : keys.subList(fromIndex, Math.min(fromIndex + batchSize, keys.size()))) {
+                    batch.add(SafeEncoder.encode(key));
+                }
+                handler.handle(batch);
+                handledKeys += batch.size();
+                indicator.setFraction((double) handledKeys / keys.size());
+                indicator.setText2(String.format("%,d keys of %,d", handledKeys, keys.size()));
+            }
+            return handledKeys;
+        }
+
+        ScanParams scanParams = new ScanParams().match(selection.getFilter()).count(batchSize);
+        byte[] cursor = SafeEncoder.encode(RedisQuery.FIRST_CURSOR);
+        do {
+            indicator.checkCanceled();
+            ScanResult<byte[]> scanResult = jedis.scan(cursor, scanParams);
+            cursor = scanResult.getCursorAsBytes();
+            List<byte[]> keys = scanResult.getResult();
+            for (int fromIndex = 0; fromIndex < keys.size(); fromIndex += batchSize) {
+                handler.handle(keys.subList(fromIndex, Math.min(fromIndex + batchSize, keys.size())));
+            }
+            handledKeys += keys.size();
+            indicator.setText2(String.format("%,d keys", handledKeys));
+        } while (!RedisQuery.FIRST_CURSOR.equals(SafeEncoder.encode(cursor)));
+        return handledKeys;
+    }
+
+    /**
+     * Keys deleted between <code>SCAN</code> and <code>DUMP</code> are skipped.
+     */
+    private static List<RedisDumpEntry> dumpKeys(Jedis jedis, List<byte[]> keys) {
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<byte[]>> valueResponses = new ArrayList<>(keys.size());
+        List<Response<Long>> ttlResponses = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            valueResponses.add(pipeline.dump(key));
+            ttlResponses.add(pipeline.pttl(key));
+        }
+        pipeline.sync();
+
+        List<RedisDumpEntry> entries = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            byte[] value = valueResponses.get(index).get();
+            long ttlInMillis = ttlResponses.get(index).get();
+            if (value == null || ttlInMillis == NO_KEY_TTL) {
+                continue;
+            }
+            entries.add(new RedisDumpEntry(keys.get(index), ttlInMillis < 0 ? RedisDumpEntry.NO_EXPIRATION : ttlInMillis, value));
+        }
+        return entries;
+    }
+
+    /**
+     * Existing keys are skipped unless <code>replace</code> is set; any other refused key, such as a dump payload of a newer
+     * Redis version, is counted as failed in the report.
+     */
+    private static void restoreKeys(Jedis jedis, List<RedisDumpEntry> entries, boolean replace, RedisRestoreReport report) {
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<Object>> responses = new ArrayList<>(entries.size());
+        for (RedisDumpEntry entry : entries) {
+            byte[] ttlInMillis = Protocol.toByteArray(entry.getTtlInMillis());
+            if (replace) {
+                responses.add(pipeline.sendCommand(Protocol.Command.RESTORE, entry.getKey(), ttlInMillis, entry.getValue(), SafeEncoder.encode(RESTORE_REPLACE)));
+            } else {
+                responses.add(pipeline.sendCommand(Protocol.Command.RESTORE, entry.getKey(), ttlInMillis, entry.getValue()));
+            }
+        }
+        pipeline.sync();
+
+        for (Response<Object> response : responses) {
+            try {
+                response.get();
+                report.addRestoredKeys(1);
+            } catch (JedisDataException ex) {
+                if (!replace && StringUtils.startsWith(ex.getMessage(), BUSY_KEY_ERROR)) {
+                    report.addSkippedKey();
+                } else {
+                    LOG.warn(String.format("RESTORE failed: %s", ex.getMessage()));
+                    report.addFailedKey(ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private static int getPipelineBatchSize(ServerConfiguration serverConfiguration) {
+        return new RedisExtraSettings(serverConfiguration.getAuthenticationSettings().getExtras()).getPipelineBatchSize();
+    }
+
+    /**
+     * Writes every key matching the query, not only the first page of keys, to a JSON Lines file, or the hashes to a
+     * <code>key,field,value</code> CSV file. Keys are read with <code>SCAN</code>, their type, length and TTL with
+     * pipelined reads, one batch at a time, and collections in chunks of {@value #VALUE_CHUNK_SIZE} members.
+     *
+     * @return the number of exported keys
+     */
+    public long exportRecords(ServerConfiguration serverConfiguration, RedisDatabase database, RedisQuery query, RedisExportFormat format, File file, ProgressIndicator indicator) throws IOException {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            query = query.withCursor(RedisQuery.FIRST_CURSOR);
+            if (RedisExportFormat.CSV.equals(format)) {
+                query.setKeyType(RedisKeyType.HASH);
+            }
+            int batchSize = getPipelineBatchSize(serverConfiguration);
+            boolean typedScan = query.getKeyType() != null && getMajorVersion(jedis.info("server")) >= TYPED_SCAN_MAJOR_VERSION;
+            ScanParams scanParams = new ScanParams().match(query.getFilter()).count(SCAN_PAGE_SIZE);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+            try {
+                if (RedisExportFormat.CSV.equals(format)) {
+                    writer.write(RedisCsvCodec.formatRow(RedisCsvCodec.HASH_HEADER));
+                }
+                String cursor = RedisQuery.FIRST_CURSOR;
+                long exportedKeys = 0;
+                do {
+                    indicator.checkCanceled();
+                    ScanResult<String> scanResult = typedScan ? scan(jedis, cursor, query) : jedis.scan(cursor, scanParams);
+                    cursor = scanResult.getCursor();
+                    List<String> keys = scanResult.getResult();
+                    for (int fromIndex = 0; fromIndex < keys.size(); fromIndex += batchSize) {
+                        exportedKeys += exportKeys(jedis, keys.subList(fromIndex, Math.min(fromIndex + batchSize, keys.size())), query, format, writer, indicator);
+                    }
+                    indicator.setText2(String.format("%,d keys exported", exportedKeys));
+                } while (!RedisQuery.FIRST_CURSOR.equals(cursor));
+                return exportedKeys;
+            } finally {
+                writer.close();
+            }
+        } finally {
+            jedis.close();
+        }
+    }
 
-        Set<String> keys = jedis.keys(query.getFilter());
+    /**
+     * Checks the type, length and TTL of each key in pipelined round trips before reading any value, then writes the
+     * accepted strings from one pipelined <code>GET</code> round trip and streams each collection to the writer in
+     * chunks, so that neither a big collection nor a key rejected by its size is ever read at once.
+     */
+    private static long exportKeys(Jedis jedis, List<String> keys, RedisQuery query, RedisExportFormat format, Writer writer, ProgressIndicator indicator) throws IOException {
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<String>> keyTypeResponses = new ArrayList<>(keys.size());
         for (String key : keys) {
-            RedisKeyType keyType = RedisKeyType.getKeyType(jedis.type(key));
+            keyTypeResponses.add(pipeline.type(key));
+        }
+        pipeline.sync();
+
+        pipeline = jedis.pipelined();
+        List<RedisKeyType> keyTypes = new ArrayList<>(keys.size());
+        List<Response<Long>> lengthResponses = new ArrayList<>(keys.size());
+        List<Response<Long>> ttlResponses = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            String key = keys.get(index);
+            RedisKeyType keyType = RedisKeyType.getKeyType(keyTypeResponses.get(index).get());
+            if (query.getKeyType() != null && !query.getKeyType().equals(keyType)) {
+                keyType = null;
+            }
+            keyTypes.add(keyType);
+            lengthResponses.add(length(pipeline, key, keyType));
+            ttlResponses.add(keyType == null ? null : pipeline.ttl(key));
+        }
+        pipeline.sync();
+
+        pipeline = jedis.pipelined();
+        List<Long> lengths = new ArrayList<>(keys.size());
+        List<Response<byte[]>> stringValueResponses = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            Response<Long> lengthResponse = lengthResponses.get(index);
+            Long length = null;
+            if (lengthResponse != null) {
+                try {
+                    length = lengthResponse.get();
+                } catch (JedisDataException ex) {
+                    // the key changed its type after the TYPE phase
+                }
+            }
+            if (length != null && !query.acceptSize(length)) {
+                length = null;
+            }
+            if (length != null && length == 0 && !RedisKeyType.STRING.equals(keyTypes.get(index)) && !RedisKeyType.STREAM.equals(keyTypes.get(index))) {
+                // lists, sets, sorted sets and hashes do not exist empty: the key was deleted after the TYPE phase
+                length = null;
+            }
+            lengths.add(length);
+            stringValueResponses.add(length != null && RedisKeyType.STRING.equals(keyTypes.get(index)) ? pipeline.get(SafeEncoder.encode(keys.get(index))) : null);
+        }
+        pipeline.sync();
+
+        long exportedKeys = 0;
+        for (int index = 0; index < keys.size(); index++) {
+            Long length = lengths.get(index);
+            if (length == null) {
+                continue;
+            }
+            String key = keys.get(index);
+            RedisKeyType keyType = keyTypes.get(index);
+            long ttl = ttlResponses.get(index).get();
+            if (RedisKeyType.STRING.equals(keyType)) {
+                byte[] value;
+                try {
+                    value = stringValueResponses.get(index).get();
+                } catch (JedisDataException ex) {
+                    continue;
+                }
+                if (value == null) {
+                    continue;
+                }
+                writer.write(RedisJsonLinesCodec.format(new RedisRecord<>(keyType, key, new RedisBinaryValue(value), length, ttl, null)));
+                writer.write('\n');
+            } else {
+                exportCollection(jedis, key, keyType, ttl, format, writer, indicator);
+            }
+            exportedKeys++;
+        }
+        return exportedKeys;
+    }
+
+    /**
+     * Writes a collection chunk by chunk. A key that changes its type while being read ends its line early, so that the
+     * line stays valid.
+     */
+    private static void exportCollection(Jedis jedis, String key, RedisKeyType keyType, long ttl, RedisExportFormat format, Writer writer, ProgressIndicator indicator) throws IOException {
+        boolean jsonLines = RedisExportFormat.JSON_LINES.equals(format);
+        if (jsonLines) {
+            writer.write(RedisJsonLinesCodec.openCollection(key, keyType, ttl));
+        }
+        String cursor = RedisQuery.FIRST_CURSOR;
+        boolean firstElement = true;
+        try {
+            do {
+                indicator.checkCanceled();
+                RedisValuePage valuePage = readValues(jedis, key, keyType, cursor, VALUE_CHUNK_SIZE);
+                for (Object element : valuePage.getValues()) {
+                    if (!jsonLines) {
+                        Map.Entry<String, String> field = (Map.Entry<String, String>) element;
+                        writer.write(RedisCsvCodec.formatRow(key, field.getKey(), field.getValue()));
+                        continue;
+                    }
+                    if (!firstElement) {
+                        writer.write(RedisJsonLinesCodec.ELEMENT_SEPARATOR);
+                    }
+                    writer.write(RedisJsonLinesCodec.formatElement(keyType, element));
+                    firstElement = false;
+                }
+                cursor = valuePage.getNextCursor();
+            } while (cursor != null);
+        } catch (JedisDataException ex) {
+            LOG.warn(String.format("Key %s changed while being exported: %s", key, ex.getMessage()));
+        }
+        if (jsonLines) {
+            writer.write(RedisJsonLinesCodec.closeCollection(keyType));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Loads a JSON Lines or CSV file written by {@link #exportRecords}, in pipelined batches. Each JSON line replaces its
+     * key, written {@value #VALUE_CHUNK_SIZE} members per command, then sets its TTL; each CSV row sets a hash field.
+     * Records that cannot be parsed or written are reported in the errors file, with their number (blank lines aside)
+     * and the reason, and the import goes on.
+     */
+    public RedisImportReport importRecords(ServerConfiguration serverConfiguration, RedisDatabase database, RedisExportFormat format, File file, File errorFile, ProgressIndicator indicator) throws IOException {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            int batchSize = getPipelineBatchSize(serverConfiguration);
+            RedisImportReport report = new RedisImportReport();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+            RedisImportErrorWriter errorWriter = new RedisImportErrorWriter(errorFile);
+            try {
+                boolean csv = RedisExportFormat.CSV.equals(format);
+                List<RedisRecord> redisRecords = new ArrayList<>(batchSize);
+                List<Long> recordNumbers = new ArrayList<>(batchSize);
+                long recordNumber = 0;
+                if (csv) {
+                    RedisCsvCodec.readRow(reader);
+                }
+                boolean endOfFile = false;
+                while (!endOfFile) {
+                    indicator.checkCanceled();
+                    recordNumber++;
+                    try {
+                        RedisRecord redisRecord = csv ? readCsvRecord(reader) : readJsonRecord(reader);
+                        endOfFile = redisRecord == null;
+                        if (redisRecord != null) {
+                            redisRecords.add(redisRecord);
+                            recordNumbers.add(recordNumber);
+                        }
+                    } catch (IllegalArgumentException ex) {
+                        errorWriter.write(recordNumber, ex.getMessage());
+                        report.addFailedRecord();
+                    }
+                    if (redisRecords.size() == batchSize || (endOfFile && !redisRecords.isEmpty())) {
+                        writeRecords(jedis, redisRecords, recordNumbers, !csv, report, errorWriter);
+                        redisRecords.clear();
+                        recordNumbers.clear();
+                        indicator.setText2(String.format("%,d records imported, %,d errors", report.getImportedRecords(), report.getFailedRecords()));
+                    }
+                }
+                return report;
+            } finally {
+                reader.close();
+                errorWriter.close();
+            }
+        } finally {
+            jedis.close();
+        }
+    }
+
+    private static RedisRecord readJsonRecord(BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (StringUtils.isBlank(line));
+        return RedisJsonLinesCodec.parse(line);
+    }
+
+    private static RedisRecord readCsvRecord(BufferedReader reader) throws IOException {
+        List<String> cells = RedisCsvCodec.readRow(reader);
+        if (cells == null) {
+            return null;
+        }
+        if (cells.size() != RedisCsvCodec.HASH_HEADER.length) {
+            throw new IllegalArgumentException(String.format("%d cells found instead of %d", cells.size(), RedisCsvCodec.HASH_HEADER.length));
+        }
+        return new RedisRecord<Map>(RedisKeyType.HASH, cells.get(0), Collections.singletonMap(cells.get(1), cells.get(2)));
+    }
+
+    /**
+     * Sends a batch of records in one pipeline and reports the records of which a command failed.
+     *
+     * @param replace <code>true</code> to delete each key before writing it
+     */
+    private static void writeRecords(Jedis jedis, List<RedisRecord> redisRecords, List<Long> recordNumbers, boolean replace, RedisImportReport report, RedisImportErrorWriter errorWriter) throws IOException {
+        Pipeline pipeline = jedis.pipelined();
+        List<List<Response<?>>> recordResponses = new ArrayList<>(redisRecords.size());
+        for (RedisRecord redisRecord : redisRecords) {
+            List<Response<?>> responses = new ArrayList<>(3);
+            String key = redisRecord.getKey();
+            Object value = redisRecord.getValue();
+            if (replace) {
+                responses.add(pipeline.del(key));
+            }
+            switch (redisRecord.getKeyType()) {
+                case STRING: {
+                    responses.add(pipeline.set(SafeEncoder.encode(key), ((RedisBinaryValue) value).getBytes()));
+                    break;
+                }
+                case LIST: {
+                    for (List<String> members : split((List<String>) value)) {
+                        responses.add(pipeline.rpush(key, members.toArray(new String[members.size()])));
+                    }
+                    break;
+                }
+                case SET: {
+                    for (List<String> members : split((Set<String>) value)) {
+                        responses.add(pipeline.sadd(key, members.toArray(new String[members.size()])));
+                    }
+                    break;
+                }
+                case ZSET: {
+                    for (List<Tuple> tuples : split((Set<Tuple>) value)) {
+                        Map<String, Double> scoreMembers = new LinkedHashMap<>();
+                        for (Tuple tuple : tuples) {
+                            scoreMembers.put(tuple.getElement(), tuple.getScore());
+                        }
+                        responses.add(pipeline.zadd(key, scoreMembers));
+                    }
+                    break;
+                }
+                case HASH: {
+                    for (List<Map.Entry<String, String>> entries : split(((Map<String, String>) value).entrySet())) {
+                        Map<String, String> fields = new LinkedHashMap<>();
+                        for (Map.Entry<String, String> entry : entries) {
+                            fields.put(entry.getKey(), entry.getValue());
+                        }
+                        responses.add(pipeline.hmset(key, fields));
+                    }
+                    break;
+                }
+                case STREAM: {
+                    List<StreamEntry> entries = (List<StreamEntry>) value;
+                    for (StreamEntry entry : entries) {
+                        responses.add(pipeline.xadd(key, entry.getID(), entry.getFields()));
+                    }
+                    if (entries.isEmpty()) {
+                        responses.add(pipeline.xadd(key, StreamEntryID.NEW_ENTRY, EMPTY_STREAM_FIELDS, 0, false));
+                    }
+                    break;
+                }
+                default: {
+                    throw new IllegalArgumentException();
+                }
+            }
+            if (redisRecord.getTtl() > 0) {
+                responses.add(pipeline.expire(key, (int) redisRecord.getTtl()));
+            }
+            recordResponses.add(responses);
+        }
+        pipeline.sync();
+
+        for (int index = 0; index < redisRecords.size(); index++) {
+            try {
+                for (Response<?> response : recordResponses.get(index)) {
+                    response.get();
+                }
+                report.addImportedRecords(1);
+            } catch (JedisDataException ex) {
+                errorWriter.write(recordNumbers.get(index), String.format("%s: %s", redisRecords.get(index).getKey(), ex.getMessage()));
+                report.addFailedRecord();
+            }
+        }
+    }
+
+    /**
+     * Splits the members of a collection so that each write command carries at most {@value #VALUE_CHUNK_SIZE} of them.
+     */
+    private static <T> List<List<T>> split(Collection<T> values) {
+        List<T> members = values instanceof List ? (List<T>) values : new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < members.size(); fromIndex += VALUE_CHUNK_SIZE) {
+            chunks.add(members.subList(fromIndex, Math.min(fromIndex + VALUE_CHUNK_SIZE, members.size())));
+        }
+        return chunks;
+    }
+
+    private static ScanResult<String> scan(Jedis jedis, String cursor, RedisQuery query) {
+        return scan(jedis, cursor, query, SCAN_PAGE_SIZE);
+    }
+
+    private static ScanResult<String> scan(Jedis jedis, String cursor, RedisQuery query, int count) {
+        List<Object> reply = (List<Object>) jedis.sendCommand(Protocol.Command.SCAN,
+                cursor,
+                Protocol.Keyword.MATCH.name(), query.getFilter(),
+                Protocol.Keyword.COUNT.name(), String.valueOf(count),
+                SCAN_TYPE_KEYWORD, query.getKeyType().label);
+        List<String> keys = new ArrayList<>();
+        for (Object key : (List<Object>) reply.get(1)) {
+            keys.add(SafeEncoder.encode((byte[]) key));
+        }
+        return new ScanResult<>(SafeEncoder.encode((byte[]) reply.get(0)), keys);
+    }
+
+    static int getMajorVersion(String serverInfo) {
+        for (String line : serverInfo.split("\r?\n")) {
+            if (line.startsWith(REDIS_VERSION_FIELD)) {
+                String version = line.substring(REDIS_VERSION_FIELD.length()).trim();
+                return NumberUtils.toInt(StringUtils.substringBefore(version, "."));
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Runs the script with <code>EVALSHA</code>, loading it first with <code>SCRIPT LOAD</code> when its digest is unknown.
+     */
+    public RedisScriptResult runScript(ServerConfiguration serverConfiguration, RedisDatabase database, RedisLuaScript script, List<String> keys, List<String> args) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            RedisScriptResult result = new RedisScriptResult();
+            long start = System.currentTimeMillis();
+            result.addReply(evalScript(jedis, script, keys, args), keys.size());
+            result.setDurationInMillis(System.currentTimeMillis() - start);
+            return result;
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * Runs the script once per <code>SCAN</code> page of the keys matching the filter, the page keys being passed as <code>KEYS</code>,
+     * so that the per-key work is done on the server with one round trip per page.
+     */
+    public RedisScriptResult runScriptPerScanPage(ServerConfiguration serverConfiguration, RedisDatabase database, RedisLuaScript script, String filter, List<String> args, ProgressIndicator indicator) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            ScanParams scanParams = new ScanParams().match(filter).count(SCAN_PAGE_SIZE);
+            String cursor = RedisQuery.FIRST_CURSOR;
+            RedisScriptResult result = new RedisScriptResult();
+            long start = System.currentTimeMillis();
+            do {
+                indicator.checkCanceled();
+                ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                cursor = scanResult.getCursor();
+                List<String> keys = scanResult.getResult();
+                if (!keys.isEmpty()) {
+                    result.addReply(evalScript(jedis, script, keys, args), keys.size());
+                }
+                indicator.setText2(String.format("%,d keys processed", result.getProcessedKeys()));
+            } while (!RedisQuery.FIRST_CURSOR.equals(cursor));
+            result.setDurationInMillis(System.currentTimeMillis() - start);
+            return result;
+        } finally {
+            jedis.close();
+        }
+    }
+
+    private static Object evalScript(Jedis jedis, RedisLuaScript script, List<String> keys, List<String> args) {
+        if (script.getSha() == null) {
+            script.setSha(jedis.scriptLoad(script.getSource()));
+        }
+        try {
+            return jedis.evalsha(script.getSha(), keys, args);
+        } catch (JedisNoScriptException ex) {
+            // the script cache was flushed or the server restarted since the script was loaded
+            script.setSha(jedis.scriptLoad(script.getSource()));
+            return jedis.evalsha(script.getSha(), keys, args);
+        }
+    }
+
+    /**
+     * Searches the values of the keys matching the filter without loading them: a built-in Lua script looks into the strings of
+     * each <code>SCAN</code> page, then the hashes, lists, sets and sorted sets of the page are walked chunk by chunk, one script call
+     * per chunk, so that no call blocks the server for a whole collection. Only the matching positions come back. Pages and chunks
+     * are paced to stay under <code>keysPerSecond</code>, a chunk counting as a key, and the search stops as soon as
+     * <code>maxMatches</code> are found.
+     */
+    public void searchValues(ServerConfiguration serverConfiguration, RedisDatabase database, RedisValueSearchOptions options, RedisValueSearch search, ProgressIndicator indicator) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            long keyCount = jedis.dbSize();
+            ScanParams scanParams = new ScanParams().match(options.getFilter()).count(SCAN_PAGE_SIZE);
+            String cursor = RedisQuery.FIRST_CURSOR;
+            long start = System.currentTimeMillis();
+            do {
+                indicator.checkCanceled();
+                ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                cursor = scanResult.getCursor();
+                List<String> keys = scanResult.getResult();
+                List<?> collections = Collections.emptyList();
+                if (!keys.isEmpty()) {
+                    List<?> reply = (List<?>) evalScript(jedis, VALUE_SEARCH_SCRIPT, keys, Arrays.asList(
+                            options.getValue(),
+                            StringUtils.defaultString(options.getField()),
+                            String.valueOf(search.getRemainingMatches()),
+                            String.valueOf(STRING_PREVIEW_LENGTH)));
+                    search.addMatches(RedisValueMatch.fromScriptReply(reply.get(0)));
+                    collections = (List<?>) reply.get(1);
+                }
+                search.addScannedKeys(keys.size());
+                if (keyCount > 0) {
+                    indicator.setFraction(Math.min(1d, (double) search.getScannedKeys() / keyCount));
+                }
+                indicator.setText2(String.format("%,d keys searched", search.getScannedKeys()));
+                throttle(start, search.getScannedKeys() + search.getSearchedChunks(), options.getKeysPerSecond());
+
+                for (Object collection : collections) {
+                    if (search.isFull()) {
+                        break;
+                    }
+                    List<?> keyAndType = (List<?>) collection;
+                    searchCollection(jedis, String.valueOf(keyAndType.get(0)), String.valueOf(keyAndType.get(1)), options, search, indicator, start);
+                }
+            } while (!search.isFull() && !RedisQuery.FIRST_CURSOR.equals(cursor));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException();
+        } finally {
+            jedis.close();
+        }
+    }
+
+    private static void searchCollection(Jedis jedis, String key, String keyType, RedisValueSearchOptions options, RedisValueSearch search,
+                                         ProgressIndicator indicator, long start) throws InterruptedException {
+        String cursor = RedisQuery.FIRST_CURSOR;
+        do {
+            indicator.checkCanceled();
+            List<?> reply;
+            try {
+                reply = (List<?>) evalScript(jedis, VALUE_SEARCH_CHUNK_SCRIPT, Collections.singletonList(key), Arrays.asList(
+                        options.getValue(),
+                        keyType,
+                        cursor,
+                        String.valueOf(search.getRemainingMatches()),
+                        String.valueOf(STRING_PREVIEW_LENGTH),
+                        String.valueOf(VALUE_SEARCH_CHUNK_SIZE)));
+            } catch (JedisDataException ex) {
+                if (StringUtils.contains(ex.getMessage(), WRONG_TYPE_ERROR)) {
+                    // the key was replaced by another type since its page was searched
+                    return;
+                }
+                throw ex;
+            }
+            cursor = String.valueOf(reply.get(0));
+            search.addMatches(RedisValueMatch.fromScriptReply(reply.get(1)));
+            search.addSearchedChunk();
+            indicator.setText2(String.format("%,d keys searched, searching %s", search.getScannedKeys(), key));
+            throttle(start, search.getScannedKeys() + search.getSearchedChunks(), options.getKeysPerSecond());
+        } while (!search.isFull() && !RedisQuery.FIRST_CURSOR.equals(cursor));
+    }
+
+    public RedisMetricsPoller pollMetrics(ServerConfiguration serverConfiguration, long intervalInMillis) {
+        RedisMetricsPoller metricsPoller = new RedisMetricsPoller(createJedis(serverConfiguration), intervalInMillis, new RedisServerDashboard(RedisServerDashboard.DEFAULT_CAPACITY));
+        metricsPoller.start();
+        return metricsPoller;
+    }
+
+    public RedisActivityListener listenActivity(ServerConfiguration serverConfiguration, RedisDatabase database, RedisActivitySource source, boolean enableNotifications, String separator) {
+        RedisActivityListener activityListener = new RedisActivityListener(createJedis(serverConfiguration),
+                createJedis(serverConfiguration),
+                Integer.parseInt(database.getName()),
+                source,
+                enableNotifications,
+                new RedisActivityStatistics(separator));
+        activityListener.start();
+        return activityListener;
+    }
+
+    public RedisPubSubListener subscribe(ServerConfiguration serverConfiguration, List<String> channels, List<String> patterns, boolean payloadSizeHistogramEnabled) {
+        RedisPubSubListener pubSubListener = new RedisPubSubListener(createJedis(serverConfiguration),
+                channels,
+                patterns,
+                new RedisPubSubStatistics(payloadSizeHistogramEnabled));
+        pubSubListener.start();
+        return pubSubListener;
+    }
+
+    /**
+     * @return the number of clients which received the message
+     */
+    public long publish(ServerConfiguration serverConfiguration, String channel, String message) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            return jedis.publish(channel, message);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    public RedisBinaryValue loadStringValue(ServerConfiguration serverConfiguration, RedisDatabase database, String key) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+            byte[] value = jedis.get(SafeEncoder.encode(key));
+            return new RedisBinaryValue(value == null ? new byte[0] : value);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    public RedisStreamInfo loadStreamInfo(ServerConfiguration serverConfiguration, RedisDatabase database, String key) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            StreamInfo streamInfo = jedis.xinfoStream(key);
+            List<RedisStreamGroup> groups = new ArrayList<>();
+            for (StreamGroupInfo groupInfo : jedis.xinfoGroup(key)) {
+                List<RedisStreamConsumer> consumers = new ArrayList<>();
+                for (StreamConsumersInfo consumerInfo : jedis.xinfoConsumers(key, groupInfo.getName())) {
+                    consumers.add(new RedisStreamConsumer(consumerInfo.getName(), consumerInfo.getPending(), consumerInfo.getIdle()));
+                }
+                groups.add(new RedisStreamGroup(groupInfo.getName(), groupInfo.getPending(), String.valueOf(groupInfo.getLastDeliveredId()), consumers));
+            }
+            return new RedisStreamInfo(key,
+                    streamInfo.getLength(),
+                    streamInfo.getFirstEntry() == null ? null : streamInfo.getFirstEntry().getID().toString(),
+                    streamInfo.getLastEntry() == null ? null : streamInfo.getLastEntry().getID().toString(),
+                    String.valueOf(streamInfo.getLastGeneratedId()),
+                    groups);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * Reads the stream backwards with <code>XREVRANGE</code>.
+     *
+     * @param lastEntryId the oldest entry of the previous page, or <code>null</code> to start from the newest entry
+     */
+    public List<StreamEntry> loadStreamEntries(ServerConfiguration serverConfiguration, RedisDatabase database, String key, String lastEntryId, int count) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            StreamEntryID end = null;
+            if (lastEntryId != null) {
+                end = RedisUtils.previousStreamEntryID(new StreamEntryID(lastEntryId));
+                if (end == null) {
+                    return new ArrayList<>();
+                }
+            }
+            return jedis.xrevrange(key, end, null, count);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    public RedisStreamTailer tailStream(ServerConfiguration serverConfiguration, RedisDatabase database, String key) {
+        RedisStreamTailer streamTailer = new RedisStreamTailer(createJedis(serverConfiguration),
+                Integer.parseInt(database.getName()),
+                key,
+                new RedisStreamBuffer(RedisStreamBuffer.DEFAULT_CAPACITY));
+        streamTailer.start();
+        return streamTailer;
+    }
+
+    public RedisLatencyReport loadLatencyReport(ServerConfiguration serverConfiguration, int slowlogCount) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            List<RedisSlowlogEntry> slowlogEntries = new ArrayList<>();
+            for (Slowlog slowlog : jedis.slowlogGet(slowlogCount)) {
+                slowlogEntries.add(new RedisSlowlogEntry(slowlog.getId(), slowlog.getTimeStamp(), slowlog.getExecutionTime(), slowlog.getArgs()));
+            }
+
+            List<Object> latestEvents;
+            try {
+                latestEvents = (List<Object>) jedis.sendCommand(LATENCY, LATENCY_LATEST);
+            } catch (JedisDataException ex) {
+                LOG.info(String.format("LATENCY is not available: %s", ex.getMessage()));
+                return RedisLatencyReport.withoutLatencyMonitor(slowlogEntries);
+            }
+            List<RedisLatencyEvent> latencyEvents = new ArrayList<>();
+            for (Object event : latestEvents) {
+                List<Object> eventFields = (List<Object>) event;
+                latencyEvents.add(new RedisLatencyEvent(SafeEncoder.encode((byte[]) eventFields.get(0)),
+                        (Long) eventFields.get(1),
+                        (Long) eventFields.get(2),
+                        (Long) eventFields.get(3)));
+            }
+            return new RedisLatencyReport(slowlogEntries, latencyEvents);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * @return the latencies in milliseconds of the last spikes of the event, the oldest first
+     */
+    public double[] loadLatencyHistory(ServerConfiguration serverConfiguration, String event) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            List<Object> samples = (List<Object>) jedis.sendCommand(LATENCY, LATENCY_HISTORY, event);
+            double[] latencies = new double[samples.size()];
+            for (int index = 0; index < latencies.length; index++) {
+                latencies[index] = (Long) ((List<Object>) samples.get(index)).get(1);
+            }
+            return latencies;
+        } finally {
+            jedis.close();
+        }
+    }
+
+    public void resetSlowlog(ServerConfiguration serverConfiguration) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.slowlogReset();
+        } finally {
+            jedis.close();
+        }
+    }
+
+    public void resetLatency(ServerConfiguration serverConfiguration) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.sendCommand(LATENCY, LATENCY_RESET);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    /**
+     * Reads the members following the record value cursor: <code>LRANGE</code> and <code>ZRANGE</code> windows by rank
+     * for lists and sorted sets, <code>SSCAN</code> and <code>HSCAN</code> for sets and hashes, <code>XRANGE</code>
+     * by entry ID for streams.
+     */
+    public RedisValuePage loadValues(ServerConfiguration serverConfiguration, RedisDatabase database, RedisRecord redisRecord, int pageSize) {
+        Jedis jedis = createJedis(serverConfiguration);
+        try {
+            jedis.connect();
+            jedis.select(Integer.parseInt(database.getName()));
+
+            return readValues(jedis, redisRecord.getKey(), redisRecord.getKeyType(), redisRecord.getValueCursor(), pageSize);
+        } finally {
+            jedis.close();
+        }
+    }
+
+    private static RedisValuePage readValues(Jedis jedis, String key, RedisKeyType keyType, String cursor, int pageSize) {
+        List<Object> values = new ArrayList<>(pageSize);
+        if (RedisKeyType.STREAM.equals(keyType)) {
+            StreamEntryID start = RedisQuery.FIRST_CURSOR.equals(cursor) ? null : new StreamEntryID(cursor);
+            List<StreamEntry> entries = jedis.xrange(key, start, null, pageSize);
+            values.addAll(entries);
+            if (entries.size() < pageSize) {
+                return new RedisValuePage(values, null);
+            }
+            return new RedisValuePage(values, RedisUtils.nextStreamEntryID(entries.get(entries.size() - 1).getID()).toString());
+        }
+        if (RedisKeyType.LIST.equals(keyType) || RedisKeyType.ZSET.equals(keyType)) {
+            long start = Long.parseLong(cursor);
             if (RedisKeyType.LIST.equals(keyType)) {
-                List<String> values = jedis.lrange(key, 0, -1);
-                redisResult.addList(key, values);
-            } else if (RedisKeyType.SET.equals(keyType)) {
-                Set<String> values = jedis.smembers(key);
-                redisResult.addSet(key, values);
-            } else if (RedisKeyType.HASH.equals(keyType)) {
-                Map<String, String> values = jedis.hgetAll(key);
-                redisResult.addHash(key, values);
-            } else if (RedisKeyType.ZSET.equals(keyType)) {
-                Set<Tuple> valuesWithScores = jedis.zrangeByScoreWithScores(key, "-inf", "+inf");
-                redisResult.addSortedSet(key, valuesWithScores);
-            } else if (RedisKeyType.STRING.equals(keyType)) {
-                String value = jedis.get(key);
-                redisResult.addString(key, value);
+                values.addAll(jedis.lrange(key, start, start + pageSize - 1));
+            } else {
+                values.addAll(jedis.zrangeWithScores(key, start, start + pageSize - 1));
             }
+            long next = start + values.size();
+            return new RedisValuePage(values, values.size() < pageSize ? null : String.valueOf(next));
         }
-        return redisResult;
+
+        ScanParams scanParams = new ScanParams().count(pageSize);
+        do {
+            ScanResult<?> scanResult;
+            if (RedisKeyType.SET.equals(keyType)) {
+                scanResult = jedis.sscan(key, cursor, scanParams);
+            } else if (RedisKeyType.HASH.equals(keyType)) {
+                scanResult = jedis.hscan(key, cursor, scanParams);
+            } else {
+                return new RedisValuePage(values, null);
+            }
+            values.addAll(scanResult.getResult());
+            cursor = scanResult.getCursor();
+        } while (values.size() < pageSize && !RedisQuery.FIRST_CURSOR.equals(cursor));
+        return new RedisValuePage(values, RedisQuery.FIRST_CURSOR.equals(cursor) ? null : cursor);
+    }
+
+    public interface KeyPageCallback {
+        void onKeyPage(RedisResult pageResult);
     }
 
     private Jedis createJedis(ServerConfiguration serverConfiguration) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the <code>key,field,value</code> rows of hash exports, quoted as in RFC 4180.
+ */
+public class RedisCsvCodec {
+
+    public static final String[] HASH_HEADER = {"key", "field", "value"};
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private RedisCsvCodec() {
+    }
+
+    public static String formatRow(String... cells) {
+        StringBuilder row = new StringBuilder();
+        for (int index = 0; index < cells.length; index++) {
+            if (index > 0) {
+                row.append(SEPARATOR);
+            }
+            String cell = cells[index];
+            if (cell.indexOf(SEPARATOR) >= 0 || cell.indexOf(QUOTE) >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+                row.append(QUOTE).append(cell.replace("\"", "\"\"")).append(QUOTE);
+            } else {
+                row.append(cell);
+            }
+        }
+        return row.append("\r\n").toString();
+    }
+
+    /**
+     * @return the cells of the next row, which may span several lines when quoted cells hold line breaks,
+     * or <code>null</code> at the end of the input
+     * @throws IllegalArgumentException when a quoted cell is not closed
+     */
+    public static List<String> readRow(Reader reader) throws IOException {
+        int character = reader.read();
+        if (character == -1) {
+            return null;
+        }
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (character == -1) {
+                    throw new IllegalArgumentException("Unclosed quoted cell");
+                } else if (character == QUOTE) {
+                    reader.mark(1);
+                    if (reader.read() == QUOTE) {
+                        cell.append(QUOTE);
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    cell.append((char) character);
+                }
+            } else if (character == QUOTE) {
+                quoted = true;
+            } else if (character == SEPARATOR) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (character == '\n' || character == -1) {
+                break;
+            } else if (character != '\r') {
+                cell.append((char) character);
+            }
+            character = reader.read();
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
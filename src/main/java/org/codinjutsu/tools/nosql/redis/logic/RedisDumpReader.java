@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisDumpEntry;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads the entries written by {@link RedisDumpWriter} one at a time.
+ */
+public class RedisDumpReader implements Closeable {
+
+    private final DataInputStream inputStream;
+
+    public RedisDumpReader(InputStream inputStream) throws IOException {
+        this.inputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        byte[] magic = new byte[RedisDumpWriter.MAGIC.length];
+        this.inputStream.readFully(magic);
+        if (!Arrays.equals(RedisDumpWriter.MAGIC, magic)) {
+            throw new IOException("Not a Redis key dump");
+        }
+        int version = this.inputStream.readInt();
+        if (version != RedisDumpWriter.VERSION) {
+            throw new IOException(String.format("Unsupported Redis key dump version %d", version));
+        }
+    }
+
+    /**
+     * @return the next entry, or <code>null</code> at the end of the dump
+     * @throws java.io.EOFException when the dump is truncated
+     */
+    public RedisDumpEntry read() throws IOException {
+        int keyLength = inputStream.readInt();
+        if (keyLength == RedisDumpWriter.END_OF_ENTRIES) {
+            return null;
+        }
+        byte[] key = new byte[keyLength];
+        inputStream.readFully(key);
+        long ttlInMillis = inputStream.readLong();
+        byte[] value = new byte[inputStream.readInt()];
+        inputStream.readFully(value);
+        return new RedisDumpEntry(key, ttlInMillis, value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
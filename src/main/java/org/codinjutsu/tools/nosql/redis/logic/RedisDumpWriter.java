@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisDumpEntry;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes keys serialized with <code>DUMP</code> to a stream, one after the other, so that exports never hold
+ * more than a batch in memory. The format is a header followed by length-prefixed entries:
+ * key length, key, TTL in milliseconds, value length, value; a key length of -1 ends the stream.
+ */
+public class RedisDumpWriter implements Closeable {
+
+    static final byte[] MAGIC = {'N', '4', 'I', 'R', 'D', 'U', 'M', 'P'};
+    static final int VERSION = 1;
+    static final int END_OF_ENTRIES = -1;
+
+    private final DataOutputStream outputStream;
+    private long writtenEntries;
+
+    public RedisDumpWriter(OutputStream outputStream) throws IOException {
+        this.outputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        this.outputStream.write(MAGIC);
+        this.outputStream.writeInt(VERSION);
+    }
+
+    public void write(RedisDumpEntry entry) throws IOException {
+        outputStream.writeInt(entry.getKey().length);
+        outputStream.write(entry.getKey());
+        outputStream.writeLong(entry.getTtlInMillis());
+        outputStream.writeInt(entry.getValue().length);
+        outputStream.write(entry.getValue());
+        writtenEntries++;
+    }
+
+    public long getWrittenEntries() {
+        return writtenEntries;
+    }
+
+    /**
+     * Ends the stream once every entry is written: a dump closed without it is reported as truncated when it is read.
+     */
+    public void finish() throws IOException {
+        outputStream.writeInt(END_OF_ENTRIES);
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.apache.commons.lang.math.NumberUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RedisExtraSettings {
+
+    public static final int DEFAULT_PIPELINE_BATCH_SIZE = 500;
+
+    private static final String PIPELINE_BATCH_SIZE = "pipelineBatchSize";
+    private static final String HIDE_EMPTY_DATABASES = "hideEmptyDatabases";
+
+    private Map<String, String> extras = new HashMap<>();
+
+    public RedisExtraSettings() {
+    }
+
+    public RedisExtraSettings(Map<String, String> extras) {
+        this.extras = extras;
+    }
+
+    public int getPipelineBatchSize() {
+        int pipelineBatchSize = NumberUtils.toInt(extras.get(PIPELINE_BATCH_SIZE));
+        return pipelineBatchSize > 0 ? pipelineBatchSize : DEFAULT_PIPELINE_BATCH_SIZE;
+    }
+
+    public void setPipelineBatchSize(int pipelineBatchSize) {
+        extras.put(PIPELINE_BATCH_SIZE, String.valueOf(pipelineBatchSize));
+    }
+
+    public boolean isHideEmptyDatabases() {
+        return Boolean.parseBoolean(extras.get(HIDE_EMPTY_DATABASES));
+    }
+
+    public void setHideEmptyDatabases(boolean hideEmptyDatabases) {
+        extras.put(HIDE_EMPTY_DATABASES, String.valueOf(hideEmptyDatabases));
+    }
+
+    public Map<String, String> get() {
+        return extras;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reports the records an import skipped, one per line. The file is only created when there is an error to report,
+ * and the report of a previous import is deleted.
+ */
+class RedisImportErrorWriter implements Closeable {
+
+    private final File file;
+    private Writer writer;
+
+    RedisImportErrorWriter(File file) {
+        this.file = file;
+        if (file.exists() && !file.delete()) {
+            throw new IllegalStateException(String.format("Cannot delete %s", file));
+        }
+    }
+
+    void write(long recordNumber, String reason) throws IOException {
+        if (writer == null) {
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+        }
+        writer.write(String.format("record %d: %s%n", recordNumber, reason));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
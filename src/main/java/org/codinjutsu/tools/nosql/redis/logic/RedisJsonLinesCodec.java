@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.util.JSON;
+import org.codinjutsu.tools.nosql.redis.model.RedisBinaryValue;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyType;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueFormat;
+import redis.clients.jedis.StreamEntry;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.Tuple;
+
+import javax.xml.bind.DatatypeConverter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts whole keys to JSON objects, one per line: <code>{"key": …, "type": …, "ttl": …, "value": …}</code>.
+ * Lists and sets are arrays, hashes are objects, sorted set members are <code>{"member": …, "score": …}</code> and
+ * stream entries <code>{"id": …, "fields": {…}}</code>. String values that are not UTF-8 text are encoded in base64.
+ */
+public class RedisJsonLinesCodec {
+
+    public static final String ELEMENT_SEPARATOR = " , ";
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String TTL = "ttl";
+    private static final String VALUE = "value";
+    private static final String ENCODING = "encoding";
+    private static final String BASE64 = "base64";
+    private static final String MEMBER = "member";
+    private static final String SCORE = "score";
+    private static final String ID = "id";
+    private static final String FIELDS = "fields";
+
+    private RedisJsonLinesCodec() {
+    }
+
+    public static String format(RedisRecord redisRecord) {
+        BasicDBObject object = new BasicDBObject(KEY, redisRecord.getKey());
+        object.put(TYPE, redisRecord.getKeyType().label);
+        if (redisRecord.getTtl() > 0) {
+            object.put(TTL, redisRecord.getTtl());
+        }
+        Object value = redisRecord.getValue();
+        switch (redisRecord.getKeyType()) {
+            case STRING: {
+                RedisBinaryValue binaryValue = (RedisBinaryValue) value;
+                RedisValueFormat format = binaryValue.getFormat();
+                if (RedisValueFormat.TEXT.equals(format) || RedisValueFormat.JSON.equals(format)) {
+                    object.put(VALUE, new String(binaryValue.getBytes(), StandardCharsets.UTF_8));
+                } else {
+                    object.put(ENCODING, BASE64);
+                    object.put(VALUE, DatatypeConverter.printBase64Binary(binaryValue.getBytes()));
+                }
+                break;
+            }
+            case LIST:
+            case SET: {
+                BasicDBList members = new BasicDBList();
+                members.addAll((Collection) value);
+                object.put(VALUE, members);
+                break;
+            }
+            case ZSET: {
+                BasicDBList members = new BasicDBList();
+                for (Tuple tuple : (Set<Tuple>) value) {
+                    members.add(new BasicDBObject(MEMBER, tuple.getElement()).append(SCORE, tuple.getScore()));
+                }
+                object.put(VALUE, members);
+                break;
+            }
+            case HASH: {
+                object.put(VALUE, new BasicDBObject((Map<String, String>) value));
+                break;
+            }
+            case STREAM: {
+                BasicDBList entries = new BasicDBList();
+                for (StreamEntry entry : (List<StreamEntry>) value) {
+                    entries.add(new BasicDBObject(ID, entry.getID().toString()).append(FIELDS, new BasicDBObject(entry.getFields())));
+                }
+                object.put(VALUE, entries);
+                break;
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+        return JSON.serialize(object);
+    }
+
+    /**
+     * Starts the line of a list, set, sorted set, hash or stream whose elements are then written one by one with
+     * {@link #formatElement}, separated by {@link #ELEMENT_SEPARATOR}, and closed by {@link #closeCollection}.
+     */
+    public static String openCollection(String key, RedisKeyType keyType, long ttl) {
+        StringBuilder line = new StringBuilder("{ ");
+        line.append(JSON.serialize(KEY)).append(" : ").append(JSON.serialize(key));
+        line.append(ELEMENT_SEPARATOR).append(JSON.serialize(TYPE)).append(" : ").append(JSON.serialize(keyType.label));
+        if (ttl > 0) {
+            line.append(ELEMENT_SEPARATOR).append(JSON.serialize(TTL)).append(" : ").append(ttl);
+        }
+        line.append(ELEMENT_SEPARATOR).append(JSON.serialize(VALUE)).append(" : ");
+        line.append(RedisKeyType.HASH.equals(keyType) ? "{ " : "[ ");
+        return line.toString();
+    }
+
+    /**
+     * @param element a list or set member, a sorted set {@link Tuple}, a hash field as a {@link Map.Entry} or a {@link StreamEntry}
+     */
+    public static String formatElement(RedisKeyType keyType, Object element) {
+        switch (keyType) {
+            case LIST:
+            case SET: {
+                return JSON.serialize(element);
+            }
+            case ZSET: {
+                Tuple tuple = (Tuple) element;
+                return JSON.serialize(new BasicDBObject(MEMBER, tuple.getElement()).append(SCORE, tuple.getScore()));
+            }
+            case HASH: {
+                Map.Entry<String, String> field = (Map.Entry<String, String>) element;
+                return JSON.serialize(field.getKey()) + " : " + JSON.serialize(field.getValue());
+            }
+            case STREAM: {
+                StreamEntry entry = (StreamEntry) element;
+                return JSON.serialize(new BasicDBObject(ID, entry.getID().toString()).append(FIELDS, new BasicDBObject(entry.getFields())));
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    public static String closeCollection(RedisKeyType keyType) {
+        return RedisKeyType.HASH.equals(keyType) ? "}}" : "]}";
+    }
+
+    /**
+     * @throws IllegalArgumentException when the line is not a JSON object describing a key
+     */
+    public static RedisRecord parse(String line) {
+        Object parsedLine;
+        try {
+            parsedLine = JSON.parse(line);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException(String.format("Invalid JSON: %s", ex.getMessage()), ex);
+        }
+        if (!(parsedLine instanceof BasicDBObject)) {
+            throw new IllegalArgumentException("A JSON object is expected");
+        }
+        BasicDBObject object = (BasicDBObject) parsedLine;
+        String key = getString(object, KEY);
+        RedisKeyType keyType = RedisKeyType.getKeyType(getString(object, TYPE));
+        if (keyType == null) {
+            throw new IllegalArgumentException(String.format("Unknown type '%s'", object.get(TYPE)));
+        }
+        long ttl = object.containsField(TTL) ? ((Number) object.get(TTL)).longValue() : RedisRecord.NO_TTL;
+        Object value = object.get(VALUE);
+        try {
+            return new RedisRecord<>(keyType, key, parseValue(keyType, value, BASE64.equals(object.get(ENCODING))), 0, ttl, null);
+        } catch (ClassCastException ex) {
+            throw new IllegalArgumentException(String.format("Invalid %s value", keyType.label), ex);
+        }
+    }
+
+    private static Object parseValue(RedisKeyType keyType, Object value, boolean base64) {
+        switch (keyType) {
+            case STRING: {
+                byte[] bytes = base64 ? DatatypeConverter.parseBase64Binary((String) value) : ((String) value).getBytes(StandardCharsets.UTF_8);
+                return new RedisBinaryValue(bytes);
+            }
+            case LIST: {
+                List<String> members = new ArrayList<>();
+                for (Object member : (BasicDBList) value) {
+                    members.add((String) member);
+                }
+                return members;
+            }
+            case SET: {
+                Set<String> members = new LinkedHashSet<>();
+                for (Object member : (BasicDBList) value) {
+                    members.add((String) member);
+                }
+                return members;
+            }
+            case ZSET: {
+                Set<Tuple> members = new LinkedHashSet<>();
+                for (Object member : (BasicDBList) value) {
+                    DBObject tuple = (DBObject) member;
+                    members.add(new Tuple((String) tuple.get(MEMBER), ((Number) tuple.get(SCORE)).doubleValue()));
+                }
+                return members;
+            }
+            case HASH: {
+                return toStringMap((DBObject) value);
+            }
+            case STREAM: {
+                List<StreamEntry> entries = new ArrayList<>();
+                for (Object member : (BasicDBList) value) {
+                    DBObject entry = (DBObject) member;
+                    entries.add(new StreamEntry(new StreamEntryID((String) entry.get(ID)), toStringMap((DBObject) entry.get(FIELDS))));
+                }
+                return entries;
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    private static Map<String, String> toStringMap(DBObject object) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String field : object.keySet()) {
+            fields.put(field, (String) object.get(field));
+        }
+        return fields;
+    }
+
+    private static String getString(BasicDBObject object, String field) {
+        Object value = object.get(field);
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException(String.format("'%s' should be a string", field));
+        }
+        return (String) value;
+    }
+}
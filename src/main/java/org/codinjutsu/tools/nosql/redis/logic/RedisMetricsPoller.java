@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.apache.log4j.Logger;
+import org.codinjutsu.tools.nosql.redis.model.RedisServerDashboard;
+import org.codinjutsu.tools.nosql.redis.model.RedisServerMetrics;
+import redis.clients.jedis.Jedis;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Polls <code>INFO</code> on its own connection and thread, and records each reply into the dashboard.
+ */
+public class RedisMetricsPoller {
+
+    private static final Logger LOG = Logger.getLogger(RedisMetricsPoller.class);
+
+    private final Jedis jedis;
+    private final long intervalInMillis;
+    private final RedisServerDashboard dashboard;
+
+    private volatile boolean running;
+    private volatile Exception failure;
+    private Thread pollerThread;
+
+    RedisMetricsPoller(Jedis jedis, long intervalInMillis, RedisServerDashboard dashboard) {
+        this.jedis = jedis;
+        this.intervalInMillis = intervalInMillis;
+        this.dashboard = dashboard;
+    }
+
+    void start() {
+        running = true;
+        pollerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                pollInfo();
+            }
+        }, "NoSql Redis INFO poller");
+        pollerThread.setDaemon(true);
+        pollerThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (pollerThread != null) {
+            pollerThread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Exception getFailure() {
+        return failure;
+    }
+
+    public RedisServerDashboard getDashboard() {
+        return dashboard;
+    }
+
+    private void pollInfo() {
+        try {
+            jedis.connect();
+            while (running) {
+                dashboard.record(RedisServerMetrics.fromInfo(parseInfo(jedis.info()), System.currentTimeMillis()));
+                Thread.sleep(intervalInMillis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            if (running) {
+                LOG.error("Error when polling INFO", ex);
+                failure = ex;
+                running = false;
+            }
+        } finally {
+            jedis.close();
+        }
+    }
+
+    static Map<String, String> parseInfo(String info) {
+        Map<String, String> fields = new HashMap<>();
+        for (String line : info.split("\r?\n")) {
+            int separatorIndex = line.indexOf(':');
+            if (line.startsWith("#") || separatorIndex < 0) {
+                continue;
+            }
+            fields.put(line.substring(0, separatorIndex), line.substring(separatorIndex + 1).trim());
+        }
+        return fields;
+    }
+}
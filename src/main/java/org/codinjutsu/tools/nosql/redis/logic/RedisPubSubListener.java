@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.apache.log4j.Logger;
+import org.codinjutsu.tools.nosql.redis.model.RedisPubSubMessage;
+import org.codinjutsu.tools.nosql.redis.model.RedisPubSubStatistics;
+import redis.clients.jedis.BinaryJedisPubSub;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Subscribes to channels and patterns on a dedicated connection and thread, and records each message into the statistics.
+ * Only the beginning of each payload is kept, its size is counted in full.
+ */
+public class RedisPubSubListener {
+
+    private static final Logger LOG = Logger.getLogger(RedisPubSubListener.class);
+
+    static final int MAX_PAYLOAD_PREVIEW_SIZE = 1024;
+
+    private final Jedis jedis;
+    private final List<String> channels;
+    private final List<String> patterns;
+    private final RedisPubSubStatistics statistics;
+
+    private volatile boolean running;
+    private volatile Exception failure;
+    private Thread listenerThread;
+
+    RedisPubSubListener(Jedis jedis, List<String> channels, List<String> patterns, RedisPubSubStatistics statistics) {
+        if (channels.isEmpty() && patterns.isEmpty()) {
+            throw new IllegalArgumentException("At least one channel or one pattern is expected");
+        }
+        this.jedis = jedis;
+        this.channels = channels;
+        this.patterns = patterns;
+        this.statistics = statistics;
+    }
+
+    void start() {
+        running = true;
+        listenerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                listen();
+            }
+        }, "NoSql Redis pub/sub listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        jedis.disconnect();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Exception getFailure() {
+        return failure;
+    }
+
+    public RedisPubSubStatistics getStatistics() {
+        return statistics;
+    }
+
+    private void listen() {
+        try {
+            jedis.connect();
+            BinaryJedisPubSub pubSub = new BinaryJedisPubSub() {
+                private boolean patternsSubscribed;
+
+                @Override
+                public void onSubscribe(byte[] channel, int subscribedChannels) {
+                    if (!patternsSubscribed && !patterns.isEmpty()) {
+                        patternsSubscribed = true;
+                        psubscribe(encode(patterns));
+                    }
+                }
+
+                @Override
+                public void onMessage(byte[] channel, byte[] message) {
+                    statistics.record(toMessage(System.currentTimeMillis(), null, channel, message));
+                }
+
+                @Override
+                public void onPMessage(byte[] pattern, byte[] channel, byte[] message) {
+                    statistics.record(toMessage(System.currentTimeMillis(), pattern, channel, message));
+                }
+            };
+            if (channels.isEmpty()) {
+                jedis.psubscribe(pubSub, encode(patterns));
+            } else {
+                jedis.subscribe(pubSub, encode(channels));
+            }
+        } catch (Exception ex) {
+            if (running) {
+                LOG.error("Error when listening to the Redis channels", ex);
+                failure = ex;
+            }
+        } finally {
+            running = false;
+            jedis.close();
+        }
+    }
+
+    static RedisPubSubMessage toMessage(long timestamp, byte[] pattern, byte[] channel, byte[] message) {
+        String payload = new String(message, 0, Math.min(message.length, MAX_PAYLOAD_PREVIEW_SIZE), StandardCharsets.UTF_8);
+        return new RedisPubSubMessage(timestamp,
+                pattern == null ? null : SafeEncoder.encode(pattern),
+                SafeEncoder.encode(channel),
+                payload,
+                message.length);
+    }
+
+    private static byte[][] encode(List<String> names) {
+        byte[][] encodedNames = new byte[names.size()][];
+        for (int index = 0; index < names.size(); index++) {
+            encodedNames[index] = SafeEncoder.encode(names.get(index));
+        }
+        return encodedNames;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.apache.log4j.Logger;
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamBuffer;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.StreamEntry;
+import redis.clients.jedis.StreamEntryID;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the entries added to a stream with a blocking <code>XREAD</code> on a dedicated connection and thread.
+ * The read blocks for {@link #BLOCK_IN_MILLIS} at most so that the thread notices when it is stopped.
+ */
+public class RedisStreamTailer {
+
+    private static final Logger LOG = Logger.getLogger(RedisStreamTailer.class);
+
+    static final int READ_COUNT = 100;
+    static final long BLOCK_IN_MILLIS = 1000;
+
+    private final Jedis jedis;
+    private final int database;
+    private final String key;
+    private final RedisStreamBuffer buffer;
+
+    private volatile boolean running;
+    private volatile Exception failure;
+    private Thread tailerThread;
+
+    RedisStreamTailer(Jedis jedis, int database, String key, RedisStreamBuffer buffer) {
+        this.jedis = jedis;
+        this.database = database;
+        this.key = key;
+        this.buffer = buffer;
+    }
+
+    void start() {
+        running = true;
+        tailerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                tail();
+            }
+        }, "NoSql Redis stream tailer");
+        tailerThread.setDaemon(true);
+        tailerThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (tailerThread != null) {
+            tailerThread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Exception getFailure() {
+        return failure;
+    }
+
+    public RedisStreamBuffer getBuffer() {
+        return buffer;
+    }
+
+    private void tail() {
+        try {
+            jedis.connect();
+            jedis.select(database);
+            StreamEntryID lastId = StreamEntryID.LAST_ENTRY;
+            while (running) {
+                List<Map.Entry<String, List<StreamEntry>>> replies = jedis.xread(READ_COUNT, BLOCK_IN_MILLIS, new AbstractMap.SimpleImmutableEntry<>(key, lastId));
+                if (replies == null) {
+                    continue;
+                }
+                for (Map.Entry<String, List<StreamEntry>> reply : replies) {
+                    List<StreamEntry> entries = reply.getValue();
+                    if (!entries.isEmpty()) {
+                        buffer.addAll(entries);
+                        lastId = entries.get(entries.size() - 1).getID();
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            if (running) {
+                LOG.error("Error when tailing the Redis stream " + key, ex);
+                failure = ex;
+            }
+        } finally {
+            running = false;
+            jedis.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisActivityEvent {
+
+    private final long timestamp;
+    private final String command;
+    private final String key;
+    private final String client;
+
+    public RedisActivityEvent(long timestamp, String command, String key, String client) {
+        this.timestamp = timestamp;
+        this.command = command;
+        this.key = key;
+        this.client = client;
+    }
+
+    /**
+     * @return the time in milliseconds when the event happened
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the command read by <code>MONITOR</code>, or the event name of the keyspace notification
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the address of the client, only known with <code>MONITOR</code>
+     */
+    public String getClient() {
+        return client;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.codinjutsu.tools.nosql.redis.RedisUtils;
+
+import java.util.*;
+
+/**
+ * Counts every event per command and per key prefix, but keeps at most <code>maxRecentEventsPerSecond</code>
+ * of them in the recent window so that heavy traffic is sampled instead of flooding the view.
+ */
+public class RedisActivityStatistics {
+
+    public static final int DEFAULT_RECENT_WINDOW_SIZE = 1000;
+    public static final int DEFAULT_MAX_RECENT_EVENTS_PER_SECOND = 100;
+    static final int MAX_PREFIXES = 1000;
+    static final String OTHER_PREFIXES = "(other)";
+    private static final String NO_KEY = "(none)";
+
+    private final String separator;
+    private final int recentWindowSize;
+    private final int maxRecentEventsPerSecond;
+    private final Map<String, RedisRateCounter> ratesByCommand = new HashMap<>();
+    private final Map<String, RedisRateCounter> ratesByPrefix = new HashMap<>();
+    private final ArrayDeque<RedisActivityEvent> recentEvents;
+
+    private long processedEvents;
+    private long sampledOutEvents;
+    private long currentSecond;
+    private int recentEventsInCurrentSecond;
+
+    public RedisActivityStatistics(String separator) {
+        this(separator, DEFAULT_RECENT_WINDOW_SIZE, DEFAULT_MAX_RECENT_EVENTS_PER_SECOND);
+    }
+
+    public RedisActivityStatistics(String separator, int recentWindowSize, int maxRecentEventsPerSecond) {
+        this.separator = separator;
+        this.recentWindowSize = recentWindowSize;
+        this.maxRecentEventsPerSecond = maxRecentEventsPerSecond;
+        this.recentEvents = new ArrayDeque<>(recentWindowSize);
+    }
+
+    public synchronized void record(RedisActivityEvent event) {
+        long second = event.getTimestamp() / 1000;
+        processedEvents++;
+        getRateCounter(ratesByCommand, event.getCommand()).record(second, 1);
+        getPrefixRateCounter(getPrefix(event.getKey())).record(second, 1);
+
+        if (second != currentSecond) {
+            currentSecond = second;
+            recentEventsInCurrentSecond = 0;
+        }
+        if (recentEventsInCurrentSecond >= maxRecentEventsPerSecond) {
+            sampledOutEvents++;
+            return;
+        }
+        recentEventsInCurrentSecond++;
+        if (recentEvents.size() == recentWindowSize) {
+            recentEvents.removeFirst();
+        }
+        recentEvents.addLast(event);
+    }
+
+    private String getPrefix(String key) {
+        if (key == null) {
+            return NO_KEY;
+        }
+        return RedisUtils.getKeyPattern(key, separator);
+    }
+
+    private RedisRateCounter getPrefixRateCounter(String prefix) {
+        if (!ratesByPrefix.containsKey(prefix) && ratesByPrefix.size() >= MAX_PREFIXES) {
+            return getRateCounter(ratesByPrefix, OTHER_PREFIXES);
+        }
+        return getRateCounter(ratesByPrefix, prefix);
+    }
+
+    private static RedisRateCounter getRateCounter(Map<String, RedisRateCounter> rateCounters, String name) {
+        RedisRateCounter rateCounter = rateCounters.get(name);
+        if (rateCounter == null) {
+            rateCounter = new RedisRateCounter(name);
+            rateCounters.put(name, rateCounter);
+        }
+        return rateCounter;
+    }
+
+    public synchronized List<ActivityRate> getCommandRates(long second) {
+        return getRates(ratesByCommand, second);
+    }
+
+    public synchronized List<ActivityRate> getPrefixRates(long second) {
+        return getRates(ratesByPrefix, second);
+    }
+
+    private static List<ActivityRate> getRates(Map<String, RedisRateCounter> rateCounters, long second) {
+        List<ActivityRate> rates = new ArrayList<>(rateCounters.size());
+        for (RedisRateCounter rateCounter : rateCounters.values()) {
+            rates.add(new ActivityRate(rateCounter.getName(), rateCounter.getRatePerSecond(second), rateCounter.getTotal()));
+        }
+        Collections.sort(rates);
+        return rates;
+    }
+
+    public synchronized List<RedisActivityEvent> getRecentEvents() {
+        List<RedisActivityEvent> events = new ArrayList<>(recentEvents);
+        Collections.reverse(events);
+        return events;
+    }
+
+    public synchronized long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    /**
+     * @return the events counted in the rates but left out of the recent window
+     */
+    public synchronized long getSampledOutEvents() {
+        return sampledOutEvents;
+    }
+
+    public static class ActivityRate implements Comparable<ActivityRate> {
+        private final String name;
+        private final double eventsPerSecond;
+        private final long totalEvents;
+
+        ActivityRate(String name, double eventsPerSecond, long totalEvents) {
+            this.name = name;
+            this.eventsPerSecond = eventsPerSecond;
+            this.totalEvents = totalEvents;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getEventsPerSecond() {
+            return eventsPerSecond;
+        }
+
+        public long getTotalEvents() {
+            return totalEvents;
+        }
+
+        @Override
+        public int compareTo(ActivityRate other) {
+            int byRate = Double.compare(other.eventsPerSecond, eventsPerSecond);
+            if (byRate != 0) {
+                return byRate;
+            }
+            int byTotal = Long.compare(other.totalEvents, totalEvents);
+            if (byTotal != 0) {
+                return byTotal;
+            }
+            return name.compareTo(other.name);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The bytes of a string value: only its beginning until the whole value is loaded on demand.
+ * The format is detected, and the text decoded, only when the value is displayed.
+ */
+public class RedisBinaryValue {
+
+    private final byte[] bytes;
+    private final long length;
+    private RedisValueFormat format;
+
+    public RedisBinaryValue(byte[] bytes) {
+        this(bytes, bytes.length);
+    }
+
+    /**
+     * @param length the size of the whole value in bytes
+     */
+    public RedisBinaryValue(byte[] bytes, long length) {
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public boolean isComplete() {
+        return bytes.length >= length;
+    }
+
+    public RedisValueFormat getFormat() {
+        if (format == null) {
+            format = RedisValueFormat.detect(bytes);
+        }
+        return format;
+    }
+
+    @Override
+    public String toString() {
+        RedisValueFormat valueFormat = getFormat();
+        if (RedisValueFormat.TEXT.equals(valueFormat) || RedisValueFormat.JSON.equals(valueFormat)) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return String.format("(%s, %,d bytes)", valueFormat.label, length);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisBulkOptions {
+
+    public static final int DEFAULT_KEYS_PER_SECOND = 5000;
+    public static final int UNTHROTTLED = RedisMemoryAnalysisOptions.UNTHROTTLED;
+
+    private final RedisBulkOperation operation;
+    private final String filter;
+    private int ttlInSeconds;
+    private String oldPrefix = "";
+    private String newPrefix = "";
+    private int keysPerSecond = DEFAULT_KEYS_PER_SECOND;
+
+    public RedisBulkOptions(RedisBulkOperation operation, String filter) {
+        this.operation = operation;
+        this.filter = filter;
+    }
+
+    public RedisBulkOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the <code>SCAN … MATCH</code> pattern selecting the keys
+     */
+    public String getFilter() {
+        return filter;
+    }
+
+    public int getTtlInSeconds() {
+        return ttlInSeconds;
+    }
+
+    public void setTtlInSeconds(int ttlInSeconds) {
+        this.ttlInSeconds = ttlInSeconds;
+    }
+
+    public String getOldPrefix() {
+        return oldPrefix;
+    }
+
+    public String getNewPrefix() {
+        return newPrefix;
+    }
+
+    /**
+     * @throws IllegalArgumentException when renamed keys could start with the old prefix again, and thus be renamed twice
+     */
+    public void setPrefixes(String oldPrefix, String newPrefix) {
+        if (newPrefix.startsWith(oldPrefix)) {
+            throw new IllegalArgumentException(String.format("The new prefix should not start with '%s'", oldPrefix));
+        }
+        this.oldPrefix = oldPrefix;
+        this.newPrefix = newPrefix;
+    }
+
+    /**
+     * @return the key with its old prefix replaced by the new one, or <code>null</code> when the key does not start with the old prefix
+     */
+    public String getRenamedKey(String key) {
+        if (!key.startsWith(oldPrefix)) {
+            return null;
+        }
+        return newPrefix + key.substring(oldPrefix.length());
+    }
+
+    public int getKeysPerSecond() {
+        return keysPerSecond;
+    }
+
+    public void setKeysPerSecond(int keysPerSecond) {
+        this.keysPerSecond = keysPerSecond;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisBulkReport {
+
+    private long scannedKeys;
+    private long updatedKeys;
+
+    public void addScannedKeys(long keyCount) {
+        scannedKeys += keyCount;
+    }
+
+    public void addUpdatedKeys(long keyCount) {
+        updatedKeys += keyCount;
+    }
+
+    public long getScannedKeys() {
+        return scannedKeys;
+    }
+
+    /**
+     * @return the keys actually deleted, expired, persisted or renamed: keys gone in the meantime,
+     * keys without TTL to remove or keys whose new name is taken are not counted
+     */
+    public long getUpdatedKeys() {
+        return updatedKeys;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.*;
+
+/**
+ * Slow commands grouped by command name and key prefix.
+ */
+public class RedisCommandShape implements Comparable<RedisCommandShape> {
+
+    private final String command;
+    private final String keyPrefix;
+    private long count;
+    private long totalDurationInMicros;
+    private long maxDurationInMicros;
+
+    RedisCommandShape(String command, String keyPrefix) {
+        this.command = command;
+        this.keyPrefix = keyPrefix;
+    }
+
+    public static List<RedisCommandShape> aggregate(List<RedisSlowlogEntry> entries, String separator) {
+        Map<String, RedisCommandShape> shapesByName = new HashMap<>();
+        for (RedisSlowlogEntry entry : entries) {
+            String keyPrefix = entry.getKeyPrefix(separator);
+            String name = entry.getCommand() + " " + keyPrefix;
+            RedisCommandShape shape = shapesByName.get(name);
+            if (shape == null) {
+                shape = new RedisCommandShape(entry.getCommand(), keyPrefix);
+                shapesByName.put(name, shape);
+            }
+            shape.record(entry.getDurationInMicros());
+        }
+        List<RedisCommandShape> shapes = new ArrayList<>(shapesByName.values());
+        Collections.sort(shapes, Collections.reverseOrder());
+        return shapes;
+    }
+
+    private void record(long durationInMicros) {
+        count++;
+        totalDurationInMicros += durationInMicros;
+        maxDurationInMicros = Math.max(maxDurationInMicros, durationInMicros);
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalDurationInMicros() {
+        return totalDurationInMicros;
+    }
+
+    public long getMaxDurationInMicros() {
+        return maxDurationInMicros;
+    }
+
+    public long getAverageDurationInMicros() {
+        return count == 0 ? 0 : totalDurationInMicros / count;
+    }
+
+    @Override
+    public int compareTo(RedisCommandShape other) {
+        return Long.compare(totalDurationInMicros, other.totalDurationInMicros);
+    }
+}
@@ -13,15 +13,76 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.codinjutsu.tools.nosql.redis.model;
 
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
 import org.codinjutsu.tools.nosql.commons.model.Database;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 public class RedisDatabase extends Database {
 
+    private static final String DATABASE_FIELD_PREFIX = "db";
+    private static final String KEYS_PROPERTY = "keys=";
+    private static final String EXPIRES_PROPERTY = "expires=";
+
+    private long keyCount;
+    private long expiringKeyCount;
 
     public RedisDatabase(String name) {
         super(name);
     }
+
+    public RedisDatabase(String name, long keyCount, long expiringKeyCount) {
+        super(name);
+        this.keyCount = keyCount;
+        this.expiringKeyCount = expiringKeyCount;
+    }
+
+    /**
+     * @return the key count reported by <code>INFO keyspace</code> when the server was loaded
+     */
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    public long getExpiringKeyCount() {
+        return expiringKeyCount;
+    }
+
+    public boolean isEmpty() {
+        return keyCount == 0;
+    }
+
+    /**
+     * Parses the <code>db0:keys=12,expires=3,avg_ttl=0</code> lines of <code>INFO keyspace</code>, which only lists the databases holding keys.
+     *
+     * @return the databases by index
+     */
+    public static Map<Integer, RedisDatabase> parseKeyspaceInfo(String keyspaceInfo) {
+        Map<Integer, RedisDatabase> databases = new TreeMap<>();
+        for (String line : keyspaceInfo.split("\r?\n")) {
+            int separatorIndex = line.indexOf(':');
+            if (!line.startsWith(DATABASE_FIELD_PREFIX) || separatorIndex < 0) {
+                continue;
+            }
+            String databaseName = line.substring(DATABASE_FIELD_PREFIX.length(), separatorIndex);
+            if (!NumberUtils.isDigits(databaseName)) {
+                continue;
+            }
+            long keyCount = 0;
+            long expiringKeyCount = 0;
+            for (String property : StringUtils.split(line.substring(separatorIndex + 1).trim(), ',')) {
+                if (property.startsWith(KEYS_PROPERTY)) {
+                    keyCount = NumberUtils.toLong(property.substring(KEYS_PROPERTY.length()));
+                } else if (property.startsWith(EXPIRES_PROPERTY)) {
+                    expiringKeyCount = NumberUtils.toLong(property.substring(EXPIRES_PROPERTY.length()));
+                }
+            }
+            databases.put(Integer.valueOf(databaseName), new RedisDatabase(databaseName, keyCount, expiringKeyCount));
+        }
+        return databases;
+    }
 }
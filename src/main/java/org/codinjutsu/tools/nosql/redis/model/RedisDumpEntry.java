@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * A key serialized with <code>DUMP</code>, restorable on any Redis server of the same or a newer RDB version.
+ */
+public class RedisDumpEntry {
+
+    public static final long NO_EXPIRATION = 0;
+
+    private final byte[] key;
+    private final long ttlInMillis;
+    private final byte[] value;
+
+    public RedisDumpEntry(byte[] key, long ttlInMillis, byte[] value) {
+        this.key = key;
+        this.ttlInMillis = ttlInMillis;
+        this.value = value;
+    }
+
+    public byte[] getKey() {
+        return key;
+    }
+
+    /**
+     * @return the remaining time to live, or {@link #NO_EXPIRATION}, as expected by <code>RESTORE</code>
+     */
+    public long getTtlInMillis() {
+        return ttlInMillis;
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+}
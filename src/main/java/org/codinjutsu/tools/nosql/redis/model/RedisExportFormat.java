@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.io.File;
+
+public enum RedisExportFormat {
+
+    JSON_LINES("jsonl"),
+    CSV("csv");
+
+    public final String extension;
+
+    RedisExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return the format matching the extension of the file, or <code>null</code> when there is none
+     */
+    public static RedisExportFormat getFormat(File file) {
+        String extension = StringUtils.substringAfterLast(file.getName(), ".");
+        for (RedisExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
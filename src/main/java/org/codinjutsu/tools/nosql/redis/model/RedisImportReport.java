@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisImportReport {
+
+    private long importedRecords;
+    private long failedRecords;
+
+    public void addImportedRecords(long recordCount) {
+        importedRecords += recordCount;
+    }
+
+    public void addFailedRecord() {
+        failedRecords++;
+    }
+
+    /**
+     * @return the imported keys of a JSON Lines file, or the imported fields of a CSV file
+     */
+    public long getImportedRecords() {
+        return importedRecords;
+    }
+
+    /**
+     * @return the lines that could not be parsed or written, which are reported in the errors file
+     */
+    public long getFailedRecords() {
+        return failedRecords;
+    }
+}
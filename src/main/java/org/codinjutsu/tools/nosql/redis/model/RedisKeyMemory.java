@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisKeyMemory implements Comparable<RedisKeyMemory> {
+
+    public static final long UNKNOWN_MEMORY = -1;
+
+    private final String key;
+    private final String type;
+    private final String encoding;
+    private final long length;
+    private final long memory;
+    private final long ttl;
+
+    public RedisKeyMemory(String key, String type, String encoding, long length, long memory) {
+        this(key, type, encoding, length, memory, RedisRecord.NO_TTL);
+    }
+
+    public RedisKeyMemory(String key, String type, String encoding, long length, long memory, long ttl) {
+        this.key = key;
+        this.type = type;
+        this.encoding = encoding;
+        this.length = length;
+        this.memory = memory;
+        this.ttl = ttl;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return the bytes reported by <code>MEMORY USAGE</code>, or the serialized length when only <code>DEBUG OBJECT</code> is available
+     */
+    public long getMemory() {
+        return memory;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    @Override
+    public int compareTo(RedisKeyMemory other) {
+        int byMemory = Long.compare(memory, other.memory);
+        if (byMemory != 0) {
+            return byMemory;
+        }
+        int byLength = Long.compare(length, other.length);
+        if (byLength != 0) {
+            return byLength;
+        }
+        return other.key.compareTo(key);
+    }
+}
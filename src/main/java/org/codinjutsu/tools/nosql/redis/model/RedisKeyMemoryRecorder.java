@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * Receives the keys analyzed by {@link org.codinjutsu.tools.nosql.redis.logic.RedisClient#analyzeMemory}, from the scanning thread.
+ */
+public interface RedisKeyMemoryRecorder {
+
+    void record(RedisKeyMemory keyMemory);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The keys to export or copy: either every key matching a <code>SCAN</code> pattern, or a given list of keys.
+ */
+public class RedisKeySelection {
+
+    private final String filter;
+    private final List<String> keys;
+
+    private RedisKeySelection(String filter, List<String> keys) {
+        this.filter = filter;
+        this.keys = keys;
+    }
+
+    public static RedisKeySelection byFilter(String filter) {
+        return new RedisKeySelection(filter, null);
+    }
+
+    public static RedisKeySelection byKeys(List<String> keys) {
+        return new RedisKeySelection(null, Collections.unmodifiableList(keys));
+    }
+
+    public boolean isFiltered() {
+        return filter != null;
+    }
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        return isFiltered() ? String.format("keys matching %s", filter) : String.format("%d keys", keys.size());
+    }
+}
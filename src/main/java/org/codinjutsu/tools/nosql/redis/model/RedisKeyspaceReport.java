@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates analyzed keys into a tree of prefixes split by the separator. Only the prefixes are kept, never the keys.
+ * A prefix keeps at most {@link #MAX_CHILDREN} children and the report at most {@link #MAX_PREFIXES} prefixes: the other keys
+ * are folded into an {@link #OTHER_PREFIXES} child, so that a layout like <code>user:&lt;id&gt;:profile</code> does not create
+ * one prefix per key.
+ */
+public class RedisKeyspaceReport implements RedisKeyMemoryRecorder {
+
+    public static final String DEFAULT_SEPARATOR = ":";
+    public static final int DEFAULT_MAX_DEPTH = 3;
+    static final int MAX_CHILDREN = 100;
+    static final int MAX_PREFIXES = 10000;
+    static final String OTHER_PREFIXES = "(other)";
+
+    private final String separator;
+    private final int maxDepth;
+    private final RedisPrefixStatistics root = new RedisPrefixStatistics("", "");
+    private final Map<String, RedisPrefixStatistics> prefixesByPrefix = new HashMap<>();
+
+    public RedisKeyspaceReport(String separator, int maxDepth) {
+        this.separator = separator;
+        this.maxDepth = maxDepth;
+        prefixesByPrefix.put(root.getPrefix(), root);
+    }
+
+    @Override
+    public synchronized void record(RedisKeyMemory keyMemory) {
+        RedisTtlBucket ttlBucket = RedisTtlBucket.getTtlBucket(keyMemory.getTtl());
+        RedisPrefixStatistics prefixStatistics = root;
+        prefixStatistics.record(keyMemory, ttlBucket);
+        if (separator == null || separator.isEmpty()) {
+            return;
+        }
+
+        String key = keyMemory.getKey();
+        int segmentStart = 0;
+        int segmentEnd = key.indexOf(separator);
+        for (int depth = 0; depth < maxDepth && segmentEnd >= 0; depth++) {
+            String name = key.substring(segmentStart, segmentEnd);
+            RedisPrefixStatistics child = prefixStatistics.getChild(name);
+            if (child == null && (prefixStatistics.getChildCount() >= MAX_CHILDREN || prefixesByPrefix.size() > MAX_PREFIXES)) {
+                getOtherPrefixes(prefixStatistics).record(keyMemory, ttlBucket);
+                return;
+            }
+            if (child == null) {
+                child = addChild(prefixStatistics, name, key.substring(0, segmentEnd));
+            }
+            child.record(keyMemory, ttlBucket);
+            prefixStatistics = child;
+
+            segmentStart = segmentEnd + separator.length();
+            segmentEnd = key.indexOf(separator, segmentStart);
+        }
+    }
+
+    private RedisPrefixStatistics getOtherPrefixes(RedisPrefixStatistics parent) {
+        RedisPrefixStatistics otherPrefixes = parent.getOtherPrefixes();
+        if (otherPrefixes == null) {
+            otherPrefixes = new RedisPrefixStatistics(OTHER_PREFIXES, parent.getPrefix().isEmpty() ? OTHER_PREFIXES : parent.getPrefix() + separator + OTHER_PREFIXES);
+            parent.setOtherPrefixes(otherPrefixes);
+            prefixesByPrefix.put(otherPrefixes.getPrefix(), otherPrefixes);
+        }
+        return otherPrefixes;
+    }
+
+    private RedisPrefixStatistics addChild(RedisPrefixStatistics parent, String name, String prefix) {
+        RedisPrefixStatistics child = new RedisPrefixStatistics(name, prefix);
+        parent.addChild(child);
+        prefixesByPrefix.put(prefix, child);
+        return child;
+    }
+
+    /**
+     * @return a copy of the statistics of all keys, without the children
+     */
+    public synchronized RedisPrefixStatistics getRoot() {
+        return root.copy();
+    }
+
+    /**
+     * @return a copy of the statistics of the children of the prefix, without their own children, so that only the expanded
+     * prefixes are copied while the scanning thread keeps updating the report
+     */
+    public synchronized List<RedisPrefixStatistics> getChildren(String prefix) {
+        RedisPrefixStatistics prefixStatistics = prefixesByPrefix.get(prefix);
+        if (prefixStatistics == null) {
+            return Collections.emptyList();
+        }
+        List<RedisPrefixStatistics> children = new ArrayList<>(prefixStatistics.getChildCount());
+        for (RedisPrefixStatistics child : prefixStatistics.getChildren()) {
+            children.add(child.copy());
+        }
+        return children;
+    }
+
+    public synchronized long getAnalyzedKeys() {
+        return root.getKeyCount();
+    }
+
+    public synchronized long getPrefixCount() {
+        return prefixesByPrefix.size() - 1;
+    }
+
+    public String getSeparator() {
+        return separator;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * One row of <code>LATENCY LATEST</code>.
+ */
+public class RedisLatencyEvent {
+
+    private final String name;
+    private final long timestamp;
+    private final long latestInMillis;
+    private final long maxInMillis;
+
+    public RedisLatencyEvent(String name, long timestamp, long latestInMillis, long maxInMillis) {
+        this.name = name;
+        this.timestamp = timestamp;
+        this.latestInMillis = latestInMillis;
+        this.maxInMillis = maxInMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getLatestInMillis() {
+        return latestInMillis;
+    }
+
+    public long getMaxInMillis() {
+        return maxInMillis;
+    }
+}
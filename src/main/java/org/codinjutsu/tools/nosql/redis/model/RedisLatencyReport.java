@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.Collections;
+import java.util.List;
+
+public class RedisLatencyReport {
+
+    private final List<RedisSlowlogEntry> slowlogEntries;
+    private final List<RedisLatencyEvent> latencyEvents;
+
+    public RedisLatencyReport(List<RedisSlowlogEntry> slowlogEntries, List<RedisLatencyEvent> latencyEvents) {
+        this.slowlogEntries = slowlogEntries;
+        this.latencyEvents = latencyEvents;
+    }
+
+    /**
+     * @param slowlogEntries the slowlog of a server whose <code>LATENCY</code> command is disabled or renamed
+     */
+    public static RedisLatencyReport withoutLatencyMonitor(List<RedisSlowlogEntry> slowlogEntries) {
+        return new RedisLatencyReport(slowlogEntries, null);
+    }
+
+    public List<RedisSlowlogEntry> getSlowlogEntries() {
+        return slowlogEntries;
+    }
+
+    /**
+     * @return the latest spike of each event, empty when the latency monitor is disabled
+     */
+    public List<RedisLatencyEvent> getLatencyEvents() {
+        return latencyEvents == null ? Collections.<RedisLatencyEvent>emptyList() : latencyEvents;
+    }
+
+    public boolean isLatencyMonitorAvailable() {
+        return latencyEvents != null;
+    }
+}
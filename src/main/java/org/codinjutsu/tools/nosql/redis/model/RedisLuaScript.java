@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Lua script and the SHA1 digest returned by <code>SCRIPT LOAD</code>, so that the script body is sent once
+ * and every following run only sends <code>EVALSHA</code>.
+ */
+public class RedisLuaScript {
+
+    private final String source;
+    private String sha;
+
+    public RedisLuaScript(String source) {
+        this.source = source;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return the digest of the loaded script, or null when it was not loaded yet
+     */
+    public String getSha() {
+        return sha;
+    }
+
+    public void setSha(String sha) {
+        this.sha = sha;
+    }
+
+    /**
+     * Splits a comma separated list of keys or arguments, ignoring blank items.
+     */
+    public static List<String> parseArguments(String arguments) {
+        List<String> parsedArguments = new ArrayList<>();
+        if (StringUtils.isBlank(arguments)) {
+            return parsedArguments;
+        }
+        for (String argument : arguments.split(",")) {
+            if (StringUtils.isNotBlank(argument)) {
+                parsedArguments.add(argument.trim());
+            }
+        }
+        return parsedArguments;
+    }
+}
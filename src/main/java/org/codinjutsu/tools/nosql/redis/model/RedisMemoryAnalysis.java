@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.*;
+
+/**
+ * Aggregates analyzed keys per type and keeps, for each type, only the <code>topKeyCount</code> biggest ones
+ * in a min-heap so that memory stays bounded whatever the size of the keyspace.
+ */
+public class RedisMemoryAnalysis implements RedisKeyMemoryRecorder {
+
+    private final int topKeyCount;
+    private final Map<String, TypeMemory> memoryByType = new TreeMap<>();
+
+    private long analyzedKeys;
+
+    public RedisMemoryAnalysis(int topKeyCount) {
+        this.topKeyCount = topKeyCount;
+    }
+
+    @Override
+    public synchronized void record(RedisKeyMemory keyMemory) {
+        analyzedKeys++;
+
+        TypeMemory typeMemory = memoryByType.get(keyMemory.getType());
+        if (typeMemory == null) {
+            typeMemory = new TypeMemory(keyMemory.getType());
+            memoryByType.put(keyMemory.getType(), typeMemory);
+        }
+        typeMemory.record(keyMemory, topKeyCount);
+    }
+
+    public synchronized List<RedisKeyMemory> getBiggestKeys() {
+        List<RedisKeyMemory> biggestKeys = new ArrayList<>();
+        for (TypeMemory typeMemory : memoryByType.values()) {
+            biggestKeys.addAll(typeMemory.biggestKeys);
+        }
+        Collections.sort(biggestKeys, Collections.reverseOrder());
+        return biggestKeys;
+    }
+
+    public synchronized List<TypeStatistics> getTypeStatistics() {
+        List<TypeStatistics> typeStatistics = new ArrayList<>(memoryByType.size());
+        for (TypeMemory typeMemory : memoryByType.values()) {
+            typeStatistics.add(new TypeStatistics(typeMemory.type, typeMemory.keyCount, typeMemory.totalMemory, typeMemory.totalLength));
+        }
+        return typeStatistics;
+    }
+
+    public synchronized long getAnalyzedKeys() {
+        return analyzedKeys;
+    }
+
+    private static class TypeMemory {
+        private final String type;
+        private final PriorityQueue<RedisKeyMemory> biggestKeys = new PriorityQueue<>();
+        private final Set<String> biggestKeyNames = new HashSet<>();
+        private long keyCount;
+        private long totalMemory;
+        private long totalLength;
+
+        private TypeMemory(String type) {
+            this.type = type;
+        }
+
+        private void record(RedisKeyMemory keyMemory, int topKeyCount) {
+            keyCount++;
+            totalMemory += Math.max(0, keyMemory.getMemory());
+            totalLength += keyMemory.getLength();
+
+            if (biggestKeyNames.contains(keyMemory.getKey())) {
+                return;
+            }
+            if (biggestKeys.size() < topKeyCount) {
+                biggestKeys.add(keyMemory);
+                biggestKeyNames.add(keyMemory.getKey());
+            } else if (keyMemory.compareTo(biggestKeys.peek()) > 0) {
+                biggestKeyNames.remove(biggestKeys.poll().getKey());
+                biggestKeys.add(keyMemory);
+                biggestKeyNames.add(keyMemory.getKey());
+            }
+        }
+    }
+
+    public static class TypeStatistics {
+        private final String type;
+        private final long keyCount;
+        private final long totalMemory;
+        private final long totalLength;
+
+        TypeStatistics(String type, long keyCount, long totalMemory, long totalLength) {
+            this.type = type;
+            this.keyCount = keyCount;
+            this.totalMemory = totalMemory;
+            this.totalLength = totalLength;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public long getKeyCount() {
+            return keyCount;
+        }
+
+        public long getTotalMemory() {
+            return totalMemory;
+        }
+
+        public long getAverageMemory() {
+            return keyCount == 0 ? 0 : totalMemory / keyCount;
+        }
+
+        public long getTotalLength() {
+            return totalLength;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisMemoryAnalysisOptions {
+
+    public static final int DEFAULT_TOP_KEY_COUNT = 20;
+    public static final int DEFAULT_SAMPLE_SIZE = 10000;
+    public static final int DEFAULT_KEYS_PER_SECOND = 5000;
+    public static final int UNTHROTTLED = 0;
+
+    private boolean sampling;
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+    private int topKeyCount = DEFAULT_TOP_KEY_COUNT;
+    private int keysPerSecond = DEFAULT_KEYS_PER_SECOND;
+
+    /**
+     * @return <code>true</code> to analyze keys picked with <code>RANDOMKEY</code> instead of scanning the whole database
+     */
+    public boolean isSampling() {
+        return sampling;
+    }
+
+    public void setSampling(boolean sampling) {
+        this.sampling = sampling;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    public int getTopKeyCount() {
+        return topKeyCount;
+    }
+
+    public void setTopKeyCount(int topKeyCount) {
+        this.topKeyCount = topKeyCount;
+    }
+
+    public int getKeysPerSecond() {
+        return keysPerSecond;
+    }
+
+    public void setKeysPerSecond(int keysPerSecond) {
+        this.keysPerSecond = keysPerSecond;
+    }
+}
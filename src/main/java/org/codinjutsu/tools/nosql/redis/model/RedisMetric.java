@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public enum RedisMetric {
+
+    OPS_PER_SECOND("Ops/s"),
+    HIT_RATIO("Keyspace hit ratio"),
+    USED_MEMORY("Used memory"),
+    FRAGMENTATION_RATIO("Fragmentation ratio"),
+    CONNECTED_CLIENTS("Connected clients"),
+    BLOCKED_CLIENTS("Blocked clients"),
+    EVICTED_KEYS_PER_SECOND("Evicted keys/s"),
+    EXPIRED_KEYS_PER_SECOND("Expired keys/s"),
+    REPLICATION_LAG("Replication lag (bytes)");
+
+    public final String label;
+
+    RedisMetric(String label) {
+        this.label = label;
+    }
+}
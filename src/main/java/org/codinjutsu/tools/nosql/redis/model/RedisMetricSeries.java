@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * Fixed-size ring buffer of primitive doubles: once full, each new value overwrites the oldest one.
+ */
+public class RedisMetricSeries {
+
+    private final double[] values;
+    private int start;
+    private int size;
+
+    public RedisMetricSeries(int capacity) {
+        this.values = new double[capacity];
+    }
+
+    public void add(double value) {
+        if (size < values.length) {
+            values[(start + size) % values.length] = value;
+            size++;
+        } else {
+            values[start] = value;
+            start = (start + 1) % values.length;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index 0 for the oldest value
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return values[(start + index) % values.length];
+    }
+
+    public double getLast() {
+        return size == 0 ? 0 : get(size - 1);
+    }
+
+    public double[] toArray() {
+        double[] copy = new double[size];
+        for (int index = 0; index < size; index++) {
+            copy[index] = get(index);
+        }
+        return copy;
+    }
+}
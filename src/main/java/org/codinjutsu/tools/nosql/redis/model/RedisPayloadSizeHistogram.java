@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * Counts payloads by power-of-two size buckets: up to 16 bytes, up to 32 bytes, ... and one bucket for 1 MB and above.
+ */
+public class RedisPayloadSizeHistogram {
+
+    static final int FIRST_BUCKET_MAX_SIZE = 16;
+    static final int BUCKET_COUNT = 18;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    public void record(int size) {
+        counts[getBucket(size)]++;
+    }
+
+    public void add(RedisPayloadSizeHistogram histogram) {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] += histogram.counts[bucket];
+        }
+    }
+
+    public int getBucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * @return the upper bound of the bucket in bytes (inclusive), or <code>-1</code> for the last bucket
+     */
+    public static long getBucketMaxSize(int bucket) {
+        if (bucket == BUCKET_COUNT - 1) {
+            return -1;
+        }
+        return (long) FIRST_BUCKET_MAX_SIZE << bucket;
+    }
+
+    static int getBucket(int size) {
+        int bucket = 0;
+        long maxSize = FIRST_BUCKET_MAX_SIZE;
+        while (size > maxSize && bucket < BUCKET_COUNT - 1) {
+            maxSize <<= 1;
+            bucket++;
+        }
+        return bucket;
+    }
+
+    public RedisPayloadSizeHistogram copy() {
+        RedisPayloadSizeHistogram histogram = new RedisPayloadSizeHistogram();
+        histogram.add(this);
+        return histogram;
+    }
+}
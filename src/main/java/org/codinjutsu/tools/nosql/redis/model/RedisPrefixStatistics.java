@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.*;
+
+public class RedisPrefixStatistics {
+
+    private final String name;
+    private final String prefix;
+    private final Map<String, Long> keyCountByType = new TreeMap<>();
+    private final long[] keyCountByTtl = new long[RedisTtlBucket.values().length];
+    private final Map<String, RedisPrefixStatistics> children = new HashMap<>();
+    private RedisPrefixStatistics otherPrefixes;
+    private int childCount;
+    private long keyCount;
+    private long memory;
+
+    RedisPrefixStatistics(String name, String prefix) {
+        this.name = name;
+        this.prefix = prefix;
+    }
+
+    void record(RedisKeyMemory keyMemory, RedisTtlBucket ttlBucket) {
+        keyCount++;
+        memory += Math.max(0, keyMemory.getMemory());
+        Long typeCount = keyCountByType.get(keyMemory.getType());
+        keyCountByType.put(keyMemory.getType(), typeCount == null ? 1 : typeCount + 1);
+        keyCountByTtl[ttlBucket.ordinal()]++;
+    }
+
+    RedisPrefixStatistics getChild(String childName) {
+        return children.get(childName);
+    }
+
+    void addChild(RedisPrefixStatistics child) {
+        children.put(child.name, child);
+        childCount++;
+    }
+
+    RedisPrefixStatistics getOtherPrefixes() {
+        return otherPrefixes;
+    }
+
+    void setOtherPrefixes(RedisPrefixStatistics otherPrefixes) {
+        this.otherPrefixes = otherPrefixes;
+        childCount++;
+    }
+
+    /**
+     * @return a copy of the statistics which only keeps the number of children
+     */
+    RedisPrefixStatistics copy() {
+        RedisPrefixStatistics copy = new RedisPrefixStatistics(name, prefix);
+        copy.keyCount = keyCount;
+        copy.memory = memory;
+        copy.childCount = childCount;
+        copy.keyCountByType.putAll(keyCountByType);
+        System.arraycopy(keyCountByTtl, 0, copy.keyCountByTtl, 0, keyCountByTtl.length);
+        return copy;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    public long getMemory() {
+        return memory;
+    }
+
+    public Map<String, Long> getKeyCountByType() {
+        return Collections.unmodifiableMap(keyCountByType);
+    }
+
+    public long getKeyCount(RedisTtlBucket ttlBucket) {
+        return keyCountByTtl[ttlBucket.ordinal()];
+    }
+
+    /**
+     * @return the number of children, including the other prefixes bucket
+     */
+    public int getChildCount() {
+        return childCount;
+    }
+
+    Collection<RedisPrefixStatistics> getChildren() {
+        if (otherPrefixes == null) {
+            return children.values();
+        }
+        List<RedisPrefixStatistics> allChildren = new ArrayList<>(children.values());
+        allChildren.add(otherPrefixes);
+        return allChildren;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisPubSubMessage {
+
+    private final long timestamp;
+    private final String pattern;
+    private final String channel;
+    private final String payload;
+    private final int size;
+
+    public RedisPubSubMessage(long timestamp, String pattern, String channel, String payload, int size) {
+        this.timestamp = timestamp;
+        this.pattern = pattern;
+        this.channel = channel;
+        this.payload = payload;
+        this.size = size;
+    }
+
+    /**
+     * @return the time in milliseconds when the message was received
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the pattern which matched the channel, or <code>null</code> when the channel itself was subscribed
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * @return the beginning of the payload, decoded as UTF-8
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return the size of the whole payload in bytes
+     */
+    public int getSize() {
+        return size;
+    }
+}
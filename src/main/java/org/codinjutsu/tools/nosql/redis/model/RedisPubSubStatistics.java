@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.*;
+
+/**
+ * Counts the messages and the bytes of every channel, and keeps the last <code>recentWindowSize</code> messages.
+ */
+public class RedisPubSubStatistics {
+
+    public static final int DEFAULT_RECENT_WINDOW_SIZE = 5000;
+    static final int MAX_CHANNELS = 1000;
+    static final String OTHER_CHANNELS = "(other)";
+
+    private final int recentWindowSize;
+    private final boolean payloadSizeHistogramEnabled;
+    private final Map<String, ChannelCounters> countersByChannel = new HashMap<>();
+    private final ArrayDeque<RedisPubSubMessage> recentMessages;
+
+    private long receivedMessages;
+    private long receivedBytes;
+
+    public RedisPubSubStatistics(boolean payloadSizeHistogramEnabled) {
+        this(DEFAULT_RECENT_WINDOW_SIZE, payloadSizeHistogramEnabled);
+    }
+
+    public RedisPubSubStatistics(int recentWindowSize, boolean payloadSizeHistogramEnabled) {
+        this.recentWindowSize = recentWindowSize;
+        this.payloadSizeHistogramEnabled = payloadSizeHistogramEnabled;
+        this.recentMessages = new ArrayDeque<>(recentWindowSize);
+    }
+
+    public synchronized void record(RedisPubSubMessage message) {
+        long second = message.getTimestamp() / 1000;
+        receivedMessages++;
+        receivedBytes += message.getSize();
+
+        ChannelCounters channelCounters = getChannelCounters(message.getChannel());
+        channelCounters.messageRate.record(second, 1);
+        channelCounters.byteRate.record(second, message.getSize());
+        if (channelCounters.payloadSizeHistogram != null) {
+            channelCounters.payloadSizeHistogram.record(message.getSize());
+        }
+
+        if (recentMessages.size() == recentWindowSize) {
+            recentMessages.removeFirst();
+        }
+        recentMessages.addLast(message);
+    }
+
+    private ChannelCounters getChannelCounters(String channel) {
+        if (!countersByChannel.containsKey(channel) && countersByChannel.size() >= MAX_CHANNELS) {
+            channel = OTHER_CHANNELS;
+        }
+        ChannelCounters channelCounters = countersByChannel.get(channel);
+        if (channelCounters == null) {
+            channelCounters = new ChannelCounters(channel, payloadSizeHistogramEnabled);
+            countersByChannel.put(channel, channelCounters);
+        }
+        return channelCounters;
+    }
+
+    public synchronized List<ChannelRate> getChannelRates(long second) {
+        List<ChannelRate> channelRates = new ArrayList<>(countersByChannel.size());
+        for (ChannelCounters channelCounters : countersByChannel.values()) {
+            channelRates.add(new ChannelRate(channelCounters.channel,
+                    channelCounters.messageRate.getRatePerSecond(second),
+                    channelCounters.byteRate.getRatePerSecond(second),
+                    channelCounters.messageRate.getTotal(),
+                    channelCounters.byteRate.getTotal()));
+        }
+        Collections.sort(channelRates);
+        return channelRates;
+    }
+
+    /**
+     * @param channel the channel, or <code>null</code> for all of them
+     * @return <code>null</code> when the histogram is disabled
+     */
+    public synchronized RedisPayloadSizeHistogram getPayloadSizeHistogram(String channel) {
+        if (!payloadSizeHistogramEnabled) {
+            return null;
+        }
+        RedisPayloadSizeHistogram histogram = new RedisPayloadSizeHistogram();
+        for (ChannelCounters channelCounters : countersByChannel.values()) {
+            if (channel == null || channel.equals(channelCounters.channel)) {
+                histogram.add(channelCounters.payloadSizeHistogram);
+            }
+        }
+        return histogram;
+    }
+
+    public boolean isPayloadSizeHistogramEnabled() {
+        return payloadSizeHistogramEnabled;
+    }
+
+    public synchronized List<RedisPubSubMessage> getRecentMessages() {
+        List<RedisPubSubMessage> messages = new ArrayList<>(recentMessages);
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    public synchronized long getReceivedMessages() {
+        return receivedMessages;
+    }
+
+    public synchronized long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    private static class ChannelCounters {
+        private final String channel;
+        private final RedisRateCounter messageRate;
+        private final RedisRateCounter byteRate;
+        private final RedisPayloadSizeHistogram payloadSizeHistogram;
+
+        ChannelCounters(String channel, boolean payloadSizeHistogramEnabled) {
+            this.channel = channel;
+            this.messageRate = new RedisRateCounter(channel);
+            this.byteRate = new RedisRateCounter(channel);
+            this.payloadSizeHistogram = payloadSizeHistogramEnabled ? new RedisPayloadSizeHistogram() : null;
+        }
+    }
+
+    public static class ChannelRate implements Comparable<ChannelRate> {
+        private final String channel;
+        private final double messagesPerSecond;
+        private final double bytesPerSecond;
+        private final long totalMessages;
+        private final long totalBytes;
+
+        ChannelRate(String channel, double messagesPerSecond, double bytesPerSecond, long totalMessages, long totalBytes) {
+            this.channel = channel;
+            this.messagesPerSecond = messagesPerSecond;
+            this.bytesPerSecond = bytesPerSecond;
+            this.totalMessages = totalMessages;
+            this.totalBytes = totalBytes;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public double getMessagesPerSecond() {
+            return messagesPerSecond;
+        }
+
+        public double getBytesPerSecond() {
+            return bytesPerSecond;
+        }
+
+        public long getTotalMessages() {
+            return totalMessages;
+        }
+
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        @Override
+        public int compareTo(ChannelRate other) {
+            int byRate = Double.compare(other.messagesPerSecond, messagesPerSecond);
+            if (byRate != 0) {
+                return byRate;
+            }
+            int byTotal = Long.compare(other.totalMessages, totalMessages);
+            if (byTotal != 0) {
+                return byTotal;
+            }
+            return channel.compareTo(other.channel);
+        }
+    }
+}
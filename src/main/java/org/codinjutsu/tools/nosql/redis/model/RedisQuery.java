@@ -16,15 +16,93 @@
 
 package org.codinjutsu.tools.nosql.redis.model;
 
+import java.util.Collections;
+import java.util.List;
+
 public class RedisQuery {
 
-    private String filter;
+    public static final int DEFAULT_KEY_LIMIT = 10000;
+    public static final String FIRST_CURSOR = "0";
+    public static final long NO_SIZE_LIMIT = -1;
+
+    private final String filter;
+    private final int keyLimit;
+    private final String cursor;
+    private List<String> pendingKeys = Collections.emptyList();
+    private RedisKeyType keyType;
+    private long minSize = NO_SIZE_LIMIT;
+    private long maxSize = NO_SIZE_LIMIT;
 
     public RedisQuery(String filter) {
+        this(filter, DEFAULT_KEY_LIMIT, FIRST_CURSOR);
+    }
+
+    public RedisQuery(String filter, int keyLimit, String cursor) {
         this.filter = filter;
+        this.keyLimit = keyLimit;
+        this.cursor = cursor;
     }
 
     public String getFilter() {
         return filter;
     }
+
+    public int getKeyLimit() {
+        return keyLimit;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * @return the keys left over by the previous scan, loaded before scanning on from the cursor
+     */
+    public List<String> getPendingKeys() {
+        return pendingKeys;
+    }
+
+    /**
+     * @return the type of the keys to load, or <code>null</code> for all types
+     */
+    public RedisKeyType getKeyType() {
+        return keyType;
+    }
+
+    public void setKeyType(RedisKeyType keyType) {
+        this.keyType = keyType;
+    }
+
+    public long getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(long minSize) {
+        this.minSize = minSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean acceptSize(long size) {
+        return (minSize == NO_SIZE_LIMIT || size >= minSize) && (maxSize == NO_SIZE_LIMIT || size <= maxSize);
+    }
+
+    public RedisQuery withCursor(String cursor) {
+        return withCursor(cursor, Collections.<String>emptyList());
+    }
+
+    public RedisQuery withCursor(String cursor, List<String> pendingKeys) {
+        RedisQuery query = new RedisQuery(filter, keyLimit, cursor);
+        query.pendingKeys = pendingKeys;
+        query.setKeyType(keyType);
+        query.setMinSize(minSize);
+        query.setMaxSize(maxSize);
+        return query;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * Per-second counters of the last {@link #WINDOW_SIZE} seconds.
+ */
+public class RedisRateCounter {
+
+    public static final int WINDOW_SIZE = 10;
+
+    private final String name;
+
+    private final long[] bucketSeconds = new long[WINDOW_SIZE];
+    private final long[] amounts = new long[WINDOW_SIZE];
+
+    private long total;
+
+    public RedisRateCounter(String name) {
+        this.name = name;
+    }
+
+    public void record(long second, long amount) {
+        int index = (int) (second % WINDOW_SIZE);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            amounts[index] = 0;
+        }
+        amounts[index] += amount;
+        total += amount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRatePerSecond(long currentSecond) {
+        long sum = 0;
+        for (int index = 0; index < WINDOW_SIZE; index++) {
+            long age = currentSecond - bucketSeconds[index];
+            if (age >= 0 && age < WINDOW_SIZE) {
+                sum += amounts[index];
+            }
+        }
+        return (double) sum / WINDOW_SIZE;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
@@ -16,15 +16,39 @@
 
 package org.codinjutsu.tools.nosql.redis.model;
 
+import redis.clients.jedis.StreamEntry;
+import redis.clients.jedis.Tuple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public class RedisRecord<T> {
+    public static final long NO_TTL = -1;
+
     private final RedisKeyType keyType;
     private final String keyName;
     private final T keyValue;
+    private final long length;
+    private final long ttl;
+    private String valueCursor;
 
     public RedisRecord(RedisKeyType keyType, String keyName, T keyValue) {
+        this(keyType, keyName, keyValue, sizeOf(keyValue), NO_TTL, null);
+    }
+
+    /**
+     * @param valueCursor where to resume loading the members from, or <code>null</code> when <code>keyValue</code> holds all of them
+     */
+    public RedisRecord(RedisKeyType keyType, String keyName, T keyValue, long length, long ttl, String valueCursor) {
         this.keyType = keyType;
         this.keyName = keyName;
         this.keyValue = keyValue;
+        this.length = length;
+        this.ttl = ttl;
+        this.valueCursor = valueCursor;
     }
 
     public RedisKeyType getKeyType() {
@@ -38,4 +62,63 @@ public class RedisRecord<T> {
     public T getValue() {
         return keyValue;
     }
+
+    public long getLength() {
+        return length;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public String getValueCursor() {
+        return valueCursor;
+    }
+
+    public boolean isValueComplete() {
+        return valueCursor == null;
+    }
+
+    public int getLoadedCount() {
+        return (int) sizeOf(keyValue);
+    }
+
+    /**
+     * @return the members of the page that were not loaded yet, <code>SSCAN</code> and <code>HSCAN</code> may return some twice
+     */
+    public List<Object> appendValues(RedisValuePage valuePage) {
+        List<Object> appendedValues = new ArrayList<>(valuePage.getValues().size());
+        for (Object value : valuePage.getValues()) {
+            boolean appended = true;
+            if (RedisKeyType.LIST.equals(keyType)) {
+                ((List<String>) keyValue).add((String) value);
+            } else if (RedisKeyType.STREAM.equals(keyType)) {
+                ((List<StreamEntry>) keyValue).add((StreamEntry) value);
+            } else if (RedisKeyType.SET.equals(keyType)) {
+                appended = ((Set<String>) keyValue).add((String) value);
+            } else if (RedisKeyType.ZSET.equals(keyType)) {
+                appended = ((Set<Tuple>) keyValue).add((Tuple) value);
+            } else if (RedisKeyType.HASH.equals(keyType)) {
+                Map.Entry<String, String> entry = (Map.Entry<String, String>) value;
+                appended = !((Map<String, String>) keyValue).containsKey(entry.getKey());
+                ((Map<String, String>) keyValue).put(entry.getKey(), entry.getValue());
+            }
+            if (appended) {
+                appendedValues.add(value);
+            }
+        }
+        valueCursor = valuePage.getNextCursor();
+        return appendedValues;
+    }
+
+    private static long sizeOf(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection) value).size();
+        } else if (value instanceof Map) {
+            return ((Map) value).size();
+        } else if (value instanceof String) {
+            return ((String) value).length();
+        }
+        return 0;
+    }
 }
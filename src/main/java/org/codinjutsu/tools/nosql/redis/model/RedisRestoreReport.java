@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * Counts the keys restored by a dump import or a copy, the existing keys left untouched and the keys the target refused.
+ */
+public class RedisRestoreReport {
+
+    private long restoredKeys;
+    private long skippedKeys;
+    private long failedKeys;
+    private String firstError;
+
+    public void addRestoredKeys(long keyCount) {
+        restoredKeys += keyCount;
+    }
+
+    public void addSkippedKey() {
+        skippedKeys++;
+    }
+
+    public void addFailedKey(String error) {
+        if (firstError == null) {
+            firstError = error;
+        }
+        failedKeys++;
+    }
+
+    public long getRestoredKeys() {
+        return restoredKeys;
+    }
+
+    /**
+     * @return the keys that already existed on the target and were not replaced
+     */
+    public long getSkippedKeys() {
+        return skippedKeys;
+    }
+
+    /**
+     * @return the keys that could not be restored, for instance a dump payload written by a newer Redis version
+     */
+    public long getFailedKeys() {
+        return failedKeys;
+    }
+
+    public String getFirstError() {
+        return firstError;
+    }
+}
@@ -16,8 +16,13 @@
 
 package org.codinjutsu.tools.nosql.redis.model;
 
+import redis.clients.jedis.StreamEntry;
 import redis.clients.jedis.Tuple;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +32,9 @@ public class RedisResult {
 
     private final List<RedisRecord> redisRecords = new LinkedList<RedisRecord>();
 
+    private String nextCursor = RedisQuery.FIRST_CURSOR;
+    private List<String> pendingKeys = Collections.emptyList();
+
 
     public void addString(String key, String value) {
         redisRecords.add(new RedisRecord<String>(RedisKeyType.STRING, key, value));
@@ -48,8 +56,59 @@ public class RedisResult {
         redisRecords.add(new RedisRecord<Set<Tuple>>(RedisKeyType.ZSET, key, values));
     }
 
+    /**
+     * Adds a key whose members are not read yet: they are appended page after page with {@link RedisRecord#appendValues(RedisValuePage)}.
+     *
+     * @param stringValue the first bytes of a string value
+     */
+    public void addKey(String key, RedisKeyType keyType, long length, long ttl, byte[] stringValue) {
+        String valueCursor = length == 0 ? null : RedisQuery.FIRST_CURSOR;
+        if (RedisKeyType.LIST.equals(keyType)) {
+            redisRecords.add(new RedisRecord<List>(keyType, key, new ArrayList<String>(), length, ttl, valueCursor));
+        } else if (RedisKeyType.SET.equals(keyType)) {
+            redisRecords.add(new RedisRecord<Set>(keyType, key, new LinkedHashSet<String>(), length, ttl, valueCursor));
+        } else if (RedisKeyType.HASH.equals(keyType)) {
+            redisRecords.add(new RedisRecord<Map>(keyType, key, new LinkedHashMap<String, String>(), length, ttl, valueCursor));
+        } else if (RedisKeyType.ZSET.equals(keyType)) {
+            redisRecords.add(new RedisRecord<Set<Tuple>>(keyType, key, new LinkedHashSet<Tuple>(), length, ttl, valueCursor));
+        } else if (RedisKeyType.STRING.equals(keyType)) {
+            redisRecords.add(new RedisRecord<RedisBinaryValue>(keyType, key, new RedisBinaryValue(stringValue == null ? new byte[0] : stringValue, length), length, ttl, null));
+        } else if (RedisKeyType.STREAM.equals(keyType)) {
+            redisRecords.add(new RedisRecord<List>(keyType, key, new ArrayList<StreamEntry>(), length, ttl, valueCursor));
+        }
+    }
+
+    public void addAll(RedisResult redisResult) {
+        redisRecords.addAll(redisResult.getResults());
+        nextCursor = redisResult.getNextCursor();
+        pendingKeys = redisResult.getPendingKeys();
+    }
+
     public List<RedisRecord> getResults() {
         return redisRecords;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return the keys of the last <code>SCAN</code> page that were not loaded because the key limit was reached
+     */
+    public List<String> getPendingKeys() {
+        return pendingKeys;
+    }
+
+    public void setPendingKeys(List<String> pendingKeys) {
+        this.pendingKeys = pendingKeys;
+    }
+
+    public boolean isScanComplete() {
+        return RedisQuery.FIRST_CURSOR.equals(nextCursor) && pendingKeys.isEmpty();
+    }
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The replies of a script run: a single reply, or one reply per <code>SCAN</code> page in batch mode.
+ */
+public class RedisScriptResult {
+
+    private final List<Object> replies = new ArrayList<>();
+    private long processedKeys;
+    private long durationInMillis;
+
+    public void addReply(Object reply, int keyCount) {
+        replies.add(reply);
+        processedKeys += keyCount;
+    }
+
+    public List<Object> getReplies() {
+        return replies;
+    }
+
+    public int getScriptCalls() {
+        return replies.size();
+    }
+
+    public long getProcessedKeys() {
+        return processedKeys;
+    }
+
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
+    public void setDurationInMillis(long durationInMillis) {
+        this.durationInMillis = durationInMillis;
+    }
+}
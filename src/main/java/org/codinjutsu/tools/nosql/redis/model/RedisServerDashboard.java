@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keeps the last <code>capacity</code> values of each {@link RedisMetric}. Rates are derived from the counters
+ * of two consecutive <code>INFO</code> replies, so nothing is recorded until the second one.
+ */
+public class RedisServerDashboard {
+
+    public static final int DEFAULT_CAPACITY = 120;
+
+    private final Map<RedisMetric, RedisMetricSeries> seriesByMetric = new EnumMap<>(RedisMetric.class);
+    private RedisServerMetrics lastMetrics;
+
+    public RedisServerDashboard(int capacity) {
+        for (RedisMetric metric : RedisMetric.values()) {
+            seriesByMetric.put(metric, new RedisMetricSeries(capacity));
+        }
+    }
+
+    public synchronized void record(RedisServerMetrics metrics) {
+        RedisServerMetrics previousMetrics = lastMetrics;
+        lastMetrics = metrics;
+        if (previousMetrics == null) {
+            return;
+        }
+        double elapsedSeconds = (metrics.getTimestamp() - previousMetrics.getTimestamp()) / 1000d;
+        if (elapsedSeconds <= 0) {
+            return;
+        }
+
+        add(RedisMetric.OPS_PER_SECOND, perSecond(metrics.getTotalCommands(), previousMetrics.getTotalCommands(), elapsedSeconds));
+        add(RedisMetric.HIT_RATIO, getHitRatio(previousMetrics, metrics));
+        add(RedisMetric.USED_MEMORY, metrics.getUsedMemory());
+        add(RedisMetric.FRAGMENTATION_RATIO, metrics.getFragmentationRatio());
+        add(RedisMetric.CONNECTED_CLIENTS, metrics.getConnectedClients());
+        add(RedisMetric.BLOCKED_CLIENTS, metrics.getBlockedClients());
+        add(RedisMetric.EVICTED_KEYS_PER_SECOND, perSecond(metrics.getEvictedKeys(), previousMetrics.getEvictedKeys(), elapsedSeconds));
+        add(RedisMetric.EXPIRED_KEYS_PER_SECOND, perSecond(metrics.getExpiredKeys(), previousMetrics.getExpiredKeys(), elapsedSeconds));
+        add(RedisMetric.REPLICATION_LAG, metrics.getReplicationLag());
+    }
+
+    private void add(RedisMetric metric, double value) {
+        seriesByMetric.get(metric).add(value);
+    }
+
+    private static double perSecond(long counter, long previousCounter, double elapsedSeconds) {
+        return Math.max(0, counter - previousCounter) / elapsedSeconds;
+    }
+
+    /**
+     * Hit ratio over the last interval, or since the server start when no key was looked up during the interval.
+     */
+    private static double getHitRatio(RedisServerMetrics previousMetrics, RedisServerMetrics metrics) {
+        long hits = metrics.getKeyspaceHits() - previousMetrics.getKeyspaceHits();
+        long misses = metrics.getKeyspaceMisses() - previousMetrics.getKeyspaceMisses();
+        if (hits < 0 || misses < 0 || hits + misses == 0) {
+            hits = metrics.getKeyspaceHits();
+            misses = metrics.getKeyspaceMisses();
+        }
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public synchronized double[] getSeries(RedisMetric metric) {
+        return seriesByMetric.get(metric).toArray();
+    }
+
+    public synchronized double getLastValue(RedisMetric metric) {
+        return seriesByMetric.get(metric).getLast();
+    }
+
+    public synchronized int getSampleCount() {
+        return seriesByMetric.get(RedisMetric.OPS_PER_SECOND).size();
+    }
+
+    /**
+     * @return the <code>maxmemory</code> setting of the last reply, 0 when unlimited
+     */
+    public synchronized long getMaxMemory() {
+        return lastMetrics == null ? 0 : lastMetrics.getMaxMemory();
+    }
+}
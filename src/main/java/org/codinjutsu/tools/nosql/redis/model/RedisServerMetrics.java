@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
+
+import java.util.Map;
+
+/**
+ * Counters and gauges read from one <code>INFO</code> reply.
+ */
+public class RedisServerMetrics {
+
+    private static final String SLAVE_FIELD_PREFIX = "slave";
+    private static final String SLAVE_OFFSET_PROPERTY = "offset=";
+
+    private final long timestamp;
+    private final long totalCommands;
+    private final long keyspaceHits;
+    private final long keyspaceMisses;
+    private final long usedMemory;
+    private final long maxMemory;
+    private final double fragmentationRatio;
+    private final long connectedClients;
+    private final long blockedClients;
+    private final long evictedKeys;
+    private final long expiredKeys;
+    private final long replicationLag;
+
+    public RedisServerMetrics(long timestamp, long totalCommands, long keyspaceHits, long keyspaceMisses,
+                              long usedMemory, long maxMemory, double fragmentationRatio,
+                              long connectedClients, long blockedClients, long evictedKeys, long expiredKeys, long replicationLag) {
+        this.timestamp = timestamp;
+        this.totalCommands = totalCommands;
+        this.keyspaceHits = keyspaceHits;
+        this.keyspaceMisses = keyspaceMisses;
+        this.usedMemory = usedMemory;
+        this.maxMemory = maxMemory;
+        this.fragmentationRatio = fragmentationRatio;
+        this.connectedClients = connectedClients;
+        this.blockedClients = blockedClients;
+        this.evictedKeys = evictedKeys;
+        this.expiredKeys = expiredKeys;
+        this.replicationLag = replicationLag;
+    }
+
+    public static RedisServerMetrics fromInfo(Map<String, String> info, long timestamp) {
+        return new RedisServerMetrics(timestamp,
+                getLong(info, "total_commands_processed"),
+                getLong(info, "keyspace_hits"),
+                getLong(info, "keyspace_misses"),
+                getLong(info, "used_memory"),
+                getLong(info, "maxmemory"),
+                NumberUtils.toDouble(info.get("mem_fragmentation_ratio")),
+                getLong(info, "connected_clients"),
+                getLong(info, "blocked_clients"),
+                getLong(info, "evicted_keys"),
+                getLong(info, "expired_keys"),
+                getReplicationLag(info));
+    }
+
+    /**
+     * On a master, the number of bytes the slowest replica is behind <code>master_repl_offset</code>; 0 otherwise.
+     */
+    private static long getReplicationLag(Map<String, String> info) {
+        long masterOffset = getLong(info, "master_repl_offset");
+        long lag = 0;
+        for (Map.Entry<String, String> field : info.entrySet()) {
+            if (!field.getKey().startsWith(SLAVE_FIELD_PREFIX) || !NumberUtils.isDigits(field.getKey().substring(SLAVE_FIELD_PREFIX.length()))) {
+                continue;
+            }
+            for (String property : StringUtils.split(field.getValue(), ',')) {
+                if (property.startsWith(SLAVE_OFFSET_PROPERTY)) {
+                    lag = Math.max(lag, masterOffset - NumberUtils.toLong(property.substring(SLAVE_OFFSET_PROPERTY.length()), masterOffset));
+                }
+            }
+        }
+        return lag;
+    }
+
+    private static long getLong(Map<String, String> info, String field) {
+        return NumberUtils.toLong(info.get(field));
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getTotalCommands() {
+        return totalCommands;
+    }
+
+    public long getKeyspaceHits() {
+        return keyspaceHits;
+    }
+
+    public long getKeyspaceMisses() {
+        return keyspaceMisses;
+    }
+
+    public long getUsedMemory() {
+        return usedMemory;
+    }
+
+    /**
+     * @return the <code>maxmemory</code> setting, 0 when unlimited
+     */
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    public double getFragmentationRatio() {
+        return fragmentationRatio;
+    }
+
+    public long getConnectedClients() {
+        return connectedClients;
+    }
+
+    public long getBlockedClients() {
+        return blockedClients;
+    }
+
+    public long getEvictedKeys() {
+        return evictedKeys;
+    }
+
+    public long getExpiredKeys() {
+        return expiredKeys;
+    }
+
+    public long getReplicationLag() {
+        return replicationLag;
+    }
+}
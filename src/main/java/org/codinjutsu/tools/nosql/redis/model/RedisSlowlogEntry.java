@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.redis.RedisUtils;
+
+import java.util.List;
+
+public class RedisSlowlogEntry {
+
+    private final long id;
+    private final long timestamp;
+    private final long durationInMicros;
+    private final List<String> args;
+
+    public RedisSlowlogEntry(long id, long timestamp, long durationInMicros, List<String> args) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.durationInMicros = durationInMicros;
+        this.args = args;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return the unix time, in seconds, when the command was processed
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getDurationInMicros() {
+        return durationInMicros;
+    }
+
+    public List<String> getArgs() {
+        return args;
+    }
+
+    public String getCommand() {
+        return RedisUtils.getCommand(args);
+    }
+
+    public String getKey() {
+        return RedisUtils.getKey(args);
+    }
+
+    public String getKeyPrefix(String separator) {
+        String key = getKey();
+        if (key == null) {
+            return "";
+        }
+        return RedisUtils.getKeyPattern(key, separator);
+    }
+
+    public String getCommandLine() {
+        return StringUtils.join(args, ' ');
+    }
+}
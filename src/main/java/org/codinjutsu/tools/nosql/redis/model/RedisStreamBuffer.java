@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import redis.clients.jedis.StreamEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the last <code>capacity</code> entries read while tailing a stream.
+ */
+public class RedisStreamBuffer {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final int capacity;
+    private final ArrayDeque<StreamEntry> entries;
+
+    private long receivedEntries;
+
+    public RedisStreamBuffer(int capacity) {
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>(capacity);
+    }
+
+    public synchronized void addAll(List<StreamEntry> newEntries) {
+        for (StreamEntry entry : newEntries) {
+            if (entries.size() == capacity) {
+                entries.removeFirst();
+            }
+            entries.addLast(entry);
+        }
+        receivedEntries += newEntries.size();
+    }
+
+    /**
+     * @return the buffered entries, newest first
+     */
+    public synchronized List<StreamEntry> getEntries() {
+        List<StreamEntry> bufferedEntries = new ArrayList<>(entries);
+        Collections.reverse(bufferedEntries);
+        return bufferedEntries;
+    }
+
+    public synchronized long getReceivedEntries() {
+        return receivedEntries;
+    }
+}
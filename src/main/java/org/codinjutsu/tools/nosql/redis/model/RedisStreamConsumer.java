@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisStreamConsumer {
+
+    private final String name;
+    private final long pending;
+    private final long idleInMillis;
+
+    public RedisStreamConsumer(String name, long pending, long idleInMillis) {
+        this.name = name;
+        this.pending = pending;
+        this.idleInMillis = idleInMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public long getIdleInMillis() {
+        return idleInMillis;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.List;
+
+public class RedisStreamGroup {
+
+    private final String name;
+    private final long pending;
+    private final String lastDeliveredId;
+    private final List<RedisStreamConsumer> consumers;
+
+    public RedisStreamGroup(String name, long pending, String lastDeliveredId, List<RedisStreamConsumer> consumers) {
+        this.name = name;
+        this.pending = pending;
+        this.lastDeliveredId = lastDeliveredId;
+        this.consumers = consumers;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of entries delivered to the consumers of the group but not acknowledged yet
+     */
+    public long getPending() {
+        return pending;
+    }
+
+    public String getLastDeliveredId() {
+        return lastDeliveredId;
+    }
+
+    public List<RedisStreamConsumer> getConsumers() {
+        return consumers;
+    }
+
+    /**
+     * @return the idle time of the consumer which did not read for the longest time, <code>-1</code> when there is no consumer
+     */
+    public long getMaxIdleInMillis() {
+        long maxIdleInMillis = -1;
+        for (RedisStreamConsumer consumer : consumers) {
+            maxIdleInMillis = Math.max(maxIdleInMillis, consumer.getIdleInMillis());
+        }
+        return maxIdleInMillis;
+    }
+}
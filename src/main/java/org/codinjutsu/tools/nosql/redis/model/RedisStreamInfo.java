@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.List;
+
+/**
+ * Summary of <code>XINFO STREAM</code>, <code>XINFO GROUPS</code> and <code>XINFO CONSUMERS</code> for one stream.
+ */
+public class RedisStreamInfo {
+
+    private final String key;
+    private final long length;
+    private final String firstEntryId;
+    private final String lastEntryId;
+    private final String lastGeneratedId;
+    private final List<RedisStreamGroup> groups;
+
+    public RedisStreamInfo(String key, long length, String firstEntryId, String lastEntryId, String lastGeneratedId, List<RedisStreamGroup> groups) {
+        this.key = key;
+        this.length = length;
+        this.firstEntryId = firstEntryId;
+        this.lastEntryId = lastEntryId;
+        this.lastGeneratedId = lastGeneratedId;
+        this.groups = groups;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return <code>null</code> when the stream is empty
+     */
+    public String getFirstEntryId() {
+        return firstEntryId;
+    }
+
+    /**
+     * @return <code>null</code> when the stream is empty
+     */
+    public String getLastEntryId() {
+        return lastEntryId;
+    }
+
+    public String getLastGeneratedId() {
+        return lastGeneratedId;
+    }
+
+    public List<RedisStreamGroup> getGroups() {
+        return groups;
+    }
+
+    public long getPending() {
+        long pending = 0;
+        for (RedisStreamGroup group : groups) {
+            pending += group.getPending();
+        }
+        return pending;
+    }
+}
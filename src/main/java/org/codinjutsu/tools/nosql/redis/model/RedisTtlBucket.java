@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public enum RedisTtlBucket {
+
+    NONE("No TTL"), HOUR("< 1h"), DAY("< 1d"), LONGER("Longer");
+
+    private static final long ONE_HOUR_IN_SECONDS = 3600;
+    private static final long ONE_DAY_IN_SECONDS = 24 * ONE_HOUR_IN_SECONDS;
+
+    public final String label;
+
+    RedisTtlBucket(String label) {
+        this.label = label;
+    }
+
+    public static RedisTtlBucket getTtlBucket(long ttlInSeconds) {
+        if (ttlInSeconds < 0) {
+            return NONE;
+        } else if (ttlInSeconds < ONE_HOUR_IN_SECONDS) {
+            return HOUR;
+        } else if (ttlInSeconds < ONE_DAY_IN_SECONDS) {
+            return DAY;
+        }
+        return LONGER;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Turns string values into something readable: a hex dump for any value, and a decoded text for the formats
+ * that can be decoded without a third-party library. Java serialized objects are never deserialized,
+ * only their class name is read.
+ */
+public class RedisValueDecoder {
+
+    public static final int MAX_HEX_DUMP_SIZE = 64 * 1024;
+    static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+
+    private static final int HEX_DUMP_LINE_SIZE = 16;
+    private static final String JSON_INDENT = "  ";
+    private static final byte TC_OBJECT = 0x73;
+    private static final byte TC_CLASSDESC = 0x72;
+
+    private RedisValueDecoder() {
+    }
+
+    /**
+     * @return the first {@link #MAX_HEX_DUMP_SIZE} bytes as lines of offset, hex bytes and ASCII characters
+     */
+    public static String toHexDump(byte[] bytes) {
+        int size = Math.min(bytes.length, MAX_HEX_DUMP_SIZE);
+        StringBuilder hexDump = new StringBuilder();
+        for (int lineStart = 0; lineStart < size; lineStart += HEX_DUMP_LINE_SIZE) {
+            hexDump.append(String.format("%08x ", lineStart));
+            StringBuilder characters = new StringBuilder();
+            for (int index = lineStart; index < lineStart + HEX_DUMP_LINE_SIZE; index++) {
+                if (index < size) {
+                    int value = bytes[index] & 0xff;
+                    hexDump.append(String.format(" %02x", value));
+                    characters.append(value >= 0x20 && value < 0x7f ? (char) value : '.');
+                } else {
+                    hexDump.append("   ");
+                }
+            }
+            hexDump.append("  |").append(characters).append("|\n");
+        }
+        if (bytes.length > size) {
+            hexDump.append(String.format("... %,d more bytes\n", bytes.length - size));
+        }
+        return hexDump.toString();
+    }
+
+    /**
+     * @param bytes the whole value, or its beginning: a truncated gzip value is inflated as far as possible
+     * @return <code>null</code> when the format cannot be decoded
+     */
+    public static String decode(byte[] bytes, RedisValueFormat format) {
+        switch (format) {
+            case TEXT: {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+            case JSON: {
+                return indentJson(new String(bytes, StandardCharsets.UTF_8));
+            }
+            case GZIP: {
+                byte[] inflatedBytes = gunzip(bytes);
+                RedisValueFormat inflatedFormat = RedisValueFormat.detect(inflatedBytes);
+                String inflatedValue = decode(inflatedBytes, inflatedFormat);
+                return String.format("gzip content (%s, %,d bytes):\n%s", inflatedFormat.label, inflatedBytes.length,
+                        inflatedValue == null ? toHexDump(inflatedBytes) : inflatedValue);
+            }
+            case JAVA_SERIALIZATION: {
+                String className = readSerializedClassName(bytes);
+                return className == null ? null : String.format("Java serialized object of class %s", className);
+            }
+            default: {
+                return null;
+            }
+        }
+    }
+
+    static byte[] gunzip(byte[] bytes) {
+        ByteArrayOutputStream inflatedBytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try {
+            GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes));
+            try {
+                int read;
+                while ((read = inputStream.read(buffer)) > 0 && inflatedBytes.size() < MAX_INFLATED_SIZE) {
+                    inflatedBytes.write(buffer, 0, read);
+                }
+            } finally {
+                inputStream.close();
+            }
+        } catch (EOFException ex) {
+            // only the beginning of the value was loaded
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Invalid gzip value", ex);
+        }
+        return inflatedBytes.toByteArray();
+    }
+
+    /**
+     * Reads the class descriptor following the stream header, as written by <code>ObjectOutputStream.writeObject</code>.
+     */
+    static String readSerializedClassName(byte[] bytes) {
+        int offset = 4;
+        if (bytes.length < offset + 4 || bytes[offset] != TC_OBJECT || bytes[offset + 1] != TC_CLASSDESC) {
+            return null;
+        }
+        int classNameLength = ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
+        int classNameStart = offset + 4;
+        if (bytes.length < classNameStart + classNameLength) {
+            return null;
+        }
+        return new String(bytes, classNameStart, classNameLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Indents JSON without parsing it, so that a truncated document is still readable.
+     */
+    static String indentJson(String json) {
+        StringBuilder indentedJson = new StringBuilder(json.length() + json.length() / 4);
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        for (int index = 0; index < json.length(); index++) {
+            char character = json.charAt(index);
+            if (inString) {
+                indentedJson.append(character);
+                if (escaped) {
+                    escaped = false;
+                } else if (character == '\\') {
+                    escaped = true;
+                } else if (character == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (character) {
+                case '"': {
+                    inString = true;
+                    indentedJson.append(character);
+                    break;
+                }
+                case '{':
+                case '[': {
+                    depth++;
+                    indentedJson.append(character);
+                    appendLineBreak(indentedJson, depth);
+                    break;
+                }
+                case '}':
+                case ']': {
+                    depth = Math.max(0, depth - 1);
+                    appendLineBreak(indentedJson, depth);
+                    indentedJson.append(character);
+                    break;
+                }
+                case ',': {
+                    indentedJson.append(character);
+                    appendLineBreak(indentedJson, depth);
+                    break;
+                }
+                case ':': {
+                    indentedJson.append(": ");
+                    break;
+                }
+                default: {
+                    if (!Character.isWhitespace(character)) {
+                        indentedJson.append(character);
+                    }
+                }
+            }
+        }
+        return indentedJson.toString();
+    }
+
+    private static void appendLineBreak(StringBuilder indentedJson, int depth) {
+        indentedJson.append('\n');
+        for (int level = 0; level < depth; level++) {
+            indentedJson.append(JSON_INDENT);
+        }
+    }
+}
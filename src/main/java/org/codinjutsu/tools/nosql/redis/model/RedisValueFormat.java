@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+/**
+ * Guesses the format of a string value from its first bytes.
+ */
+public enum RedisValueFormat {
+
+    TEXT("text"),
+    JSON("JSON"),
+    GZIP("gzip"),
+    SNAPPY("Snappy"),
+    MSGPACK("MessagePack"),
+    JAVA_SERIALIZATION("Java serialization"),
+    BINARY("binary");
+
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    private static final byte[] JAVA_SERIALIZATION_MAGIC = {(byte) 0xac, (byte) 0xed, 0x00, 0x05};
+    private static final byte[] SNAPPY_FRAMED_MAGIC = {(byte) 0xff, 0x06, 0x00, 0x00, 's', 'N', 'a', 'P', 'p', 'Y'};
+    private static final byte[] SNAPPY_JAVA_MAGIC = {(byte) 0x82, 'S', 'N', 'A', 'P', 'P', 'Y', 0x00};
+
+    public final String label;
+
+    RedisValueFormat(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @param bytes the whole value or only its beginning, a multi-byte character cut at the end is tolerated
+     */
+    public static RedisValueFormat detect(byte[] bytes) {
+        if (startsWith(bytes, GZIP_MAGIC)) {
+            return GZIP;
+        }
+        if (startsWith(bytes, JAVA_SERIALIZATION_MAGIC)) {
+            return JAVA_SERIALIZATION;
+        }
+        if (startsWith(bytes, SNAPPY_FRAMED_MAGIC) || startsWith(bytes, SNAPPY_JAVA_MAGIC)) {
+            return SNAPPY;
+        }
+        if (isText(bytes)) {
+            return isJson(bytes) ? JSON : TEXT;
+        }
+        if (isMessagePackContainer(bytes[0] & 0xff)) {
+            return MSGPACK;
+        }
+        return BINARY;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] magic) {
+        if (bytes.length < magic.length) {
+            return false;
+        }
+        for (int index = 0; index < magic.length; index++) {
+            if (bytes[index] != magic[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return <code>true</code> for well-formed UTF-8 without control characters other than tabs and line breaks
+     */
+    static boolean isText(byte[] bytes) {
+        int index = 0;
+        while (index < bytes.length) {
+            int leadByte = bytes[index] & 0xff;
+            int sequenceLength;
+            if (leadByte < 0x80) {
+                if ((leadByte < 0x20 && leadByte != '\t' && leadByte != '\n' && leadByte != '\r') || leadByte == 0x7f) {
+                    return false;
+                }
+                sequenceLength = 1;
+            } else if (leadByte >= 0xc2 && leadByte <= 0xdf) {
+                sequenceLength = 2;
+            } else if (leadByte >= 0xe0 && leadByte <= 0xef) {
+                sequenceLength = 3;
+            } else if (leadByte >= 0xf0 && leadByte <= 0xf4) {
+                sequenceLength = 4;
+            } else {
+                return false;
+            }
+            for (int offset = 1; offset < sequenceLength && index + offset < bytes.length; offset++) {
+                if ((bytes[index + offset] & 0xc0) != 0x80) {
+                    return false;
+                }
+            }
+            index += sequenceLength;
+        }
+        return true;
+    }
+
+    private static boolean isJson(byte[] bytes) {
+        for (byte value : bytes) {
+            if (!Character.isWhitespace(value)) {
+                return value == '{' || value == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only maps and arrays are recognized: a MessagePack scalar cannot be told apart from random bytes.
+     */
+    private static boolean isMessagePackContainer(int firstByte) {
+        return (firstByte >= 0x80 && firstByte <= 0x9f) || (firstByte >= 0xdc && firstByte <= 0xdf);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisValueMatch {
+
+    private final String key;
+    private final String type;
+    private final String position;
+    private final String value;
+
+    public RedisValueMatch(String key, String type, String position, String value) {
+        this.key = key;
+        this.type = type;
+        this.position = position;
+        this.value = value;
+    }
+
+    /**
+     * Reads the <code>{key, type, position, value}</code> tuples replied by the value search script.
+     */
+    public static List<RedisValueMatch> fromScriptReply(Object reply) {
+        if (!(reply instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<?> tuples = (List<?>) reply;
+        List<RedisValueMatch> matches = new ArrayList<>(tuples.size());
+        for (Object tuple : tuples) {
+            List<?> fields = (List<?>) tuple;
+            matches.add(new RedisValueMatch(String.valueOf(fields.get(0)), String.valueOf(fields.get(1)), String.valueOf(fields.get(2)), String.valueOf(fields.get(3))));
+        }
+        return matches;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return the hash field, the list index or the sorted set score of the matching element, empty for strings and sets
+     */
+    public String getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the matching value, truncated to the preview length
+     */
+    public String getValue() {
+        return value;
+    }
+}
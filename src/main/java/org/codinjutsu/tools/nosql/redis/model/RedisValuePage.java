@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.List;
+
+/**
+ * One window of members of a list, set, hash, sorted set or stream: plain strings for lists and sets,
+ * {@link java.util.Map.Entry} for hashes, {@link redis.clients.jedis.Tuple} for sorted sets and
+ * {@link redis.clients.jedis.StreamEntry} for streams.
+ */
+public class RedisValuePage {
+
+    public static final int DEFAULT_SIZE = 500;
+
+    private final List<Object> values;
+    private final String nextCursor;
+
+    public RedisValuePage(List<Object> values, String nextCursor) {
+        this.values = values;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Object> getValues() {
+        return values;
+    }
+
+    /**
+     * @return the cursor to load the following page from, or <code>null</code> when the last member was read
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
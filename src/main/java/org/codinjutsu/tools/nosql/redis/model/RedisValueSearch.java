@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the matches of a value search while the scanning thread feeds it, up to <code>maxMatches</code>.
+ */
+public class RedisValueSearch {
+
+    private final int maxMatches;
+    private final List<RedisValueMatch> matches = new ArrayList<>();
+
+    private long scannedKeys;
+    private long searchedChunks;
+
+    public RedisValueSearch(int maxMatches) {
+        this.maxMatches = maxMatches;
+    }
+
+    public synchronized void addMatches(List<RedisValueMatch> newMatches) {
+        for (RedisValueMatch match : newMatches) {
+            if (matches.size() >= maxMatches) {
+                break;
+            }
+            matches.add(match);
+        }
+    }
+
+    public synchronized void addScannedKeys(int keyCount) {
+        scannedKeys += keyCount;
+    }
+
+    /**
+     * Counts a chunk of a hash, list, set or sorted set searched with its own script call.
+     */
+    public synchronized void addSearchedChunk() {
+        searchedChunks++;
+    }
+
+    public synchronized List<RedisValueMatch> getMatches() {
+        return new ArrayList<>(matches);
+    }
+
+    public synchronized int getRemainingMatches() {
+        return maxMatches - matches.size();
+    }
+
+    public synchronized boolean isFull() {
+        return matches.size() >= maxMatches;
+    }
+
+    public synchronized long getScannedKeys() {
+        return scannedKeys;
+    }
+
+    public synchronized long getSearchedChunks() {
+        return searchedChunks;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+public class RedisValueSearchOptions {
+
+    public static final int DEFAULT_MAX_MATCHES = 1000;
+    public static final int DEFAULT_KEYS_PER_SECOND = RedisMemoryAnalysisOptions.DEFAULT_KEYS_PER_SECOND;
+    public static final int UNTHROTTLED = RedisMemoryAnalysisOptions.UNTHROTTLED;
+
+    private String filter = "*";
+    private String value;
+    private String field;
+    private int maxMatches = DEFAULT_MAX_MATCHES;
+    private int keysPerSecond = DEFAULT_KEYS_PER_SECOND;
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * @return the text searched in the values, matched as a plain substring
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the only hash field to look at, or <code>null</code> to look at every field
+     */
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public int getMaxMatches() {
+        return maxMatches;
+    }
+
+    public void setMaxMatches(int maxMatches) {
+        this.maxMatches = maxMatches;
+    }
+
+    public int getKeysPerSecond() {
+        return keysPerSecond;
+    }
+
+    public void setKeysPerSecond(int keysPerSecond) {
+        this.keysPerSecond = keysPerSecond;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import com.intellij.ui.table.JBTable;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisActivityListener;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivitySource;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivityStatistics;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.view.action.StopActivityAction;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisActivityEventTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisActivityRateTableModel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * The listener thread only updates the statistics; the view pulls a snapshot of them once per second,
+ * whatever the traffic is.
+ */
+public class RedisActivityPanel extends NoSqlResultView<RedisActivityStatistics> {
+
+    private static final int REFRESH_DELAY_IN_MILLIS = 1000;
+    private static final String DEFAULT_SEPARATOR = ":";
+
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JComboBox<RedisActivitySource> sourceComboBox;
+    private final JCheckBox enableNotificationsCheckBox;
+    private final JBTextField separatorField;
+    private final JBLabel statusLabel = new JBLabel();
+
+    private final RedisActivityRateTableModel commandRateTableModel = new RedisActivityRateTableModel("Command");
+    private final RedisActivityRateTableModel prefixRateTableModel = new RedisActivityRateTableModel("Key prefix");
+    private final RedisActivityEventTableModel activityEventTableModel = new RedisActivityEventTableModel();
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private RedisActivityListener activityListener;
+    private RedisActivityStatistics statistics = new RedisActivityStatistics(DEFAULT_SEPARATOR);
+
+    public RedisActivityPanel(Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database) {
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        sourceComboBox = new JComboBox<>(RedisActivitySource.values());
+        enableNotificationsCheckBox = new JCheckBox("Enable notifications");
+        enableNotificationsCheckBox.setOpaque(false);
+        enableNotificationsCheckBox.setToolTipText("Turn on notify-keyspace-events while listening, and restore it afterwards");
+        separatorField = new JBTextField(DEFAULT_SEPARATOR);
+        separatorField.setColumns(3);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        Splitter rateSplitter = new Splitter(false, 0.5f);
+        rateSplitter.setFirstComponent(new JBScrollPane(createTable(commandRateTableModel, "commandRateTable")));
+        rateSplitter.setSecondComponent(new JBScrollPane(createTable(prefixRateTableModel, "prefixRateTable")));
+        Splitter splitter = new Splitter(true, 0.4f);
+        splitter.setFirstComponent(rateSplitter);
+        splitter.setSecondComponent(new JBScrollPane(createTable(activityEventTableModel, "activityEventTable")));
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(splitter, BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshStatistics();
+            }
+        });
+        sourceComboBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                enableNotificationsCheckBox.setEnabled(RedisActivitySource.KEYSPACE_NOTIFICATIONS.equals(sourceComboBox.getSelectedItem()));
+            }
+        });
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(sourceComboBox);
+        westPanel.add(enableNotificationsCheckBox);
+        westPanel.add(new JLabel("Separator:"));
+        westPanel.add(separatorField);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisActivityGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new StopActivityAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisActivityGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    private static JBTable createTable(javax.swing.table.TableModel tableModel, String name) {
+        JBTable table = new JBTable(tableModel);
+        table.setName(name);
+        table.setAutoCreateRowSorter(true);
+        return table;
+    }
+
+    /**
+     * Nothing is started when the tab opens: <code>MONITOR</code> and the notifications setting both need a decision from the user.
+     */
+    @Override
+    public void showResults() {
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisActivityStatistics getRecords() {
+        return statistics;
+    }
+
+    @Override
+    public void executeQuery() {
+        RedisActivitySource source = (RedisActivitySource) sourceComboBox.getSelectedItem();
+        if (RedisActivitySource.MONITOR.equals(source)) {
+            int result = JOptionPane.showConfirmDialog(null, "MONITOR sends every command of the server to this connection and can halve its throughput. Only use it against non-production instances. Continue?", "Warning", JOptionPane.YES_NO_OPTION);
+            if (result != JOptionPane.YES_OPTION) {
+                return;
+            }
+        }
+
+        errorPanel.setVisible(false);
+        stopListening();
+
+        try {
+            activityListener = redisClient.listenActivity(configuration, database, source, enableNotificationsCheckBox.isSelected(), separatorField.getText());
+            statistics = activityListener.getStatistics();
+            refreshTimer.start();
+        } catch (Exception ex) {
+            showError(ex);
+        }
+    }
+
+    public boolean isListening() {
+        return activityListener != null && activityListener.isRunning();
+    }
+
+    public void stopListening() {
+        if (activityListener != null) {
+            activityListener.stop();
+            activityListener = null;
+        }
+        refreshTimer.stop();
+    }
+
+    private void refreshStatistics() {
+        long currentSecond = System.currentTimeMillis() / 1000;
+        commandRateTableModel.setActivityRates(statistics.getCommandRates(currentSecond));
+        prefixRateTableModel.setActivityRates(statistics.getPrefixRates(currentSecond));
+        activityEventTableModel.setEvents(statistics.getRecentEvents());
+        statusLabel.setText(String.format("%,d events, %,d not shown (sampled out) ", statistics.getProcessedEvents(), statistics.getSampledOutEvents()));
+
+        if (activityListener != null && activityListener.getFailure() != null) {
+            Exception failure = activityListener.getFailure();
+            stopListening();
+            showError(failure);
+        }
+    }
+
+    private void showError(Exception ex) {
+        errorPanel.invalidate();
+        errorPanel.removeAll();
+        errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+        errorPanel.validate();
+        errorPanel.setVisible(true);
+    }
+
+    @Override
+    public void dispose() {
+        stopListening();
+    }
+}
@@ -16,18 +16,24 @@
 
 package org.codinjutsu.tools.nosql.redis.view;
 
+import org.apache.commons.lang.math.NumberUtils;
 import org.codinjutsu.tools.nosql.commons.model.AuthenticationSettings;
 import org.codinjutsu.tools.nosql.commons.view.AuthenticationView;
+import org.codinjutsu.tools.nosql.redis.logic.RedisExtraSettings;
 
 import javax.swing.*;
 
 public class RedisAuthenticationPanel implements AuthenticationView {
 
     private JPasswordField passwordField;
+    private JTextField pipelineBatchSizeField;
+    private JCheckBox hideEmptyDatabasesCheckBox;
     private JPanel mainPanel;
 
     public RedisAuthenticationPanel() {
         passwordField.setName("passwordField");
+        pipelineBatchSizeField.setName("pipelineBatchSizeField");
+        hideEmptyDatabasesCheckBox.setName("hideEmptyDatabasesField");
     }
 
     @Override
@@ -39,12 +45,26 @@ public class RedisAuthenticationPanel implements AuthenticationView {
     public AuthenticationSettings create() {
         AuthenticationSettings authenticationSettings = new AuthenticationSettings();
         authenticationSettings.setPassword(getPassword());
+
+        RedisExtraSettings redisExtraSettings = new RedisExtraSettings();
+        redisExtraSettings.setPipelineBatchSize(getPipelineBatchSize());
+        redisExtraSettings.setHideEmptyDatabases(hideEmptyDatabasesCheckBox.isSelected());
+        authenticationSettings.setExtras(redisExtraSettings.get());
+
         return authenticationSettings;
     }
 
     @Override
     public void load(AuthenticationSettings settings) {
         passwordField.setText(settings.getPassword());
+        RedisExtraSettings redisExtraSettings = new RedisExtraSettings(settings.getExtras());
+        pipelineBatchSizeField.setText(String.valueOf(redisExtraSettings.getPipelineBatchSize()));
+        hideEmptyDatabasesCheckBox.setSelected(redisExtraSettings.isHideEmptyDatabases());
+    }
+
+    private int getPipelineBatchSize() {
+        int pipelineBatchSize = NumberUtils.toInt(pipelineBatchSizeField.getText().trim());
+        return pipelineBatchSize > 0 ? pipelineBatchSize : RedisExtraSettings.DEFAULT_PIPELINE_BATCH_SIZE;
     }
 
     private String getPassword() {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.openapi.ui.ValidationInfo;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBTextField;
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisBulkOperation;
+import org.codinjutsu.tools.nosql.redis.model.RedisBulkOptions;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * Configures a bulk operation on the keys matching the filter of the {@link RedisPanel}, with a preview of the key count.
+ */
+public class RedisBulkOperationDialog extends DialogWrapper {
+
+    private static final int DEFAULT_TTL_IN_SECONDS = 3600;
+
+    private final Project project;
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+    private final String filter;
+
+    private final JPanel mainPanel = new JPanel(new BorderLayout());
+    private final JComboBox<RedisBulkOperation> operationComboBox = new JComboBox<>(RedisBulkOperation.values());
+    private final JBTextField ttlField = new JBTextField(String.valueOf(DEFAULT_TTL_IN_SECONDS));
+    private final JBTextField oldPrefixField = new JBTextField();
+    private final JBTextField newPrefixField = new JBTextField();
+    private final JBTextField keysPerSecondField = new JBTextField(String.valueOf(RedisBulkOptions.DEFAULT_KEYS_PER_SECOND));
+    private final JBLabel keyCountLabel = new JBLabel("-");
+    private long keyCount;
+
+    public RedisBulkOperationDialog(Component parent, Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database, String filter) {
+        super(parent, true);
+        this.project = project;
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+        this.filter = filter;
+
+        setTitle(String.format("Bulk Operation on %s", filter));
+        oldPrefixField.setText(StringUtils.substringBefore(filter, "*"));
+        operationComboBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                updateFields();
+            }
+        });
+
+        JButton countKeysButton = new JButton("Count keys");
+        countKeysButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                countKeys();
+            }
+        });
+        JPanel keyCountPanel = new JPanel(new BorderLayout(5, 0));
+        keyCountPanel.add(keyCountLabel, BorderLayout.CENTER);
+        keyCountPanel.add(countKeysButton, BorderLayout.EAST);
+
+        JPanel formPanel = new JPanel(new GridLayout(0, 2, 5, 5));
+        formPanel.add(new JLabel("Operation:"));
+        formPanel.add(operationComboBox);
+        formPanel.add(new JLabel("TTL (s):"));
+        formPanel.add(ttlField);
+        formPanel.add(new JLabel("Old prefix:"));
+        formPanel.add(oldPrefixField);
+        formPanel.add(new JLabel("New prefix:"));
+        formPanel.add(newPrefixField);
+        formPanel.add(new JLabel("Keys/s (0 for no limit):"));
+        formPanel.add(keysPerSecondField);
+        formPanel.add(new JLabel("Matching keys:"));
+        formPanel.add(keyCountPanel);
+        mainPanel.add(formPanel, BorderLayout.NORTH);
+        updateFields();
+
+        init();
+    }
+
+    @Nullable
+    @Override
+    protected JComponent createCenterPanel() {
+        return mainPanel;
+    }
+
+    @Nullable
+    @Override
+    protected ValidationInfo doValidate() {
+        try {
+            getOptions();
+        } catch (IllegalArgumentException ex) {
+            return new ValidationInfo(ex.getMessage());
+        }
+        return null;
+    }
+
+    private void updateFields() {
+        RedisBulkOperation operation = getOperation();
+        ttlField.setEnabled(RedisBulkOperation.EXPIRE.equals(operation));
+        oldPrefixField.setEnabled(RedisBulkOperation.RENAME.equals(operation));
+        newPrefixField.setEnabled(RedisBulkOperation.RENAME.equals(operation));
+    }
+
+    private void countKeys() {
+        final long[] count = new long[1];
+        final Exception[] failure = new Exception[1];
+        boolean completed = ProgressManager.getInstance().runProcessWithProgressSynchronously(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    count[0] = redisClient.countKeys(configuration, database, filter, ProgressManager.getInstance().getProgressIndicator());
+                } catch (Exception ex) {
+                    failure[0] = ex;
+                }
+            }
+        }, String.format("Counting keys matching %s", filter), true, project);
+
+        if (failure[0] != null) {
+            keyCountLabel.setText(failure[0].getMessage());
+        } else if (completed) {
+            keyCount = count[0];
+            keyCountLabel.setText(String.format("%,d", keyCount));
+        }
+    }
+
+    public RedisBulkOperation getOperation() {
+        return (RedisBulkOperation) operationComboBox.getSelectedItem();
+    }
+
+    /**
+     * @return the previewed key count, or 0 when the keys were not counted
+     */
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * @throws IllegalArgumentException when a field is invalid
+     */
+    public RedisBulkOptions getOptions() {
+        RedisBulkOptions options = new RedisBulkOptions(getOperation(), filter);
+        options.setKeysPerSecond(parseNumber(keysPerSecondField, "Keys/s", 0));
+        if (RedisBulkOperation.EXPIRE.equals(getOperation())) {
+            options.setTtlInSeconds(parseNumber(ttlField, "TTL", 1));
+        } else if (RedisBulkOperation.RENAME.equals(getOperation())) {
+            if (StringUtils.isEmpty(oldPrefixField.getText())) {
+                throw new IllegalArgumentException("Old prefix should be set");
+            }
+            options.setPrefixes(oldPrefixField.getText(), newPrefixField.getText());
+        }
+        return options;
+    }
+
+    private static int parseNumber(JBTextField field, String name, int minValue) {
+        try {
+            int value = Integer.parseInt(field.getText().trim());
+            if (value >= minValue) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(String.format("%s should be a number greater than or equal to %d", name, minValue));
+    }
+}
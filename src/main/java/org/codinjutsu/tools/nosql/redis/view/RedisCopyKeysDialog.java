@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.openapi.ui.ValidationInfo;
+import com.intellij.ui.components.JBTextField;
+import org.codinjutsu.tools.nosql.DatabaseVendor;
+import org.codinjutsu.tools.nosql.NoSqlConfiguration;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeySelection;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+
+/**
+ * Selects the keys to copy, by pattern or from the current result, and where to copy them: to a dump file or to a database of a Redis server.
+ */
+public class RedisCopyKeysDialog extends DialogWrapper {
+
+    private final String filter;
+    private final List<String> resultKeys;
+
+    private final JPanel mainPanel = new JPanel(new BorderLayout());
+    private final JRadioButton filterButton;
+    private final JRadioButton resultButton;
+    private final JRadioButton fileButton = new JRadioButton("Dump file");
+    private final JRadioButton serverButton = new JRadioButton("Server:");
+    private final JComboBox<ServerConfiguration> serverComboBox = new JComboBox<>();
+    private final JBTextField databaseField;
+    private final JCheckBox replaceCheckBox = new JCheckBox("Replace existing keys");
+    private final JCheckBox directTransferCheckBox = new JCheckBox("Let the source server send the keys to a public target with MIGRATE");
+
+    public RedisCopyKeysDialog(Component parent, Project project, ServerConfiguration configuration, RedisDatabase database, String filter, List<String> resultKeys) {
+        super(parent, true);
+        this.filter = filter;
+        this.resultKeys = resultKeys;
+
+        setTitle("Copy Keys");
+        filterButton = new JRadioButton(String.format("Keys matching %s", filter), true);
+        resultButton = new JRadioButton(String.format("The %d keys of the result", resultKeys.size()));
+        resultButton.setEnabled(!resultKeys.isEmpty());
+        ButtonGroup selectionGroup = new ButtonGroup();
+        selectionGroup.add(filterButton);
+        selectionGroup.add(resultButton);
+
+        fileButton.setSelected(true);
+        ButtonGroup destinationGroup = new ButtonGroup();
+        destinationGroup.add(fileButton);
+        destinationGroup.add(serverButton);
+
+        for (ServerConfiguration serverConfiguration : NoSqlConfiguration.getInstance(project).getServerConfigurations()) {
+            if (DatabaseVendor.REDIS.equals(serverConfiguration.getDatabaseVendor())) {
+                serverComboBox.addItem(serverConfiguration);
+            }
+        }
+        serverComboBox.setSelectedItem(configuration);
+        serverComboBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                ServerConfiguration serverConfiguration = (ServerConfiguration) value;
+                String label = serverConfiguration == null ? "" : String.format("%s (%s)", serverConfiguration.getLabel(), serverConfiguration.getServerUrl());
+                return super.getListCellRendererComponent(list, label, index, isSelected, cellHasFocus);
+            }
+        });
+        databaseField = new JBTextField(database.getName());
+        databaseField.setColumns(3);
+        ActionListener destinationListener = new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                updateFields();
+            }
+        };
+        fileButton.addActionListener(destinationListener);
+        serverButton.addActionListener(destinationListener);
+
+        JPanel formPanel = new JPanel(new GridLayout(0, 1, 5, 5));
+        formPanel.add(filterButton);
+        formPanel.add(resultButton);
+        formPanel.add(new JSeparator());
+        formPanel.add(fileButton);
+        JPanel serverPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        serverPanel.add(serverButton);
+        serverPanel.add(serverComboBox);
+        serverPanel.add(new JLabel("Database:"));
+        serverPanel.add(databaseField);
+        formPanel.add(serverPanel);
+        formPanel.add(replaceCheckBox);
+        formPanel.add(directTransferCheckBox);
+        mainPanel.add(formPanel, BorderLayout.NORTH);
+        updateFields();
+
+        init();
+    }
+
+    @Nullable
+    @Override
+    protected JComponent createCenterPanel() {
+        return mainPanel;
+    }
+
+    @Nullable
+    @Override
+    protected ValidationInfo doValidate() {
+        if (isFileDestination()) {
+            return null;
+        }
+        if (getTargetConfiguration() == null) {
+            return new ValidationInfo("Server should be set", serverComboBox);
+        }
+        try {
+            Integer.parseInt(databaseField.getText().trim());
+        } catch (NumberFormatException ex) {
+            return new ValidationInfo("Database should be a number", databaseField);
+        }
+        return null;
+    }
+
+    private void updateFields() {
+        serverComboBox.setEnabled(!isFileDestination());
+        databaseField.setEnabled(!isFileDestination());
+        replaceCheckBox.setEnabled(!isFileDestination());
+        directTransferCheckBox.setEnabled(!isFileDestination());
+    }
+
+    public RedisKeySelection getSelection() {
+        return resultButton.isSelected() ? RedisKeySelection.byKeys(resultKeys) : RedisKeySelection.byFilter(filter);
+    }
+
+    public boolean isFileDestination() {
+        return fileButton.isSelected();
+    }
+
+    public ServerConfiguration getTargetConfiguration() {
+        return (ServerConfiguration) serverComboBox.getSelectedItem();
+    }
+
+    public RedisDatabase getTargetDatabase() {
+        return new RedisDatabase(databaseField.getText().trim());
+    }
+
+    public boolean isReplace() {
+        return replaceCheckBox.isSelected();
+    }
+
+    public boolean isDirectTransfer() {
+        return directTransferCheckBox.isSelected();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.logic.RedisMetricsPoller;
+import org.codinjutsu.tools.nosql.redis.model.RedisMetric;
+import org.codinjutsu.tools.nosql.redis.model.RedisServerDashboard;
+import org.codinjutsu.tools.nosql.redis.view.action.StopDashboardAction;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class RedisDashboardPanel extends NoSqlResultView<RedisServerDashboard> {
+
+    private static final int REFRESH_DELAY_IN_MILLIS = 1000;
+    private static final int DEFAULT_INTERVAL_IN_SECONDS = 1;
+
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JBTextField intervalField;
+    private final JBLabel statusLabel = new JBLabel();
+    private final Map<RedisMetric, JBLabel> valueLabels = new EnumMap<>(RedisMetric.class);
+    private final Map<RedisMetric, RedisSparkline> sparklines = new EnumMap<>(RedisMetric.class);
+
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private RedisMetricsPoller metricsPoller;
+    private RedisServerDashboard dashboard = new RedisServerDashboard(RedisServerDashboard.DEFAULT_CAPACITY);
+
+    public RedisDashboardPanel(Project project, RedisClient redisClient, ServerConfiguration configuration) {
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        intervalField = new JBTextField(String.valueOf(DEFAULT_INTERVAL_IN_SECONDS));
+        intervalField.setColumns(3);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        JPanel metricsPanel = new JPanel(new GridLayout(0, 3, 10, 10));
+        for (RedisMetric metric : RedisMetric.values()) {
+            metricsPanel.add(createMetricPanel(metric));
+        }
+        resultPanel = new JPanel(new BorderLayout());
+        JPanel northPanel = new JPanel(new BorderLayout());
+        northPanel.add(metricsPanel, BorderLayout.NORTH);
+        resultPanel.add(new JBScrollPane(northPanel), BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshDashboard();
+            }
+        });
+    }
+
+    private JPanel createMetricPanel(RedisMetric metric) {
+        JPanel metricPanel = new JPanel(new BorderLayout(0, 2));
+        metricPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+        metricPanel.add(new JBLabel(metric.label), BorderLayout.NORTH);
+
+        RedisSparkline sparkline = new RedisSparkline();
+        sparklines.put(metric, sparkline);
+        metricPanel.add(sparkline, BorderLayout.CENTER);
+
+        JBLabel valueLabel = new JBLabel("-");
+        valueLabels.put(metric, valueLabel);
+        metricPanel.add(valueLabel, BorderLayout.SOUTH);
+        return metricPanel;
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(new JLabel("Interval (s):"));
+        westPanel.add(intervalField);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisDashboardGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new StopDashboardAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisDashboardGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisServerDashboard getRecords() {
+        return dashboard;
+    }
+
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        stopPolling();
+
+        metricsPoller = redisClient.pollMetrics(configuration, getIntervalInSeconds() * 1000L);
+        dashboard = metricsPoller.getDashboard();
+        refreshTimer.start();
+    }
+
+    private int getIntervalInSeconds() {
+        try {
+            int interval = Integer.parseInt(intervalField.getText().trim());
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        GuiUtils.showNotification(intervalField, MessageType.WARNING, String.format("Invalid interval, using %d", DEFAULT_INTERVAL_IN_SECONDS), Balloon.Position.below);
+        return DEFAULT_INTERVAL_IN_SECONDS;
+    }
+
+    public boolean isPolling() {
+        return metricsPoller != null && metricsPoller.isRunning();
+    }
+
+    public void stopPolling() {
+        if (metricsPoller != null) {
+            metricsPoller.stop();
+            metricsPoller = null;
+        }
+        refreshTimer.stop();
+    }
+
+    private void refreshDashboard() {
+        for (RedisMetric metric : RedisMetric.values()) {
+            sparklines.get(metric).setValues(dashboard.getSeries(metric));
+            valueLabels.get(metric).setText(dashboard.getSampleCount() == 0 ? "-" : formatValue(metric, dashboard.getLastValue(metric)));
+        }
+        statusLabel.setText(String.format("%d samples ", dashboard.getSampleCount()));
+
+        if (metricsPoller != null && metricsPoller.getFailure() != null) {
+            Exception failure = metricsPoller.getFailure();
+            stopPolling();
+            errorPanel.invalidate();
+            errorPanel.removeAll();
+            errorPanel.add(new ErrorPanel(failure), BorderLayout.CENTER);
+            errorPanel.validate();
+            errorPanel.setVisible(true);
+        }
+    }
+
+    private String formatValue(RedisMetric metric, double value) {
+        switch (metric) {
+            case HIT_RATIO: {
+                return String.format("%.1f%%", value * 100);
+            }
+            case USED_MEMORY: {
+                long maxMemory = dashboard.getMaxMemory();
+                if (maxMemory == 0) {
+                    return String.format("%s (no maxmemory)", StringUtil.formatFileSize((long) value));
+                }
+                return String.format("%s / %s (%.1f%%)", StringUtil.formatFileSize((long) value), StringUtil.formatFileSize(maxMemory), value * 100 / maxMemory);
+            }
+            case FRAGMENTATION_RATIO: {
+                return String.format("%.2f", value);
+            }
+            case OPS_PER_SECOND:
+            case EVICTED_KEYS_PER_SECOND:
+            case EXPIRED_KEYS_PER_SECOND: {
+                return String.format("%,.1f", value);
+            }
+            default: {
+                return String.format("%,.0f", value);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        stopPolling();
+    }
+}
@@ -18,177 +18,209 @@ package org.codinjutsu.tools.nosql.redis.view;
 
 import org.codinjutsu.tools.nosql.commons.utils.StringUtils;
 import org.codinjutsu.tools.nosql.commons.view.NoSqlTreeNode;
-import org.codinjutsu.tools.nosql.commons.view.nodedescriptor.NodeDescriptor;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
 import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.FragmentedKeyNodeDescriptor;
-import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisKeyValueDescriptor;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisMoreKeysDescriptor;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisResultDescriptor;
 
-import javax.swing.event.TreeModelListener;
-import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
-import javax.swing.tree.MutableTreeNode;
-import java.util.Arrays;
-import java.util.Enumeration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.apache.commons.lang.StringUtils.isEmpty;
 
-public class RedisFragmentedKeyTreeModel extends DefaultTreeModel {
+/**
+ * Groups the keys by prefix in a trie whose prefix nodes are indexed by key fragment, so that inserting a key costs one
+ * hash lookup per fragment. Keys are inserted page after page as <code>SCAN</code> returns them, and regrouping with another
+ * separator rebuilds the trie in a single pass over the keys. Without separator, the keys are listed flat.
+ * <p>
+ * Prefix nodes show how many keys they hold and only get tree nodes for their children when they are expanded,
+ * {@link #PAGE_SIZE} at a time, so that a prefix with a huge fan-out stays cheap until it is browsed.
+ */
+public class RedisFragmentedKeyTreeModel {
 
-    private String separator;
-    private DefaultTreeModel fragmentedKeyModel;
+    public static final int PAGE_SIZE = 500;
 
-    private boolean needsUpdate = true;
+    private final String separator;
+    private final int pageSize;
+    private final PrefixEntry rootEntry;
+    private final Map<NoSqlTreeNode, PrefixEntry> prefixEntriesByNode = new HashMap<>();
+    private final Set<String> keys = new HashSet<>();
+    private DefaultTreeModel treeModel;
 
-    public RedisFragmentedKeyTreeModel(NoSqlTreeNode root) {
-        super(root);
-        this.separator = "";
+    public RedisFragmentedKeyTreeModel(String separator) {
+        this(separator, isEmpty(separator) ? Integer.MAX_VALUE : PAGE_SIZE);
     }
 
-    public void setSeparator(String separator) {
+    RedisFragmentedKeyTreeModel(String separator, int pageSize) {
         this.separator = separator;
-        needsUpdate = true;
-        fireSeparatorChanged();
-    }
-
-    public void resetSeparator() {
-        this.separator = "";
-        needsUpdate = true;
-        fireSeparatorChanged();
-    }
-
-    @Override
-    public DefaultMutableTreeNode getRoot() {
-        return (DefaultMutableTreeNode) getFragmentedKeyModel().getRoot();
+        this.pageSize = pageSize;
+        this.rootEntry = new PrefixEntry(new NoSqlTreeNode(new RedisResultDescriptor()), null);
+        this.rootEntry.visibleCount = pageSize;
+        prefixEntriesByNode.put(rootEntry.node, rootEntry);
     }
 
-    @Override
-    public void reload() {
-        super.reload();
-        getFragmentedKeyModel().reload();
-        needsUpdate = true;
-        fireSeparatorChanged();
+    public NoSqlTreeNode getRoot() {
+        return rootEntry.node;
     }
 
-    @Override
-    public int getChildCount(Object parent) {
-        return getFragmentedKeyModel().getChildCount(parent);
+    /**
+     * @param treeModel the model of the tree showing the root, notified of the nodes inserted afterwards
+     */
+    public void setTreeModel(DefaultTreeModel treeModel) {
+        this.treeModel = treeModel;
     }
 
-    @Override
-    public Object getChild(Object parent, int index) {
-        return getFragmentedKeyModel().getChild(parent, index);
-    }
+    public void insertRecords(List<RedisRecord> redisRecords) {
+        Set<PrefixEntry> updatedEntries = new LinkedHashSet<>();
+        Set<PrefixEntry> countedEntries = new LinkedHashSet<>();
+        for (RedisRecord redisRecord : redisRecords) {
+            // SCAN may return a key more than once across its pages
+            if (!keys.add(redisRecord.getKey())) {
+                continue;
+            }
+            String[] explodedKey = isEmpty(separator) ? null : StringUtils.explode(redisRecord.getKey(), separator);
+            PrefixEntry parentEntry = rootEntry;
+            String keyFragment = redisRecord.getKey();
+            if (explodedKey != null && explodedKey.length > 1) {
+                for (int index = 0; index < explodedKey.length - 1; index++) {
+                    PrefixEntry prefixEntry = parentEntry.prefixes.get(explodedKey[index]);
+                    if (prefixEntry == null) {
+                        prefixEntry = createPrefixEntry(explodedKey[index]);
+                        parentEntry.prefixes.put(explodedKey[index], prefixEntry);
+                        parentEntry.children.add(prefixEntry);
+                        updatedEntries.add(parentEntry);
+                    }
+                    prefixEntry.descriptor.addKey(redisRecord);
+                    countedEntries.add(prefixEntry);
+                    parentEntry = prefixEntry;
+                }
+                keyFragment = explodedKey[explodedKey.length - 1];
+            }
+            parentEntry.children.add(new KeyEntry(keyFragment, redisRecord));
+            updatedEntries.add(parentEntry);
+        }
 
-    @Override
-    public int getIndexOfChild(Object parent, Object child) {
-        return getFragmentedKeyModel().getIndexOfChild(parent, child);
+        for (PrefixEntry countedEntry : countedEntries) {
+            if (treeModel != null) {
+                treeModel.nodeChanged(countedEntry.node);
+            }
+        }
+        for (PrefixEntry updatedEntry : updatedEntries) {
+            if (updatedEntry.isExpanded()) {
+                showChildren(updatedEntry);
+            }
+        }
     }
 
-    @Override
-    public void addTreeModelListener(TreeModelListener listener) {
-        super.addTreeModelListener(listener);
-        getFragmentedKeyModel().addTreeModelListener(listener);
+    /**
+     * Creates the nodes of the first children of a prefix about to be expanded.
+     */
+    public void expandPrefix(NoSqlTreeNode prefixNode) {
+        PrefixEntry prefixEntry = prefixEntriesByNode.get(prefixNode);
+        if (prefixEntry != null && !prefixEntry.isExpanded()) {
+            prefixEntry.visibleCount = pageSize;
+            showChildren(prefixEntry);
+        }
     }
 
-    @Override
-    public void removeTreeModelListener(TreeModelListener listener) {
-        super.removeTreeModelListener(listener);
-        getFragmentedKeyModel().removeTreeModelListener(listener);
+    /**
+     * Replaces the given {@link RedisMoreKeysDescriptor} node by the next children of its prefix.
+     */
+    public void showMoreKeys(NoSqlTreeNode moreKeysNode) {
+        PrefixEntry prefixEntry = prefixEntriesByNode.get((NoSqlTreeNode) moreKeysNode.getParent());
+        if (prefixEntry != null && prefixEntry.isExpanded()) {
+            prefixEntry.visibleCount = (int) Math.min(Integer.MAX_VALUE, (long) prefixEntry.visibleCount + pageSize);
+            showChildren(prefixEntry);
+        }
     }
 
-    @Override
-    public boolean isLeaf(Object node) {
-        return getFragmentedKeyModel().isLeaf(node);
+    private PrefixEntry createPrefixEntry(String keyFragment) {
+        FragmentedKeyNodeDescriptor descriptor = FragmentedKeyNodeDescriptor.createDescriptor(keyFragment);
+        PrefixEntry prefixEntry = new PrefixEntry(new NoSqlTreeNode(descriptor), descriptor);
+        // the placeholder makes the prefix expandable until its children are shown
+        prefixEntry.moreKeysNode = new NoSqlTreeNode(new RedisMoreKeysDescriptor(0));
+        prefixEntry.node.add(prefixEntry.moreKeysNode);
+        prefixEntriesByNode.put(prefixEntry.node, prefixEntry);
+        return prefixEntry;
     }
 
-    private DefaultTreeModel getFragmentedKeyModel() {
-        if (needsUpdate) {
-            needsUpdate = false;
-            updateFilteredModel();
+    private void showChildren(PrefixEntry prefixEntry) {
+        NoSqlTreeNode node = prefixEntry.node;
+        int shownCount = Math.min(prefixEntry.children.size(), prefixEntry.visibleCount);
+        if (shownCount == prefixEntry.shownCount && prefixEntry.moreKeysNode != null) {
+            ((RedisMoreKeysDescriptor) prefixEntry.moreKeysNode.getDescriptor()).setRemainingCount(prefixEntry.children.size() - shownCount);
+            if (treeModel != null) {
+                treeModel.nodeChanged(prefixEntry.moreKeysNode);
+            }
+            return;
         }
-        return fragmentedKeyModel;
-    }
 
-    private void updateFilteredModel() {
-        DefaultMutableTreeNode sourceRoot = (DefaultMutableTreeNode) super.getRoot();
-        DefaultMutableTreeNode targetRoot = (DefaultMutableTreeNode) sourceRoot.clone();
-        wrapNodes(sourceRoot, separator);
-        fragmentedKeyModel = new DefaultTreeModel(targetRoot);
-        Object[] listeners = listenerList.getListenerList();
-        for (int i = listeners.length - 2; i >= 0; i -= 2) {
-            if (listeners[i] == TreeModelListener.class) {
-                fragmentedKeyModel.addTreeModelListener((TreeModelListener) listeners[i + 1]);
+        if (prefixEntry.moreKeysNode != null) {
+            int moreKeysIndex = node.getIndex(prefixEntry.moreKeysNode);
+            node.remove(moreKeysIndex);
+            if (treeModel != null) {
+                treeModel.nodesWereRemoved(node, new int[]{moreKeysIndex}, new Object[]{prefixEntry.moreKeysNode});
             }
+            prefixEntry.moreKeysNode = null;
         }
-        fireSeparatorChanged();
-    }
-
-    private void fireSeparatorChanged() {
-        getFragmentedKeyModel().reload();
-    }
 
-    public static DefaultMutableTreeNode wrapNodes(DefaultMutableTreeNode source, String separator) {
-        if (isEmpty(separator)) {
-            return source;
-        }
-        DefaultMutableTreeNode targetRootNode = (DefaultMutableTreeNode) source.clone();
-        for (int i = 0; i < source.getChildCount(); i++) {
-            DefaultMutableTreeNode originalChildNode = (DefaultMutableTreeNode) source.getChildAt(i);
-            NoSqlTreeNode clonedChildNode = (NoSqlTreeNode) originalChildNode.clone();
-            RedisKeyValueDescriptor descriptor = (RedisKeyValueDescriptor) clonedChildNode.getDescriptor();
-            String[] explodedKey = StringUtils.explode(descriptor.getKey(), separator);
-            if (explodedKey.length == 1) {
-                addChildren(clonedChildNode, originalChildNode);
-                targetRootNode.add(clonedChildNode);
+        int firstIndex = node.getChildCount();
+        for (int index = prefixEntry.shownCount; index < shownCount; index++) {
+            Object child = prefixEntry.children.get(index);
+            if (child instanceof PrefixEntry) {
+                node.add(((PrefixEntry) child).node);
             } else {
-                updateTree(targetRootNode, originalChildNode, explodedKey, descriptor);
+                KeyEntry keyEntry = (KeyEntry) child;
+                node.add(RedisTreeModel.createRecordNode(keyEntry.keyFragment, keyEntry.redisRecord));
             }
         }
-        return targetRootNode;
-    }
+        prefixEntry.shownCount = shownCount;
+        if (shownCount < prefixEntry.children.size()) {
+            prefixEntry.moreKeysNode = new NoSqlTreeNode(new RedisMoreKeysDescriptor(prefixEntry.children.size() - shownCount));
+            node.add(prefixEntry.moreKeysNode);
+        }
 
-    private static void updateTree(DefaultMutableTreeNode parentTargetNode, DefaultMutableTreeNode originalChildNode, String[] explodedKey, RedisKeyValueDescriptor sourceDescriptor) {
-        if (explodedKey.length == 0) {
-            addChildren(parentTargetNode, originalChildNode);
-            return;
+        int[] insertedIndices = new int[node.getChildCount() - firstIndex];
+        for (int index = 0; index < insertedIndices.length; index++) {
+            insertedIndices[index] = firstIndex + index;
         }
-        String keyFragment = explodedKey[0];
-        NoSqlTreeNode node = findNodeByKey(parentTargetNode, keyFragment);
-        if (node == null) {
-            if (explodedKey.length == 1) {
-                node = new NoSqlTreeNode(RedisKeyValueDescriptor.createDescriptor(sourceDescriptor.getKeyType(), keyFragment, sourceDescriptor.getValue()));
-            } else {
-                node = new NoSqlTreeNode(FragmentedKeyNodeDescriptor.createDescriptor(keyFragment));
-            }
+        if (treeModel != null && insertedIndices.length > 0) {
+            treeModel.nodesWereInserted(node, insertedIndices);
         }
-        updateTree(node, originalChildNode, Arrays.copyOfRange(explodedKey, 1, explodedKey.length), sourceDescriptor);
-
-        parentTargetNode.add(node);
     }
 
-    private static NoSqlTreeNode findNodeByKey(DefaultMutableTreeNode parentTargetNode, String keyFragment) {
-        for (int i = 0; i < parentTargetNode.getChildCount(); i++) {
-            NoSqlTreeNode currentChild = (NoSqlTreeNode) parentTargetNode.getChildAt(i);
-            NodeDescriptor descriptor = currentChild.getDescriptor();
-            String nodeKey;
-            if (descriptor instanceof FragmentedKeyNodeDescriptor) {
-                nodeKey = ((FragmentedKeyNodeDescriptor) descriptor).getKeyFragment();
-            } else if (descriptor instanceof RedisKeyValueDescriptor) {
-                nodeKey = ((RedisKeyValueDescriptor) descriptor).getKey();
-            } else {
-                return null;
-            }
-            if (keyFragment.equals(nodeKey)) {
-                return currentChild;
-            }
+    private static class PrefixEntry {
+        private final NoSqlTreeNode node;
+        private final FragmentedKeyNodeDescriptor descriptor;
+        private final Map<String, PrefixEntry> prefixes = new HashMap<>();
+        private final List<Object> children = new ArrayList<>();
+        private int visibleCount;
+        private int shownCount;
+        private NoSqlTreeNode moreKeysNode;
+
+        private PrefixEntry(NoSqlTreeNode node, FragmentedKeyNodeDescriptor descriptor) {
+            this.node = node;
+            this.descriptor = descriptor;
+        }
+
+        private boolean isExpanded() {
+            return visibleCount > 0;
         }
-        return null;
     }
 
-    private static void addChildren(DefaultMutableTreeNode parentNode, DefaultMutableTreeNode originalChildNode) {
-        Enumeration children = originalChildNode.children();
-        while (children.hasMoreElements()) {
-            DefaultMutableTreeNode childNode = (DefaultMutableTreeNode) children.nextElement();
-            parentNode.add((MutableTreeNode) childNode.clone());
+    private static class KeyEntry {
+        private final String keyFragment;
+        private final RedisRecord redisRecord;
+
+        private KeyEntry(String keyFragment, RedisRecord redisRecord) {
+            this.keyFragment = keyFragment;
+            this.redisRecord = redisRecord;
         }
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyspaceReport;
+import org.codinjutsu.tools.nosql.redis.model.RedisMemoryAnalysisOptions;
+import org.codinjutsu.tools.nosql.redis.view.action.StopKeyspaceReportAction;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+public class RedisKeyspacePanel extends NoSqlResultView<RedisKeyspaceReport> {
+
+    private static final int REFRESH_DELAY_IN_MILLIS = 2000;
+
+    private final Project project;
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JBTextField separatorField;
+    private final JBTextField maxDepthField;
+    private final JBTextField keysPerSecondField;
+    private final JBLabel statusLabel = new JBLabel();
+
+    private final RedisPrefixTreeTableView prefixTreeTableView = new RedisPrefixTreeTableView();
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private volatile ProgressIndicator reportIndicator;
+    private RedisKeyspaceReport report = new RedisKeyspaceReport(RedisKeyspaceReport.DEFAULT_SEPARATOR, RedisKeyspaceReport.DEFAULT_MAX_DEPTH);
+
+    public RedisKeyspacePanel(Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database) {
+        this.project = project;
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        separatorField = new JBTextField(RedisKeyspaceReport.DEFAULT_SEPARATOR);
+        separatorField.setColumns(3);
+        maxDepthField = new JBTextField(String.valueOf(RedisKeyspaceReport.DEFAULT_MAX_DEPTH));
+        maxDepthField.setColumns(3);
+        keysPerSecondField = new JBTextField(String.valueOf(RedisMemoryAnalysisOptions.DEFAULT_KEYS_PER_SECOND));
+        keysPerSecondField.setColumns(6);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        prefixTreeTableView.setName("prefixTreeTable");
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(new JBScrollPane(prefixTreeTableView), BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshReport();
+            }
+        });
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(new JLabel("Separator:"));
+        westPanel.add(separatorField);
+        westPanel.add(new JLabel("Depth:"));
+        westPanel.add(maxDepthField);
+        westPanel.add(new JLabel("Keys/s:"));
+        westPanel.add(keysPerSecondField);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisKeyspaceGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new StopKeyspaceReportAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisKeyspaceGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisKeyspaceReport getRecords() {
+        return report;
+    }
+
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        stopReport();
+
+        final RedisMemoryAnalysisOptions options = new RedisMemoryAnalysisOptions();
+        options.setKeysPerSecond(getNumber(keysPerSecondField, RedisMemoryAnalysisOptions.DEFAULT_KEYS_PER_SECOND, RedisMemoryAnalysisOptions.UNTHROTTLED));
+
+        final RedisKeyspaceReport currentReport = new RedisKeyspaceReport(separatorField.getText(), getNumber(maxDepthField, RedisKeyspaceReport.DEFAULT_MAX_DEPTH, 1));
+        report = currentReport;
+        refreshReport();
+        refreshTimer.start();
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Building keyspace report", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                reportIndicator = indicator;
+                try {
+                    redisClient.analyzeMemory(configuration, database, options, currentReport, indicator);
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
+                        }
+                    });
+                } finally {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (report == currentReport) {
+                                reportIndicator = null;
+                                refreshTimer.stop();
+                                refreshReport();
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private int getNumber(JBTextField numberField, int defaultValue, int minValue) {
+        try {
+            int number = Integer.parseInt(numberField.getText().trim());
+            if (number >= minValue) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        GuiUtils.showNotification(numberField, MessageType.WARNING, String.format("Invalid value, using %d", defaultValue), Balloon.Position.below);
+        return defaultValue;
+    }
+
+    public boolean isReporting() {
+        return reportIndicator != null;
+    }
+
+    public void stopReport() {
+        ProgressIndicator indicator = reportIndicator;
+        if (indicator != null) {
+            indicator.cancel();
+            reportIndicator = null;
+        }
+        refreshTimer.stop();
+    }
+
+    private void refreshReport() {
+        if (prefixTreeTableView.getReport() == report) {
+            prefixTreeTableView.refresh();
+        } else {
+            prefixTreeTableView.setReport(report);
+        }
+        statusLabel.setText(String.format("%,d keys, %,d prefixes%s ", report.getAnalyzedKeys(), report.getPrefixCount(), isReporting() ? "..." : ""));
+    }
+
+    @Override
+    public void dispose() {
+        stopReport();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.mongo.view.JsonTreeTableView;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisLuaScript;
+import org.codinjutsu.tools.nosql.redis.model.RedisScriptResult;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+
+public class RedisLuaPanel extends NoSqlResultView<RedisScriptResult> {
+
+    private static final String DEFAULT_SCRIPT = "-- KEYS holds the keys (the keys of a SCAN page in batch mode), ARGV the arguments\n" +
+            "return #KEYS\n";
+
+    private final Project project;
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JTextArea scriptArea;
+    private final JBTextField keysField;
+    private final JBTextField argsField;
+    private final JCheckBox perScanPageCheckBox;
+    private final JBTextField filterField;
+    private final JBLabel statusLabel = new JBLabel();
+    private final JPanel resultPanel;
+
+    private RedisLuaScript script;
+    private RedisScriptResult scriptResult = new RedisScriptResult();
+    private volatile ProgressIndicator scriptIndicator;
+
+    public RedisLuaPanel(Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database) {
+        this.project = project;
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        keysField = createTextField(14);
+        argsField = createTextField(14);
+        perScanPageCheckBox = new JCheckBox("Per SCAN page");
+        perScanPageCheckBox.setOpaque(false);
+        filterField = createTextField(8);
+        filterField.setText("*");
+        filterField.setEnabled(false);
+        perScanPageCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                filterField.setEnabled(perScanPageCheckBox.isSelected());
+                keysField.setEnabled(!perScanPageCheckBox.isSelected());
+            }
+        });
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        scriptArea = new JTextArea(DEFAULT_SCRIPT);
+        scriptArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, scriptArea.getFont().getSize()));
+        scriptArea.setTabSize(4);
+
+        resultPanel = new JPanel(new BorderLayout());
+        Splitter splitter = new Splitter(true, 0.4f);
+        splitter.setFirstComponent(new JBScrollPane(scriptArea));
+        splitter.setSecondComponent(resultPanel);
+        add(splitter, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+    }
+
+    private static JBTextField createTextField(int columns) {
+        JBTextField textField = new JBTextField();
+        textField.setColumns(columns);
+        return textField;
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(new JLabel("Keys:"));
+        westPanel.add(keysField);
+        westPanel.add(new JLabel("Args:"));
+        westPanel.add(argsField);
+        westPanel.add(perScanPageCheckBox);
+        westPanel.add(filterField);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisLuaGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisLuaGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    @Override
+    public void showResults() {
+        // a script may write, so it is only run on demand
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisScriptResult getRecords() {
+        return scriptResult;
+    }
+
+    @Override
+    public void executeQuery() {
+        if (scriptIndicator != null) {
+            return;
+        }
+        errorPanel.setVisible(false);
+
+        String source = scriptArea.getText();
+        if (script == null || !script.getSource().equals(source)) {
+            script = new RedisLuaScript(source);
+        }
+        final RedisLuaScript currentScript = script;
+        final boolean perScanPage = perScanPageCheckBox.isSelected();
+        final List<String> keys = RedisLuaScript.parseArguments(keysField.getText());
+        final List<String> args = RedisLuaScript.parseArguments(argsField.getText());
+        final String filter = filterField.getText();
+        statusLabel.setText("Running... ");
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Running Lua script", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                scriptIndicator = indicator;
+                try {
+                    final RedisScriptResult result = perScanPage ?
+                            redisClient.runScriptPerScanPage(configuration, database, currentScript, filter, args, indicator) :
+                            redisClient.runScript(configuration, database, currentScript, keys, args);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            updateResultTree(result, perScanPage);
+                        }
+                    });
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            statusLabel.setText("");
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
+                        }
+                    });
+                } finally {
+                    scriptIndicator = null;
+                }
+            }
+        });
+    }
+
+    private void updateResultTree(RedisScriptResult result, boolean perScanPage) {
+        scriptResult = result;
+        JsonTreeTableView resultTableView = new JsonTreeTableView(RedisTreeModel.buildTree(result, perScanPage), JsonTreeTableView.COLUMNS_FOR_READING);
+        resultTableView.setName("scriptResultTreeTable");
+
+        resultPanel.invalidate();
+        resultPanel.removeAll();
+        resultPanel.add(new JBScrollPane(resultTableView), BorderLayout.CENTER);
+        resultPanel.validate();
+
+        if (perScanPage) {
+            statusLabel.setText(String.format("%,d keys in %,d calls, %d ms ", result.getProcessedKeys(), result.getScriptCalls(), result.getDurationInMillis()));
+        } else {
+            statusLabel.setText(String.format("%d ms ", result.getDurationInMillis()));
+        }
+    }
+
+    @Override
+    public void dispose() {
+        ProgressIndicator indicator = scriptIndicator;
+        if (indicator != null) {
+            indicator.cancel();
+        }
+    }
+}
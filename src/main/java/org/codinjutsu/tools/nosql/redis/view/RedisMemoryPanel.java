@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import com.intellij.ui.table.JBTable;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisMemoryAnalysis;
+import org.codinjutsu.tools.nosql.redis.model.RedisMemoryAnalysisOptions;
+import org.codinjutsu.tools.nosql.redis.view.action.StopMemoryAnalysisAction;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisKeyMemoryTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisTypeMemoryTableModel;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+public class RedisMemoryPanel extends NoSqlResultView<RedisMemoryAnalysis> {
+
+    private static final int REFRESH_DELAY_IN_MILLIS = 1000;
+
+    private final Project project;
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JCheckBox samplingCheckBox;
+    private final JBTextField sampleSizeField;
+    private final JBTextField topKeyCountField;
+    private final JBTextField keysPerSecondField;
+    private final JBLabel statusLabel = new JBLabel();
+
+    private final RedisTypeMemoryTableModel typeMemoryTableModel = new RedisTypeMemoryTableModel();
+    private final RedisKeyMemoryTableModel keyMemoryTableModel = new RedisKeyMemoryTableModel();
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private volatile ProgressIndicator analysisIndicator;
+    private RedisMemoryAnalysis analysis = new RedisMemoryAnalysis(RedisMemoryAnalysisOptions.DEFAULT_TOP_KEY_COUNT);
+
+    public RedisMemoryPanel(Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database) {
+        this.project = project;
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        samplingCheckBox = new JCheckBox("Sample");
+        samplingCheckBox.setOpaque(false);
+        sampleSizeField = createNumberField(RedisMemoryAnalysisOptions.DEFAULT_SAMPLE_SIZE);
+        topKeyCountField = createNumberField(RedisMemoryAnalysisOptions.DEFAULT_TOP_KEY_COUNT);
+        keysPerSecondField = createNumberField(RedisMemoryAnalysisOptions.DEFAULT_KEYS_PER_SECOND);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        Splitter splitter = new Splitter(true, 0.3f);
+        splitter.setFirstComponent(new JBScrollPane(createTable(typeMemoryTableModel, "typeMemoryTable")));
+        splitter.setSecondComponent(new JBScrollPane(createTable(keyMemoryTableModel, "keyMemoryTable")));
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(splitter, BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshAnalysis();
+            }
+        });
+    }
+
+    private static JBTextField createNumberField(int defaultValue) {
+        JBTextField numberField = new JBTextField(String.valueOf(defaultValue));
+        numberField.setColumns(6);
+        return numberField;
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(samplingCheckBox);
+        westPanel.add(sampleSizeField);
+        westPanel.add(new JLabel("Top:"));
+        westPanel.add(topKeyCountField);
+        westPanel.add(new JLabel("Keys/s:"));
+        westPanel.add(keysPerSecondField);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisMemoryGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new StopMemoryAnalysisAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisMemoryGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    private static JBTable createTable(javax.swing.table.TableModel tableModel, String name) {
+        JBTable table = new JBTable(tableModel);
+        table.setName(name);
+        table.setAutoCreateRowSorter(true);
+        return table;
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisMemoryAnalysis getRecords() {
+        return analysis;
+    }
+
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        stopAnalysis();
+
+        final RedisMemoryAnalysisOptions options = new RedisMemoryAnalysisOptions();
+        options.setSampling(samplingCheckBox.isSelected());
+        options.setSampleSize(getNumber(sampleSizeField, RedisMemoryAnalysisOptions.DEFAULT_SAMPLE_SIZE, 1));
+        options.setTopKeyCount(getNumber(topKeyCountField, RedisMemoryAnalysisOptions.DEFAULT_TOP_KEY_COUNT, 1));
+        options.setKeysPerSecond(getNumber(keysPerSecondField, RedisMemoryAnalysisOptions.DEFAULT_KEYS_PER_SECOND, RedisMemoryAnalysisOptions.UNTHROTTLED));
+
+        final RedisMemoryAnalysis currentAnalysis = new RedisMemoryAnalysis(options.getTopKeyCount());
+        analysis = currentAnalysis;
+        refreshAnalysis();
+        refreshTimer.start();
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Analyzing memory", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                analysisIndicator = indicator;
+                try {
+                    redisClient.analyzeMemory(configuration, database, options, currentAnalysis, indicator);
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
+                        }
+                    });
+                } finally {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (analysis == currentAnalysis) {
+                                analysisIndicator = null;
+                                refreshTimer.stop();
+                                refreshAnalysis();
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private int getNumber(JBTextField numberField, int defaultValue, int minValue) {
+        try {
+            int number = Integer.parseInt(numberField.getText().trim());
+            if (number >= minValue) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        GuiUtils.showNotification(numberField, MessageType.WARNING, String.format("Invalid value, using %d", defaultValue), Balloon.Position.below);
+        return defaultValue;
+    }
+
+    public boolean isAnalyzing() {
+        return analysisIndicator != null;
+    }
+
+    public void stopAnalysis() {
+        ProgressIndicator indicator = analysisIndicator;
+        if (indicator != null) {
+            indicator.cancel();
+            analysisIndicator = null;
+        }
+        refreshTimer.stop();
+    }
+
+    private void refreshAnalysis() {
+        typeMemoryTableModel.setTypeStatistics(analysis.getTypeStatistics());
+        keyMemoryTableModel.setKeyMemories(analysis.getBiggestKeys());
+        statusLabel.setText(String.format("%,d keys analyzed%s ", analysis.getAnalyzedKeys(), isAnalyzing() ? "..." : ""));
+    }
+
+    @Override
+    public void dispose() {
+        stopAnalysis();
+    }
+}
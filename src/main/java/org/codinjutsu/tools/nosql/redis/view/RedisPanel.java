@@ -23,12 +23,22 @@ import com.intellij.openapi.actionSystem.ActionManager;
 import com.intellij.openapi.actionSystem.ActionToolbar;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptor;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.LoadingDecorator;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.popup.Balloon;
 import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBScrollPane;
 import com.intellij.ui.components.JBTextField;
 import com.intellij.ui.components.panels.NonOpaquePanel;
@@ -39,21 +49,63 @@ import org.codinjutsu.tools.nosql.ServerConfiguration;
 import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
 import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
 import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlTreeNode;
 import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.commons.view.editor.NoSqlDatabaseFileSystem;
 import org.codinjutsu.tools.nosql.mongo.view.JsonTreeTableView;
 import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisBinaryValue;
+import org.codinjutsu.tools.nosql.redis.model.RedisBulkOperation;
+import org.codinjutsu.tools.nosql.redis.model.RedisBulkOptions;
+import org.codinjutsu.tools.nosql.redis.model.RedisBulkReport;
 import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisExportFormat;
+import org.codinjutsu.tools.nosql.redis.model.RedisImportReport;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeySelection;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyType;
 import org.codinjutsu.tools.nosql.redis.model.RedisQuery;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
+import org.codinjutsu.tools.nosql.redis.model.RedisRestoreReport;
 import org.codinjutsu.tools.nosql.redis.model.RedisResult;
+import org.codinjutsu.tools.nosql.redis.model.RedisValuePage;
+import org.codinjutsu.tools.nosql.redis.view.action.BulkOperationAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ContinueScanningAction;
+import org.codinjutsu.tools.nosql.redis.view.action.CopyKeysAction;
 import org.codinjutsu.tools.nosql.redis.view.action.EnableGroupingAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ExportDataAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ImportKeysAction;
+import org.codinjutsu.tools.nosql.redis.view.action.InspectStreamAction;
 import org.codinjutsu.tools.nosql.redis.view.action.SetSeparatorAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ViewValueAction;
+import org.codinjutsu.tools.nosql.redis.view.editor.RedisStreamObjectFile;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.FragmentedKeyNodeDescriptor;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisKeyValueDescriptor;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisMoreKeysDescriptor;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisMoreValuesDescriptor;
+import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeWillExpandListener;
 import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreeNode;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 public class RedisPanel extends NoSqlResultView<RedisResult> {
 
+    private static final String ALL_TYPES = "all";
+    private static final String DUMP_FILE_EXTENSION = "rdump";
+    private static final String ERROR_FILE_SUFFIX = ".errors";
+
     private JPanel toolBarPanel;
     private JPanel containerPanel;
     private JPanel errorPanel;
@@ -69,9 +121,24 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
     private final ServerConfiguration configuration;
     private final RedisDatabase database;
     private JBTextField filterField;
-    private RedisResult redisResult;
+    private JBTextField keyLimitField;
+    private JComboBox<String> typeComboBox;
+    private JBTextField minSizeField;
+    private JBTextField maxSizeField;
+    private RedisQuery lastQuery;
+    private final JBLabel statusLabel = new JBLabel();
+    private RedisResult redisResult = new RedisResult();
+    private DefaultMutableTreeNode renderedNode;
+    private RedisFragmentedKeyTreeModel keyTreeModel;
+    private int regroupGeneration;
+    private boolean scanning;
+    private boolean expandingAll;
+    private final Set<RedisRecord> loadingRecords = new HashSet<>();
+    private int scanGeneration;
+    private volatile ProgressIndicator scanIndicator;
     private boolean groupData;
     private String groupSeparator;
+    private boolean keyOperationRunning;
 
     public RedisPanel(Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database) {
         this.project = project;
@@ -86,17 +153,12 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
         loadingDecorator = new LoadingDecorator(resultPanel, this, 0);
 
         containerPanel.add(loadingDecorator.getComponent());
-        loadAndDisplayResults(getFilter(), this.groupData, this.groupSeparator);
+        updateResultTableTree(redisResult, this.groupData, this.groupSeparator);
 
         setLayout(new BorderLayout());
         add(mainPanel);
     }
 
-    private void loadAndDisplayResults(final String filter, final boolean groupByPrefix, final String separator) {
-        redisResult = redisClient.loadRecords(configuration, database, new RedisQuery(filter));
-        updateResultTableTree(redisResult, groupByPrefix, separator);
-    }
-
     protected void buildQueryToolBar() {
         toolBarPanel.setLayout(new BorderLayout());
 
@@ -104,14 +166,51 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
         filterField.setColumns(10);
 
         NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 0, 0));
 
         NonOpaquePanel filterPanel = new NonOpaquePanel();
         filterPanel.add(new JLabel("Filter: "), BorderLayout.WEST);
         filterPanel.add(filterField, BorderLayout.CENTER);
         filterPanel.add(Box.createHorizontalStrut(5), BorderLayout.EAST);
-        westPanel.add(filterPanel, BorderLayout.WEST);
+        westPanel.add(filterPanel);
+
+        keyLimitField = new JBTextField(String.valueOf(RedisQuery.DEFAULT_KEY_LIMIT));
+        keyLimitField.setColumns(6);
+
+        NonOpaquePanel keyLimitPanel = new NonOpaquePanel();
+        keyLimitPanel.add(new JLabel("Key limit: "), BorderLayout.WEST);
+        keyLimitPanel.add(keyLimitField, BorderLayout.CENTER);
+        keyLimitPanel.add(Box.createHorizontalStrut(5), BorderLayout.EAST);
+        westPanel.add(keyLimitPanel);
+
+        typeComboBox = new JComboBox<>();
+        typeComboBox.addItem(ALL_TYPES);
+        for (RedisKeyType keyType : RedisKeyType.values()) {
+            typeComboBox.addItem(keyType.label);
+        }
+
+        NonOpaquePanel typePanel = new NonOpaquePanel();
+        typePanel.add(new JLabel("Type: "), BorderLayout.WEST);
+        typePanel.add(typeComboBox, BorderLayout.CENTER);
+        typePanel.add(Box.createHorizontalStrut(5), BorderLayout.EAST);
+        westPanel.add(typePanel);
+
+        minSizeField = new JBTextField();
+        minSizeField.setColumns(5);
+        maxSizeField = new JBTextField();
+        maxSizeField.setColumns(5);
+
+        NonOpaquePanel sizePanel = new NonOpaquePanel();
+        sizePanel.setLayout(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        sizePanel.add(new JLabel("Size: "));
+        sizePanel.add(minSizeField);
+        sizePanel.add(new JLabel(" to "));
+        sizePanel.add(maxSizeField);
+        sizePanel.add(Box.createHorizontalStrut(5));
+        westPanel.add(sizePanel);
 
         toolBarPanel.add(westPanel, BorderLayout.WEST);
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
 
         addCommonsActions();
     }
@@ -154,10 +253,19 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
 
         DefaultActionGroup actionResultGroup = new DefaultActionGroup("RedisResultGroup", true);
         actionResultGroup.add(new ExecuteQuery<>(this));
+        actionResultGroup.add(new ContinueScanningAction(this));
         actionResultGroup.addSeparator();
         actionResultGroup.add(new EnableGroupingAction(this));
         actionResultGroup.add(new SetSeparatorAction(this));
         actionResultGroup.addSeparator();
+        actionResultGroup.add(new BulkOperationAction(this));
+        actionResultGroup.add(new CopyKeysAction(this));
+        actionResultGroup.add(new ExportDataAction(this));
+        actionResultGroup.add(new ImportKeysAction(this));
+        actionResultGroup.addSeparator();
+        actionResultGroup.add(new ViewValueAction(this));
+        actionResultGroup.add(new InspectStreamAction(this));
+        actionResultGroup.addSeparator();
         actionResultGroup.add(expandAllAction);
         actionResultGroup.add(collapseAllAction);
 
@@ -178,8 +286,46 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
         return "*";
     }
 
+    private int getKeyLimit() {
+        try {
+            int keyLimit = Integer.parseInt(keyLimitField.getText().trim());
+            if (keyLimit > 0) {
+                return keyLimit;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        GuiUtils.showNotification(keyLimitField, MessageType.WARNING, String.format("Invalid key limit, using %d", RedisQuery.DEFAULT_KEY_LIMIT), Balloon.Position.below);
+        return RedisQuery.DEFAULT_KEY_LIMIT;
+    }
+
+    private long getSize(JBTextField sizeField) {
+        String size = sizeField.getText().trim();
+        if (StringUtils.isEmpty(size)) {
+            return RedisQuery.NO_SIZE_LIMIT;
+        }
+        try {
+            return Math.max(0, Long.parseLong(size));
+        } catch (NumberFormatException ex) {
+            GuiUtils.showNotification(sizeField, MessageType.WARNING, "Invalid size, ignoring it", Balloon.Position.below);
+            return RedisQuery.NO_SIZE_LIMIT;
+        }
+    }
+
+    private RedisQuery buildQuery() {
+        RedisQuery query = new RedisQuery(getFilter(), getKeyLimit(), RedisQuery.FIRST_CURSOR);
+        query.setKeyType(RedisKeyType.getKeyType((String) typeComboBox.getSelectedItem()));
+        query.setMinSize(getSize(minSizeField));
+        query.setMaxSize(getSize(maxSizeField));
+        return query;
+    }
+
     void expandAll() {
-        TreeUtil.expandAll(resultTableView.getTree());
+        expandingAll = true;
+        try {
+            TreeUtil.expandAll(resultTableView.getTree());
+        } finally {
+            expandingAll = false;
+        }
     }
 
     void collapseAll() {
@@ -188,18 +334,93 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
     }
 
     public void updateResultTableTree(RedisResult redisResult, boolean groupByPrefix, String separator) {
-        DefaultMutableTreeNode rootNode = RedisTreeModel.buildTree(redisResult);
-        DefaultMutableTreeNode renderedNode = rootNode;
-        if (groupByPrefix && StringUtils.isNotBlank(separator)) {
-            renderedNode = RedisFragmentedKeyTreeModel.wrapNodes(rootNode, separator);
-        }
+        RedisFragmentedKeyTreeModel treeModel = new RedisFragmentedKeyTreeModel(getTreeSeparator(groupByPrefix, separator));
+        treeModel.insertRecords(redisResult.getResults());
+        showKeyTree(treeModel);
+    }
+
+    private static String getTreeSeparator(boolean groupByPrefix, String separator) {
+        return groupByPrefix && StringUtils.isNotBlank(separator) ? separator : null;
+    }
+
+    /**
+     * Regroups the keys in the background when the grouping or the separator changes; the keys of the pages
+     * received meanwhile are inserted before the new tree is shown.
+     */
+    private void regroupKeys() {
+        final int generation = ++regroupGeneration;
+        final RedisResult currentResult = redisResult;
+        final List<RedisRecord> groupedRecords = new ArrayList<>(currentResult.getResults());
+        final String separator = getTreeSeparator(groupData, groupSeparator);
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Grouping keys", false) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                final RedisFragmentedKeyTreeModel treeModel = new RedisFragmentedKeyTreeModel(separator);
+                treeModel.insertRecords(groupedRecords);
+                GuiUtils.runInSwingThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (generation != regroupGeneration || currentResult != redisResult) {
+                            return;
+                        }
+                        List<RedisRecord> redisRecords = currentResult.getResults();
+                        treeModel.insertRecords(redisRecords.subList(groupedRecords.size(), redisRecords.size()));
+                        showKeyTree(treeModel);
+                    }
+                });
+            }
+        });
+    }
+
+    private void showKeyTree(RedisFragmentedKeyTreeModel treeModel) {
+        keyTreeModel = treeModel;
+        renderedNode = treeModel.getRoot();
         resultTableView = new JsonTreeTableView(renderedNode, JsonTreeTableView.COLUMNS_FOR_READING);
         resultTableView.setName("resultTreeTable");
+        treeModel.setTreeModel((DefaultTreeModel) resultTableView.getTableModel());
+        resultTableView.getTree().addTreeWillExpandListener(new TreeWillExpandListener() {
+            @Override
+            public void treeWillExpand(TreeExpansionEvent event) {
+                NoSqlTreeNode treeNode = (NoSqlTreeNode) event.getPath().getLastPathComponent();
+                if (treeNode.getDescriptor() instanceof FragmentedKeyNodeDescriptor) {
+                    keyTreeModel.expandPrefix(treeNode);
+                    return;
+                }
+                if (expandingAll || !(treeNode.getDescriptor() instanceof RedisKeyValueDescriptor)) {
+                    return;
+                }
+                RedisRecord redisRecord = ((RedisKeyValueDescriptor) treeNode.getDescriptor()).getRedisRecord();
+                if (redisRecord != null && !redisRecord.isValueComplete() && redisRecord.getLoadedCount() == 0) {
+                    loadMoreValues(treeNode, redisRecord);
+                }
+            }
+
+            @Override
+            public void treeWillCollapse(TreeExpansionEvent event) {
+            }
+        });
+        resultTableView.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent mouseEvent) {
+                if (mouseEvent.getClickCount() != 2) {
+                    return;
+                }
+                NoSqlTreeNode treeNode = (NoSqlTreeNode) resultTableView.getTree().getLastSelectedPathComponent();
+                if (treeNode != null && treeNode.getDescriptor() instanceof RedisMoreKeysDescriptor) {
+                    keyTreeModel.showMoreKeys(treeNode);
+                } else if (treeNode != null && treeNode.getDescriptor() instanceof RedisMoreValuesDescriptor) {
+                    loadMoreValues((NoSqlTreeNode) treeNode.getParent(), ((RedisMoreValuesDescriptor) treeNode.getDescriptor()).getRedisRecord());
+                } else if (getSelectedRecord(RedisKeyType.STRING) != null) {
+                    viewValue();
+                }
+            }
+        });
 
         resultPanel.invalidate();
         resultPanel.removeAll();
         resultPanel.add(new JBScrollPane(resultTableView));
         resultPanel.validate();
+        updateStatus();
     }
 
     @Override
@@ -219,20 +440,105 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
 
     @Override
     public void executeQuery() {
+        redisResult = new RedisResult();
+        updateResultTableTree(redisResult, isGroupDataEnabled(), getGroupSeparator());
+        lastQuery = buildQuery();
+        scan(lastQuery);
+    }
+
+    public void continueScanning() {
+        scan(lastQuery.withCursor(redisResult.getNextCursor(), redisResult.getPendingKeys()));
+    }
+
+    public boolean canContinueScanning() {
+        return !scanning && lastQuery != null && !redisResult.isScanComplete();
+    }
+
+    private void scan(final RedisQuery query) {
         errorPanel.setVisible(false);
-        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Executing query", true)  {
+        final int generation = ++scanGeneration;
+        cancelScan();
+        scanning = true;
+        loadingDecorator.startLoading(false);
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Scanning keys", true) {
             @Override
-            public void run(ProgressIndicator indicator) {
+            public void run(@NotNull ProgressIndicator indicator) {
+                scanIndicator = indicator;
                 try {
+                    redisClient.loadRecords(configuration, database, query, new RedisClient.KeyPageCallback() {
+                        @Override
+                        public void onKeyPage(final RedisResult pageResult) {
+                            GuiUtils.runInSwingThread(new Runnable() {
+                                @Override
+                                public void run() {
+                                    if (generation == scanGeneration) {
+                                        appendKeyPage(pageResult);
+                                    }
+                                }
+                            });
+                        }
+                    }, indicator);
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (final Exception ex) {
                     GuiUtils.runInSwingThread(new Runnable() {
                         @Override
                         public void run() {
-                            loadingDecorator.startLoading(false);
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
                         }
                     });
+                } finally {
+                    if (scanIndicator == indicator) {
+                        scanIndicator = null;
+                    }
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (generation == scanGeneration) {
+                                scanning = false;
+                                loadingDecorator.stopLoading();
+                                updateStatus();
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void cancelScan() {
+        ProgressIndicator indicator = scanIndicator;
+        if (indicator != null) {
+            indicator.cancel();
+            scanIndicator = null;
+        }
+    }
 
+    private void appendKeyPage(RedisResult pageResult) {
+        redisResult.addAll(pageResult);
+        keyTreeModel.insertRecords(pageResult.getResults());
+        updateStatus();
+    }
 
-                    loadAndDisplayResults(getFilter(), isGroupDataEnabled(), getGroupSeparator());
+    private void loadMoreValues(final NoSqlTreeNode keyNode, final RedisRecord redisRecord) {
+        if (redisRecord.isValueComplete() || !loadingRecords.add(redisRecord)) {
+            return;
+        }
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, String.format("Loading values of %s", redisRecord.getKey()), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    final RedisValuePage valuePage = redisClient.loadValues(configuration, database, redisRecord, RedisValuePage.DEFAULT_SIZE);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            appendValuePage(keyNode, redisRecord, valuePage);
+                        }
+                    });
                 } catch (final Exception ex) {
                     GuiUtils.runInSwingThread(new Runnable() {
                         @Override
@@ -248,18 +554,278 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
                     GuiUtils.runInSwingThread(new Runnable() {
                         @Override
                         public void run() {
-                            loadingDecorator.stopLoading();
+                            loadingRecords.remove(redisRecord);
                         }
                     });
                 }
             }
         });
+    }
+
+    private void appendValuePage(NoSqlTreeNode keyNode, RedisRecord redisRecord, RedisValuePage valuePage) {
+        if (keyNode.getRoot() != renderedNode) {
+            // the tree was rebuilt from the record meanwhile: its "more values" node loads this page again
+            return;
+        }
+        int firstIndex = redisRecord.getLoadedCount();
+        List<Object> appendedValues = redisRecord.appendValues(valuePage);
 
+        DefaultTreeModel treeModel = (DefaultTreeModel) resultTableView.getTableModel();
+
+        int moreValuesIndex = keyNode.getChildCount() - 1;
+        TreeNode moreValuesNode = keyNode.getChildAt(moreValuesIndex);
+        keyNode.remove(moreValuesIndex);
+        treeModel.nodesWereRemoved(keyNode, new int[]{moreValuesIndex}, new Object[]{moreValuesNode});
+
+        RedisTreeModel.addValueNodes(keyNode, redisRecord.getKeyType(), appendedValues, firstIndex);
+        if (!redisRecord.isValueComplete()) {
+            keyNode.add(new NoSqlTreeNode(new RedisMoreValuesDescriptor(redisRecord)));
+        }
+        int[] insertedIndices = new int[keyNode.getChildCount() - moreValuesIndex];
+        for (int index = 0; index < insertedIndices.length; index++) {
+            insertedIndices[index] = moreValuesIndex + index;
+        }
+        treeModel.nodesWereInserted(keyNode, insertedIndices);
+        treeModel.nodeChanged(keyNode);
+    }
+
+    /**
+     * @return the selected key record of the given type, or <code>null</code> when the selection is not such a key
+     */
+    public RedisRecord getSelectedRecord(RedisKeyType keyType) {
+        if (resultTableView == null) {
+            return null;
+        }
+        NoSqlTreeNode treeNode = (NoSqlTreeNode) resultTableView.getTree().getLastSelectedPathComponent();
+        if (treeNode == null || !(treeNode.getDescriptor() instanceof RedisKeyValueDescriptor)) {
+            return null;
+        }
+        RedisRecord redisRecord = ((RedisKeyValueDescriptor) treeNode.getDescriptor()).getRedisRecord();
+        if (redisRecord == null || !keyType.equals(redisRecord.getKeyType())) {
+            return null;
+        }
+        return redisRecord;
+    }
+
+    public void inspectStream() {
+        RedisRecord redisRecord = getSelectedRecord(RedisKeyType.STREAM);
+        if (redisRecord != null) {
+            NoSqlDatabaseFileSystem.getInstance().openEditor(new RedisStreamObjectFile(project, configuration, database, redisRecord.getKey()));
+        }
+    }
+
+    public void viewValue() {
+        RedisRecord redisRecord = getSelectedRecord(RedisKeyType.STRING);
+        if (redisRecord != null && redisRecord.getValue() instanceof RedisBinaryValue) {
+            new RedisValueViewerDialog(this, project, redisClient, configuration, database, redisRecord.getKey(), (RedisBinaryValue) redisRecord.getValue()).show();
+        }
+    }
+
+    public boolean isKeyOperationRunning() {
+        return keyOperationRunning;
+    }
+
+    public void runBulkOperation() {
+        final String filter = getFilter();
+        RedisBulkOperationDialog dialog = new RedisBulkOperationDialog(this, project, redisClient, configuration, database, filter);
+        dialog.show();
+        if (!dialog.isOK()) {
+            return;
+        }
+        final RedisBulkOptions options = dialog.getOptions();
+        final long expectedKeyCount = dialog.getKeyCount();
+        if (RedisBulkOperation.DELETE.equals(options.getOperation()) || RedisBulkOperation.RENAME.equals(options.getOperation())) {
+            int result = JOptionPane.showConfirmDialog(null, String.format("Do you REALLY want to %s the keys matching %s?", options.getOperation().label.toLowerCase(), filter), "Warning", JOptionPane.YES_NO_OPTION);
+            if (result != JOptionPane.YES_OPTION) {
+                return;
+            }
+        }
+
+        runKeyOperation(String.format("%s: %s", options.getOperation().label, filter), true, new KeyOperation() {
+            @Override
+            public String run(ProgressIndicator indicator) {
+                RedisBulkReport report = redisClient.executeBulkOperation(configuration, database, options, expectedKeyCount, indicator);
+                return String.format("%,d of %,d keys updated", report.getUpdatedKeys(), report.getScannedKeys());
+            }
+        });
+    }
+
+    public void copyKeys() {
+        List<String> resultKeys = new ArrayList<>(redisResult.getResults().size());
+        for (RedisRecord redisRecord : redisResult.getResults()) {
+            resultKeys.add(redisRecord.getKey());
+        }
+        RedisCopyKeysDialog dialog = new RedisCopyKeysDialog(this, project, configuration, database, getFilter(), resultKeys);
+        dialog.show();
+        if (!dialog.isOK()) {
+            return;
+        }
+        final RedisKeySelection selection = dialog.getSelection();
+        if (dialog.isFileDestination()) {
+            VirtualFileWrapper fileWrapper = FileChooserFactory.getInstance()
+                    .createSaveFileDialog(new FileSaverDescriptor("Export Redis keys", "Choose the dump file to write to", DUMP_FILE_EXTENSION), project)
+                    .save(null, String.format("%s-%s.%s", configuration.getLabel(), database.getName(), DUMP_FILE_EXTENSION));
+            if (fileWrapper == null) {
+                return;
+            }
+            final File file = fileWrapper.getFile();
+            runKeyOperation(String.format("Exporting %s to %s", selection, file.getName()), false, new KeyOperation() {
+                @Override
+                public String run(ProgressIndicator indicator) throws IOException {
+                    return String.format("%,d keys exported", redisClient.exportKeys(configuration, database, selection, file, indicator));
+                }
+            });
+            return;
+        }
+
+        final ServerConfiguration targetConfiguration = dialog.getTargetConfiguration();
+        final RedisDatabase targetDatabase = dialog.getTargetDatabase();
+        final boolean replace = dialog.isReplace();
+        final boolean directTransfer = dialog.isDirectTransfer();
+        boolean copyToThisDatabase = StringUtils.equals(configuration.getServerUrl(), targetConfiguration.getServerUrl())
+                && StringUtils.equals(database.getName(), targetDatabase.getName());
+        runKeyOperation(String.format("Copying %s to %s/%s", selection, targetConfiguration.getLabel(), targetDatabase.getName()), copyToThisDatabase, new KeyOperation() {
+            @Override
+            public String run(ProgressIndicator indicator) throws IOException {
+                return formatRestoreReport("copied", redisClient.copyKeys(configuration, database, selection, targetConfiguration, targetDatabase, replace, directTransfer, indicator));
+            }
+        });
+    }
+
+    public void exportData() {
+        final RedisQuery query = buildQuery();
+        VirtualFileWrapper fileWrapper = FileChooserFactory.getInstance()
+                .createSaveFileDialog(new FileSaverDescriptor("Export Redis data", "Choose a JSON Lines file, or a CSV file to export the hashes",
+                        RedisExportFormat.JSON_LINES.extension, RedisExportFormat.CSV.extension), project)
+                .save(null, String.format("%s-%s.%s", configuration.getLabel(), database.getName(), RedisExportFormat.JSON_LINES.extension));
+        if (fileWrapper == null) {
+            return;
+        }
+        final File file = fileWrapper.getFile();
+        final RedisExportFormat format = RedisExportFormat.CSV.equals(RedisExportFormat.getFormat(file)) ? RedisExportFormat.CSV : RedisExportFormat.JSON_LINES;
+        runKeyOperation(String.format("Exporting keys matching %s to %s", query.getFilter(), file.getName()), false, new KeyOperation() {
+            @Override
+            public String run(ProgressIndicator indicator) throws IOException {
+                return String.format("%,d keys exported", redisClient.exportRecords(configuration, database, query, format, file, indicator));
+            }
+        });
+    }
+
+    /**
+     * Imports a JSON Lines or CSV export, or else a dump file.
+     */
+    public void importKeys() {
+        VirtualFile selectedFile = FileChooser.chooseFile(new FileChooserDescriptor(true, false, false, false, false, false), project, null);
+        if (selectedFile == null) {
+            return;
+        }
+        final File file = new File(selectedFile.getPath());
+        final RedisExportFormat format = RedisExportFormat.getFormat(file);
+        if (format != null) {
+            final File errorFile = new File(file.getPath() + ERROR_FILE_SUFFIX);
+            runKeyOperation(String.format("Importing %s", file.getName()), true, new KeyOperation() {
+                @Override
+                public String run(ProgressIndicator indicator) throws IOException {
+                    RedisImportReport report = redisClient.importRecords(configuration, database, format, file, errorFile, indicator);
+                    if (report.getFailedRecords() > 0) {
+                        return String.format("%,d records imported, %,d errors reported in %s", report.getImportedRecords(), report.getFailedRecords(), errorFile.getName());
+                    }
+                    return String.format("%,d records imported", report.getImportedRecords());
+                }
+            });
+            return;
+        }
+
+        int result = JOptionPane.showConfirmDialog(null, "Replace the existing keys?", "Import Redis keys", JOptionPane.YES_NO_CANCEL_OPTION);
+        if (result == JOptionPane.CANCEL_OPTION || result == JOptionPane.CLOSED_OPTION) {
+            return;
+        }
+        final boolean replace = result == JOptionPane.YES_OPTION;
+        runKeyOperation(String.format("Importing %s", file.getName()), true, new KeyOperation() {
+            @Override
+            public String run(ProgressIndicator indicator) throws IOException {
+                return formatRestoreReport("restored", redisClient.importKeys(configuration, database, file, replace, indicator));
+            }
+        });
+    }
+
+    private static String formatRestoreReport(String action, RedisRestoreReport report) {
+        String outcome = String.format("%,d keys %s", report.getRestoredKeys(), action);
+        if (report.getSkippedKeys() > 0) {
+            outcome += String.format(", %,d existing keys skipped", report.getSkippedKeys());
+        }
+        if (report.getFailedKeys() > 0) {
+            outcome += String.format(", %,d keys failed: %s", report.getFailedKeys(), report.getFirstError());
+        }
+        return outcome;
+    }
+
+    private interface KeyOperation {
+        /**
+         * @return the outcome to notify
+         */
+        String run(ProgressIndicator indicator) throws IOException;
+    }
+
+    /**
+     * Runs a key operation in a cancellable background task, then scans the keys again when the operation changes them.
+     */
+    private void runKeyOperation(String title, final boolean changesKeys, final KeyOperation operation) {
+        errorPanel.setVisible(false);
+        keyOperationRunning = true;
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, title, true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    final String outcome = operation.run(indicator);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            GuiUtils.showNotification(resultPanel, MessageType.INFO, outcome, Balloon.Position.above);
+                        }
+                    });
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
+                        }
+                    });
+                } finally {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            keyOperationRunning = false;
+                            if (changesKeys) {
+                                executeQuery();
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void updateStatus() {
+        String status = String.format("%d keys", redisResult.getResults().size());
+        if (scanning) {
+            status += ", scanning...";
+        } else if (!redisResult.isScanComplete()) {
+            status += ", more keys available";
+        }
+        statusLabel.setText(status + " ");
     }
 
     @Override
     public void dispose() {
-
+        scanGeneration++;
+        cancelScan();
     }
 
     public boolean isGroupDataEnabled() {
@@ -268,7 +834,7 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
 
     public void toggleGroupData(boolean enabled) {
         this.groupData = enabled;
-        updateResultTableTree(redisResult, this.groupData, this.groupSeparator);
+        regroupKeys();
     }
 
     public String getGroupSeparator() {
@@ -277,6 +843,6 @@ public class RedisPanel extends NoSqlResultView<RedisResult> {
 
     public void setGroupSeparator(String groupSeparator) {
         this.groupSeparator = groupSeparator;
-        updateResultTableTree(redisResult, this.groupData, this.groupSeparator);
+        regroupKeys();
     }
 }
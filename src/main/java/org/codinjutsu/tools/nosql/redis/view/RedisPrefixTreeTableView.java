@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.ui.treeStructure.treetable.ListTreeTableModelOnColumns;
+import com.intellij.ui.treeStructure.treetable.TreeTable;
+import com.intellij.ui.treeStructure.treetable.TreeTableModel;
+import com.intellij.ui.treeStructure.treetable.TreeTableTree;
+import com.intellij.util.ui.ColumnInfo;
+import com.intellij.util.ui.UIUtil;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyspaceReport;
+import org.codinjutsu.tools.nosql.redis.model.RedisPrefixStatistics;
+import org.codinjutsu.tools.nosql.redis.model.RedisTtlBucket;
+
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeWillExpandListener;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreePath;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.*;
+
+/**
+ * Shows the prefix tree of a keyspace report. The children of a prefix are only copied from the report when it is expanded,
+ * and a refresh only reloads the expanded prefixes. Clicking on a column header sorts the prefixes of every level by this column.
+ */
+public class RedisPrefixTreeTableView extends TreeTable {
+
+    private static final String ALL_KEYS = "(all keys)";
+
+    private static final PrefixColumnInfo[] COLUMNS;
+
+    static {
+        List<PrefixColumnInfo> columns = new ArrayList<>();
+        columns.add(new NameColumnInfo());
+        columns.add(new NumberColumnInfo("Keys") {
+            @Override
+            protected long valueOf(RedisPrefixStatistics prefixStatistics) {
+                return prefixStatistics.getKeyCount();
+            }
+        });
+        columns.add(new NumberColumnInfo("Memory (bytes)") {
+            @Override
+            protected long valueOf(RedisPrefixStatistics prefixStatistics) {
+                return prefixStatistics.getMemory();
+            }
+        });
+        columns.add(new TypeMixColumnInfo());
+        for (final RedisTtlBucket ttlBucket : RedisTtlBucket.values()) {
+            columns.add(new NumberColumnInfo(ttlBucket.label) {
+                @Override
+                protected long valueOf(RedisPrefixStatistics prefixStatistics) {
+                    return prefixStatistics.getKeyCount(ttlBucket);
+                }
+            });
+        }
+        COLUMNS = columns.toArray(new PrefixColumnInfo[columns.size()]);
+    }
+
+    private final ListTreeTableModelOnColumns treeTableModel;
+    private final DefaultMutableTreeNode rootNode;
+    private RedisKeyspaceReport report;
+    private int sortedColumn = 1;
+
+    public RedisPrefixTreeTableView() {
+        this(new ListTreeTableModelOnColumns(new DefaultMutableTreeNode(), COLUMNS));
+    }
+
+    private RedisPrefixTreeTableView(ListTreeTableModelOnColumns model) {
+        super(model);
+        treeTableModel = model;
+        rootNode = (DefaultMutableTreeNode) model.getRoot();
+
+        TreeTableTree tree = getTree();
+        tree.setShowsRootHandles(true);
+        tree.setRootVisible(true);
+        UIUtil.setLineStyleAngled(tree);
+        tree.addTreeWillExpandListener(new TreeWillExpandListener() {
+            @Override
+            public void treeWillExpand(TreeExpansionEvent event) {
+                DefaultMutableTreeNode node = (DefaultMutableTreeNode) event.getPath().getLastPathComponent();
+                if (node.getChildCount() == 1 && getStatistics(node.getFirstChild()) == null) {
+                    loadChildren(node, Collections.<String>emptySet());
+                    treeTableModel.nodeStructureChanged(node);
+                }
+            }
+
+            @Override
+            public void treeWillCollapse(TreeExpansionEvent event) {
+            }
+        });
+
+        getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent mouseEvent) {
+                int column = convertColumnIndexToModel(getTableHeader().columnAtPoint(mouseEvent.getPoint()));
+                if (column >= 0 && column != sortedColumn) {
+                    sortedColumn = column;
+                    refresh();
+                }
+            }
+        });
+    }
+
+    public RedisKeyspaceReport getReport() {
+        return report;
+    }
+
+    public void setReport(RedisKeyspaceReport report) {
+        this.report = report;
+        refresh();
+    }
+
+    /**
+     * Reloads the root and the expanded prefixes from the report, then expands them again.
+     */
+    public void refresh() {
+        if (report == null) {
+            return;
+        }
+        Set<String> expandedPrefixes = new HashSet<>();
+        TreeTableTree tree = getTree();
+        Enumeration<TreePath> expandedPaths = tree.getExpandedDescendants(new TreePath(rootNode));
+        if (expandedPaths != null) {
+            while (expandedPaths.hasMoreElements()) {
+                RedisPrefixStatistics prefixStatistics = getStatistics(expandedPaths.nextElement().getLastPathComponent());
+                if (prefixStatistics != null) {
+                    expandedPrefixes.add(prefixStatistics.getPrefix());
+                }
+            }
+        }
+
+        rootNode.setUserObject(report.getRoot());
+        loadChildren(rootNode, expandedPrefixes);
+        treeTableModel.nodeStructureChanged(rootNode);
+
+        tree.expandPath(new TreePath(rootNode));
+        Enumeration nodes = rootNode.breadthFirstEnumeration();
+        while (nodes.hasMoreElements()) {
+            DefaultMutableTreeNode node = (DefaultMutableTreeNode) nodes.nextElement();
+            RedisPrefixStatistics prefixStatistics = getStatistics(node);
+            if (prefixStatistics != null && expandedPrefixes.contains(prefixStatistics.getPrefix())) {
+                tree.expandPath(new TreePath(node.getPath()));
+            }
+        }
+    }
+
+    /**
+     * Copies the children of the node prefix from the report, and recursively those of the expanded prefixes. The children of
+     * the other prefixes are replaced by a placeholder until they are expanded.
+     */
+    private void loadChildren(DefaultMutableTreeNode node, Set<String> expandedPrefixes) {
+        node.removeAllChildren();
+        List<RedisPrefixStatistics> children = report.getChildren(getStatistics(node).getPrefix());
+        Collections.sort(children, COLUMNS[sortedColumn].getPrefixComparator());
+        for (RedisPrefixStatistics child : children) {
+            DefaultMutableTreeNode childNode = new DefaultMutableTreeNode(child);
+            if (child.getChildCount() > 0) {
+                if (expandedPrefixes.contains(child.getPrefix())) {
+                    loadChildren(childNode, expandedPrefixes);
+                } else {
+                    childNode.add(new DefaultMutableTreeNode());
+                }
+            }
+            node.add(childNode);
+        }
+    }
+
+    /**
+     * @return the statistics of the node, or <code>null</code> for the placeholder of a prefix not expanded yet
+     */
+    private static RedisPrefixStatistics getStatistics(Object node) {
+        Object userObject = ((DefaultMutableTreeNode) node).getUserObject();
+        return userObject instanceof RedisPrefixStatistics ? (RedisPrefixStatistics) userObject : null;
+    }
+
+    private static abstract class PrefixColumnInfo<Aspect> extends ColumnInfo<Object, Aspect> {
+
+        private PrefixColumnInfo(String name) {
+            super(name);
+        }
+
+        protected abstract Comparator<RedisPrefixStatistics> getPrefixComparator();
+    }
+
+    private static class NameColumnInfo extends PrefixColumnInfo<String> {
+
+        private NameColumnInfo() {
+            super("Prefix");
+        }
+
+        @Override
+        public String valueOf(Object node) {
+            RedisPrefixStatistics prefixStatistics = getStatistics(node);
+            if (prefixStatistics == null) {
+                return null;
+            }
+            return prefixStatistics.getPrefix().isEmpty() ? ALL_KEYS : prefixStatistics.getName();
+        }
+
+        @Override
+        public Class getColumnClass() {
+            return TreeTableModel.class;
+        }
+
+        @Override
+        protected Comparator<RedisPrefixStatistics> getPrefixComparator() {
+            return new Comparator<RedisPrefixStatistics>() {
+                @Override
+                public int compare(RedisPrefixStatistics prefixStatistics1, RedisPrefixStatistics prefixStatistics2) {
+                    return prefixStatistics1.getName().compareTo(prefixStatistics2.getName());
+                }
+            };
+        }
+    }
+
+    private static abstract class NumberColumnInfo extends PrefixColumnInfo<Long> {
+
+        private NumberColumnInfo(String name) {
+            super(name);
+        }
+
+        protected abstract long valueOf(RedisPrefixStatistics prefixStatistics);
+
+        @Override
+        public Long valueOf(Object node) {
+            RedisPrefixStatistics prefixStatistics = getStatistics(node);
+            return prefixStatistics == null ? null : valueOf(prefixStatistics);
+        }
+
+        @Override
+        public Class getColumnClass() {
+            return Long.class;
+        }
+
+        @Override
+        protected Comparator<RedisPrefixStatistics> getPrefixComparator() {
+            return new Comparator<RedisPrefixStatistics>() {
+                @Override
+                public int compare(RedisPrefixStatistics prefixStatistics1, RedisPrefixStatistics prefixStatistics2) {
+                    return Long.compare(valueOf(prefixStatistics2), valueOf(prefixStatistics1));
+                }
+            };
+        }
+    }
+
+    private static class TypeMixColumnInfo extends PrefixColumnInfo<String> {
+
+        private TypeMixColumnInfo() {
+            super("Types");
+        }
+
+        @Override
+        public String valueOf(Object node) {
+            RedisPrefixStatistics prefixStatistics = getStatistics(node);
+            if (prefixStatistics == null) {
+                return null;
+            }
+            StringBuilder typeMix = new StringBuilder();
+            for (Map.Entry<String, Long> typeCount : prefixStatistics.getKeyCountByType().entrySet()) {
+                if (typeMix.length() > 0) {
+                    typeMix.append(", ");
+                }
+                typeMix.append(String.format("%s %d%%", typeCount.getKey(), typeCount.getValue() * 100 / prefixStatistics.getKeyCount()));
+            }
+            return typeMix.toString();
+        }
+
+        @Override
+        protected Comparator<RedisPrefixStatistics> getPrefixComparator() {
+            return new Comparator<RedisPrefixStatistics>() {
+                @Override
+                public int compare(RedisPrefixStatistics prefixStatistics1, RedisPrefixStatistics prefixStatistics2) {
+                    return prefixStatistics1.getKeyCountByType().keySet().toString().compareTo(prefixStatistics2.getKeyCountByType().keySet().toString());
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import com.intellij.ui.table.JBTable;
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.logic.RedisPubSubListener;
+import org.codinjutsu.tools.nosql.redis.model.RedisPayloadSizeHistogram;
+import org.codinjutsu.tools.nosql.redis.model.RedisPubSubStatistics;
+import org.codinjutsu.tools.nosql.redis.view.action.StopPubSubAction;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisChannelRateTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisPayloadSizeTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisPubSubMessageTableModel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Messages are received on a connection of their own and only the last ones are kept; the tables are refreshed once per second.
+ */
+public class RedisPubSubPanel extends NoSqlResultView<RedisPubSubStatistics> {
+
+    private static final int REFRESH_DELAY_IN_MILLIS = 1000;
+
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JBTextField channelsField;
+    private final JBTextField patternsField;
+    private final JCheckBox histogramCheckBox;
+    private final JBLabel statusLabel = new JBLabel();
+
+    private final JBTextField publishChannelField;
+    private final JBTextField publishMessageField;
+
+    private final RedisChannelRateTableModel channelRateTableModel = new RedisChannelRateTableModel();
+    private final RedisPayloadSizeTableModel payloadSizeTableModel = new RedisPayloadSizeTableModel();
+    private final RedisPubSubMessageTableModel messageTableModel = new RedisPubSubMessageTableModel();
+    private final JBTable channelRateTable;
+    private final JComponent payloadSizeComponent;
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private RedisPubSubListener pubSubListener;
+    private RedisPubSubStatistics statistics = new RedisPubSubStatistics(false);
+
+    public RedisPubSubPanel(Project project, RedisClient redisClient, ServerConfiguration configuration) {
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        channelsField = new JBTextField();
+        channelsField.setColumns(16);
+        channelsField.setToolTipText("Channels separated by spaces");
+        patternsField = new JBTextField();
+        patternsField.setColumns(16);
+        patternsField.setToolTipText("Patterns separated by spaces, e.g. events.*");
+        histogramCheckBox = new JCheckBox("Payload size histogram");
+        histogramCheckBox.setOpaque(false);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        channelRateTable = createTable(channelRateTableModel, "channelRateTable");
+        payloadSizeComponent = new JBScrollPane(createTable(payloadSizeTableModel, "payloadSizeTable"));
+        payloadSizeComponent.setVisible(false);
+        Splitter statisticsSplitter = new Splitter(false, 0.7f);
+        statisticsSplitter.setFirstComponent(new JBScrollPane(channelRateTable));
+        statisticsSplitter.setSecondComponent(payloadSizeComponent);
+        Splitter splitter = new Splitter(true, 0.4f);
+        splitter.setFirstComponent(statisticsSplitter);
+        splitter.setSecondComponent(new JBScrollPane(createTable(messageTableModel, "messageTable")));
+
+        publishChannelField = new JBTextField();
+        publishChannelField.setColumns(16);
+        publishMessageField = new JBTextField();
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(splitter, BorderLayout.CENTER);
+        resultPanel.add(createPublishPanel(), BorderLayout.SOUTH);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshStatistics();
+            }
+        });
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(new JLabel("Channels:"));
+        westPanel.add(channelsField);
+        westPanel.add(new JLabel("Patterns:"));
+        westPanel.add(patternsField);
+        westPanel.add(histogramCheckBox);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisPubSubGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new StopPubSubAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisPubSubGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    private JPanel createPublishPanel() {
+        NonOpaquePanel channelPanel = new NonOpaquePanel();
+        channelPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        channelPanel.add(new JLabel("Publish to:"));
+        channelPanel.add(publishChannelField);
+
+        JButton publishButton = new JButton("Publish");
+        publishButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                publish();
+            }
+        });
+
+        JPanel publishPanel = new JPanel(new BorderLayout(5, 0));
+        publishPanel.add(channelPanel, BorderLayout.WEST);
+        publishPanel.add(publishMessageField, BorderLayout.CENTER);
+        publishPanel.add(publishButton, BorderLayout.EAST);
+        return publishPanel;
+    }
+
+    private static JBTable createTable(javax.swing.table.TableModel tableModel, String name) {
+        JBTable table = new JBTable(tableModel);
+        table.setName(name);
+        table.setAutoCreateRowSorter(true);
+        return table;
+    }
+
+    /**
+     * Nothing is subscribed when the tab opens, the channels have to be filled first.
+     */
+    @Override
+    public void showResults() {
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisPubSubStatistics getRecords() {
+        return statistics;
+    }
+
+    @Override
+    public void executeQuery() {
+        List<String> channels = splitNames(channelsField.getText());
+        List<String> patterns = splitNames(patternsField.getText());
+        if (channels.isEmpty() && patterns.isEmpty()) {
+            GuiUtils.showNotification(channelsField, MessageType.WARNING, "Enter at least one channel or one pattern", Balloon.Position.below);
+            return;
+        }
+
+        errorPanel.setVisible(false);
+        stopSubscription();
+
+        try {
+            pubSubListener = redisClient.subscribe(configuration, channels, patterns, histogramCheckBox.isSelected());
+            statistics = pubSubListener.getStatistics();
+            payloadSizeComponent.setVisible(statistics.isPayloadSizeHistogramEnabled());
+            refreshTimer.start();
+        } catch (Exception ex) {
+            showError(ex);
+        }
+    }
+
+    private static List<String> splitNames(String names) {
+        if (StringUtils.isBlank(names)) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(StringUtils.split(names));
+    }
+
+    public boolean isSubscribed() {
+        return pubSubListener != null && pubSubListener.isRunning();
+    }
+
+    public void stopSubscription() {
+        if (pubSubListener != null) {
+            pubSubListener.stop();
+            pubSubListener = null;
+        }
+        refreshTimer.stop();
+    }
+
+    private void publish() {
+        final String channel = publishChannelField.getText();
+        final String message = publishMessageField.getText();
+        if (StringUtils.isBlank(channel)) {
+            GuiUtils.showNotification(publishChannelField, MessageType.WARNING, "Enter the channel to publish to", Balloon.Position.above);
+            return;
+        }
+        ApplicationManager.getApplication().executeOnPooledThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final long receivers = redisClient.publish(configuration, channel, message);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            GuiUtils.showNotification(publishMessageField, MessageType.INFO, String.format("Message received by %d subscriber(s)", receivers), Balloon.Position.above);
+                        }
+                    });
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            showError(ex);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void refreshStatistics() {
+        String selectedChannel = getSelectedChannel();
+        channelRateTableModel.setChannelRates(statistics.getChannelRates(System.currentTimeMillis() / 1000));
+        selectChannel(selectedChannel);
+        RedisPayloadSizeHistogram histogram = statistics.getPayloadSizeHistogram(selectedChannel);
+        if (histogram != null) {
+            payloadSizeTableModel.setHistogram(histogram);
+        }
+        messageTableModel.setMessages(statistics.getRecentMessages());
+        statusLabel.setText(String.format("%,d messages, %s received ", statistics.getReceivedMessages(), StringUtil.formatFileSize(statistics.getReceivedBytes())));
+
+        if (pubSubListener != null && pubSubListener.getFailure() != null) {
+            Exception failure = pubSubListener.getFailure();
+            stopSubscription();
+            showError(failure);
+        }
+    }
+
+    private String getSelectedChannel() {
+        int selectedRow = channelRateTable.getSelectedRow();
+        if (selectedRow < 0) {
+            return null;
+        }
+        return channelRateTableModel.getChannelRate(channelRateTable.convertRowIndexToModel(selectedRow)).getChannel();
+    }
+
+    private void selectChannel(String channel) {
+        if (channel == null) {
+            return;
+        }
+        for (int row = 0; row < channelRateTableModel.getRowCount(); row++) {
+            if (channel.equals(channelRateTableModel.getChannelRate(row).getChannel())) {
+                int viewRow = channelRateTable.convertRowIndexToView(row);
+                channelRateTable.getSelectionModel().setSelectionInterval(viewRow, viewRow);
+                return;
+            }
+        }
+    }
+
+    private void showError(Exception ex) {
+        errorPanel.invalidate();
+        errorPanel.removeAll();
+        errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+        errorPanel.validate();
+        errorPanel.setVisible(true);
+    }
+
+    @Override
+    public void dispose() {
+        stopSubscription();
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import com.intellij.ui.table.JBTable;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisCommandShape;
+import org.codinjutsu.tools.nosql.redis.model.RedisLatencyEvent;
+import org.codinjutsu.tools.nosql.redis.model.RedisLatencyReport;
+import org.codinjutsu.tools.nosql.redis.model.RedisSlowlogEntry;
+import org.codinjutsu.tools.nosql.redis.view.action.ResetLatencyAction;
+import org.codinjutsu.tools.nosql.redis.view.action.ResetSlowlogAction;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisCommandShapeTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisLatencyEventTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisSlowlogEntryTableModel;
+
+import javax.swing.*;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Collections;
+
+public class RedisSlowlogPanel extends NoSqlResultView<RedisLatencyReport> {
+
+    private static final int DEFAULT_SLOWLOG_COUNT = 128;
+    private static final int DEFAULT_REFRESH_DELAY_IN_SECONDS = 5;
+    private static final String DEFAULT_SEPARATOR = ":";
+
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JBTextField slowlogCountField;
+    private final JBTextField separatorField;
+    private final JCheckBox autoRefreshCheckBox;
+    private final JBTextField refreshDelayField;
+    private final JBLabel statusLabel = new JBLabel();
+
+    private final RedisCommandShapeTableModel commandShapeTableModel = new RedisCommandShapeTableModel();
+    private final RedisSlowlogEntryTableModel slowlogEntryTableModel = new RedisSlowlogEntryTableModel();
+    private final RedisLatencyEventTableModel latencyEventTableModel = new RedisLatencyEventTableModel();
+    private final JBTable latencyEventTable;
+    private final JPanel latencyPanel;
+    private final JBLabel latencyHistoryLabel = new JBLabel(" ");
+    private final RedisSparkline latencyHistorySparkline = new RedisSparkline();
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private RedisLatencyReport latencyReport = new RedisLatencyReport(Collections.<RedisSlowlogEntry>emptyList(), Collections.<RedisLatencyEvent>emptyList());
+    private boolean loading;
+
+    public RedisSlowlogPanel(Project project, RedisClient redisClient, ServerConfiguration configuration) {
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        slowlogCountField = new JBTextField(String.valueOf(DEFAULT_SLOWLOG_COUNT));
+        slowlogCountField.setColumns(4);
+        separatorField = new JBTextField(DEFAULT_SEPARATOR);
+        separatorField.setColumns(3);
+        autoRefreshCheckBox = new JCheckBox("Refresh every (s):");
+        autoRefreshCheckBox.setOpaque(false);
+        refreshDelayField = new JBTextField(String.valueOf(DEFAULT_REFRESH_DELAY_IN_SECONDS));
+        refreshDelayField.setColumns(3);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        latencyEventTable = createTable(latencyEventTableModel, "latencyEventTable");
+        latencyEventTable.getSelectionModel().setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        latencyEventTable.getSelectionModel().addListSelectionListener(new ListSelectionListener() {
+            @Override
+            public void valueChanged(ListSelectionEvent event) {
+                if (!event.getValueIsAdjusting()) {
+                    loadLatencyHistory();
+                }
+            }
+        });
+        latencyPanel = new JPanel(new BorderLayout());
+        latencyPanel.add(new JBScrollPane(latencyEventTable), BorderLayout.CENTER);
+        JPanel latencyHistoryPanel = new JPanel(new BorderLayout());
+        latencyHistoryPanel.add(latencyHistoryLabel, BorderLayout.NORTH);
+        latencyHistoryPanel.add(latencyHistorySparkline, BorderLayout.CENTER);
+        latencyPanel.add(latencyHistoryPanel, BorderLayout.SOUTH);
+
+        Splitter bottomSplitter = new Splitter(false, 0.6f);
+        bottomSplitter.setFirstComponent(new JBScrollPane(createTable(slowlogEntryTableModel, "slowlogEntryTable")));
+        bottomSplitter.setSecondComponent(latencyPanel);
+
+        Splitter splitter = new Splitter(true, 0.4f);
+        splitter.setFirstComponent(new JBScrollPane(createTable(commandShapeTableModel, "commandShapeTable")));
+        splitter.setSecondComponent(bottomSplitter);
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(splitter, BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(DEFAULT_REFRESH_DELAY_IN_SECONDS * 1000, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                executeQuery();
+            }
+        });
+        autoRefreshCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                updateAutoRefresh();
+            }
+        });
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(new JLabel("Entries:"));
+        westPanel.add(slowlogCountField);
+        westPanel.add(new JLabel("Separator:"));
+        westPanel.add(separatorField);
+        westPanel.add(autoRefreshCheckBox);
+        westPanel.add(refreshDelayField);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisSlowlogGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new ResetSlowlogAction(this));
+            actionGroup.add(new ResetLatencyAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisSlowlogGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    private static JBTable createTable(javax.swing.table.TableModel tableModel, String name) {
+        JBTable table = new JBTable(tableModel);
+        table.setName(name);
+        table.setAutoCreateRowSorter(true);
+        return table;
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisLatencyReport getRecords() {
+        return latencyReport;
+    }
+
+    @Override
+    public void executeQuery() {
+        if (loading) {
+            return;
+        }
+        loading = true;
+        final int slowlogCount = getPositiveNumber(slowlogCountField, DEFAULT_SLOWLOG_COUNT);
+        ApplicationManager.getApplication().executeOnPooledThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final RedisLatencyReport report = redisClient.loadLatencyReport(configuration, slowlogCount);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            errorPanel.setVisible(false);
+                            updateReport(report);
+                        }
+                    });
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            showError(ex);
+                        }
+                    });
+                } finally {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            loading = false;
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void updateReport(RedisLatencyReport report) {
+        latencyReport = report;
+        commandShapeTableModel.setCommandShapes(RedisCommandShape.aggregate(report.getSlowlogEntries(), separatorField.getText()));
+        slowlogEntryTableModel.setEntries(report.getSlowlogEntries());
+
+        String selectedEvent = getSelectedLatencyEvent();
+        latencyEventTableModel.setLatencyEvents(report.getLatencyEvents());
+        for (int row = 0; row < latencyEventTableModel.getRowCount(); row++) {
+            if (latencyEventTableModel.getLatencyEvent(row).getName().equals(selectedEvent)) {
+                int viewRow = latencyEventTable.convertRowIndexToView(row);
+                latencyEventTable.getSelectionModel().setSelectionInterval(viewRow, viewRow);
+            }
+        }
+        latencyPanel.setVisible(report.isLatencyMonitorAvailable());
+        if (report.isLatencyMonitorAvailable()) {
+            statusLabel.setText(String.format("%d slow commands, %d latency events ", report.getSlowlogEntries().size(), report.getLatencyEvents().size()));
+        } else {
+            statusLabel.setText(String.format("%d slow commands, latency monitor unavailable ", report.getSlowlogEntries().size()));
+        }
+    }
+
+    private String getSelectedLatencyEvent() {
+        int selectedRow = latencyEventTable.getSelectedRow();
+        if (selectedRow < 0) {
+            return null;
+        }
+        return latencyEventTableModel.getLatencyEvent(latencyEventTable.convertRowIndexToModel(selectedRow)).getName();
+    }
+
+    private void loadLatencyHistory() {
+        final String event = getSelectedLatencyEvent();
+        if (event == null) {
+            latencyHistoryLabel.setText(" ");
+            latencyHistorySparkline.setValues(new double[0]);
+            return;
+        }
+        ApplicationManager.getApplication().executeOnPooledThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final double[] latencies = redisClient.loadLatencyHistory(configuration, event);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            latencyHistoryLabel.setText(String.format("%s: last %d spikes", event, latencies.length));
+                            latencyHistorySparkline.setValues(latencies);
+                        }
+                    });
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            showError(ex);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void updateAutoRefresh() {
+        if (autoRefreshCheckBox.isSelected()) {
+            refreshTimer.setDelay(getPositiveNumber(refreshDelayField, DEFAULT_REFRESH_DELAY_IN_SECONDS) * 1000);
+            refreshTimer.start();
+        } else {
+            refreshTimer.stop();
+        }
+    }
+
+    public void resetSlowlog() {
+        try {
+            redisClient.resetSlowlog(configuration);
+            executeQuery();
+        } catch (Exception ex) {
+            showError(ex);
+        }
+    }
+
+    public void resetLatency() {
+        try {
+            redisClient.resetLatency(configuration);
+            executeQuery();
+        } catch (Exception ex) {
+            showError(ex);
+        }
+    }
+
+    private int getPositiveNumber(JBTextField numberField, int defaultValue) {
+        try {
+            int number = Integer.parseInt(numberField.getText().trim());
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        GuiUtils.showNotification(numberField, MessageType.WARNING, String.format("Invalid value, using %d", defaultValue), Balloon.Position.below);
+        return defaultValue;
+    }
+
+    private void showError(Exception ex) {
+        errorPanel.invalidate();
+        errorPanel.removeAll();
+        errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+        errorPanel.validate();
+        errorPanel.setVisible(true);
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.ui.JBColor;
+import org.codinjutsu.tools.nosql.commons.style.StyleAttributesProvider;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Draws a series as a polyline scaled between its minimum and its maximum, the newest value on the right.
+ */
+public class RedisSparkline extends JComponent {
+
+    private static final int PREFERRED_HEIGHT = 40;
+    private static final int MARGIN = 2;
+
+    private double[] values = new double[0];
+
+    public RedisSparkline() {
+        setPreferredSize(new Dimension(200, PREFERRED_HEIGHT));
+    }
+
+    public void setValues(double[] values) {
+        this.values = values;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Graphics2D graphics2D = (Graphics2D) graphics.create();
+        try {
+            graphics2D.setColor(JBColor.border());
+            graphics2D.drawRect(0, 0, getWidth() - 1, getHeight() - 1);
+            if (values.length < 2) {
+                return;
+            }
+
+            double min = values[0];
+            double max = values[0];
+            for (double value : values) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            double range = max - min;
+            int width = getWidth() - 2 * MARGIN;
+            int height = getHeight() - 2 * MARGIN;
+
+            int[] xPoints = new int[values.length];
+            int[] yPoints = new int[values.length];
+            for (int index = 0; index < values.length; index++) {
+                xPoints[index] = MARGIN + (int) ((long) index * width / (values.length - 1));
+                double ratio = range == 0 ? 0.5d : (values[index] - min) / range;
+                yPoints[index] = MARGIN + height - (int) Math.round(ratio * height);
+            }
+            graphics2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics2D.setColor(StyleAttributesProvider.NUMBER_COLOR);
+            graphics2D.drawPolyline(xPoints, yPoints, values.length);
+        } finally {
+            graphics2D.dispose();
+        }
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Splitter;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.logic.RedisStreamTailer;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamConsumer;
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamInfo;
+import org.codinjutsu.tools.nosql.redis.view.action.StopStreamTailAction;
+import org.codinjutsu.tools.nosql.redis.view.action.TailStreamAction;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisStreamConsumerTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisStreamEntryTableModel;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisStreamGroupTableModel;
+import redis.clients.jedis.StreamEntry;
+
+import javax.swing.*;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entries are read backwards, one page at a time, or tailed into a bounded buffer while tailing is on.
+ */
+public class RedisStreamPanel extends NoSqlResultView<RedisStreamInfo> {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int REFRESH_DELAY_IN_MILLIS = 1000;
+
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+    private final String key;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JBLabel statusLabel = new JBLabel();
+    private final JButton loadOlderButton;
+
+    private final RedisStreamGroupTableModel groupTableModel = new RedisStreamGroupTableModel();
+    private final RedisStreamConsumerTableModel consumerTableModel = new RedisStreamConsumerTableModel();
+    private final RedisStreamEntryTableModel entryTableModel = new RedisStreamEntryTableModel();
+    private final JBTable groupTable;
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private RedisStreamInfo streamInfo;
+    private final List<StreamEntry> pagedEntries = new ArrayList<>();
+    private boolean olderEntriesAvailable;
+    private RedisStreamTailer streamTailer;
+
+    public RedisStreamPanel(Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database, String key) {
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+        this.key = key;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        groupTable = createTable(groupTableModel, "streamGroupTable");
+        groupTable.getSelectionModel().setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        groupTable.getSelectionModel().addListSelectionListener(new ListSelectionListener() {
+            @Override
+            public void valueChanged(ListSelectionEvent event) {
+                if (!event.getValueIsAdjusting()) {
+                    updateConsumers();
+                }
+            }
+        });
+        Splitter groupSplitter = new Splitter(false, 0.6f);
+        groupSplitter.setFirstComponent(new JBScrollPane(groupTable));
+        groupSplitter.setSecondComponent(new JBScrollPane(createTable(consumerTableModel, "streamConsumerTable")));
+
+        loadOlderButton = new JButton("Load older entries");
+        loadOlderButton.setEnabled(false);
+        loadOlderButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                loadEntries(getOldestPagedEntryId());
+            }
+        });
+        JPanel entryPanel = new JPanel(new BorderLayout());
+        entryPanel.add(new JBScrollPane(createTable(entryTableModel, "streamEntryTable")), BorderLayout.CENTER);
+        entryPanel.add(loadOlderButton, BorderLayout.SOUTH);
+
+        Splitter splitter = new Splitter(true, 0.3f);
+        splitter.setFirstComponent(groupSplitter);
+        splitter.setSecondComponent(entryPanel);
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(splitter, BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshTailedEntries();
+            }
+        });
+    }
+
+    private void buildToolBar() {
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisStreamGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new TailStreamAction(this));
+            actionGroup.add(new StopStreamTailAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisStreamGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.WEST);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    private static JBTable createTable(javax.swing.table.TableModel tableModel, String name) {
+        JBTable table = new JBTable(tableModel);
+        table.setName(name);
+        table.setAutoCreateRowSorter(true);
+        return table;
+    }
+
+    @Override
+    public void showResults() {
+        executeQuery();
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisStreamInfo getRecords() {
+        return streamInfo;
+    }
+
+    /**
+     * Reloads the <code>XINFO</code> summaries and the newest entries.
+     */
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        stopTailing();
+        pagedEntries.clear();
+        ApplicationManager.getApplication().executeOnPooledThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final RedisStreamInfo loadedStreamInfo = redisClient.loadStreamInfo(configuration, database, key);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            updateStreamInfo(loadedStreamInfo);
+                        }
+                    });
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            showError(ex);
+                        }
+                    });
+                }
+            }
+        });
+        loadEntries(null);
+    }
+
+    private void updateStreamInfo(RedisStreamInfo loadedStreamInfo) {
+        streamInfo = loadedStreamInfo;
+        groupTableModel.setGroups(streamInfo.getGroups());
+        updateConsumers();
+        updateStatus();
+    }
+
+    private void updateConsumers() {
+        int selectedRow = groupTable.getSelectedRow();
+        if (selectedRow < 0) {
+            consumerTableModel.setConsumers(Collections.<RedisStreamConsumer>emptyList());
+            return;
+        }
+        consumerTableModel.setConsumers(groupTableModel.getGroup(groupTable.convertRowIndexToModel(selectedRow)).getConsumers());
+    }
+
+    private void loadEntries(final String lastEntryId) {
+        loadOlderButton.setEnabled(false);
+        ApplicationManager.getApplication().executeOnPooledThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final List<StreamEntry> entries = redisClient.loadStreamEntries(configuration, database, key, lastEntryId, PAGE_SIZE);
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            appendEntries(entries);
+                        }
+                    });
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            showError(ex);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void appendEntries(List<StreamEntry> entries) {
+        if (isTailing()) {
+            return;
+        }
+        pagedEntries.addAll(entries);
+        olderEntriesAvailable = entries.size() == PAGE_SIZE;
+        loadOlderButton.setEnabled(olderEntriesAvailable);
+        entryTableModel.setEntries(new ArrayList<>(pagedEntries));
+        updateStatus();
+    }
+
+    private String getOldestPagedEntryId() {
+        if (pagedEntries.isEmpty()) {
+            return null;
+        }
+        return pagedEntries.get(pagedEntries.size() - 1).getID().toString();
+    }
+
+    public boolean isTailing() {
+        return streamTailer != null && streamTailer.isRunning();
+    }
+
+    public void startTailing() {
+        errorPanel.setVisible(false);
+        stopTailing();
+        try {
+            streamTailer = redisClient.tailStream(configuration, database, key);
+            loadOlderButton.setEnabled(false);
+            entryTableModel.setEntries(Collections.<StreamEntry>emptyList());
+            refreshTimer.start();
+            updateStatus();
+        } catch (Exception ex) {
+            showError(ex);
+        }
+    }
+
+    public void stopTailing() {
+        if (streamTailer != null) {
+            streamTailer.stop();
+            streamTailer = null;
+        }
+        refreshTimer.stop();
+        loadOlderButton.setEnabled(olderEntriesAvailable);
+        entryTableModel.setEntries(new ArrayList<>(pagedEntries));
+        updateStatus();
+    }
+
+    private void refreshTailedEntries() {
+        if (streamTailer == null) {
+            return;
+        }
+        entryTableModel.setEntries(streamTailer.getBuffer().getEntries());
+        updateStatus();
+
+        if (streamTailer.getFailure() != null) {
+            Exception failure = streamTailer.getFailure();
+            stopTailing();
+            showError(failure);
+        }
+    }
+
+    private void updateStatus() {
+        List<String> status = new ArrayList<>();
+        if (streamInfo != null) {
+            status.add(String.format("%,d entries, %,d groups, %,d pending", streamInfo.getLength(), streamInfo.getGroups().size(), streamInfo.getPending()));
+        }
+        if (streamTailer != null) {
+            status.add(String.format("tailing: %,d entries received", streamTailer.getBuffer().getReceivedEntries()));
+        } else {
+            status.add(String.format("%,d entries shown", pagedEntries.size()));
+        }
+        statusLabel.setText(StringUtils.join(status, ", ") + " ");
+    }
+
+    private void showError(Exception ex) {
+        errorPanel.invalidate();
+        errorPanel.removeAll();
+        errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+        errorPanel.validate();
+        errorPanel.setVisible(true);
+    }
+
+    @Override
+    public void dispose() {
+        stopTailing();
+    }
+}
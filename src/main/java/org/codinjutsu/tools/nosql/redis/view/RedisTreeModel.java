@@ -20,47 +20,108 @@ import org.codinjutsu.tools.nosql.commons.view.NoSqlTreeNode;
 import org.codinjutsu.tools.nosql.redis.model.RedisKeyType;
 import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
 import org.codinjutsu.tools.nosql.redis.model.RedisResult;
+import org.codinjutsu.tools.nosql.redis.model.RedisScriptResult;
 import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisKeyValueDescriptor;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisMoreValuesDescriptor;
 import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisResultDescriptor;
 import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisValueDescriptor;
+import redis.clients.jedis.StreamEntry;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 public class RedisTreeModel {
     public static NoSqlTreeNode buildTree(RedisResult redisResult) {
         NoSqlTreeNode rootNode = new NoSqlTreeNode(new RedisResultDescriptor());
+        appendRecords(rootNode, redisResult.getResults());
+        return rootNode;
+    }
+
+    /**
+     * Builds the reply tree of a script run: in batch mode, one node per <code>SCAN</code> page holds the reply of that page.
+     */
+    public static NoSqlTreeNode buildTree(RedisScriptResult scriptResult, boolean perScanPage) {
+        NoSqlTreeNode rootNode = new NoSqlTreeNode(new RedisResultDescriptor());
+        List<Object> replies = scriptResult.getReplies();
+        for (int index = 0; index < replies.size(); index++) {
+            if (perScanPage) {
+                addReplyNode(rootNode, index, replies.get(index));
+            } else if (replies.get(index) instanceof List) {
+                addReplyNodes(rootNode, (List) replies.get(index));
+            } else {
+                rootNode.add(new NoSqlTreeNode(RedisValueDescriptor.createUnindexedDescriptor(replies.get(index))));
+            }
+        }
+        return rootNode;
+    }
+
+    private static void addReplyNodes(NoSqlTreeNode parentNode, List reply) {
+        for (int index = 0; index < reply.size(); index++) {
+            addReplyNode(parentNode, index, reply.get(index));
+        }
+    }
+
+    private static void addReplyNode(NoSqlTreeNode parentNode, int index, Object reply) {
+        NoSqlTreeNode replyNode = new NoSqlTreeNode(RedisValueDescriptor.createDescriptor(index, reply));
+        if (reply instanceof List) {
+            addReplyNodes(replyNode, (List) reply);
+        }
+        parentNode.add(replyNode);
+    }
 
-        List<RedisRecord> redisRecords = redisResult.getResults();
+    public static void appendRecords(NoSqlTreeNode rootNode, List<RedisRecord> redisRecords) {
         for (RedisRecord redisRecord : redisRecords) {
             processRecord(rootNode, redisRecord);
         }
-
-        return rootNode;
     }
 
     private static void processRecord(NoSqlTreeNode rootNode, RedisRecord redisRecord) {
+        rootNode.add(createRecordNode(redisRecord.getKey(), redisRecord));
+    }
+
+    /**
+     * Creates the node of a key with its loaded values, labelled with <code>displayedKey</code> (the last key fragment when grouped by prefix).
+     */
+    public static NoSqlTreeNode createRecordNode(String displayedKey, RedisRecord redisRecord) {
         RedisKeyType keyType = redisRecord.getKeyType();
-        NoSqlTreeNode treeNode = new NoSqlTreeNode(RedisKeyValueDescriptor.createDescriptor(keyType, redisRecord.getKey(), redisRecord.getValue()));
-        if (RedisKeyType.LIST.equals(keyType)) {
-            List<String> valuesFromList = (List<String>) redisRecord.getValue();
-            for (int index = 0; index < valuesFromList.size(); index++) {
-                String value = valuesFromList.get(index);
-                treeNode.add(new NoSqlTreeNode(RedisValueDescriptor.createDescriptor(index, value)));
-            }
-        } else if (RedisKeyType.SET.equals(keyType) || RedisKeyType.ZSET.equals(keyType)) {
-            Set valuesFromSet = (Set) redisRecord.getValue();
-            for (Object value : valuesFromSet) {
-                treeNode.add(new NoSqlTreeNode(RedisValueDescriptor.createUnindexedDescriptor(value)));
-            }
-        } else if (RedisKeyType.HASH.equals(keyType)) {
-            Map<String, String> valuesFromMap = (Map<String, String>) redisRecord.getValue();
-            for (Map.Entry<String, String> entry : valuesFromMap.entrySet()) {
-                treeNode.add(new NoSqlTreeNode(RedisKeyValueDescriptor.createDescriptor(entry.getKey(), entry.getValue())));
+        NoSqlTreeNode treeNode = new NoSqlTreeNode(RedisKeyValueDescriptor.createDescriptor(displayedKey, redisRecord));
+        if (RedisKeyType.HASH.equals(keyType)) {
+            addValueNodes(treeNode, keyType, ((Map) redisRecord.getValue()).entrySet(), 0);
+        } else if (redisRecord.getValue() instanceof Collection) {
+            addValueNodes(treeNode, keyType, (Collection) redisRecord.getValue(), 0);
+        }
+        if (!redisRecord.isValueComplete()) {
+            treeNode.add(new NoSqlTreeNode(new RedisMoreValuesDescriptor(redisRecord)));
+        }
+        return treeNode;
+    }
+
+    /**
+     * Adds list items, set or sorted set members, hash and stream entries below a key node. List items are indexed from <code>firstIndex</code>.
+     */
+    public static void addValueNodes(NoSqlTreeNode keyNode, RedisKeyType keyType, Collection values, int firstIndex) {
+        int index = firstIndex;
+        for (Object value : values) {
+            if (RedisKeyType.LIST.equals(keyType)) {
+                keyNode.add(new NoSqlTreeNode(RedisValueDescriptor.createDescriptor(index, value)));
+            } else if (RedisKeyType.SET.equals(keyType) || RedisKeyType.ZSET.equals(keyType)) {
+                keyNode.add(new NoSqlTreeNode(RedisValueDescriptor.createUnindexedDescriptor(value)));
+            } else if (RedisKeyType.HASH.equals(keyType)) {
+                Map.Entry<String, String> entry = (Map.Entry<String, String>) value;
+                keyNode.add(new NoSqlTreeNode(RedisKeyValueDescriptor.createDescriptor(entry.getKey(), entry.getValue())));
+            } else if (RedisKeyType.STREAM.equals(keyType)) {
+                keyNode.add(createStreamEntryNode((StreamEntry) value));
             }
+            index++;
         }
-        rootNode.add(treeNode);
+    }
 
+    private static NoSqlTreeNode createStreamEntryNode(StreamEntry streamEntry) {
+        NoSqlTreeNode entryNode = new NoSqlTreeNode(RedisKeyValueDescriptor.createDescriptor(null, streamEntry.getID().toString(), streamEntry.getFields()));
+        for (Map.Entry<String, String> field : streamEntry.getFields().entrySet()) {
+            entryNode.add(new NoSqlTreeNode(RedisKeyValueDescriptor.createDescriptor(field.getKey(), field.getValue())));
+        }
+        return entryNode;
     }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.MessageType;
+import com.intellij.openapi.ui.popup.Balloon;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.ui.components.panels.NonOpaquePanel;
+import com.intellij.ui.table.JBTable;
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.utils.GuiUtils;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.commons.view.NoSqlResultView;
+import org.codinjutsu.tools.nosql.commons.view.action.ExecuteQuery;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueMatch;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueSearch;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueSearchOptions;
+import org.codinjutsu.tools.nosql.redis.view.action.StopValueSearchAction;
+import org.codinjutsu.tools.nosql.redis.view.model.RedisValueMatchTableModel;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+
+public class RedisValueSearchPanel extends NoSqlResultView<RedisValueSearch> {
+
+    private static final int REFRESH_DELAY_IN_MILLIS = 1000;
+
+    private final Project project;
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+
+    private final JPanel toolBarPanel;
+    private final JPanel errorPanel;
+    private final JBTextField filterField;
+    private final JBTextField fieldField;
+    private final JBTextField valueField;
+    private final JBTextField maxMatchesField;
+    private final JBTextField keysPerSecondField;
+    private final JBLabel statusLabel = new JBLabel();
+
+    private final RedisValueMatchTableModel matchTableModel = new RedisValueMatchTableModel();
+    private final JPanel resultPanel;
+    private final Timer refreshTimer;
+
+    private volatile ProgressIndicator searchIndicator;
+    private RedisValueSearch search = new RedisValueSearch(RedisValueSearchOptions.DEFAULT_MAX_MATCHES);
+
+    public RedisValueSearchPanel(Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database) {
+        this.project = project;
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+
+        setLayout(new BorderLayout());
+
+        toolBarPanel = new JPanel(new BorderLayout());
+        filterField = createTextField("*", 10);
+        fieldField = createTextField("", 8);
+        valueField = createTextField("", 14);
+        maxMatchesField = createTextField(String.valueOf(RedisValueSearchOptions.DEFAULT_MAX_MATCHES), 6);
+        keysPerSecondField = createTextField(String.valueOf(RedisValueSearchOptions.DEFAULT_KEYS_PER_SECOND), 6);
+        buildToolBar();
+        add(toolBarPanel, BorderLayout.NORTH);
+
+        JBTable matchTable = new JBTable(matchTableModel);
+        matchTable.setName("valueMatchTable");
+        matchTable.setAutoCreateRowSorter(true);
+        resultPanel = new JPanel(new BorderLayout());
+        resultPanel.add(new JBScrollPane(matchTable), BorderLayout.CENTER);
+        add(resultPanel, BorderLayout.CENTER);
+
+        errorPanel = new JPanel(new BorderLayout());
+        errorPanel.setVisible(false);
+        add(errorPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_DELAY_IN_MILLIS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                refreshSearch();
+            }
+        });
+    }
+
+    private static JBTextField createTextField(String defaultValue, int columns) {
+        JBTextField textField = new JBTextField(defaultValue);
+        textField.setColumns(columns);
+        return textField;
+    }
+
+    private void buildToolBar() {
+        NonOpaquePanel westPanel = new NonOpaquePanel();
+        westPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        westPanel.add(new JLabel("Keys:"));
+        westPanel.add(filterField);
+        westPanel.add(new JLabel("Hash field:"));
+        westPanel.add(fieldField);
+        westPanel.add(new JLabel("Value contains:"));
+        westPanel.add(valueField);
+        westPanel.add(new JLabel("Max:"));
+        westPanel.add(maxMatchesField);
+        westPanel.add(new JLabel("Keys/s:"));
+        westPanel.add(keysPerSecondField);
+        toolBarPanel.add(westPanel, BorderLayout.WEST);
+
+        DefaultActionGroup actionGroup = new DefaultActionGroup("RedisValueSearchGroup", true);
+        if (ApplicationManager.getApplication() != null) {
+            actionGroup.add(new ExecuteQuery<>(this));
+            actionGroup.add(new StopValueSearchAction(this));
+        }
+        ActionToolbar actionToolBar = ActionManager.getInstance().createActionToolbar("RedisValueSearchGroupActions", actionGroup, true);
+        actionToolBar.setLayoutPolicy(ActionToolbar.AUTO_LAYOUT_POLICY);
+        JComponent actionToolBarComponent = actionToolBar.getComponent();
+        actionToolBarComponent.setBorder(null);
+        actionToolBarComponent.setOpaque(false);
+        toolBarPanel.add(actionToolBarComponent, BorderLayout.CENTER);
+
+        toolBarPanel.add(statusLabel, BorderLayout.EAST);
+    }
+
+    @Override
+    public void showResults() {
+    }
+
+    @Override
+    public JPanel getResultPanel() {
+        return resultPanel;
+    }
+
+    @Override
+    public RedisValueSearch getRecords() {
+        return search;
+    }
+
+    @Override
+    public void executeQuery() {
+        errorPanel.setVisible(false);
+        if (StringUtils.isEmpty(valueField.getText())) {
+            GuiUtils.showNotification(valueField, MessageType.WARNING, "Enter the text to search", Balloon.Position.below);
+            return;
+        }
+        stopSearch();
+
+        final RedisValueSearchOptions options = new RedisValueSearchOptions();
+        options.setFilter(StringUtils.defaultIfBlank(filterField.getText().trim(), "*"));
+        options.setField(StringUtils.trimToNull(fieldField.getText()));
+        options.setValue(valueField.getText());
+        options.setMaxMatches(getNumber(maxMatchesField, RedisValueSearchOptions.DEFAULT_MAX_MATCHES, 1));
+        options.setKeysPerSecond(getNumber(keysPerSecondField, RedisValueSearchOptions.DEFAULT_KEYS_PER_SECOND, RedisValueSearchOptions.UNTHROTTLED));
+
+        final RedisValueSearch currentSearch = new RedisValueSearch(options.getMaxMatches());
+        search = currentSearch;
+        refreshSearch();
+        refreshTimer.start();
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Searching values", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                searchIndicator = indicator;
+                try {
+                    redisClient.searchValues(configuration, database, options, currentSearch, indicator);
+                } catch (ProcessCanceledException ex) {
+                    throw ex;
+                } catch (final Exception ex) {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            errorPanel.invalidate();
+                            errorPanel.removeAll();
+                            errorPanel.add(new ErrorPanel(ex), BorderLayout.CENTER);
+                            errorPanel.validate();
+                            errorPanel.setVisible(true);
+                        }
+                    });
+                } finally {
+                    GuiUtils.runInSwingThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (search == currentSearch) {
+                                searchIndicator = null;
+                                refreshTimer.stop();
+                                refreshSearch();
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private int getNumber(JBTextField numberField, int defaultValue, int minValue) {
+        try {
+            int number = Integer.parseInt(numberField.getText().trim());
+            if (number >= minValue) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        GuiUtils.showNotification(numberField, MessageType.WARNING, String.format("Invalid value, using %d", defaultValue), Balloon.Position.below);
+        return defaultValue;
+    }
+
+    public boolean isSearching() {
+        return searchIndicator != null;
+    }
+
+    public void stopSearch() {
+        ProgressIndicator indicator = searchIndicator;
+        if (indicator != null) {
+            indicator.cancel();
+            searchIndicator = null;
+        }
+        refreshTimer.stop();
+    }
+
+    private void refreshSearch() {
+        List<RedisValueMatch> matches = search.getMatches();
+        matchTableModel.setMatches(matches);
+        statusLabel.setText(String.format("%,d matches in %,d keys searched%s ",
+                matches.size(),
+                search.getScannedKeys(),
+                isSearching() ? "..." : search.isFull() ? " (limit reached)" : ""));
+    }
+
+    @Override
+    public void dispose() {
+        stopSearch();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.view.ErrorPanel;
+import org.codinjutsu.tools.nosql.redis.logic.RedisClient;
+import org.codinjutsu.tools.nosql.redis.model.RedisBinaryValue;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.codinjutsu.tools.nosql.redis.model.RedisValueDecoder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * Shows a string value as decoded text when its format allows it, and as a hex dump. Only the beginning of
+ * the value is shown until the whole value is loaded.
+ */
+public class RedisValueViewerDialog extends DialogWrapper {
+
+    private static final long LARGE_VALUE_SIZE = 16 * 1024 * 1024;
+
+    private final Project project;
+    private final RedisClient redisClient;
+    private final ServerConfiguration configuration;
+    private final RedisDatabase database;
+    private final String key;
+
+    private final JPanel mainPanel = new JPanel(new BorderLayout());
+    private final JBLabel formatLabel = new JBLabel();
+    private final JTabbedPane tabbedPane = new JTabbedPane();
+    private final JButton loadFullValueButton = new JButton("Load full value");
+    private RedisBinaryValue value;
+
+    public RedisValueViewerDialog(Component parent, Project project, RedisClient redisClient, ServerConfiguration configuration, RedisDatabase database, String key, RedisBinaryValue value) {
+        super(parent, true);
+        this.project = project;
+        this.redisClient = redisClient;
+        this.configuration = configuration;
+        this.database = database;
+        this.key = key;
+        this.value = value;
+
+        setTitle(key);
+        setOKButtonText("Close");
+        loadFullValueButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                loadFullValue();
+            }
+        });
+
+        JPanel headerPanel = new JPanel(new BorderLayout());
+        headerPanel.add(formatLabel, BorderLayout.CENTER);
+        headerPanel.add(loadFullValueButton, BorderLayout.EAST);
+        mainPanel.add(headerPanel, BorderLayout.NORTH);
+        mainPanel.add(tabbedPane, BorderLayout.CENTER);
+        mainPanel.setPreferredSize(new Dimension(800, 500));
+        showValue();
+
+        init();
+    }
+
+    @Nullable
+    @Override
+    protected JComponent createCenterPanel() {
+        return mainPanel;
+    }
+
+    @NotNull
+    @Override
+    protected Action[] createActions() {
+        return new Action[]{getOKAction()};
+    }
+
+    private void showValue() {
+        String loadedPart = value.isComplete() ? "" : String.format(", first %s loaded", StringUtil.formatFileSize(value.getBytes().length));
+        formatLabel.setText(String.format("%s, %s%s", value.getFormat().label, StringUtil.formatFileSize(value.getLength()), loadedPart));
+        loadFullValueButton.setEnabled(!value.isComplete());
+
+        tabbedPane.removeAll();
+        try {
+            String decodedValue = RedisValueDecoder.decode(value.getBytes(), value.getFormat());
+            if (decodedValue != null) {
+                tabbedPane.addTab("Decoded", new JBScrollPane(createTextArea(decodedValue)));
+            }
+        } catch (IllegalArgumentException ex) {
+            tabbedPane.addTab("Decoded", new ErrorPanel(ex));
+        }
+        tabbedPane.addTab("Hex", new JBScrollPane(createTextArea(RedisValueDecoder.toHexDump(value.getBytes()))));
+    }
+
+    private static JTextArea createTextArea(String text) {
+        JTextArea textArea = new JTextArea(text);
+        textArea.setEditable(false);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, textArea.getFont().getSize()));
+        textArea.setCaretPosition(0);
+        return textArea;
+    }
+
+    private void loadFullValue() {
+        if (value.getLength() > LARGE_VALUE_SIZE) {
+            int result = JOptionPane.showConfirmDialog(null, String.format("Do you REALLY want to load %s?", StringUtil.formatFileSize(value.getLength())), "Warning", JOptionPane.YES_NO_OPTION);
+            if (result != JOptionPane.YES_OPTION) {
+                return;
+            }
+        }
+        final RedisBinaryValue[] loadedValue = new RedisBinaryValue[1];
+        final Exception[] failure = new Exception[1];
+        boolean completed = ProgressManager.getInstance().runProcessWithProgressSynchronously(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    loadedValue[0] = redisClient.loadStringValue(configuration, database, key);
+                } catch (Exception ex) {
+                    failure[0] = ex;
+                }
+            }
+        }, String.format("Loading %s", key), true, project);
+
+        if (failure[0] != null) {
+            tabbedPane.addTab("Error", new ErrorPanel(failure[0]));
+            tabbedPane.setSelectedIndex(tabbedPane.getTabCount() - 1);
+        } else if (completed && loadedValue[0] != null) {
+            value = loadedValue[0];
+            showValue();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.action;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAware;
+import org.codinjutsu.tools.nosql.redis.view.RedisSlowlogPanel;
+
+import javax.swing.*;
+
+public class ResetLatencyAction extends AnAction implements DumbAware {
+
+    private final RedisSlowlogPanel slowlogPanel;
+
+    public ResetLatencyAction(RedisSlowlogPanel slowlogPanel) {
+        super("Reset latency", "Clear the latency spikes recorded by the server", AllIcons.Actions.Delete);
+        this.slowlogPanel = slowlogPanel;
+    }
+
+    @Override
+    public void actionPerformed(AnActionEvent anActionEvent) {
+        int result = JOptionPane.showConfirmDialog(null, "Do you REALLY want to clear the latency spikes recorded by the server?", "Warning", JOptionPane.YES_NO_OPTION);
+
+        if (result == JOptionPane.YES_OPTION) {
+            slowlogPanel.resetLatency();
+        }
+    }
+}
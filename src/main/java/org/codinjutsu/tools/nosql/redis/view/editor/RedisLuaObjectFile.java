@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.editor;
+
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.project.Project;
+import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.view.editor.NoSqlDatabaseObjectFile;
+import org.codinjutsu.tools.nosql.redis.model.RedisDatabase;
+import org.jetbrains.annotations.NotNull;
+
+public class RedisLuaObjectFile extends NoSqlDatabaseObjectFile {
+    private final RedisDatabase database;
+
+    public RedisLuaObjectFile(Project project, ServerConfiguration configuration, RedisDatabase redisDatabase) {
+        super(project, configuration, String.format("%s/%s lua", configuration.getLabel(), redisDatabase.getName()));
+        this.database = redisDatabase;
+    }
+
+    @NotNull
+    public FileType getFileType() {
+        return RedisFakeFileType.INSTANCE;
+    }
+
+    public RedisDatabase getDatabase() {
+        return database;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.commons.utils.DateUtils;
+import org.codinjutsu.tools.nosql.redis.model.RedisActivityEvent;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+public class RedisActivityEventTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Time (UTC)",
+            "Command",
+            "Key",
+            "Client"
+    };
+
+    private final DateFormat timeFormat = DateUtils.utcDateTime(Locale.getDefault());
+
+    private List<RedisActivityEvent> events = Collections.emptyList();
+
+    public void setEvents(List<RedisActivityEvent> events) {
+        this.events = events;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return events.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisActivityEvent event = events.get(row);
+        switch (column) {
+            case 0: {
+                return timeFormat.format(new Date(event.getTimestamp()));
+            }
+            case 1: {
+                return event.getCommand();
+            }
+            case 2: {
+                return event.getKey();
+            }
+            case 3: {
+                return event.getClient();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisActivityStatistics;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisActivityRateTableModel extends AbstractTableModel {
+
+    private final String[] columnNames;
+    private final Class[] columnClasses = new Class[]{String.class, Double.class, Long.class};
+
+    private List<RedisActivityStatistics.ActivityRate> activityRates = Collections.emptyList();
+
+    public RedisActivityRateTableModel(String nameColumn) {
+        this.columnNames = new String[]{
+                nameColumn,
+                "Events/s",
+                "Total"
+        };
+    }
+
+    public void setActivityRates(List<RedisActivityStatistics.ActivityRate> activityRates) {
+        this.activityRates = activityRates;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return activityRates.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisActivityStatistics.ActivityRate activityRate = activityRates.get(row);
+        switch (column) {
+            case 0: {
+                return activityRate.getName();
+            }
+            case 1: {
+                return activityRate.getEventsPerSecond();
+            }
+            case 2: {
+                return activityRate.getTotalEvents();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisPubSubStatistics;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisChannelRateTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Channel",
+            "Messages/s",
+            "Bytes/s",
+            "Messages",
+            "Bytes"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Double.class, Double.class, Long.class, Long.class};
+
+    private List<RedisPubSubStatistics.ChannelRate> channelRates = Collections.emptyList();
+
+    public void setChannelRates(List<RedisPubSubStatistics.ChannelRate> channelRates) {
+        this.channelRates = channelRates;
+        fireTableDataChanged();
+    }
+
+    public RedisPubSubStatistics.ChannelRate getChannelRate(int row) {
+        return channelRates.get(row);
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return channelRates.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisPubSubStatistics.ChannelRate channelRate = channelRates.get(row);
+        switch (column) {
+            case 0: {
+                return channelRate.getChannel();
+            }
+            case 1: {
+                return channelRate.getMessagesPerSecond();
+            }
+            case 2: {
+                return channelRate.getBytesPerSecond();
+            }
+            case 3: {
+                return channelRate.getTotalMessages();
+            }
+            case 4: {
+                return channelRate.getTotalBytes();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
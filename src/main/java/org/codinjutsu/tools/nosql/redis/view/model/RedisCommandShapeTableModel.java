@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisCommandShape;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisCommandShapeTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Command",
+            "Key prefix",
+            "Count",
+            "Total (\u00b5s)",
+            "Max (\u00b5s)",
+            "Average (\u00b5s)"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, String.class, Long.class, Long.class, Long.class, Long.class};
+
+    private List<RedisCommandShape> commandShapes = Collections.emptyList();
+
+    public void setCommandShapes(List<RedisCommandShape> commandShapes) {
+        this.commandShapes = commandShapes;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return commandShapes.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisCommandShape commandShape = commandShapes.get(row);
+        switch (column) {
+            case 0: {
+                return commandShape.getCommand();
+            }
+            case 1: {
+                return commandShape.getKeyPrefix();
+            }
+            case 2: {
+                return commandShape.getCount();
+            }
+            case 3: {
+                return commandShape.getTotalDurationInMicros();
+            }
+            case 4: {
+                return commandShape.getMaxDurationInMicros();
+            }
+            case 5: {
+                return commandShape.getAverageDurationInMicros();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
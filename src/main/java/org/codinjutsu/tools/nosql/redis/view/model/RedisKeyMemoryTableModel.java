@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyMemory;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisKeyMemoryTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Key",
+            "Type",
+            "Encoding",
+            "Elements",
+            "Memory (bytes)"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, String.class, String.class, Long.class, Long.class};
+
+    private List<RedisKeyMemory> keyMemories = Collections.emptyList();
+
+    public void setKeyMemories(List<RedisKeyMemory> keyMemories) {
+        this.keyMemories = keyMemories;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return keyMemories.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisKeyMemory keyMemory = keyMemories.get(row);
+        switch (column) {
+            case 0: {
+                return keyMemory.getKey();
+            }
+            case 1: {
+                return keyMemory.getType();
+            }
+            case 2: {
+                return keyMemory.getEncoding();
+            }
+            case 3: {
+                return keyMemory.getLength();
+            }
+            case 4: {
+                return keyMemory.getMemory();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
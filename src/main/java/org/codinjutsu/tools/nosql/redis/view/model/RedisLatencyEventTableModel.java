@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.commons.utils.DateUtils;
+import org.codinjutsu.tools.nosql.redis.model.RedisLatencyEvent;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+public class RedisLatencyEventTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Event",
+            "Last spike (UTC)",
+            "Latest (ms)",
+            "Max (ms)"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, String.class, Long.class, Long.class};
+
+    private final DateFormat timeFormat = DateUtils.utcDateTime(Locale.getDefault());
+
+    private List<RedisLatencyEvent> latencyEvents = Collections.emptyList();
+
+    public void setLatencyEvents(List<RedisLatencyEvent> latencyEvents) {
+        this.latencyEvents = latencyEvents;
+        fireTableDataChanged();
+    }
+
+    public RedisLatencyEvent getLatencyEvent(int row) {
+        return latencyEvents.get(row);
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return latencyEvents.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisLatencyEvent latencyEvent = latencyEvents.get(row);
+        switch (column) {
+            case 0: {
+                return latencyEvent.getName();
+            }
+            case 1: {
+                return timeFormat.format(new Date(latencyEvent.getTimestamp() * 1000L));
+            }
+            case 2: {
+                return latencyEvent.getLatestInMillis();
+            }
+            case 3: {
+                return latencyEvent.getMaxInMillis();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
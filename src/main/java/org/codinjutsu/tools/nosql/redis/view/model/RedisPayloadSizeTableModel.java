@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import com.intellij.openapi.util.text.StringUtil;
+import org.codinjutsu.tools.nosql.redis.model.RedisPayloadSizeHistogram;
+
+import javax.swing.table.AbstractTableModel;
+
+public class RedisPayloadSizeTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Payload size",
+            "Messages"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Long.class};
+
+    private RedisPayloadSizeHistogram histogram = new RedisPayloadSizeHistogram();
+
+    public void setHistogram(RedisPayloadSizeHistogram histogram) {
+        this.histogram = histogram;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return histogram.getBucketCount();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        switch (column) {
+            case 0: {
+                long maxSize = RedisPayloadSizeHistogram.getBucketMaxSize(row);
+                if (maxSize < 0) {
+                    return "> " + StringUtil.formatFileSize(RedisPayloadSizeHistogram.getBucketMaxSize(row - 1));
+                }
+                return "\u2264 " + StringUtil.formatFileSize(maxSize);
+            }
+            case 1: {
+                return histogram.getCount(row);
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
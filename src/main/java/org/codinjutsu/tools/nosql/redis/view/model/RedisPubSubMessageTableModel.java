@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.commons.utils.DateUtils;
+import org.codinjutsu.tools.nosql.redis.model.RedisPubSubMessage;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+public class RedisPubSubMessageTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Time (UTC)",
+            "Channel",
+            "Pattern",
+            "Size",
+            "Payload"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, String.class, String.class, Integer.class, String.class};
+
+    private final DateFormat timeFormat = DateUtils.utcDateTime(Locale.getDefault());
+
+    private List<RedisPubSubMessage> messages = Collections.emptyList();
+
+    public void setMessages(List<RedisPubSubMessage> messages) {
+        this.messages = messages;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return messages.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisPubSubMessage message = messages.get(row);
+        switch (column) {
+            case 0: {
+                return timeFormat.format(new Date(message.getTimestamp()));
+            }
+            case 1: {
+                return message.getChannel();
+            }
+            case 2: {
+                return message.getPattern();
+            }
+            case 3: {
+                return message.getSize();
+            }
+            case 4: {
+                return message.getPayload();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
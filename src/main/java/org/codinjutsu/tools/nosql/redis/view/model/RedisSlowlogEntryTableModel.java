@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.commons.utils.DateUtils;
+import org.codinjutsu.tools.nosql.redis.model.RedisSlowlogEntry;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+public class RedisSlowlogEntryTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Time (UTC)",
+            "Duration (\u00b5s)",
+            "Command"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Long.class, String.class};
+
+    private final DateFormat timeFormat = DateUtils.utcDateTime(Locale.getDefault());
+
+    private List<RedisSlowlogEntry> entries = Collections.emptyList();
+
+    public void setEntries(List<RedisSlowlogEntry> entries) {
+        this.entries = entries;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisSlowlogEntry entry = entries.get(row);
+        switch (column) {
+            case 0: {
+                return timeFormat.format(new Date(entry.getTimestamp() * 1000L));
+            }
+            case 1: {
+                return entry.getDurationInMicros();
+            }
+            case 2: {
+                return entry.getCommandLine();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamConsumer;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisStreamConsumerTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Consumer",
+            "Pending",
+            "Idle (ms)"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Long.class, Long.class};
+
+    private List<RedisStreamConsumer> consumers = Collections.emptyList();
+
+    public void setConsumers(List<RedisStreamConsumer> consumers) {
+        this.consumers = consumers;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return consumers.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisStreamConsumer consumer = consumers.get(row);
+        switch (column) {
+            case 0: {
+                return consumer.getName();
+            }
+            case 1: {
+                return consumer.getPending();
+            }
+            case 2: {
+                return consumer.getIdleInMillis();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
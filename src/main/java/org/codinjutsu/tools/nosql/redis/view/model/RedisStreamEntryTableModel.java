@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.apache.commons.lang.StringUtils;
+import org.codinjutsu.tools.nosql.commons.utils.DateUtils;
+import redis.clients.jedis.StreamEntry;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class RedisStreamEntryTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "ID",
+            "Time (UTC)",
+            "Fields"
+    };
+
+    private final DateFormat timeFormat = DateUtils.utcDateTime(Locale.getDefault());
+
+    private List<StreamEntry> entries = Collections.emptyList();
+
+    public void setEntries(List<StreamEntry> entries) {
+        this.entries = entries;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        StreamEntry entry = entries.get(row);
+        switch (column) {
+            case 0: {
+                return entry.getID().toString();
+            }
+            case 1: {
+                return timeFormat.format(new Date(entry.getID().getTime()));
+            }
+            case 2: {
+                List<String> fields = new ArrayList<>(entry.getFields().size());
+                for (Map.Entry<String, String> field : entry.getFields().entrySet()) {
+                    fields.add(field.getKey() + "=" + field.getValue());
+                }
+                return StringUtils.join(fields, ", ");
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
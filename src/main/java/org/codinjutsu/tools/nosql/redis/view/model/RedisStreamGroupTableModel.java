@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisStreamGroup;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisStreamGroupTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Group",
+            "Consumers",
+            "Pending",
+            "Last delivered ID",
+            "Max idle (ms)"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Integer.class, Long.class, String.class, Long.class};
+
+    private List<RedisStreamGroup> groups = Collections.emptyList();
+
+    public void setGroups(List<RedisStreamGroup> groups) {
+        this.groups = groups;
+        fireTableDataChanged();
+    }
+
+    public RedisStreamGroup getGroup(int row) {
+        return groups.get(row);
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return groups.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisStreamGroup group = groups.get(row);
+        switch (column) {
+            case 0: {
+                return group.getName();
+            }
+            case 1: {
+                return group.getConsumers().size();
+            }
+            case 2: {
+                return group.getPending();
+            }
+            case 3: {
+                return group.getLastDeliveredId();
+            }
+            case 4: {
+                return group.getMaxIdleInMillis();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
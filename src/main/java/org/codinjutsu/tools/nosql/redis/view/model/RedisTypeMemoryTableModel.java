@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisMemoryAnalysis;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisTypeMemoryTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Type",
+            "Keys",
+            "Memory (bytes)",
+            "Average (bytes)",
+            "Elements"
+    };
+    private final Class[] columnClasses = new Class[]{String.class, Long.class, Long.class, Long.class, Long.class};
+
+    private List<RedisMemoryAnalysis.TypeStatistics> typeStatistics = Collections.emptyList();
+
+    public void setTypeStatistics(List<RedisMemoryAnalysis.TypeStatistics> typeStatistics) {
+        this.typeStatistics = typeStatistics;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Class getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return typeStatistics.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisMemoryAnalysis.TypeStatistics statistics = typeStatistics.get(row);
+        switch (column) {
+            case 0: {
+                return statistics.getType();
+            }
+            case 1: {
+                return statistics.getKeyCount();
+            }
+            case 2: {
+                return statistics.getTotalMemory();
+            }
+            case 3: {
+                return statistics.getAverageMemory();
+            }
+            case 4: {
+                return statistics.getTotalLength();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.model;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisValueMatch;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisValueMatchTableModel extends AbstractTableModel {
+
+    private final String[] columnNames = new String[]{
+            "Key",
+            "Type",
+            "Position",
+            "Value"
+    };
+
+    private List<RedisValueMatch> matches = Collections.emptyList();
+
+    public void setMatches(List<RedisValueMatch> matches) {
+        this.matches = matches;
+        fireTableDataChanged();
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public int getRowCount() {
+        return matches.size();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    public Object getValueAt(int row, int column) {
+        RedisValueMatch match = matches.get(row);
+        switch (column) {
+            case 0: {
+                return match.getKey();
+            }
+            case 1: {
+                return match.getType();
+            }
+            case 2: {
+                return match.getPosition();
+            }
+            case 3: {
+                return match.getValue();
+            }
+            default: {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
@@ -22,11 +22,15 @@ import com.intellij.ui.ColoredTreeCellRenderer;
 import com.intellij.ui.SimpleTextAttributes;
 import org.codinjutsu.tools.nosql.commons.style.StyleAttributesProvider;
 import org.codinjutsu.tools.nosql.commons.view.nodedescriptor.NodeDescriptor;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyType;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
 
 public class FragmentedKeyNodeDescriptor implements NodeDescriptor {
 
     private final String keyFragment;
     private final SimpleTextAttributes keyAttribute;
+    private long keyCount;
+    private long elementCount;
 
     public FragmentedKeyNodeDescriptor(String keyFragment, SimpleTextAttributes keyAttribute) {
         this.keyFragment = keyFragment;
@@ -41,9 +45,27 @@ public class FragmentedKeyNodeDescriptor implements NodeDescriptor {
         return keyFragment;
     }
 
+    /**
+     * Counts a key below this prefix; the elements of lists, sets, hashes, sorted sets and streams are summed.
+     */
+    public void addKey(RedisRecord redisRecord) {
+        keyCount++;
+        if (!RedisKeyType.STRING.equals(redisRecord.getKeyType())) {
+            elementCount += redisRecord.getLength();
+        }
+    }
+
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    public long getElementCount() {
+        return elementCount;
+    }
+
     @Override
     public void renderValue(ColoredTableCellRenderer cellRenderer, boolean isNodeExpanded) {
-
+        cellRenderer.append(getFormattedValue(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
     }
 
     @Override
@@ -59,7 +81,11 @@ public class FragmentedKeyNodeDescriptor implements NodeDescriptor {
 
     @Override
     public String getFormattedValue() {
-        return "";
+        String formattedValue = String.format(keyCount == 1 ? "%,d key" : "%,d keys", keyCount);
+        if (elementCount > 0) {
+            formattedValue += String.format(", %,d elements", elementCount);
+        }
+        return formattedValue;
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.codinjutsu.tools.nosql.commons.utils.StringUtils;
 import org.codinjutsu.tools.nosql.commons.view.nodedescriptor.NodeDescriptor;
 import org.codinjutsu.tools.nosql.redis.RedisUtils;
 import org.codinjutsu.tools.nosql.redis.model.RedisKeyType;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
 import redis.clients.jedis.Tuple;
 
 import javax.swing.*;
@@ -38,6 +39,7 @@ public class RedisKeyValueDescriptor implements NodeDescriptor {
     private final RedisKeyType keyType;
     private final String key;
     private final Object value;
+    private final RedisRecord redisRecord;
 
     private final SimpleTextAttributes valueTextAttributes;
     private final Icon icon;
@@ -50,10 +52,19 @@ public class RedisKeyValueDescriptor implements NodeDescriptor {
         return createDescriptor(null, key, value);
     }
 
+    public static RedisKeyValueDescriptor createDescriptor(String key, RedisRecord redisRecord) {
+        return new RedisKeyValueDescriptor(redisRecord.getKeyType(), key, redisRecord.getValue(), redisRecord, StyleAttributesProvider.getStringAttribute());
+    }
+
     public RedisKeyValueDescriptor(RedisKeyType keyType, String key, Object value, SimpleTextAttributes valueTextAttributes) {
+        this(keyType, key, value, null, valueTextAttributes);
+    }
+
+    private RedisKeyValueDescriptor(RedisKeyType keyType, String key, Object value, RedisRecord redisRecord, SimpleTextAttributes valueTextAttributes) {
         this.keyType = keyType;
         this.key = key;
         this.value = value;
+        this.redisRecord = redisRecord;
         this.icon = findIcon(value);
         this.valueTextAttributes = valueTextAttributes;
     }
@@ -91,12 +102,20 @@ public class RedisKeyValueDescriptor implements NodeDescriptor {
 
     @Override
     public String getFormattedValue() {
-        if (RedisKeyType.ZSET.equals(keyType)) {
-            return getValueAndAbbreviateIfNecessary(RedisUtils.stringifySortedSet((Set<Tuple>) getValue()));
+        String formattedValue;
+        if (redisRecord != null && !redisRecord.isValueComplete()) {
+            formattedValue = String.format("%,d elements", redisRecord.getLength());
+        } else if (RedisKeyType.ZSET.equals(keyType)) {
+            formattedValue = getValueAndAbbreviateIfNecessary(RedisUtils.stringifySortedSet((Set<Tuple>) getValue()));
         } else if (RedisKeyType.SET.equals(keyType)) {
-            return getValueAndAbbreviateIfNecessary(RedisUtils.stringifySet((Set) getValue()));
+            formattedValue = getValueAndAbbreviateIfNecessary(RedisUtils.stringifySet((Set) getValue()));
+        } else {
+            formattedValue = getValueAndAbbreviateIfNecessary(String.valueOf(getValue()));
         }
-        return getValueAndAbbreviateIfNecessary(getValue().toString());
+        if (redisRecord != null && redisRecord.getTtl() >= 0) {
+            formattedValue += String.format(" (TTL %ds)", redisRecord.getTtl());
+        }
+        return formattedValue;
     }
 
     @Override
@@ -117,6 +136,10 @@ public class RedisKeyValueDescriptor implements NodeDescriptor {
         return keyType;
     }
 
+    public RedisRecord getRedisRecord() {
+        return redisRecord;
+    }
+
     protected String getValueAndAbbreviateIfNecessary(String stringifiedValue) {
         if (stringifiedValue.length() > MAX_LENGTH) {
             return StringUtils.abbreviateInCenter(stringifiedValue, MAX_LENGTH);
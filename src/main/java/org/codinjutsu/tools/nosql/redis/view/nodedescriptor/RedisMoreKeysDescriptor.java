@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view.nodedescriptor;
+
+import com.intellij.ui.ColoredTableCellRenderer;
+import com.intellij.ui.ColoredTreeCellRenderer;
+import com.intellij.ui.SimpleTextAttributes;
+import org.codinjutsu.tools.nosql.commons.view.nodedescriptor.NodeDescriptor;
+
+/**
+ * Stands for the children of a prefix node that are not shown yet.
+ */
+public class RedisMoreKeysDescriptor implements NodeDescriptor {
+
+    private int remainingCount;
+
+    public RedisMoreKeysDescriptor(int remainingCount) {
+        this.remainingCount = remainingCount;
+    }
+
+    public void setRemainingCount(int remainingCount) {
+        this.remainingCount = remainingCount;
+    }
+
+    @Override
+    public void renderValue(ColoredTableCellRenderer cellRenderer, boolean isNodeExpanded) {
+        cellRenderer.append(getFormattedValue(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+    }
+
+    @Override
+    public void renderNode(ColoredTreeCellRenderer cellRenderer) {
+        cellRenderer.append(getFormattedKey(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+    }
+
+    @Override
+    public String getFormattedKey() {
+        return "...";
+    }
+
+    @Override
+    public String getFormattedValue() {
+        return String.format("%,d more, load more (double-click)", remainingCount);
+    }
+
+    @Override
+    public Object getValue() {
+        return null;
+    }
+
+    @Override
+    public void setValue(Object value) {
+
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.redis.view.nodedescriptor;
+
+import com.intellij.ui.ColoredTableCellRenderer;
+import com.intellij.ui.ColoredTreeCellRenderer;
+import com.intellij.ui.SimpleTextAttributes;
+import org.codinjutsu.tools.nosql.commons.view.nodedescriptor.NodeDescriptor;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
+
+public class RedisMoreValuesDescriptor implements NodeDescriptor {
+
+    private final RedisRecord redisRecord;
+
+    public RedisMoreValuesDescriptor(RedisRecord redisRecord) {
+        this.redisRecord = redisRecord;
+    }
+
+    public RedisRecord getRedisRecord() {
+        return redisRecord;
+    }
+
+    @Override
+    public void renderValue(ColoredTableCellRenderer cellRenderer, boolean isNodeExpanded) {
+        cellRenderer.append(getFormattedValue(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+    }
+
+    @Override
+    public void renderNode(ColoredTreeCellRenderer cellRenderer) {
+        cellRenderer.append(getFormattedKey(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+    }
+
+    @Override
+    public String getFormattedKey() {
+        return "...";
+    }
+
+    @Override
+    public String getFormattedValue() {
+        if (redisRecord.getLoadedCount() == 0) {
+            return String.format("%,d elements, loading...", redisRecord.getLength());
+        }
+        return String.format("first %,d of %,d, load more (double-click)", redisRecord.getLoadedCount(), redisRecord.getLength());
+    }
+
+    @Override
+    public Object getValue() {
+        return null;
+    }
+
+    @Override
+    public void setValue(Object value) {
+
+    }
+}
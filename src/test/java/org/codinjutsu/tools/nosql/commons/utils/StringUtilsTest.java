@@ -19,6 +19,8 @@ package org.codinjutsu.tools.nosql.commons.utils;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class StringUtilsTest {
 
@@ -35,4 +37,13 @@ public class StringUtilsTest {
         assertEquals(1.000000000001d, StringUtils.parseNumber("1.000000000001"));
         assertEquals(1000000000000000L, StringUtils.parseNumber("1000000000000000"));
     }
+
+    @Test
+    public void matchesGlob() throws Exception {
+        assertTrue(StringUtils.matchesGlob("tenant_*", "tenant_42"));
+        assertTrue(StringUtils.matchesGlob("tenant_?", "tenant_4"));
+        assertTrue(StringUtils.matchesGlob("*", "admin"));
+        assertFalse(StringUtils.matchesGlob("tenant_?", "tenant_42"));
+        assertFalse(StringUtils.matchesGlob("tenant.*", "tenant_42"));
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.codinjutsu.tools.nosql.mongo.logic;
 
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
@@ -24,17 +25,31 @@ import com.mongodb.util.JSON;
 import org.apache.commons.io.IOUtils;
 import org.bson.Document;
 import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.model.Database;
 import org.codinjutsu.tools.nosql.mongo.model.MongoCollection;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSBucket;
+import org.codinjutsu.tools.nosql.mongo.model.MongoGridFSFile;
+import org.codinjutsu.tools.nosql.mongo.model.MongoNamespaceResult;
 import org.codinjutsu.tools.nosql.mongo.model.MongoResult;
 import org.codinjutsu.tools.nosql.mongo.model.MongoQueryOptions;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+import static org.mockito.Mockito.mock;
 
 public class MongoClientTest {
 
@@ -128,6 +143,124 @@ public class MongoClientTest {
         assertEquals("{ \"_id\" : \"tata\" , \"total\" : 15}", mongoObjects.get(1).toString());
     }
 
+    @Test
+    public void saveResultsAsCollection() throws Exception {
+        MongoQueryOptions mongoQueryOptions = new MongoQueryOptions();
+        mongoQueryOptions.setFilter("{\"label\":\"tata\"}");
+        DBObject collectionStats = mongoClient.saveResultsAsCollection(serverConfiguration, new MongoCollection("dummyCollection", "test"), mongoQueryOptions, "tataCollection");
+        assertEquals(2, ((Number) collectionStats.get("count")).intValue());
+
+        MongoResult mongoResult = mongoClient.loadCollectionValues(serverConfiguration, new MongoCollection("tataCollection", "test"), new MongoQueryOptions());
+        assertEquals(2, mongoResult.getMongoObjects().size());
+    }
+
+    @Test
+    public void fanOutQueryWithLimitPerNamespace() throws Exception {
+        MongoQueryOptions mongoQueryOptions = new MongoQueryOptions();
+        mongoQueryOptions.setFilter("{\"label\":\"tata\"}");
+        mongoQueryOptions.setResultLimit(1);
+
+        final List<MongoNamespaceResult> namespaceResults = new ArrayList<>();
+        mongoClient.fanOutQuery(serverConfiguration,
+                Arrays.asList(new MongoCollection("dummyCollection", "test"), new MongoCollection("unknownCollection", "test")),
+                mongoQueryOptions,
+                new MongoClient.NamespaceResultCallback() {
+                    @Override
+                    public void onNamespaceResult(MongoNamespaceResult namespaceResult) {
+                        namespaceResults.add(namespaceResult);
+                    }
+                }, mock(ProgressIndicator.class));
+
+        assertEquals(2, namespaceResults.size());
+        int documentCount = 0;
+        for (MongoNamespaceResult namespaceResult : namespaceResults) {
+            documentCount += namespaceResult.getDocumentCount();
+        }
+        assertEquals(1, documentCount);
+    }
+
+    @Test
+    public void loadCollectionsOnlyWhenRequested() throws Exception {
+        serverConfiguration.setUserDatabase("test");
+        List<Database> databases = mongoClient.loadDatabases(serverConfiguration);
+        assertEquals(1, databases.size());
+
+        org.codinjutsu.tools.nosql.mongo.model.MongoDatabase mongoDatabase = (org.codinjutsu.tools.nosql.mongo.model.MongoDatabase) databases.get(0);
+        assertFalse(mongoDatabase.isCollectionsLoaded());
+        assertEquals(0, mongoDatabase.getCollections().size());
+
+        mongoClient.loadCollections(serverConfiguration, mongoDatabase);
+        assertTrue(mongoDatabase.isCollectionsLoaded());
+        boolean dummyCollectionFound = false;
+        for (MongoCollection mongoCollection : mongoDatabase.getCollections()) {
+            dummyCollectionFound |= "dummyCollection".equals(mongoCollection.getName());
+        }
+        assertTrue(dummyCollectionFound);
+    }
+
+    @Test
+    public void uploadAndDownloadGridFSFile() throws Exception {
+        MongoGridFSBucket gridFSBucket = new MongoGridFSBucket("fs", "test");
+        byte[] content = new byte[1024 * 1024];
+        for (int index = 0; index < content.length; index++) {
+            content[index] = (byte) index;
+        }
+        File sourceFile = File.createTempFile("gridfs", ".bin");
+        sourceFile.deleteOnExit();
+        FileOutputStream output = new FileOutputStream(sourceFile);
+        output.write(content);
+        output.close();
+
+        mongoClient.uploadGridFSFile(serverConfiguration, gridFSBucket, sourceFile, "artifact.bin", mock(ProgressIndicator.class));
+
+        List<MongoGridFSFile> gridFSFiles = mongoClient.loadGridFSFiles(serverConfiguration, gridFSBucket, 10);
+        assertEquals(1, gridFSFiles.size());
+        MongoGridFSFile gridFSFile = gridFSFiles.get(0);
+        assertEquals("artifact.bin", gridFSFile.getFilename());
+        assertEquals(content.length, gridFSFile.getLength());
+
+        File targetFile = File.createTempFile("gridfs", ".bin");
+        targetFile.deleteOnExit();
+        mongoClient.downloadGridFSFile(serverConfiguration, gridFSBucket, gridFSFile.getId(), targetFile, mock(ProgressIndicator.class));
+        assertEquals(content.length, targetFile.length());
+        assertEquals(IOUtils.toString(new FileInputStream(sourceFile)), IOUtils.toString(new FileInputStream(targetFile)));
+
+        mongoClient.deleteGridFSFile(serverConfiguration, gridFSBucket, gridFSFile.getId());
+        assertEquals(0, mongoClient.loadGridFSFiles(serverConfiguration, gridFSBucket, 10).size());
+    }
+
+    @Test
+    public void deleteSavedChunksWhenTheUploadFails() throws Exception {
+        MongoGridFSBucket gridFSBucket = new MongoGridFSBucket("fs", "test");
+        final int failingOffset = 600 * 1024;
+        InputStream failingInput = new InputStream() {
+            private int offset;
+
+            @Override
+            public int read() throws IOException {
+                if (offset == failingOffset) {
+                    throw new IOException("Disk unplugged");
+                }
+                return offset++ & 0xff;
+            }
+        };
+
+        try {
+            mongoClient.uploadGridFSFile(serverConfiguration, gridFSBucket, failingInput, 1024 * 1024, "broken.bin", mock(ProgressIndicator.class));
+            fail();
+        } catch (RuntimeException ex) {
+            // the upload failed after saving two chunks
+        }
+
+        com.mongodb.MongoClient mongo = new com.mongodb.MongoClient("localhost:27017");
+        try {
+            assertEquals(0, mongo.getDatabase("test").getCollection("fs.chunks").count());
+            assertEquals(0, mongoClient.loadGridFSFiles(serverConfiguration, gridFSBucket, 10).size());
+        } finally {
+            mongo.close();
+        }
+    }
+
     @Before
     public void setUp() throws Exception {
         com.mongodb.MongoClient mongo = new com.mongodb.MongoClient("localhost:27017");
@@ -136,6 +269,8 @@ public class MongoClientTest {
         com.mongodb.client.MongoCollection<Document> dummyCollection = db.getCollection("dummyCollection");
         dummyCollection.deleteMany(new BasicDBObject());
         fillCollectionWithJsonData(dummyCollection, IOUtils.toString(getClass().getResourceAsStream("dummyCollection.json")));
+        db.getCollection("fs.files").deleteMany(new BasicDBObject());
+        db.getCollection("fs.chunks").deleteMany(new BasicDBObject());
 
         mongoClient = new MongoClient();
         serverConfiguration = mongoClient.defaultConfiguration();
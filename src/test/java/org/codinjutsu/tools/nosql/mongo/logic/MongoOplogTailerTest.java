@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.codinjutsu.tools.nosql.mongo.logic;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogOperation;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogQuery;
+import org.codinjutsu.tools.nosql.mongo.model.MongoOplogStatistics;
+import org.junit.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MongoOplogTailerTest {
+
+    @Test
+    public void reopenTheCursorWithoutSpinningWhenNothingMatches() throws Exception {
+        MongoCursor<Document> cursor = mock(MongoCursor.class);
+        when(cursor.tryNext()).thenReturn(null);
+        when(cursor.getServerCursor()).thenReturn(null);
+
+        FindIterable<Document> findIterable = mock(FindIterable.class);
+        when(findIterable.projection(any(Bson.class))).thenReturn(findIterable);
+        when(findIterable.cursorType(any(CursorType.class))).thenReturn(findIterable);
+        when(findIterable.noCursorTimeout(anyBoolean())).thenReturn(findIterable);
+        when(findIterable.oplogReplay(anyBoolean())).thenReturn(findIterable);
+        when(findIterable.iterator()).thenReturn(cursor);
+
+        MongoCollection<Document> oplog = mock(MongoCollection.class);
+        when(oplog.find(any(Bson.class))).thenReturn(findIterable);
+        MongoDatabase local = mock(MongoDatabase.class);
+        when(local.getCollection("oplog.rs")).thenReturn(oplog);
+        com.mongodb.MongoClient mongo = mock(com.mongodb.MongoClient.class);
+        when(mongo.getDatabase("local")).thenReturn(local);
+
+        int futureTimestamp = (int) (System.currentTimeMillis() / 1000) + 3600;
+        MongoOplogTailer tailer = new MongoOplogTailer(mongo, new MongoOplogQuery(futureTimestamp, null, EnumSet.allOf(MongoOplogOperation.class)), new MongoOplogStatistics());
+        tailer.start();
+        Thread.sleep(1000);
+
+        assertTrue(tailer.isRunning());
+        assertNull(tailer.getFailure());
+        assertEquals(0, tailer.getStatistics().getProcessedEntries());
+        verify(oplog, atLeast(2)).find(any(Bson.class));
+        verify(cursor, atMost(10)).tryNext();
+        verify(cursor, atLeast(2)).close();
+
+        tailer.stop();
+    }
+}
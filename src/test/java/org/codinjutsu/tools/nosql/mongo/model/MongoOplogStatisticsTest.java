@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.model;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class MongoOplogStatisticsTest {
+
+    @Test
+    public void computeRatesOverTheLastSeconds() throws Exception {
+        MongoOplogStatistics statistics = new MongoOplogStatistics();
+        for (int second = 1000; second < 1010; second++) {
+            statistics.record(new MongoOplogEntry(second, 1, MongoOplogOperation.INSERT, "test.orders", second), true);
+            statistics.record(new MongoOplogEntry(second, 2, MongoOplogOperation.INSERT, "test.orders", second), true);
+            statistics.record(new MongoOplogEntry(second, 3, MongoOplogOperation.UPDATE, "test.users", second), true);
+        }
+        statistics.record(new MongoOplogEntry(1010, 1, MongoOplogOperation.DELETE, "test.users", 1), true);
+
+        List<MongoOplogStatistics.NamespaceRate> namespaceRates = statistics.getNamespaceRates();
+        assertEquals(2, namespaceRates.size());
+
+        MongoOplogStatistics.NamespaceRate ordersRate = namespaceRates.get(0);
+        assertEquals("test.orders", ordersRate.getNamespace());
+        assertEquals(1.8d, ordersRate.getInsertsPerSecond(), 0.001d);
+        assertEquals(20, ordersRate.getTotalOperations());
+
+        MongoOplogStatistics.NamespaceRate usersRate = namespaceRates.get(1);
+        assertEquals("test.users", usersRate.getNamespace());
+        assertEquals(0.9d, usersRate.getUpdatesPerSecond(), 0.001d);
+        assertEquals(0.1d, usersRate.getDeletesPerSecond(), 0.001d);
+        assertEquals(1010, statistics.getLastTimestamp());
+        assertEquals(31, statistics.getProcessedEntries());
+    }
+
+    @Test
+    public void dropRatesToZeroWhenTheOplogGoesIdle() throws Exception {
+        MongoOplogStatistics statistics = new MongoOplogStatistics();
+        for (int second = 1000; second < 1010; second++) {
+            statistics.record(new MongoOplogEntry(second, 1, MongoOplogOperation.INSERT, "test.orders", second), true, 50000L);
+        }
+        assertEquals(1d, statistics.getNamespaceRates(50000L).get(0).getInsertsPerSecond(), 0.001d);
+        assertEquals(0.5d, statistics.getNamespaceRates(55000L).get(0).getInsertsPerSecond(), 0.001d);
+        assertEquals(0d, statistics.getNamespaceRates(60000L).get(0).getInsertsPerSecond(), 0.001d);
+        assertEquals(10, statistics.getNamespaceRates(60000L).get(0).getTotalOperations());
+    }
+
+    @Test
+    public void keepOnlyTheMostRecentEntries() throws Exception {
+        MongoOplogStatistics statistics = new MongoOplogStatistics(3);
+        for (int increment = 1; increment <= 5; increment++) {
+            statistics.record(new MongoOplogEntry(1000, increment, MongoOplogOperation.INSERT, "test.orders", increment), increment != 4);
+        }
+
+        List<MongoOplogEntry> recentEntries = statistics.getRecentEntries();
+        assertEquals(3, recentEntries.size());
+        assertEquals(5, recentEntries.get(0).getIncrement());
+        assertEquals(3, recentEntries.get(1).getIncrement());
+        assertEquals(2, recentEntries.get(2).getIncrement());
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.mongo.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MongoQueryOptionsTest {
+
+    @Test
+    public void buildPipelineFromFindOptions() throws Exception {
+        MongoQueryOptions mongoQueryOptions = new MongoQueryOptions();
+        mongoQueryOptions.setFilter("{'label': 'tata'}");
+        mongoQueryOptions.setProjection("{'label': 1}");
+        mongoQueryOptions.setSort("{'price': -1}");
+
+        assertEquals("[{ \"$match\" : { \"label\" : \"tata\"}}, { \"$sort\" : { \"price\" : -1}}, { \"$project\" : { \"label\" : 1}}]",
+                mongoQueryOptions.toPipeline().toString());
+    }
+
+    @Test
+    public void buildPipelineFromAggregateOptions() throws Exception {
+        MongoQueryOptions mongoQueryOptions = new MongoQueryOptions();
+        mongoQueryOptions.setOperations("[{'$match': {'price': 15}}, {'$group': {'_id': '$label'}}]");
+
+        assertEquals("[{ \"$match\" : { \"price\" : 15}}, { \"$group\" : { \"_id\" : \"$label\"}}]",
+                mongoQueryOptions.toPipeline().toString());
+    }
+}
@@ -16,16 +16,31 @@
 
 package org.codinjutsu.tools.nosql.redis.logic;
 
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.apache.commons.io.FileUtils;
 import org.codinjutsu.tools.nosql.DatabaseVendor;
 import org.codinjutsu.tools.nosql.ServerConfiguration;
+import org.codinjutsu.tools.nosql.commons.model.Database;
+import org.codinjutsu.tools.nosql.commons.model.DatabaseServer;
 import org.codinjutsu.tools.nosql.redis.model.*;
 import org.junit.Before;
 import org.junit.Test;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.StreamEntry;
+import redis.clients.jedis.StreamEntryID;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public class RedisClientTest {
 
@@ -48,20 +63,13 @@ public class RedisClientTest {
         RedisQuery query = new RedisQuery("*");
         RedisResult result = redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), query);
 
-        List<RedisRecord> redisRecords = result.getResults();
-        assertEquals(4, redisRecords.size());
-        RedisRecord redisRecord = redisRecords.get(0);
-        assertEquals(RedisKeyType.SET, redisRecord.getKeyType());
-        assertEquals("books", redisRecord.getKey());
-        redisRecord = redisRecords.get(1);
-        assertEquals(RedisKeyType.ZSET, redisRecord.getKeyType());
-        assertEquals("reviews", redisRecord.getKey());
-        redisRecord = redisRecords.get(2);
-        assertEquals(RedisKeyType.LIST, redisRecord.getKeyType());
-        assertEquals("todos", redisRecord.getKey());
-        redisRecord = redisRecords.get(3);
-        assertEquals(RedisKeyType.STRING, redisRecord.getKeyType());
-        assertEquals("status", redisRecord.getKey());
+        Map<String, RedisRecord> redisRecordByKey = indexByKey(result.getResults());
+        assertEquals(4, redisRecordByKey.size());
+        assertEquals(RedisKeyType.SET, redisRecordByKey.get("books").getKeyType());
+        assertEquals(RedisKeyType.ZSET, redisRecordByKey.get("reviews").getKeyType());
+        assertEquals(RedisKeyType.LIST, redisRecordByKey.get("todos").getKeyType());
+        assertEquals(RedisKeyType.STRING, redisRecordByKey.get("status").getKeyType());
+        assertTrue(result.isScanComplete());
     }
 
     @Test
@@ -88,6 +96,427 @@ public class RedisClientTest {
         assertEquals("reviews", redisRecord.getKey());
     }
 
+    @Test
+    public void loadWithTypeAndSizeFilters() throws Exception {
+        jedis.sadd("books", "eXtreme Programming", "Haskell for Dummies");
+        jedis.sadd("tags", "java", "redis", "mongo");
+        jedis.set("status", "online");
+        jedis.lpush("todos", "coffee", "code", "drink", "sleep");
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+
+        RedisQuery query = new RedisQuery("*");
+        query.setKeyType(RedisKeyType.SET);
+        Map<String, RedisRecord> redisRecordByKey = indexByKey(redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), query).getResults());
+        assertEquals(2, redisRecordByKey.size());
+        assertTrue(redisRecordByKey.containsKey("books"));
+        assertTrue(redisRecordByKey.containsKey("tags"));
+
+        query.setMinSize(3);
+        redisRecordByKey = indexByKey(redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), query).getResults());
+        assertEquals(1, redisRecordByKey.size());
+        assertTrue(redisRecordByKey.containsKey("tags"));
+
+        query = new RedisQuery("*");
+        query.setMaxSize(3);
+        redisRecordByKey = indexByKey(redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), query).getResults());
+        assertEquals(2, redisRecordByKey.size());
+        assertTrue(redisRecordByKey.containsKey("books"));
+        assertTrue(redisRecordByKey.containsKey("tags"));
+    }
+
+    @Test
+    public void loadWithPipelineBatchesSmallerThanScanPage() throws Exception {
+        jedis.sadd("books", "eXtreme Programming", "Haskell for Dummies");
+        jedis.set("status", "online");
+        jedis.lpush("todos", "coffee", "code", "drink", "sleep");
+        jedis.hset("aliases", "david", "dada");
+        jedis.zadd("reviews", 12.0d, "writing");
+        jedis.expire("status", 60);
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+        RedisExtraSettings redisExtraSettings = new RedisExtraSettings();
+        redisExtraSettings.setPipelineBatchSize(2);
+        serverConfiguration.getAuthenticationSettings().setExtras(redisExtraSettings.get());
+
+        RedisResult result = redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), new RedisQuery("*"));
+
+        Map<String, RedisRecord> redisRecordByKey = indexByKey(result.getResults());
+        assertEquals(5, redisRecordByKey.size());
+        assertEquals(2, redisRecordByKey.get("books").getLength());
+        assertEquals("online", String.valueOf(redisRecordByKey.get("status").getValue()));
+        assertEquals(6, redisRecordByKey.get("status").getLength());
+        assertTrue(redisRecordByKey.get("status").getTtl() > 0);
+        assertEquals(4, redisRecordByKey.get("todos").getLength());
+        assertEquals(RedisRecord.NO_TTL, redisRecordByKey.get("todos").getTtl());
+        assertEquals(1, redisRecordByKey.get("aliases").getLength());
+        assertEquals(1, redisRecordByKey.get("reviews").getLength());
+    }
+
+    @Test
+    public void loadValuesPageByPage() throws Exception {
+        for (int index = 0; index < 1200; index++) {
+            jedis.rpush("todos", "task" + index);
+            jedis.sadd("tags", "tag" + index);
+            jedis.hset("aliases", "name" + index, "alias" + index);
+            jedis.zadd("reviews", index, "review" + index);
+        }
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+
+        RedisResult result = redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), new RedisQuery("*"));
+        Map<String, RedisRecord> redisRecordByKey = indexByKey(result.getResults());
+        for (RedisRecord redisRecord : redisRecordByKey.values()) {
+            assertEquals(1200, redisRecord.getLength());
+            assertEquals(0, redisRecord.getLoadedCount());
+
+            redisRecord.appendValues(redisClient.loadValues(serverConfiguration, new RedisDatabase("1"), redisRecord, 500));
+            assertTrue(redisRecord.getLoadedCount() >= 500);
+            assertFalse(redisRecord.isValueComplete());
+
+            while (!redisRecord.isValueComplete()) {
+                redisRecord.appendValues(redisClient.loadValues(serverConfiguration, new RedisDatabase("1"), redisRecord, 500));
+            }
+            assertEquals(1200, redisRecord.getLoadedCount());
+        }
+        assertEquals("task700", ((List) redisRecordByKey.get("todos").getValue()).get(700));
+    }
+
+    @Test
+    public void loadStreamEntriesPageByPage() throws Exception {
+        for (int index = 0; index < 1200; index++) {
+            jedis.xadd("events", new StreamEntryID(1000 + index / 2, index % 2), Collections.singletonMap("index", String.valueOf(index)));
+        }
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+
+        RedisResult result = redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), new RedisQuery("*"));
+        RedisRecord redisRecord = result.getResults().get(0);
+        assertEquals(RedisKeyType.STREAM, redisRecord.getKeyType());
+        assertEquals(1200, redisRecord.getLength());
+
+        while (!redisRecord.isValueComplete()) {
+            redisRecord.appendValues(redisClient.loadValues(serverConfiguration, new RedisDatabase("1"), redisRecord, 500));
+        }
+        assertEquals(1200, redisRecord.getLoadedCount());
+        assertEquals("1350-1", ((List<StreamEntry>) redisRecord.getValue()).get(701).getID().toString());
+
+        List<StreamEntry> newestEntries = redisClient.loadStreamEntries(serverConfiguration, new RedisDatabase("1"), "events", null, 3);
+        assertEquals("1599-1", newestEntries.get(0).getID().toString());
+        List<StreamEntry> olderEntries = redisClient.loadStreamEntries(serverConfiguration, new RedisDatabase("1"), "events", newestEntries.get(2).getID().toString(), 3);
+        assertEquals("1598-0", olderEntries.get(0).getID().toString());
+    }
+
+    @Test
+    public void renameThenDeleteKeysByPattern() throws Exception {
+        for (int index = 0; index < 2500; index++) {
+            jedis.set("session:" + index, "online");
+        }
+        jedis.set("session:new:7", "taken");
+        jedis.set("user:1", "john");
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+        ProgressIndicator indicator = mock(ProgressIndicator.class);
+
+        assertEquals(2501, redisClient.countKeys(serverConfiguration, new RedisDatabase("1"), "session:*", indicator));
+
+        RedisBulkOptions renameOptions = new RedisBulkOptions(RedisBulkOperation.RENAME, "session:[0-9]*");
+        renameOptions.setPrefixes("session:", "session:new:");
+        renameOptions.setKeysPerSecond(RedisBulkOptions.UNTHROTTLED);
+        RedisBulkReport renameReport = redisClient.executeBulkOperation(serverConfiguration, new RedisDatabase("1"), renameOptions, 2500, indicator);
+        assertEquals(2499, renameReport.getUpdatedKeys());
+        assertEquals("taken", jedis.get("session:new:7"));
+        assertEquals("online", jedis.get("session:7"));
+
+        RedisBulkReport deleteReport = redisClient.executeBulkOperation(serverConfiguration, new RedisDatabase("1"), new RedisBulkOptions(RedisBulkOperation.DELETE, "session:*"), 0, indicator);
+        assertEquals(2501, deleteReport.getUpdatedKeys());
+        assertEquals(Long.valueOf(1), jedis.dbSize());
+    }
+
+    @Test
+    public void exportThenImportKeysWithTheirTtl() throws Exception {
+        for (int index = 0; index < 1500; index++) {
+            jedis.set("session:" + index, "online");
+        }
+        jedis.pexpire("session:7", 60000);
+        jedis.rpush("queue", "a", "b");
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+        ProgressIndicator indicator = mock(ProgressIndicator.class);
+        File file = File.createTempFile("nosql4idea", ".rdump");
+        file.deleteOnExit();
+
+        assertEquals(1500, redisClient.exportKeys(serverConfiguration, new RedisDatabase("1"), RedisKeySelection.byFilter("session:*"), file, indicator));
+        jedis.flushDB();
+        jedis.set("session:8", "offline");
+
+        RedisRestoreReport report = redisClient.importKeys(serverConfiguration, new RedisDatabase("1"), file, false, indicator);
+        assertEquals(1499, report.getRestoredKeys());
+        assertEquals(1, report.getSkippedKeys());
+        assertEquals(0, report.getFailedKeys());
+        assertEquals("offline", jedis.get("session:8"));
+        assertTrue(jedis.pttl("session:7") > 0);
+        assertEquals(Long.valueOf(-1), jedis.pttl("session:9"));
+
+        assertEquals(1500, redisClient.importKeys(serverConfiguration, new RedisDatabase("1"), file, true, indicator).getRestoredKeys());
+        assertEquals("online", jedis.get("session:8"));
+    }
+
+    @Test
+    public void copyKeysThroughDumpRestoreUnlessTheSourceServerCanReachTheTarget() throws Exception {
+        for (int index = 0; index < 1500; index++) {
+            jedis.set("session:" + index, "online");
+        }
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+        jedis.select(2);
+        jedis.flushDB();
+        jedis.set("session:8", "offline");
+
+        RedisRestoreReport report = redisClient.copyKeys(serverConfiguration, new RedisDatabase("1"), RedisKeySelection.byFilter("session:*"),
+                serverConfiguration, new RedisDatabase("2"), false, true, mock(ProgressIndicator.class));
+        assertEquals(1499, report.getRestoredKeys());
+        assertEquals(1, report.getSkippedKeys());
+        assertEquals("offline", jedis.get("session:8"));
+        jedis.flushDB();
+
+        assertFalse(RedisClient.isMigrateReachable("prod.example.com:6379", "localhost:6379", true));
+        assertFalse(RedisClient.isMigrateReachable("prod.example.com:6379", "192.168.1.10:6379", true));
+        assertFalse(RedisClient.isMigrateReachable("prod.example.com:6379", "prod.example.com", false));
+        assertTrue(RedisClient.isMigrateReachable("prod.example.com:6379", "prod.example.com:6380", false));
+        assertTrue(RedisClient.isMigrateReachable("localhost", "localhost:6380", false));
+    }
+
+    @Test
+    public void exportThenImportJsonLines() throws Exception {
+        jedis.hset("user:1", "name", "John");
+        jedis.expire("user:1", 600);
+        jedis.rpush("queue", "a", "b", "a");
+        jedis.zadd("scores", 2.5, "alice");
+        jedis.set("status", "online");
+        jedis.set("empty", "");
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+        ProgressIndicator indicator = mock(ProgressIndicator.class);
+        File file = File.createTempFile("nosql4idea", ".jsonl");
+        file.deleteOnExit();
+        File errorFile = new File(file.getPath() + ".errors");
+        errorFile.deleteOnExit();
+
+        assertEquals(5, redisClient.exportRecords(serverConfiguration, new RedisDatabase("1"), new RedisQuery("*"), RedisExportFormat.JSON_LINES, file, indicator));
+        jedis.flushDB();
+        jedis.rpush("queue", "z");
+
+        RedisImportReport report = redisClient.importRecords(serverConfiguration, new RedisDatabase("1"), RedisExportFormat.JSON_LINES, file, errorFile, indicator);
+        assertEquals(5, report.getImportedRecords());
+        assertEquals(0, report.getFailedRecords());
+        assertFalse(errorFile.exists());
+        assertEquals(Arrays.asList("a", "b", "a"), jedis.lrange("queue", 0, -1));
+        assertEquals("", jedis.get("empty"));
+        assertEquals("John", jedis.hget("user:1", "name"));
+        assertTrue(jedis.ttl("user:1") > 0);
+        assertEquals(Double.valueOf(2.5), jedis.zscore("scores", "alice"));
+    }
+
+    @Test
+    public void importBigCollectionsAndEmptyStreams() throws Exception {
+        List<String> members = new ArrayList<>();
+        for (int index = 0; index < 2500; index++) {
+            members.add("member:" + index);
+        }
+        File file = File.createTempFile("nosql4idea", ".jsonl");
+        file.deleteOnExit();
+        File errorFile = new File(file.getPath() + ".errors");
+        errorFile.deleteOnExit();
+        FileUtils.writeLines(file, "UTF-8", Arrays.asList(
+                RedisJsonLinesCodec.format(new RedisRecord<>(RedisKeyType.LIST, "queue", members)),
+                RedisJsonLinesCodec.format(new RedisRecord<>(RedisKeyType.STREAM, "events", new ArrayList<StreamEntry>()))));
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+
+        RedisImportReport report = redisClient.importRecords(serverConfiguration, new RedisDatabase("1"), RedisExportFormat.JSON_LINES, file, errorFile, mock(ProgressIndicator.class));
+        assertEquals(2, report.getImportedRecords());
+        assertEquals(members, jedis.lrange("queue", 0, -1));
+        assertEquals("stream", jedis.type("events"));
+        assertEquals(0, jedis.xlen("events").longValue());
+    }
+
+    @Test
+    public void runScriptOnceLoadedThenPerScanPage() throws Exception {
+        for (int index = 0; index < 2500; index++) {
+            jedis.set("counter:" + index, "1");
+        }
+        jedis.set("user:1", "john");
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+
+        RedisLuaScript script = new RedisLuaScript("for _, key in ipairs(KEYS) do redis.call('INCRBY', key, ARGV[1]) end return #KEYS");
+        RedisScriptResult result = redisClient.runScript(serverConfiguration, new RedisDatabase("1"), script, Arrays.asList("counter:1", "counter:2"), Collections.singletonList("2"));
+        assertEquals(Collections.<Object>singletonList(2L), result.getReplies());
+        assertEquals(script.getSha(), jedis.scriptLoad(script.getSource()));
+        assertEquals("3", jedis.get("counter:1"));
+
+        jedis.scriptFlush();
+        result = redisClient.runScriptPerScanPage(serverConfiguration, new RedisDatabase("1"), script, "counter:*", Collections.singletonList("1"), mock(ProgressIndicator.class));
+        assertEquals(2500, result.getProcessedKeys());
+        assertEquals("4", jedis.get("counter:1"));
+        assertEquals("2", jedis.get("counter:2499"));
+        assertEquals("john", jedis.get("user:1"));
+    }
+
+    @Test
+    public void searchValuesOnServerSide() throws Exception {
+        jedis.hset("user:1", "email", "john@example.com");
+        jedis.hset("user:1", "name", "john");
+        jedis.hset("user:2", "email", "jane@example.org");
+        jedis.rpush("queue", "order-1", "order-42", "order-7");
+        jedis.sadd("tags", "example", "sample", "other");
+        jedis.zadd("ranking", 12, "example*");
+        jedis.set("greeting", "hello example");
+        for (int index = 0; index < 250; index++) {
+            jedis.rpush("events", "event-" + index);
+        }
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+
+        RedisValueSearchOptions options = new RedisValueSearchOptions();
+        options.setValue("example");
+        RedisValueSearch search = new RedisValueSearch(options.getMaxMatches());
+        redisClient.searchValues(serverConfiguration, new RedisDatabase("1"), options, search, mock(ProgressIndicator.class));
+
+        Map<String, RedisValueMatch> matchesByKey = new HashMap<>();
+        for (RedisValueMatch match : search.getMatches()) {
+            matchesByKey.put(match.getKey(), match);
+        }
+        assertEquals(7, search.getScannedKeys());
+        assertEquals(5, matchesByKey.size());
+        assertEquals("email", matchesByKey.get("user:1").getPosition());
+        assertEquals("jane@example.org", matchesByKey.get("user:2").getValue());
+        assertEquals("example", matchesByKey.get("tags").getValue());
+        assertEquals("12", matchesByKey.get("ranking").getPosition());
+        assertEquals("", matchesByKey.get("greeting").getPosition());
+        assertEquals(8, search.getSearchedChunks());
+
+        options.setFilter("events");
+        options.setValue("event-240");
+        search = new RedisValueSearch(options.getMaxMatches());
+        redisClient.searchValues(serverConfiguration, new RedisDatabase("1"), options, search, mock(ProgressIndicator.class));
+        assertEquals(1, search.getMatches().size());
+        assertEquals("240", search.getMatches().get(0).getPosition());
+        assertEquals(3, search.getSearchedChunks());
+
+        options.setFilter("queue");
+        options.setValue("order-4");
+        search = new RedisValueSearch(options.getMaxMatches());
+        redisClient.searchValues(serverConfiguration, new RedisDatabase("1"), options, search, mock(ProgressIndicator.class));
+        assertEquals(1, search.getMatches().size());
+        assertEquals("1", search.getMatches().get(0).getPosition());
+
+        options.setFilter("user:*");
+        options.setField("name");
+        options.setValue("j");
+        search = new RedisValueSearch(options.getMaxMatches());
+        redisClient.searchValues(serverConfiguration, new RedisDatabase("1"), options, search, mock(ProgressIndicator.class));
+        assertEquals(1, search.getMatches().size());
+        assertEquals("john", search.getMatches().get(0).getValue());
+    }
+
+    @Test
+    public void loadServerWithKeyCountsAndHiddenEmptyDatabases() throws Exception {
+        jedis.set("user:1", "john");
+        jedis.setex("session:1", 60, "online");
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+        RedisExtraSettings redisExtraSettings = new RedisExtraSettings();
+        redisExtraSettings.setHideEmptyDatabases(true);
+        serverConfiguration.getAuthenticationSettings().setExtras(redisExtraSettings.get());
+        serverConfiguration.setUserDatabase("1");
+
+        DatabaseServer databaseServer = new DatabaseServer(serverConfiguration);
+        redisClient.loadServer(databaseServer);
+        RedisDatabase database = (RedisDatabase) databaseServer.getDatabases().get(0);
+        assertEquals("1", database.getName());
+        assertEquals(2, database.getKeyCount());
+        assertEquals(1, database.getExpiringKeyCount());
+
+        serverConfiguration.setUserDatabase(null);
+        redisClient.loadServer(databaseServer);
+        for (Database loadedDatabase : databaseServer.getDatabases()) {
+            assertFalse(((RedisDatabase) loadedDatabase).isEmpty());
+        }
+    }
+
+    @Test
+    public void continueScanningFromCursorWhenKeyLimitIsReached() throws Exception {
+        for (int index = 0; index < 2500; index++) {
+            jedis.set("key:" + index, String.valueOf(index));
+        }
+
+        RedisClient redisClient = new RedisClient();
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDatabaseVendor(DatabaseVendor.REDIS);
+        serverConfiguration.setServerUrl("localhost:6379");
+
+        RedisQuery query = new RedisQuery("key:*", 1000, RedisQuery.FIRST_CURSOR);
+        RedisResult result = redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), query);
+        assertFalse(result.isScanComplete());
+        assertEquals(1000, result.getResults().size());
+
+        Map<String, RedisRecord> redisRecordByKey = indexByKey(result.getResults());
+        int loadedKeys = result.getResults().size();
+        while (!result.isScanComplete()) {
+            result = redisClient.loadRecords(serverConfiguration, new RedisDatabase("1"), query.withCursor(result.getNextCursor(), result.getPendingKeys()));
+            assertTrue(result.getResults().size() <= 1000);
+            redisRecordByKey.putAll(indexByKey(result.getResults()));
+            loadedKeys += result.getResults().size();
+        }
+        assertEquals(2500, redisRecordByKey.size());
+        assertEquals(2500, loadedKeys);
+    }
+
+    private static Map<String, RedisRecord> indexByKey(List<RedisRecord> redisRecords) {
+        Map<String, RedisRecord> redisRecordByKey = new HashMap<>();
+        for (RedisRecord redisRecord : redisRecords) {
+            redisRecordByKey.put(redisRecord.getKey(), redisRecord);
+        }
+        return redisRecordByKey;
+    }
+
     @Before
     public void setUp() throws Exception {
         jedis = new Jedis("localhost", 6379);
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RedisCsvCodecTest {
+
+    @Test
+    public void quoteCellsOnlyWhenNeeded() throws Exception {
+        assertEquals("user:1,name,\"Doe, \"\"John\"\"\"\r\n", RedisCsvCodec.formatRow("user:1", "name", "Doe, \"John\""));
+    }
+
+    @Test
+    public void readRowsWithQuotedLineBreaks() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader(
+                RedisCsvCodec.formatRow("user:1", "address", "1 Main Street\nSpringfield") + "user:1,status,online\n"));
+
+        assertEquals(Arrays.asList("user:1", "address", "1 Main Street\nSpringfield"), RedisCsvCodec.readRow(reader));
+        assertEquals(Arrays.asList("user:1", "status", "online"), RedisCsvCodec.readRow(reader));
+        assertNull(RedisCsvCodec.readRow(reader));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnclosedQuotes() throws Exception {
+        RedisCsvCodec.readRow(new BufferedReader(new StringReader("user:1,name,\"John")));
+    }
+}
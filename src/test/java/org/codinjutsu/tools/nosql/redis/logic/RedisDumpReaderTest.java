@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisDumpEntry;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RedisDumpReaderTest {
+
+    @Test
+    public void readWrittenEntries() throws Exception {
+        byte[] dump = writeDump(true);
+
+        RedisDumpReader reader = new RedisDumpReader(new ByteArrayInputStream(dump));
+        RedisDumpEntry entry = reader.read();
+        assertArrayEquals("session:1".getBytes(), entry.getKey());
+        assertEquals(60000, entry.getTtlInMillis());
+        assertArrayEquals(new byte[]{0, 6, 'o', 'n', 'l', 'i', 'n', 'e'}, entry.getValue());
+        assertEquals(RedisDumpEntry.NO_EXPIRATION, reader.read().getTtlInMillis());
+        assertNull(reader.read());
+        reader.close();
+    }
+
+    @Test(expected = EOFException.class)
+    public void detectUnfinishedDump() throws Exception {
+        RedisDumpReader reader = new RedisDumpReader(new ByteArrayInputStream(writeDump(false)));
+        reader.read();
+        reader.read();
+        reader.read();
+    }
+
+    @Test(expected = EOFException.class)
+    public void detectTruncatedDump() throws Exception {
+        byte[] dump = writeDump(true);
+        RedisDumpReader reader = new RedisDumpReader(new ByteArrayInputStream(Arrays.copyOf(dump, dump.length - 10)));
+        reader.read();
+        reader.read();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectOtherFiles() throws Exception {
+        new RedisDumpReader(new ByteArrayInputStream("REDIS0009".getBytes()));
+    }
+
+    private static byte[] writeDump(boolean finished) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RedisDumpWriter writer = new RedisDumpWriter(bytes);
+        writer.write(new RedisDumpEntry("session:1".getBytes(), 60000, new byte[]{0, 6, 'o', 'n', 'l', 'i', 'n', 'e'}));
+        writer.write(new RedisDumpEntry("session:2".getBytes(), RedisDumpEntry.NO_EXPIRATION, new byte[]{0, 7, 'o', 'f', 'f', 'l', 'i', 'n', 'e'}));
+        if (finished) {
+            writer.finish();
+        }
+        writer.close();
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.logic;
+
+import org.codinjutsu.tools.nosql.redis.model.RedisBinaryValue;
+import org.codinjutsu.tools.nosql.redis.model.RedisKeyType;
+import org.codinjutsu.tools.nosql.redis.model.RedisRecord;
+import org.junit.Test;
+import redis.clients.jedis.StreamEntry;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.Tuple;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RedisJsonLinesCodecTest {
+
+    @Test
+    public void formatAndParseHash() throws Exception {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("name", "John \"Johnny\" Doe");
+        fields.put("status", "online");
+
+        String line = RedisJsonLinesCodec.format(new RedisRecord<>(RedisKeyType.HASH, "user:1", fields, 2, 120, null));
+        assertEquals("{ \"key\" : \"user:1\" , \"type\" : \"hash\" , \"ttl\" : 120 , \"value\" : { \"name\" : \"John \\\"Johnny\\\" Doe\" , \"status\" : \"online\"}}", line);
+
+        RedisRecord redisRecord = RedisJsonLinesCodec.parse(line);
+        assertEquals(RedisKeyType.HASH, redisRecord.getKeyType());
+        assertEquals(120, redisRecord.getTtl());
+        assertEquals(fields, redisRecord.getValue());
+    }
+
+    @Test
+    public void formatAndParseSortedSetAndStream() throws Exception {
+        Set<Tuple> members = new LinkedHashSet<>(Arrays.asList(new Tuple("alice", 1.5), new Tuple("bob", 3d)));
+        RedisRecord sortedSet = RedisJsonLinesCodec.parse(RedisJsonLinesCodec.format(new RedisRecord<>(RedisKeyType.ZSET, "scores", members)));
+        assertEquals(members, sortedSet.getValue());
+        assertEquals(RedisRecord.NO_TTL, sortedSet.getTtl());
+
+        List<StreamEntry> entries = Collections.singletonList(new StreamEntry(new StreamEntryID(1000, 1), Collections.singletonMap("event", "login")));
+        RedisRecord stream = RedisJsonLinesCodec.parse(RedisJsonLinesCodec.format(new RedisRecord<>(RedisKeyType.STREAM, "events", entries)));
+        StreamEntry entry = ((List<StreamEntry>) stream.getValue()).get(0);
+        assertEquals("1000-1", entry.getID().toString());
+        assertEquals("login", entry.getFields().get("event"));
+    }
+
+    @Test
+    public void streamCollectionsElementByElement() throws Exception {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("name", "John \"Johnny\" Doe");
+        fields.put("status", "online");
+
+        StringBuilder line = new StringBuilder(RedisJsonLinesCodec.openCollection("user:1", RedisKeyType.HASH, 120));
+        String separator = "";
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            line.append(separator).append(RedisJsonLinesCodec.formatElement(RedisKeyType.HASH, field));
+            separator = RedisJsonLinesCodec.ELEMENT_SEPARATOR;
+        }
+        line.append(RedisJsonLinesCodec.closeCollection(RedisKeyType.HASH));
+        assertEquals(RedisJsonLinesCodec.format(new RedisRecord<>(RedisKeyType.HASH, "user:1", fields, 2, 120, null)), line.toString());
+
+        Set<Tuple> members = new LinkedHashSet<>(Arrays.asList(new Tuple("alice", 1.5), new Tuple("bob", 3d)));
+        String sortedSet = RedisJsonLinesCodec.openCollection("scores", RedisKeyType.ZSET, RedisRecord.NO_TTL)
+                + RedisJsonLinesCodec.formatElement(RedisKeyType.ZSET, new Tuple("alice", 1.5))
+                + RedisJsonLinesCodec.ELEMENT_SEPARATOR
+                + RedisJsonLinesCodec.formatElement(RedisKeyType.ZSET, new Tuple("bob", 3d))
+                + RedisJsonLinesCodec.closeCollection(RedisKeyType.ZSET);
+        assertEquals(members, RedisJsonLinesCodec.parse(sortedSet).getValue());
+
+        String emptyList = RedisJsonLinesCodec.openCollection("queue", RedisKeyType.LIST, RedisRecord.NO_TTL) + RedisJsonLinesCodec.closeCollection(RedisKeyType.LIST);
+        assertEquals(Collections.emptyList(), RedisJsonLinesCodec.parse(emptyList).getValue());
+    }
+
+    @Test
+    public void encodeBinaryStringsInBase64() throws Exception {
+        byte[] bytes = {(byte) 0xac, (byte) 0xed, 0x00, 0x05};
+
+        String line = RedisJsonLinesCodec.format(new RedisRecord<>(RedisKeyType.STRING, "session", new RedisBinaryValue(bytes)));
+        assertEquals("{ \"key\" : \"session\" , \"type\" : \"string\" , \"encoding\" : \"base64\" , \"value\" : \"rO0ABQ==\"}", line);
+
+        assertArrayEquals(bytes, ((RedisBinaryValue) RedisJsonLinesCodec.parse(line).getValue()).getBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnknownTypes() throws Exception {
+        RedisJsonLinesCodec.parse("{\"key\": \"user:1\", \"type\": \"document\", \"value\": {}}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidJson() throws Exception {
+        RedisJsonLinesCodec.parse("{\"key\": \"user:1\", ");
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RedisActivityStatisticsTest {
+
+    @Test
+    public void countRatesByCommandAndKeyPrefix() throws Exception {
+        RedisActivityStatistics statistics = new RedisActivityStatistics(":");
+        for (int index = 0; index < 30; index++) {
+            statistics.record(new RedisActivityEvent(100000L + index, "set", "user:" + index, null));
+        }
+        for (int index = 0; index < 10; index++) {
+            statistics.record(new RedisActivityEvent(101000L + index, "expired", "session:" + index, null));
+        }
+
+        List<RedisActivityStatistics.ActivityRate> commandRates = statistics.getCommandRates(101);
+        assertEquals(2, commandRates.size());
+        assertEquals("set", commandRates.get(0).getName());
+        assertEquals(3d, commandRates.get(0).getEventsPerSecond(), 0.001d);
+        assertEquals(30, commandRates.get(0).getTotalEvents());
+
+        List<RedisActivityStatistics.ActivityRate> prefixRates = statistics.getPrefixRates(101);
+        assertEquals("user:*", prefixRates.get(0).getName());
+        assertEquals("session:*", prefixRates.get(1).getName());
+        assertEquals(1d, prefixRates.get(1).getEventsPerSecond(), 0.001d);
+    }
+
+    @Test
+    public void sampleRecentEventsUnderHeavyTraffic() throws Exception {
+        RedisActivityStatistics statistics = new RedisActivityStatistics(":", 5, 2);
+        for (int index = 0; index < 4; index++) {
+            statistics.record(new RedisActivityEvent(1000L + index, "get", "first:" + index, null));
+        }
+        for (int index = 0; index < 4; index++) {
+            statistics.record(new RedisActivityEvent(2000L + index, "get", "second:" + index, null));
+        }
+        for (int index = 0; index < 4; index++) {
+            statistics.record(new RedisActivityEvent(3000L + index, "get", "third:" + index, null));
+        }
+
+        assertEquals(12, statistics.getProcessedEvents());
+        assertEquals(6, statistics.getSampledOutEvents());
+
+        List<RedisActivityEvent> recentEvents = statistics.getRecentEvents();
+        assertEquals(5, recentEvents.size());
+        assertEquals("third:1", recentEvents.get(0).getKey());
+        assertEquals("second:1", recentEvents.get(2).getKey());
+        assertEquals("first:1", recentEvents.get(4).getKey());
+    }
+
+    @Test
+    public void groupPrefixesBeyondTheLimit() throws Exception {
+        RedisActivityStatistics statistics = new RedisActivityStatistics(":");
+        for (int index = 0; index < RedisActivityStatistics.MAX_PREFIXES + 10; index++) {
+            statistics.record(new RedisActivityEvent(1000L, "del", "prefix" + index + ":key", null));
+        }
+        statistics.record(new RedisActivityEvent(1000L, "flushdb", null, null));
+
+        List<RedisActivityStatistics.ActivityRate> prefixRates = statistics.getPrefixRates(1);
+        assertEquals(RedisActivityStatistics.MAX_PREFIXES + 1, prefixRates.size());
+        assertEquals(RedisActivityStatistics.OTHER_PREFIXES, prefixRates.get(0).getName());
+        assertEquals(11, prefixRates.get(0).getTotalEvents());
+    }
+}
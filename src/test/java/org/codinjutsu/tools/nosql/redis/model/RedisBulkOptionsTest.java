@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RedisBulkOptionsTest {
+
+    @Test
+    public void renameOnlyKeysStartingWithTheOldPrefix() throws Exception {
+        RedisBulkOptions options = new RedisBulkOptions(RedisBulkOperation.RENAME, "cache:*");
+        options.setPrefixes("cache:", "old-cache:");
+
+        assertEquals("old-cache:user:1", options.getRenamedKey("cache:user:1"));
+        assertNull(options.getRenamedKey("session:1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectANewPrefixStartingWithTheOldOne() throws Exception {
+        new RedisBulkOptions(RedisBulkOperation.RENAME, "cache:*").setPrefixes("cache:", "cache:old:");
+    }
+}
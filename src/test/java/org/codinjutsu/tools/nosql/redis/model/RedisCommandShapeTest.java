@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RedisCommandShapeTest {
+
+    @Test
+    public void groupSlowCommandsByCommandAndKeyPrefix() throws Exception {
+        List<RedisSlowlogEntry> entries = Arrays.asList(
+                createEntry(1, 1200, "hgetall", "user:1:profile"),
+                createEntry(2, 800, "HGETALL", "user:2:profile"),
+                createEntry(3, 5000, "KEYS", "*"),
+                createEntry(4, 300, "hgetall", "session:42"),
+                createEntry(5, 1500, "EVAL", "return 1", "0"));
+
+        List<RedisCommandShape> shapes = RedisCommandShape.aggregate(entries, ":");
+
+        assertEquals(4, shapes.size());
+        assertEquals("KEYS", shapes.get(0).getCommand());
+        assertEquals("*", shapes.get(0).getKeyPrefix());
+
+        RedisCommandShape userShape = shapes.get(1);
+        assertEquals("HGETALL", userShape.getCommand());
+        assertEquals("user:*", userShape.getKeyPrefix());
+        assertEquals(2, userShape.getCount());
+        assertEquals(2000, userShape.getTotalDurationInMicros());
+        assertEquals(1200, userShape.getMaxDurationInMicros());
+        assertEquals(1000, userShape.getAverageDurationInMicros());
+
+        assertEquals("EVAL", shapes.get(2).getCommand());
+        assertEquals("", shapes.get(2).getKeyPrefix());
+        assertEquals("session:*", shapes.get(3).getKeyPrefix());
+    }
+
+    @Test
+    public void ignoreKeyOfKeylessCommands() throws Exception {
+        assertNull(createEntry(1, 10, "CONFIG", "GET", "maxmemory").getKey());
+        assertEquals("counter", createEntry(1, 10, "INCR", "counter").getKeyPrefix(":"));
+    }
+
+    private static RedisSlowlogEntry createEntry(long id, long durationInMicros, String... args) {
+        return new RedisSlowlogEntry(id, 1500000000L, durationInMicros, Arrays.asList(args));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RedisDatabaseTest {
+
+    @Test
+    public void parseKeyspaceInfo() throws Exception {
+        Map<Integer, RedisDatabase> databases = RedisDatabase.parseKeyspaceInfo("# Keyspace\r\n" +
+                "db0:keys=1200,expires=35,avg_ttl=2591\r\n" +
+                "db10:keys=3,expires=0,avg_ttl=0\r\n");
+
+        assertEquals(Arrays.asList(0, 10), Arrays.asList(databases.keySet().toArray()));
+        assertEquals("0", databases.get(0).getName());
+        assertEquals(1200, databases.get(0).getKeyCount());
+        assertEquals(35, databases.get(0).getExpiringKeyCount());
+        assertEquals(3, databases.get(10).getKeyCount());
+    }
+
+    @Test
+    public void parseEmptyKeyspaceInfo() throws Exception {
+        assertTrue(RedisDatabase.parseKeyspaceInfo("# Keyspace\r\n").isEmpty());
+        assertTrue(new RedisDatabase("2").isEmpty());
+    }
+}
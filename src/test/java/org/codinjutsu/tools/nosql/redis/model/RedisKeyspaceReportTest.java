@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class RedisKeyspaceReportTest {
+
+    @Test
+    public void aggregateKeysByPrefix() throws Exception {
+        RedisKeyspaceReport report = new RedisKeyspaceReport(":", 3);
+        report.record(new RedisKeyMemory("user:1:profile", "hash", "ziplist", 4, 100, RedisRecord.NO_TTL));
+        report.record(new RedisKeyMemory("user:1:sessions", "set", "intset", 2, 50, 120));
+        report.record(new RedisKeyMemory("user:2:profile", "hash", "ziplist", 4, 110, 7200));
+        report.record(new RedisKeyMemory("cache:home", "string", "raw", 2048, 3000, 172800));
+        report.record(new RedisKeyMemory("counter", "string", "int", 1, 40, RedisRecord.NO_TTL));
+
+        RedisPrefixStatistics root = report.getRoot();
+        assertEquals(5, root.getKeyCount());
+        assertEquals(3300, root.getMemory());
+        assertEquals(2, root.getChildCount());
+        assertEquals(4, report.getPrefixCount());
+
+        Map<String, RedisPrefixStatistics> rootChildren = indexByName(report.getChildren(""));
+        RedisPrefixStatistics user = rootChildren.get("user");
+        assertEquals("user", user.getPrefix());
+        assertEquals(3, user.getKeyCount());
+        assertEquals(260, user.getMemory());
+        assertEquals(Long.valueOf(2), user.getKeyCountByType().get("hash"));
+        assertEquals(Long.valueOf(1), user.getKeyCountByType().get("set"));
+        assertEquals(1, user.getKeyCount(RedisTtlBucket.NONE));
+        assertEquals(1, user.getKeyCount(RedisTtlBucket.HOUR));
+        assertEquals(1, user.getKeyCount(RedisTtlBucket.DAY));
+        assertEquals(0, user.getKeyCount(RedisTtlBucket.LONGER));
+
+        RedisPrefixStatistics firstUser = indexByName(report.getChildren("user")).get("1");
+        assertEquals("user:1", firstUser.getPrefix());
+        assertEquals(2, firstUser.getKeyCount());
+        assertEquals(0, firstUser.getChildCount());
+
+        assertEquals(1, rootChildren.get("cache").getKeyCount(RedisTtlBucket.LONGER));
+    }
+
+    @Test
+    public void stopAtMaxDepth() throws Exception {
+        RedisKeyspaceReport report = new RedisKeyspaceReport("::", 1);
+        report.record(new RedisKeyMemory("app::cache::1", "string", "raw", 1, 10));
+        report.record(new RedisKeyMemory("app::cache::2", "string", "raw", 1, 10));
+
+        RedisPrefixStatistics app = report.getChildren("").get(0);
+        assertEquals("app", app.getPrefix());
+        assertEquals(2, app.getKeyCount());
+        assertEquals(0, app.getChildCount());
+        assertEquals(1, report.getPrefixCount());
+    }
+
+    @Test
+    public void returnSnapshotOfTheReport() throws Exception {
+        RedisKeyspaceReport report = new RedisKeyspaceReport(":", 3);
+        report.record(new RedisKeyMemory("user:1", "string", "raw", 1, 10));
+        RedisPrefixStatistics snapshot = report.getRoot();
+
+        report.record(new RedisKeyMemory("user:2", "string", "raw", 1, 10));
+
+        assertEquals(1, snapshot.getKeyCount());
+        assertEquals(2, report.getAnalyzedKeys());
+    }
+
+    @Test
+    public void foldChildrenBeyondTheLimitIntoOtherPrefixes() throws Exception {
+        RedisKeyspaceReport report = new RedisKeyspaceReport(":", 3);
+        for (int index = 0; index < RedisKeyspaceReport.MAX_CHILDREN + 50; index++) {
+            report.record(new RedisKeyMemory("user:" + index + ":profile", "hash", "ziplist", 4, 10));
+        }
+
+        List<RedisPrefixStatistics> userChildren = report.getChildren("user");
+        assertEquals(RedisKeyspaceReport.MAX_CHILDREN + 1, userChildren.size());
+        RedisPrefixStatistics otherPrefixes = indexByName(userChildren).get(RedisKeyspaceReport.OTHER_PREFIXES);
+        assertEquals("user:(other)", otherPrefixes.getPrefix());
+        assertEquals(50, otherPrefixes.getKeyCount());
+        assertEquals(0, otherPrefixes.getChildCount());
+        assertEquals(RedisKeyspaceReport.MAX_CHILDREN + 1, indexByName(report.getChildren("")).get("user").getChildCount());
+        assertEquals(1 + RedisKeyspaceReport.MAX_CHILDREN + 1, report.getPrefixCount());
+    }
+
+    private static Map<String, RedisPrefixStatistics> indexByName(List<RedisPrefixStatistics> children) {
+        Map<String, RedisPrefixStatistics> childrenByName = new HashMap<>();
+        for (RedisPrefixStatistics child : children) {
+            childrenByName.put(child.getName(), child);
+        }
+        return childrenByName;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class RedisLuaScriptTest {
+
+    @Test
+    public void parseCommaSeparatedArguments() throws Exception {
+        assertEquals(Arrays.asList("user:1", "user:2", "60"), RedisLuaScript.parseArguments(" user:1, user:2,,60 "));
+    }
+
+    @Test
+    public void parseBlankArguments() throws Exception {
+        assertEquals(Collections.<String>emptyList(), RedisLuaScript.parseArguments("  "));
+        assertEquals(Collections.<String>emptyList(), RedisLuaScript.parseArguments(null));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RedisMemoryAnalysisTest {
+
+    @Test
+    public void keepOnlyTheBiggestKeysOfEachType() throws Exception {
+        RedisMemoryAnalysis analysis = new RedisMemoryAnalysis(2);
+        for (int index = 1; index <= 5; index++) {
+            analysis.record(new RedisKeyMemory("list:" + index, "list", "quicklist", index, index * 100));
+            analysis.record(new RedisKeyMemory("string:" + index, "string", "raw", index * 10, index * 50));
+        }
+
+        List<RedisKeyMemory> biggestKeys = analysis.getBiggestKeys();
+        assertEquals(4, biggestKeys.size());
+        assertEquals("list:5", biggestKeys.get(0).getKey());
+        assertEquals("list:4", biggestKeys.get(1).getKey());
+        assertEquals("string:5", biggestKeys.get(2).getKey());
+        assertEquals("string:4", biggestKeys.get(3).getKey());
+        assertEquals(10, analysis.getAnalyzedKeys());
+    }
+
+    @Test
+    public void computeStatisticsPerType() throws Exception {
+        RedisMemoryAnalysis analysis = new RedisMemoryAnalysis(1);
+        analysis.record(new RedisKeyMemory("hash:1", "hash", "ziplist", 3, 120));
+        analysis.record(new RedisKeyMemory("hash:2", "hash", "hashtable", 7, 480));
+        analysis.record(new RedisKeyMemory("set:1", "set", "intset", 4, RedisKeyMemory.UNKNOWN_MEMORY));
+
+        List<RedisMemoryAnalysis.TypeStatistics> typeStatistics = analysis.getTypeStatistics();
+        assertEquals(2, typeStatistics.size());
+
+        RedisMemoryAnalysis.TypeStatistics hashStatistics = typeStatistics.get(0);
+        assertEquals("hash", hashStatistics.getType());
+        assertEquals(2, hashStatistics.getKeyCount());
+        assertEquals(600, hashStatistics.getTotalMemory());
+        assertEquals(300, hashStatistics.getAverageMemory());
+        assertEquals(10, hashStatistics.getTotalLength());
+
+        RedisMemoryAnalysis.TypeStatistics setStatistics = typeStatistics.get(1);
+        assertEquals("set", setStatistics.getType());
+        assertEquals(0, setStatistics.getTotalMemory());
+    }
+
+    @Test
+    public void ignoreKeysAnalyzedTwiceWhenSampling() throws Exception {
+        RedisMemoryAnalysis analysis = new RedisMemoryAnalysis(3);
+        analysis.record(new RedisKeyMemory("zset:1", "zset", "skiplist", 200, 9000));
+        analysis.record(new RedisKeyMemory("zset:1", "zset", "skiplist", 200, 9000));
+        analysis.record(new RedisKeyMemory("zset:2", "zset", "ziplist", 10, 300));
+
+        assertEquals(2, analysis.getBiggestKeys().size());
+    }
+}
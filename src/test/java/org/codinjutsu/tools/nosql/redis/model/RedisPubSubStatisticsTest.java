@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RedisPubSubStatisticsTest {
+
+    @Test
+    public void countMessagesAndBytesByChannel() throws Exception {
+        RedisPubSubStatistics statistics = new RedisPubSubStatistics(3, true);
+        for (int index = 0; index < 20; index++) {
+            statistics.record(new RedisPubSubMessage(50000L + index, "orders.*", "orders.created", "{}", 100));
+        }
+        statistics.record(new RedisPubSubMessage(51000L, null, "heartbeat", "ping", 4));
+        statistics.record(new RedisPubSubMessage(51500L, null, "heartbeat", "ping", 4));
+
+        List<RedisPubSubStatistics.ChannelRate> channelRates = statistics.getChannelRates(51);
+        assertEquals(2, channelRates.size());
+        assertEquals("orders.created", channelRates.get(0).getChannel());
+        assertEquals(2d, channelRates.get(0).getMessagesPerSecond(), 0.001d);
+        assertEquals(200d, channelRates.get(0).getBytesPerSecond(), 0.001d);
+        assertEquals(2000, channelRates.get(0).getTotalBytes());
+        assertEquals(2, channelRates.get(1).getTotalMessages());
+        assertEquals(22, statistics.getReceivedMessages());
+        assertEquals(2008, statistics.getReceivedBytes());
+
+        List<RedisPubSubMessage> recentMessages = statistics.getRecentMessages();
+        assertEquals(3, recentMessages.size());
+        assertEquals(51500L, recentMessages.get(0).getTimestamp());
+        assertEquals("orders.*", recentMessages.get(2).getPattern());
+    }
+
+    @Test
+    public void buildPayloadSizeHistogram() throws Exception {
+        RedisPubSubStatistics statistics = new RedisPubSubStatistics(true);
+        statistics.record(new RedisPubSubMessage(1000L, null, "small", "", 0));
+        statistics.record(new RedisPubSubMessage(1000L, null, "small", "", 16));
+        statistics.record(new RedisPubSubMessage(1000L, null, "medium", "", 17));
+        statistics.record(new RedisPubSubMessage(1000L, null, "large", "", 8 * 1024 * 1024));
+
+        RedisPayloadSizeHistogram histogram = statistics.getPayloadSizeHistogram(null);
+        assertEquals(2, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(1, histogram.getCount(RedisPayloadSizeHistogram.BUCKET_COUNT - 1));
+        assertEquals(-1, RedisPayloadSizeHistogram.getBucketMaxSize(RedisPayloadSizeHistogram.BUCKET_COUNT - 1));
+
+        assertEquals(0, statistics.getPayloadSizeHistogram("small").getCount(1));
+        assertNull(new RedisPubSubStatistics(false).getPayloadSizeHistogram(null));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RedisServerDashboardTest {
+
+    @Test
+    public void deriveRatesFromTwoConsecutiveReplies() throws Exception {
+        RedisServerDashboard dashboard = new RedisServerDashboard(10);
+        dashboard.record(RedisServerMetrics.fromInfo(createInfo(1000, 90, 10, 50, 5), 10000));
+        assertEquals(0, dashboard.getSampleCount());
+
+        dashboard.record(RedisServerMetrics.fromInfo(createInfo(3000, 170, 30, 90, 25), 12000));
+
+        assertEquals(1, dashboard.getSampleCount());
+        assertEquals(1000d, dashboard.getLastValue(RedisMetric.OPS_PER_SECOND), 0.001d);
+        assertEquals(0.8d, dashboard.getLastValue(RedisMetric.HIT_RATIO), 0.001d);
+        assertEquals(20d, dashboard.getLastValue(RedisMetric.EVICTED_KEYS_PER_SECOND), 0.001d);
+        assertEquals(10d, dashboard.getLastValue(RedisMetric.EXPIRED_KEYS_PER_SECOND), 0.001d);
+        assertEquals(1048576d, dashboard.getLastValue(RedisMetric.USED_MEMORY), 0.001d);
+        assertEquals(1.25d, dashboard.getLastValue(RedisMetric.FRAGMENTATION_RATIO), 0.001d);
+        assertEquals(3d, dashboard.getLastValue(RedisMetric.BLOCKED_CLIENTS), 0.001d);
+        assertEquals(400d, dashboard.getLastValue(RedisMetric.REPLICATION_LAG), 0.001d);
+        assertEquals(4194304, dashboard.getMaxMemory());
+    }
+
+    @Test
+    public void keepOnlyTheLastValues() throws Exception {
+        RedisMetricSeries series = new RedisMetricSeries(3);
+        for (int value = 1; value <= 5; value++) {
+            series.add(value);
+        }
+
+        assertEquals(3, series.size());
+        assertArrayEquals(new double[]{3, 4, 5}, series.toArray(), 0.001d);
+        assertEquals(5d, series.getLast(), 0.001d);
+    }
+
+    private static Map<String, String> createInfo(long totalCommands, long hits, long misses, long evictedKeys, long expiredKeys) {
+        Map<String, String> info = new HashMap<>();
+        info.put("total_commands_processed", String.valueOf(totalCommands));
+        info.put("keyspace_hits", String.valueOf(hits));
+        info.put("keyspace_misses", String.valueOf(misses));
+        info.put("evicted_keys", String.valueOf(evictedKeys));
+        info.put("expired_keys", String.valueOf(expiredKeys));
+        info.put("used_memory", "1048576");
+        info.put("maxmemory", "4194304");
+        info.put("mem_fragmentation_ratio", "1.25");
+        info.put("connected_clients", "12");
+        info.put("blocked_clients", "3");
+        info.put("role", "master");
+        info.put("master_repl_offset", "5000");
+        info.put("slave0", "ip=10.0.0.2,port=6379,state=online,offset=4600,lag=1");
+        info.put("slave1", "ip=10.0.0.3,port=6379,state=online,offset=4900,lag=0");
+        info.put("slave_read_only", "1");
+        return info;
+    }
+}
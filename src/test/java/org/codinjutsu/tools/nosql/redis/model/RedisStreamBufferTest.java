@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+import redis.clients.jedis.StreamEntry;
+import redis.clients.jedis.StreamEntryID;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RedisStreamBufferTest {
+
+    @Test
+    public void keepOnlyTheLastEntries() throws Exception {
+        RedisStreamBuffer buffer = new RedisStreamBuffer(3);
+        buffer.addAll(createEntries(1, 2));
+        buffer.addAll(createEntries(3, 5));
+
+        List<StreamEntry> entries = buffer.getEntries();
+        assertEquals(3, entries.size());
+        assertEquals("5-0", entries.get(0).getID().toString());
+        assertEquals("3-0", entries.get(2).getID().toString());
+        assertEquals(5, buffer.getReceivedEntries());
+    }
+
+    private static List<StreamEntry> createEntries(int fromTime, int toTime) {
+        List<StreamEntry> entries = new ArrayList<>();
+        for (int time = fromTime; time <= toTime; time++) {
+            entries.add(new StreamEntry(new StreamEntryID(time, 0), Collections.singletonMap("field", "value" + time)));
+        }
+        return entries;
+    }
+}
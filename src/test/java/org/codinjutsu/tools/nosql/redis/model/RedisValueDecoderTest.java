@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RedisValueDecoderTest {
+
+    @Test
+    public void detectFormats() throws Exception {
+        assertEquals(RedisValueFormat.TEXT, RedisValueFormat.detect("online".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(RedisValueFormat.JSON, RedisValueFormat.detect(" {\"status\": \"online\"}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(RedisValueFormat.GZIP, RedisValueFormat.detect(gzip("online")));
+        assertEquals(RedisValueFormat.JAVA_SERIALIZATION, RedisValueFormat.detect(serialize(new Date(0))));
+        assertEquals(RedisValueFormat.BINARY, RedisValueFormat.detect(new byte[]{0x01, 0x02, (byte) 0xfe}));
+    }
+
+    @Test
+    public void detectTextCutInTheMiddleOfACharacter() throws Exception {
+        byte[] bytes = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(RedisValueFormat.TEXT, RedisValueFormat.detect(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    public void decodeTheBeginningOfAGzipValue() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int index = 0; index < 1000; index++) {
+            json.append(index).append(',');
+        }
+        json.append("1000]");
+        byte[] bytes = gzip(json.toString());
+
+        String decodedValue = RedisValueDecoder.decode(Arrays.copyOf(bytes, bytes.length / 2), RedisValueFormat.GZIP);
+
+        assertTrue(decodedValue, decodedValue.startsWith("gzip content (JSON, "));
+        assertTrue(decodedValue, decodedValue.contains("[\n  0,\n  1,\n"));
+    }
+
+    @Test
+    public void readOnlyTheClassNameOfASerializedObject() throws Exception {
+        assertEquals("Java serialized object of class java.util.Date", RedisValueDecoder.decode(serialize(new Date(0)), RedisValueFormat.JAVA_SERIALIZATION));
+    }
+
+    @Test
+    public void dumpBytesAsHex() throws Exception {
+        assertEquals("00000000  6f 6e 0a                                         |on.|\n",
+                RedisValueDecoder.toHexDump("on\n".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] gzip(String value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GZIPOutputStream outputStream = new GZIPOutputStream(bytes);
+        outputStream.write(value.getBytes(StandardCharsets.UTF_8));
+        outputStream.close();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] serialize(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream outputStream = new ObjectOutputStream(bytes);
+        outputStream.writeObject(value);
+        outputStream.close();
+        return bytes.toByteArray();
+    }
+}
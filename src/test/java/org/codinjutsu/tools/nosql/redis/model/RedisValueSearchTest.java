@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.model;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RedisValueSearchTest {
+
+    @Test
+    public void readMatchesFromScriptReply() throws Exception {
+        List<RedisValueMatch> matches = RedisValueMatch.fromScriptReply(Arrays.asList(
+                Arrays.asList("user:1", "hash", "email", "john@example.com"),
+                Arrays.asList("queue", "list", "3", "order-42")));
+
+        assertEquals(2, matches.size());
+        assertEquals("user:1", matches.get(0).getKey());
+        assertEquals("hash", matches.get(0).getType());
+        assertEquals("email", matches.get(0).getPosition());
+        assertEquals("john@example.com", matches.get(0).getValue());
+        assertEquals("3", matches.get(1).getPosition());
+    }
+
+    @Test
+    public void stopCollectingMatchesAtTheLimit() throws Exception {
+        RedisValueSearch search = new RedisValueSearch(3);
+        search.addMatches(Arrays.asList(new RedisValueMatch("a", "string", "", "x"), new RedisValueMatch("b", "string", "", "x")));
+        search.addScannedKeys(100);
+        assertEquals(1, search.getRemainingMatches());
+        assertFalse(search.isFull());
+
+        search.addMatches(Arrays.asList(new RedisValueMatch("c", "string", "", "x"), new RedisValueMatch("d", "string", "", "x")));
+        search.addScannedKeys(50);
+        assertTrue(search.isFull());
+        assertEquals(3, search.getMatches().size());
+        assertEquals("c", search.getMatches().get(2).getKey());
+        assertEquals(150, search.getScannedKeys());
+    }
+}
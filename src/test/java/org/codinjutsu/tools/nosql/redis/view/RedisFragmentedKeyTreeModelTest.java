@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2015 David Boissier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codinjutsu.tools.nosql.redis.view;
+
+import org.codinjutsu.tools.nosql.commons.view.NoSqlTreeNode;
+import org.codinjutsu.tools.nosql.redis.model.RedisResult;
+import org.codinjutsu.tools.nosql.redis.view.nodedescriptor.RedisMoreKeysDescriptor;
+import org.junit.Test;
+
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.DefaultTreeModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RedisFragmentedKeyTreeModelTest {
+
+    @Test
+    public void groupKeysByPrefixAndShowChildrenOnExpansion() throws Exception {
+        RedisResult redisResult = new RedisResult();
+        redisResult.addString("foo:bar", "john");
+        redisResult.addString("stuff:bar", "beer");
+        redisResult.addList("stuff:games:critics", new ArrayList<>(Arrays.asList("quake", "doom")));
+        redisResult.addString("plain", "key");
+
+        RedisFragmentedKeyTreeModel treeModel = new RedisFragmentedKeyTreeModel(":");
+        treeModel.insertRecords(redisResult.getResults());
+
+        NoSqlTreeNode rootNode = treeModel.getRoot();
+        assertEquals(3, rootNode.getChildCount());
+        assertEquals("foo", getKey(rootNode, 0));
+        assertEquals("stuff", getKey(rootNode, 1));
+        assertEquals("plain", getKey(rootNode, 2));
+
+        NoSqlTreeNode stuffNode = (NoSqlTreeNode) rootNode.getChildAt(1);
+        assertEquals("2 keys, 2 elements", stuffNode.getDescriptor().getFormattedValue());
+        assertEquals(1, stuffNode.getChildCount());
+        assertTrue(((NoSqlTreeNode) stuffNode.getChildAt(0)).getDescriptor() instanceof RedisMoreKeysDescriptor);
+
+        treeModel.expandPrefix(stuffNode);
+        assertEquals(2, stuffNode.getChildCount());
+        assertEquals("bar", getKey(stuffNode, 0));
+        assertEquals("games", getKey(stuffNode, 1));
+    }
+
+    @Test
+    public void showLargeFanOutsPageByPage() throws Exception {
+        RedisResult redisResult = new RedisResult();
+        for (int index = 0; index < 5; index++) {
+            redisResult.addString("session:" + index, "online");
+        }
+        RedisFragmentedKeyTreeModel treeModel = new RedisFragmentedKeyTreeModel(":", 2);
+        treeModel.insertRecords(redisResult.getResults());
+
+        NoSqlTreeNode sessionNode = (NoSqlTreeNode) treeModel.getRoot().getChildAt(0);
+        assertEquals("5 keys", sessionNode.getDescriptor().getFormattedValue());
+        treeModel.expandPrefix(sessionNode);
+        assertEquals(3, sessionNode.getChildCount());
+        assertEquals("1", getKey(sessionNode, 1));
+        assertEquals("3 more, load more (double-click)", ((NoSqlTreeNode) sessionNode.getChildAt(2)).getDescriptor().getFormattedValue());
+
+        treeModel.showMoreKeys((NoSqlTreeNode) sessionNode.getChildAt(2));
+        treeModel.showMoreKeys((NoSqlTreeNode) sessionNode.getChildAt(4));
+        assertEquals(5, sessionNode.getChildCount());
+        assertEquals("4", getKey(sessionNode, 4));
+    }
+
+    @Test
+    public void notifyTheNodesInsertedBelowShownNodes() throws Exception {
+        RedisResult firstPage = new RedisResult();
+        firstPage.addString("stuff:bar", "beer");
+        firstPage.addString("stuff:games:critics", "quake");
+        RedisFragmentedKeyTreeModel treeModel = new RedisFragmentedKeyTreeModel(":");
+        treeModel.insertRecords(firstPage.getResults());
+        NoSqlTreeNode stuffNode = (NoSqlTreeNode) treeModel.getRoot().getChildAt(0);
+        treeModel.expandPrefix(stuffNode);
+
+        final List<TreeModelEvent> insertionEvents = new ArrayList<>();
+        DefaultTreeModel swingTreeModel = new DefaultTreeModel(treeModel.getRoot());
+        swingTreeModel.addTreeModelListener(new TreeModelListener() {
+            @Override
+            public void treeNodesChanged(TreeModelEvent event) {
+            }
+
+            @Override
+            public void treeNodesInserted(TreeModelEvent event) {
+                insertionEvents.add(event);
+            }
+
+            @Override
+            public void treeNodesRemoved(TreeModelEvent event) {
+            }
+
+            @Override
+            public void treeStructureChanged(TreeModelEvent event) {
+            }
+        });
+        treeModel.setTreeModel(swingTreeModel);
+
+        RedisResult secondPage = new RedisResult();
+        secondPage.addString("stuff:games:doom", "doom");
+        secondPage.addString("new:key", "value");
+        secondPage.addString("stuff:zz", "top");
+        treeModel.insertRecords(secondPage.getResults());
+
+        assertEquals(2, insertionEvents.size());
+        assertEquals(treeModel.getRoot(), insertionEvents.get(0).getTreePath().getLastPathComponent());
+        assertArrayEquals(new int[]{1}, insertionEvents.get(0).getChildIndices());
+        assertEquals(stuffNode, insertionEvents.get(1).getTreePath().getLastPathComponent());
+        assertArrayEquals(new int[]{2}, insertionEvents.get(1).getChildIndices());
+        assertEquals("2 keys", ((NoSqlTreeNode) stuffNode.getChildAt(1)).getDescriptor().getFormattedValue());
+    }
+
+    @Test
+    public void skipKeysReturnedAgainByScan() throws Exception {
+        RedisResult firstPage = new RedisResult();
+        firstPage.addString("stuff:bar", "beer");
+        firstPage.addString("plain", "key");
+        RedisFragmentedKeyTreeModel treeModel = new RedisFragmentedKeyTreeModel(":");
+        treeModel.insertRecords(firstPage.getResults());
+
+        RedisResult secondPage = new RedisResult();
+        secondPage.addString("stuff:bar", "beer");
+        secondPage.addString("plain", "key");
+        secondPage.addString("stuff:zz", "top");
+        treeModel.insertRecords(secondPage.getResults());
+
+        NoSqlTreeNode rootNode = treeModel.getRoot();
+        assertEquals(2, rootNode.getChildCount());
+        NoSqlTreeNode stuffNode = (NoSqlTreeNode) rootNode.getChildAt(0);
+        assertEquals("2 keys", stuffNode.getDescriptor().getFormattedValue());
+        treeModel.expandPrefix(stuffNode);
+        assertEquals(2, stuffNode.getChildCount());
+        assertEquals("zz", getKey(stuffNode, 1));
+    }
+
+    @Test
+    public void listKeysFlatWithoutSeparator() throws Exception {
+        RedisResult redisResult = new RedisResult();
+        redisResult.addString("foo:bar", "john");
+        redisResult.addString("stuff:bar", "beer");
+
+        RedisFragmentedKeyTreeModel treeModel = new RedisFragmentedKeyTreeModel(null);
+        treeModel.insertRecords(redisResult.getResults());
+
+        assertEquals(2, treeModel.getRoot().getChildCount());
+        assertEquals("foo:bar", getKey(treeModel.getRoot(), 0));
+    }
+
+    private static String getKey(NoSqlTreeNode parentNode, int index) {
+        return ((NoSqlTreeNode) parentNode.getChildAt(index)).getDescriptor().getFormattedKey();
+    }
+}
@@ -109,9 +109,9 @@ public class RedisPanelTest {
         resultTreeTable.cellReader(new TableCellReader())
                 .requireColumnCount(2)
                 .requireContents(new String[][]{
-                        {"foo", ""},
+                        {"foo", "1 key"},
                         {"bar", "john"},
-                        {"stuff", ""},
+                        {"stuff", "4 keys, 12 elements"},
                         {"bar", "[drink, some, beer]"},
                         {"[0]", "drink"},
                         {"[1]", "some"},
@@ -124,7 +124,7 @@ public class RedisPanelTest {
                         {"david", "dada"},
                         {"mickael", "mike"},
                         {"bruno", "nono"},
-                        {"games", ""},
+                        {"games", "1 key, 3 elements"},
                         {"critics", "{(unreal, 8.0), (quake, 9.0), (half-life, 10.0)}"},
                         {"-", "(unreal, 8.0)"},
                         {"-", "(quake, 9.0)"},
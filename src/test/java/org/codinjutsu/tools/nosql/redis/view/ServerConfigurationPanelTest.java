@@ -22,6 +22,7 @@ import org.codinjutsu.tools.nosql.ServerConfiguration;
 import org.codinjutsu.tools.nosql.commons.logic.DatabaseClient;
 import org.codinjutsu.tools.nosql.commons.model.AuthenticationSettings;
 import org.codinjutsu.tools.nosql.commons.view.ServerConfigurationPanel;
+import org.codinjutsu.tools.nosql.redis.logic.RedisExtraSettings;
 import org.codinjutsu.tools.nosql.redis.view.RedisAuthenticationPanel;
 import org.fest.swing.edt.GuiActionRunner;
 import org.fest.swing.edt.GuiQuery;
@@ -77,6 +78,8 @@ public class ServerConfigurationPanelTest {
 
         frameFixture.textBox("serverUrlField").setText("localhost:25");
         frameFixture.textBox("passwordField").setText("johnpassword");
+        frameFixture.textBox("pipelineBatchSizeField").setText("200");
+        frameFixture.checkBox("hideEmptyDatabasesField").check();
 
         frameFixture.textBox("userDatabaseField").setText("0");
         frameFixture.checkBox("autoConnectField").check();
@@ -91,6 +94,8 @@ public class ServerConfigurationPanelTest {
 
         AuthenticationSettings authenticationSettings = configuration.getAuthenticationSettings();
         assertEquals("johnpassword", authenticationSettings.getPassword());
+        assertEquals(200, new RedisExtraSettings(authenticationSettings.getExtras()).getPipelineBatchSize());
+        assertTrue(new RedisExtraSettings(authenticationSettings.getExtras()).isHideEmptyDatabases());
 
         assertEquals("0", configuration.getUserDatabase());
         assertTrue(configuration.isConnectOnIdeStartup());
@@ -114,5 +119,7 @@ public class ServerConfigurationPanelTest {
         frameFixture.label("databaseTipsLabel").requireText("format: host:port. If cluster: host:port1,host:port2,...");
         frameFixture.textBox("serverUrlField").requireText("localhost:6379");
         frameFixture.textBox("passwordField").requireText("johnpassword");
+        frameFixture.textBox("pipelineBatchSizeField").requireText(String.valueOf(RedisExtraSettings.DEFAULT_PIPELINE_BATCH_SIZE));
+        frameFixture.checkBox("hideEmptyDatabasesField").requireNotSelected();
     }
 }